@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.alexengrig.metter.benchmark;
+
+import dev.alexengrig.metter.benchmark.domain.Domain16;
+import dev.alexengrig.metter.benchmark.domain.Domain16GetterSupplier;
+import dev.alexengrig.metter.benchmark.domain.Domain16SetterSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Reading a column of field from 1M domains and setting it back:
+ * {@code map} - a loop with getter/setter from map, boxing every value;
+ * {@code column} - {@code column}/{@code hydrate} of supplier, without boxing of primitive values.
+ * <p>
+ * Run with {@code -prof gc} to see allocations.
+ */
+@Fork(value = 1, jvmArgs = {"-ea", "-Xmx2g"})
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 10, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ColumnBenchmarks {
+    private static final int SIZE = 1_000_000;
+
+    private final Domain16GetterSupplier getterSupplier = Domain16GetterSupplier.getters();
+    private final Domain16SetterSupplier setterSupplier = Domain16SetterSupplier.setters();
+    private final List<Domain16> domains = new ArrayList<>(SIZE);
+    private final int[] intColumn = new int[SIZE];
+    private final long[] longColumn = new long[SIZE];
+    private final Object[] objectColumn = new Object[SIZE];
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < SIZE; i++) {
+            Domain16 domain = new Domain16();
+            domain.setInt0(i);
+            domain.setLong0(i * 31L);
+            domain.setString0(Integer.toString(i));
+            domains.add(domain);
+        }
+        assert getterSupplier.column(domains, Domain16GetterSupplier.INT0, new int[SIZE])[SIZE - 1] == SIZE - 1;
+        assert getterSupplier.column(domains, Domain16GetterSupplier.LONG0, new long[SIZE])[SIZE - 1] == (SIZE - 1) * 31L;
+    }
+
+    @Benchmark
+    public int[] read_intColumn_via_map() {
+        Function<Domain16, Object> getter = getterSupplier.get().get("int0");
+        int index = 0;
+        for (Domain16 domain : domains) {
+            intColumn[index++] = (int) getter.apply(domain);
+        }
+        return intColumn;
+    }
+
+    @Benchmark
+    public int[] read_intColumn_via_column() {
+        return getterSupplier.column(domains, Domain16GetterSupplier.INT0, intColumn);
+    }
+
+    @Benchmark
+    public long[] read_longColumn_via_map() {
+        Function<Domain16, Object> getter = getterSupplier.get().get("long0");
+        int index = 0;
+        for (Domain16 domain : domains) {
+            longColumn[index++] = (long) getter.apply(domain);
+        }
+        return longColumn;
+    }
+
+    @Benchmark
+    public long[] read_longColumn_via_column() {
+        return getterSupplier.column(domains, Domain16GetterSupplier.LONG0, longColumn);
+    }
+
+    @Benchmark
+    public Object[] read_objectColumn_via_map() {
+        Function<Domain16, Object> getter = getterSupplier.get().get("string0");
+        int index = 0;
+        for (Domain16 domain : domains) {
+            objectColumn[index++] = getter.apply(domain);
+        }
+        return objectColumn;
+    }
+
+    @Benchmark
+    public Object[] read_objectColumn_via_column() {
+        return getterSupplier.column(domains, Domain16GetterSupplier.STRING0, objectColumn);
+    }
+
+    @Benchmark
+    public List<Domain16> write_intColumn_via_map() {
+        BiConsumer<Domain16, Object> setter = setterSupplier.get().get("int0");
+        int index = 0;
+        for (Domain16 domain : domains) {
+            setter.accept(domain, intColumn[index++]);
+        }
+        return domains;
+    }
+
+    @Benchmark
+    public List<Domain16> write_intColumn_via_column() {
+        setterSupplier.hydrate(domains, Domain16SetterSupplier.INT0, intColumn);
+        return domains;
+    }
+
+    @Benchmark
+    public List<Domain16> write_longColumn_via_map() {
+        BiConsumer<Domain16, Object> setter = setterSupplier.get().get("long0");
+        int index = 0;
+        for (Domain16 domain : domains) {
+            setter.accept(domain, longColumn[index++]);
+        }
+        return domains;
+    }
+
+    @Benchmark
+    public List<Domain16> write_longColumn_via_column() {
+        setterSupplier.hydrate(domains, Domain16SetterSupplier.LONG0, longColumn);
+        return domains;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.benchmark;
+
+import dev.alexengrig.metter.benchmark.domain.Domain128;
+import dev.alexengrig.metter.benchmark.domain.Domain128DiffSupplier;
+import dev.alexengrig.metter.benchmark.domain.Domain64;
+import dev.alexengrig.metter.benchmark.domain.Domain64DiffSupplier;
+import dev.alexengrig.metter.benchmark.util.ReflectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Diffing of equal instances - the unchanged path.
+ * Run with the GC profiler ({@code -prof gc}) to compare {@code gc.alloc.rate.norm}:
+ * the map boxes primitive values, the generated diff does not.
+ */
+@Fork(value = 1, jvmArgs = "-ea")
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 10, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@CompilerControl(CompilerControl.Mode.DONT_INLINE)
+public class DiffSupplierBenchmarks {
+    private final Domain64 domain64 = ReflectionUtils.fill(new Domain64());
+    private final Domain64 newDomain64 = ReflectionUtils.fill(new Domain64());
+    private final Domain128 domain128 = ReflectionUtils.fill(new Domain128());
+    private final Domain128 newDomain128 = ReflectionUtils.fill(new Domain128());
+    private final Domain64DiffSupplier diffSupplier64 = new Domain64DiffSupplier();
+    private final Domain128DiffSupplier diffSupplier128 = new Domain128DiffSupplier();
+    private final BitSet changes128 = new BitSet(128);
+
+    private static <T> int diffViaMap(T domain, T newDomain, Map<String, Function<T, Object>> getterByField) {
+        int numberOfChanges = 0;
+        for (Function<T, Object> getter : getterByField.values()) {
+            if (!Objects.equals(getter.apply(domain), getter.apply(newDomain))) {
+                numberOfChanges++;
+            }
+        }
+        return numberOfChanges;
+    }
+
+    @Setup
+    public void setup() {
+        assert diffViaMap(domain64, newDomain64, diffSupplier64.get()) == 0 : "Domains of 64 must be equal";
+        assert diffSupplier64.diff(domain64, newDomain64) == 0L : "Diff of 64 must be empty";
+        assert diffSupplier128.diff(domain128, newDomain128, changes128).isEmpty() : "Diff of 128 must be empty";
+    }
+
+    @Benchmark
+    public int diff_domain64_via_map() {
+        return diffViaMap(domain64, newDomain64, diffSupplier64.get());
+    }
+
+    @Benchmark
+    public long diff_domain64_via_mask() {
+        return diffSupplier64.diff(domain64, newDomain64);
+    }
+
+    @Benchmark
+    public int diff_domain128_via_map() {
+        return diffViaMap(domain128, newDomain128, diffSupplier128.get());
+    }
+
+    @Benchmark
+    public int diff_domain128_via_bitSet() {
+        return diffSupplier128.diff(domain128, newDomain128, changes128).cardinality();
+    }
+}
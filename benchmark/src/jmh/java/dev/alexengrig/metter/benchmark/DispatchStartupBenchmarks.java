@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.benchmark;
+
+import dev.alexengrig.metter.benchmark.domain.Domain128GetterSupplier;
+import dev.alexengrig.metter.benchmark.domain.Domain128SetterSupplier;
+import dev.alexengrig.metter.benchmark.domain.SwitchDispatchDomain128GetterSupplier;
+import dev.alexengrig.metter.benchmark.domain.SwitchDispatchDomain128SetterSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First use of suppliers of 128 fields in a fresh JVM - method references versus switch dispatch.
+ * Run with the class loader profiler ({@code -prof cl}) to compare {@code class.load.norm}:
+ * every method reference is linked via {@code invokedynamic} into a class.
+ */
+@Fork(20)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DispatchStartupBenchmarks {
+    @Benchmark
+    public void firstUse_domain128_via_methodReferences(Blackhole blackhole) {
+        blackhole.consume(new Domain128GetterSupplier());
+        blackhole.consume(new Domain128SetterSupplier());
+    }
+
+    @Benchmark
+    public void firstUse_domain128_via_switchDispatch(Blackhole blackhole) {
+        blackhole.consume(new SwitchDispatchDomain128GetterSupplier());
+        blackhole.consume(new SwitchDispatchDomain128SetterSupplier());
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.benchmark;
+
+import dev.alexengrig.metter.benchmark.domain.Domain128;
+import dev.alexengrig.metter.benchmark.domain.Domain128GetterSupplier;
+import dev.alexengrig.metter.benchmark.domain.Domain16;
+import dev.alexengrig.metter.benchmark.domain.Domain16GetterSupplier;
+import dev.alexengrig.metter.benchmark.domain.Domain32;
+import dev.alexengrig.metter.benchmark.domain.Domain32GetterSupplier;
+import dev.alexengrig.metter.benchmark.domain.Domain64;
+import dev.alexengrig.metter.benchmark.domain.Domain64GetterSupplier;
+import dev.alexengrig.metter.benchmark.util.ReflectionUtils;
+import dev.alexengrig.metter.visitor.FieldVisitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Hashing of all fields of four domain types, which flow through the same call site.
+ */
+@Fork(value = 1, jvmArgs = "-ea")
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 10, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@CompilerControl(CompilerControl.Mode.DONT_INLINE)
+public class FieldVisitorBenchmarks {
+    private final Domain16 domain16 = ReflectionUtils.fill(new Domain16());
+    private final Domain32 domain32 = ReflectionUtils.fill(new Domain32());
+    private final Domain64 domain64 = ReflectionUtils.fill(new Domain64());
+    private final Domain128 domain128 = ReflectionUtils.fill(new Domain128());
+    private final Domain16GetterSupplier getterSupplier16 = new Domain16GetterSupplier();
+    private final Domain32GetterSupplier getterSupplier32 = new Domain32GetterSupplier();
+    private final Domain64GetterSupplier getterSupplier64 = new Domain64GetterSupplier();
+    private final Domain128GetterSupplier getterSupplier128 = new Domain128GetterSupplier();
+
+    private static <T> int hashViaMap(int hash, T domain, Map<String, Function<T, Object>> getterByField) {
+        for (Function<T, Object> getter : getterByField.values()) {
+            hash = 31 * hash + Objects.hashCode(getter.apply(domain));
+        }
+        return hash;
+    }
+
+    @Setup
+    public void setup() {
+        int mapHash = hash_allDomains_via_map();
+        int visitorHash = hash_allDomains_via_visitor();
+        assert mapHash == visitorHash : "Hash via visitor must be " + mapHash + ", not " + visitorHash;
+    }
+
+    @Benchmark
+    public int hash_allDomains_via_map() {
+        int hash = 1;
+        hash = hashViaMap(hash, domain16, getterSupplier16.get());
+        hash = hashViaMap(hash, domain32, getterSupplier32.get());
+        hash = hashViaMap(hash, domain64, getterSupplier64.get());
+        hash = hashViaMap(hash, domain128, getterSupplier128.get());
+        return hash;
+    }
+
+    @Benchmark
+    public int hash_allDomains_via_visitor() {
+        HashingFieldVisitor visitor = new HashingFieldVisitor();
+        getterSupplier16.forEach(domain16, visitor);
+        getterSupplier32.forEach(domain32, visitor);
+        getterSupplier64.forEach(domain64, visitor);
+        getterSupplier128.forEach(domain128, visitor);
+        return visitor.hash;
+    }
+
+    private static class HashingFieldVisitor implements FieldVisitor {
+        private int hash = 1;
+
+        @Override
+        public void visitInt(String field, int value) {
+            hash = 31 * hash + Integer.hashCode(value);
+        }
+
+        @Override
+        public void visitLong(String field, long value) {
+            hash = 31 * hash + Long.hashCode(value);
+        }
+
+        @Override
+        public void visitDouble(String field, double value) {
+            hash = 31 * hash + Double.hashCode(value);
+        }
+
+        @Override
+        public void visitBoolean(String field, boolean value) {
+            hash = 31 * hash + Boolean.hashCode(value);
+        }
+
+        @Override
+        public void visitObject(String field, Object value) {
+            hash = 31 * hash + Objects.hashCode(value);
+        }
+    }
+}
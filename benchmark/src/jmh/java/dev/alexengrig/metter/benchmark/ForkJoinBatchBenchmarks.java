@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.alexengrig.metter.benchmark;
+
+import dev.alexengrig.metter.batch.ForkJoinBatch;
+import dev.alexengrig.metter.benchmark.domain.Domain16;
+import dev.alexengrig.metter.benchmark.domain.Domain16GetterSupplier;
+import dev.alexengrig.metter.benchmark.domain.Domain16SetterSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of batch methods of suppliers over a list of domains by number of threads of pool:
+ * {@code sequential} - without batch, {@code parallel} - with batch.
+ * <p>
+ * Threads above the number of cores show only the overhead of tasks;
+ * run with {@code -p size=...} and enough {@code -Xmx} for larger lists.
+ */
+@Fork(value = 1, jvmArgs = {"-ea", "-Xmx4g"})
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 10, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ForkJoinBatchBenchmarks {
+    private final Domain16GetterSupplier getterSupplier = Domain16GetterSupplier.getters();
+    private final Domain16SetterSupplier setterSupplier = Domain16SetterSupplier.setters();
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int threads;
+    @Param({"1000000"})
+    private int size;
+    @Param({"8192"})
+    private int threshold;
+
+    private ForkJoinPool pool;
+    private ForkJoinBatch batch;
+    private List<Domain16> domains;
+    private long[] longColumn;
+    private Object[][] snapshots;
+
+    @Setup
+    public void setup() {
+        pool = new ForkJoinPool(threads);
+        batch = new ForkJoinBatch(pool, threshold);
+        domains = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Domain16 domain = new Domain16();
+            domain.setLong0(i);
+            domains.add(domain);
+        }
+        longColumn = new long[size];
+        snapshots = new Object[size][16];
+        assert getterSupplier.column(domains, Domain16GetterSupplier.LONG0, new long[size], batch)[size - 1] == size - 1;
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long[] read_longColumn_sequential() {
+        return getterSupplier.column(domains, Domain16GetterSupplier.LONG0, longColumn);
+    }
+
+    @Benchmark
+    public long[] read_longColumn_parallel() {
+        return getterSupplier.column(domains, Domain16GetterSupplier.LONG0, longColumn, batch);
+    }
+
+    @Benchmark
+    public List<Domain16> write_longColumn_sequential() {
+        setterSupplier.hydrate(domains, Domain16SetterSupplier.LONG0, longColumn);
+        return domains;
+    }
+
+    @Benchmark
+    public List<Domain16> write_longColumn_parallel() {
+        setterSupplier.hydrate(domains, Domain16SetterSupplier.LONG0, longColumn, batch);
+        return domains;
+    }
+
+    @Benchmark
+    public Object[][] snapshot_allFields_parallel() {
+        return getterSupplier.snapshot(domains, snapshots, batch);
+    }
+}
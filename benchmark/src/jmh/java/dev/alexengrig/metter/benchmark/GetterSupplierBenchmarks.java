@@ -17,9 +17,11 @@
 package dev.alexengrig.metter.benchmark;
 
 import dev.alexengrig.metter.benchmark.domain.Domain128;
+import dev.alexengrig.metter.benchmark.domain.Domain128GetterSupplier;
 import dev.alexengrig.metter.benchmark.domain.Domain16;
 import dev.alexengrig.metter.benchmark.domain.Domain32;
 import dev.alexengrig.metter.benchmark.domain.Domain64;
+import dev.alexengrig.metter.benchmark.domain.Domain64GetterSupplier;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.CompilerControl;
@@ -39,21 +41,31 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN128_CUSTOM_MAP_SUPPLIER;
+import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN128_FIELDS;
 import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN128_GENERATION_SUPPLIER;
 import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN128_HANDLING_SUPPLIER;
+import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN128_MAP_FACTORY;
 import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN128_MAP_SUPPLIER;
+import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN128_ORDINALS;
+import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN128_ORDINAL_SUPPLIER;
 import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN128_REFLECTION_SUPPLIER;
 import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN16_GENERATION_SUPPLIER;
 import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN16_HANDLING_SUPPLIER;
 import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN16_MAP_SUPPLIER;
+import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN16_ORDINAL_SUPPLIER;
 import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN16_REFLECTION_SUPPLIER;
 import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN32_GENERATION_SUPPLIER;
 import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN32_HANDLING_SUPPLIER;
 import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN32_MAP_SUPPLIER;
+import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN32_ORDINAL_SUPPLIER;
 import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN32_REFLECTION_SUPPLIER;
+import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN64_FIELDS;
 import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN64_GENERATION_SUPPLIER;
 import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN64_HANDLING_SUPPLIER;
+import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN64_MAP_FACTORY;
 import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN64_MAP_SUPPLIER;
+import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN64_ORDINALS;
+import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN64_ORDINAL_SUPPLIER;
 import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN64_REFLECTION_SUPPLIER;
 
 @Fork(value = 1, jvmArgs = "-ea")
@@ -65,6 +77,10 @@ import static dev.alexengrig.metter.benchmark.GetterSupplierPayloads.DOMAIN64_RE
 @CompilerControl(CompilerControl.Mode.DONT_INLINE)
 @SuppressWarnings("DuplicatedCode")
 public class GetterSupplierBenchmarks {
+    private final Object[] domain16Values = new Object[16];
+    private final Object[] domain32Values = new Object[32];
+    private final Object[] domain64Values = new Object[64];
+    private final Object[] domain128Values = new Object[128];
 
     private static <T> List<Object> getDomainValues(T domain, Supplier<Map<String, Function<T, Object>>> supplier) {
         Map<String, Function<T, Object>> getters = supplier.get();
@@ -76,6 +92,18 @@ public class GetterSupplierBenchmarks {
         return values;
     }
 
+    private static <T> List<Object> getDomainValuesByFields(T domain,
+                                                            Supplier<Map<String, Function<T, Object>>> supplier,
+                                                            String[] fields) {
+        Map<String, Function<T, Object>> getters = supplier.get();
+        ArrayList<Object> values = new ArrayList<>(fields.length);
+        for (String field : fields) {
+            Object value = getters.get(field).apply(domain);
+            values.add(value);
+        }
+        return values;
+    }
+
 //    16
 
     @Benchmark
@@ -122,6 +150,21 @@ public class GetterSupplierBenchmarks {
         return getDomainValues(new Domain16(), DOMAIN16_GENERATION_SUPPLIER);
     }
 
+    @Benchmark
+    public Object get_allValuesOf_domain16_via_ordinal() {
+        Domain16 domain = new Domain16();
+        ArrayList<Object> values = new ArrayList<>(16);
+        for (int ordinal = 0; ordinal < 16; ordinal++) {
+            values.add(DOMAIN16_ORDINAL_SUPPLIER.get(domain, ordinal));
+        }
+        return values;
+    }
+
+    @Benchmark
+    public Object get_allValuesOf_domain16_via_snapshot() {
+        return DOMAIN16_ORDINAL_SUPPLIER.snapshot(new Domain16(), domain16Values);
+    }
+
 //    32
 
     @Benchmark
@@ -184,6 +227,21 @@ public class GetterSupplierBenchmarks {
         return getDomainValues(new Domain32(), DOMAIN32_GENERATION_SUPPLIER);
     }
 
+    @Benchmark
+    public Object get_allValuesOf_domain32_via_ordinal() {
+        Domain32 domain = new Domain32();
+        ArrayList<Object> values = new ArrayList<>(32);
+        for (int ordinal = 0; ordinal < 32; ordinal++) {
+            values.add(DOMAIN32_ORDINAL_SUPPLIER.get(domain, ordinal));
+        }
+        return values;
+    }
+
+    @Benchmark
+    public Object get_allValuesOf_domain32_via_snapshot() {
+        return DOMAIN32_ORDINAL_SUPPLIER.snapshot(new Domain32(), domain32Values);
+    }
+
 //    64
 
     @Benchmark
@@ -278,6 +336,51 @@ public class GetterSupplierBenchmarks {
         return getDomainValues(new Domain64(), DOMAIN64_GENERATION_SUPPLIER);
     }
 
+    @Benchmark
+    public Object get_allValuesOf_domain64_via_ordinal() {
+        Domain64 domain = new Domain64();
+        ArrayList<Object> values = new ArrayList<>(64);
+        for (int ordinal = 0; ordinal < 64; ordinal++) {
+            values.add(DOMAIN64_ORDINAL_SUPPLIER.get(domain, ordinal));
+        }
+        return values;
+    }
+
+    @Benchmark
+    public Object get_allValuesOf_domain64_via_snapshot() {
+        return DOMAIN64_ORDINAL_SUPPLIER.snapshot(new Domain64(), domain64Values);
+    }
+
+    @Benchmark
+    public Object get_valuesByFields_domain64_via_map() {
+        return getDomainValuesByFields(new Domain64(), DOMAIN64_MAP_SUPPLIER, DOMAIN64_FIELDS);
+    }
+
+    @Benchmark
+    public Object get_valuesByFields_domain64_via_generation() {
+        return getDomainValuesByFields(new Domain64(), DOMAIN64_GENERATION_SUPPLIER, DOMAIN64_FIELDS);
+    }
+
+    @Benchmark
+    public Object get_valuesByFields_domain64_via_ordinal() {
+        Domain64 domain = new Domain64();
+        ArrayList<Object> values = new ArrayList<>(DOMAIN64_ORDINALS.length);
+        for (int ordinal : DOMAIN64_ORDINALS) {
+            values.add(DOMAIN64_ORDINAL_SUPPLIER.get(domain, ordinal));
+        }
+        return values;
+    }
+
+    @Benchmark
+    public Object create_getters_domain64_via_map() {
+        return DOMAIN64_MAP_FACTORY.get();
+    }
+
+    @Benchmark
+    public Object create_getters_domain64_via_generation() {
+        return new Domain64GetterSupplier().get();
+    }
+
 //    128
 
     @Benchmark
@@ -441,4 +544,49 @@ public class GetterSupplierBenchmarks {
         return getDomainValues(new Domain128(), DOMAIN128_GENERATION_SUPPLIER);
     }
 
+    @Benchmark
+    public Object get_allValuesOf_domain128_via_ordinal() {
+        Domain128 domain = new Domain128();
+        ArrayList<Object> values = new ArrayList<>(128);
+        for (int ordinal = 0; ordinal < 128; ordinal++) {
+            values.add(DOMAIN128_ORDINAL_SUPPLIER.get(domain, ordinal));
+        }
+        return values;
+    }
+
+    @Benchmark
+    public Object get_allValuesOf_domain128_via_snapshot() {
+        return DOMAIN128_ORDINAL_SUPPLIER.snapshot(new Domain128(), domain128Values);
+    }
+
+    @Benchmark
+    public Object get_valuesByFields_domain128_via_map() {
+        return getDomainValuesByFields(new Domain128(), DOMAIN128_MAP_SUPPLIER, DOMAIN128_FIELDS);
+    }
+
+    @Benchmark
+    public Object get_valuesByFields_domain128_via_generation() {
+        return getDomainValuesByFields(new Domain128(), DOMAIN128_GENERATION_SUPPLIER, DOMAIN128_FIELDS);
+    }
+
+    @Benchmark
+    public Object get_valuesByFields_domain128_via_ordinal() {
+        Domain128 domain = new Domain128();
+        ArrayList<Object> values = new ArrayList<>(DOMAIN128_ORDINALS.length);
+        for (int ordinal : DOMAIN128_ORDINALS) {
+            values.add(DOMAIN128_ORDINAL_SUPPLIER.get(domain, ordinal));
+        }
+        return values;
+    }
+
+    @Benchmark
+    public Object create_getters_domain128_via_map() {
+        return DOMAIN128_MAP_FACTORY.get();
+    }
+
+    @Benchmark
+    public Object create_getters_domain128_via_generation() {
+        return new Domain128GetterSupplier().get();
+    }
+
 }
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.benchmark;
+
+import dev.alexengrig.metter.benchmark.domain.Domain16;
+import dev.alexengrig.metter.benchmark.domain.Domain16GetterSupplier;
+import dev.alexengrig.metter.benchmark.domain.Domain32;
+import dev.alexengrig.metter.benchmark.domain.Domain32GetterSupplier;
+import dev.alexengrig.metter.benchmark.domain.Domain64;
+import dev.alexengrig.metter.benchmark.domain.Domain64GetterSupplier;
+import dev.alexengrig.metter.benchmark.domain.Domain128;
+import dev.alexengrig.metter.benchmark.domain.Domain128GetterSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Startup cost in a fresh JVM - class initialization and first calls, not steady state:
+ * {@code construct} - creation of supplier or map,
+ * {@code firstGet} - creation and the first read of one field,
+ * {@code firstFullRead} - creation and the first read of all fields.
+ * <p>
+ * Alternatives are created by {@link dev.alexengrig.metter.benchmark.GetterMaps},
+ * not by {@link dev.alexengrig.metter.benchmark.GetterSupplierPayloads}, that creates all of them at once.
+ * Domains are not filled, to keep reflection out of other alternatives.
+ */
+@Fork(20)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@SuppressWarnings("DuplicatedCode")
+public class GetterSupplierStartupBenchmarks {
+    private static <T> Object firstGet(Map<String, Function<T, Object>> getterByField, T domain) {
+        return getterByField.get("int0").apply(domain);
+    }
+
+    private static <T> void fullRead(Map<String, Function<T, Object>> getterByField, T domain, Blackhole blackhole) {
+        for (Function<T, Object> getter : getterByField.values()) {
+            blackhole.consume(getter.apply(domain));
+        }
+    }
+
+//    16
+
+    @Benchmark
+    public Domain16GetterSupplier construct_domain16_via_generation() {
+        return new Domain16GetterSupplier();
+    }
+
+    @Benchmark
+    public Object firstGet_domain16_via_generation() {
+        return firstGet(new Domain16GetterSupplier().get(), new Domain16());
+    }
+
+    @Benchmark
+    public void firstFullRead_domain16_via_generation(Blackhole blackhole) {
+        fullRead(new Domain16GetterSupplier().get(), new Domain16(), blackhole);
+    }
+
+    @Benchmark
+    public Map<String, Function<Domain16, Object>> construct_domain16_via_map() {
+        return GetterMaps.createMap16();
+    }
+
+    @Benchmark
+    public Object firstGet_domain16_via_map() {
+        return firstGet(GetterMaps.createMap16(), new Domain16());
+    }
+
+    @Benchmark
+    public void firstFullRead_domain16_via_map(Blackhole blackhole) {
+        fullRead(GetterMaps.createMap16(), new Domain16(), blackhole);
+    }
+
+    @Benchmark
+    public Map<String, Function<Domain16, Object>> construct_domain16_via_reflection() {
+        return GetterMaps.createReflectionMap16();
+    }
+
+    @Benchmark
+    public Object firstGet_domain16_via_reflection() {
+        return firstGet(GetterMaps.createReflectionMap16(), new Domain16());
+    }
+
+    @Benchmark
+    public void firstFullRead_domain16_via_reflection(Blackhole blackhole) {
+        fullRead(GetterMaps.createReflectionMap16(), new Domain16(), blackhole);
+    }
+
+    @Benchmark
+    public Map<String, Function<Domain16, Object>> construct_domain16_via_handling() {
+        return GetterMaps.createHandlingMap16();
+    }
+
+    @Benchmark
+    public Object firstGet_domain16_via_handling() {
+        return firstGet(GetterMaps.createHandlingMap16(), new Domain16());
+    }
+
+    @Benchmark
+    public void firstFullRead_domain16_via_handling(Blackhole blackhole) {
+        fullRead(GetterMaps.createHandlingMap16(), new Domain16(), blackhole);
+    }
+
+//    32
+
+    @Benchmark
+    public Domain32GetterSupplier construct_domain32_via_generation() {
+        return new Domain32GetterSupplier();
+    }
+
+    @Benchmark
+    public Object firstGet_domain32_via_generation() {
+        return firstGet(new Domain32GetterSupplier().get(), new Domain32());
+    }
+
+    @Benchmark
+    public void firstFullRead_domain32_via_generation(Blackhole blackhole) {
+        fullRead(new Domain32GetterSupplier().get(), new Domain32(), blackhole);
+    }
+
+    @Benchmark
+    public Map<String, Function<Domain32, Object>> construct_domain32_via_map() {
+        return GetterMaps.createMap32();
+    }
+
+    @Benchmark
+    public Object firstGet_domain32_via_map() {
+        return firstGet(GetterMaps.createMap32(), new Domain32());
+    }
+
+    @Benchmark
+    public void firstFullRead_domain32_via_map(Blackhole blackhole) {
+        fullRead(GetterMaps.createMap32(), new Domain32(), blackhole);
+    }
+
+    @Benchmark
+    public Map<String, Function<Domain32, Object>> construct_domain32_via_reflection() {
+        return GetterMaps.createReflectionMap32();
+    }
+
+    @Benchmark
+    public Object firstGet_domain32_via_reflection() {
+        return firstGet(GetterMaps.createReflectionMap32(), new Domain32());
+    }
+
+    @Benchmark
+    public void firstFullRead_domain32_via_reflection(Blackhole blackhole) {
+        fullRead(GetterMaps.createReflectionMap32(), new Domain32(), blackhole);
+    }
+
+    @Benchmark
+    public Map<String, Function<Domain32, Object>> construct_domain32_via_handling() {
+        return GetterMaps.createHandlingMap32();
+    }
+
+    @Benchmark
+    public Object firstGet_domain32_via_handling() {
+        return firstGet(GetterMaps.createHandlingMap32(), new Domain32());
+    }
+
+    @Benchmark
+    public void firstFullRead_domain32_via_handling(Blackhole blackhole) {
+        fullRead(GetterMaps.createHandlingMap32(), new Domain32(), blackhole);
+    }
+
+//    64
+
+    @Benchmark
+    public Domain64GetterSupplier construct_domain64_via_generation() {
+        return new Domain64GetterSupplier();
+    }
+
+    @Benchmark
+    public Object firstGet_domain64_via_generation() {
+        return firstGet(new Domain64GetterSupplier().get(), new Domain64());
+    }
+
+    @Benchmark
+    public void firstFullRead_domain64_via_generation(Blackhole blackhole) {
+        fullRead(new Domain64GetterSupplier().get(), new Domain64(), blackhole);
+    }
+
+    @Benchmark
+    public Map<String, Function<Domain64, Object>> construct_domain64_via_map() {
+        return GetterMaps.createMap64();
+    }
+
+    @Benchmark
+    public Object firstGet_domain64_via_map() {
+        return firstGet(GetterMaps.createMap64(), new Domain64());
+    }
+
+    @Benchmark
+    public void firstFullRead_domain64_via_map(Blackhole blackhole) {
+        fullRead(GetterMaps.createMap64(), new Domain64(), blackhole);
+    }
+
+    @Benchmark
+    public Map<String, Function<Domain64, Object>> construct_domain64_via_reflection() {
+        return GetterMaps.createReflectionMap64();
+    }
+
+    @Benchmark
+    public Object firstGet_domain64_via_reflection() {
+        return firstGet(GetterMaps.createReflectionMap64(), new Domain64());
+    }
+
+    @Benchmark
+    public void firstFullRead_domain64_via_reflection(Blackhole blackhole) {
+        fullRead(GetterMaps.createReflectionMap64(), new Domain64(), blackhole);
+    }
+
+    @Benchmark
+    public Map<String, Function<Domain64, Object>> construct_domain64_via_handling() {
+        return GetterMaps.createHandlingMap64();
+    }
+
+    @Benchmark
+    public Object firstGet_domain64_via_handling() {
+        return firstGet(GetterMaps.createHandlingMap64(), new Domain64());
+    }
+
+    @Benchmark
+    public void firstFullRead_domain64_via_handling(Blackhole blackhole) {
+        fullRead(GetterMaps.createHandlingMap64(), new Domain64(), blackhole);
+    }
+
+//    128
+
+    @Benchmark
+    public Domain128GetterSupplier construct_domain128_via_generation() {
+        return new Domain128GetterSupplier();
+    }
+
+    @Benchmark
+    public Object firstGet_domain128_via_generation() {
+        return firstGet(new Domain128GetterSupplier().get(), new Domain128());
+    }
+
+    @Benchmark
+    public void firstFullRead_domain128_via_generation(Blackhole blackhole) {
+        fullRead(new Domain128GetterSupplier().get(), new Domain128(), blackhole);
+    }
+
+    @Benchmark
+    public Map<String, Function<Domain128, Object>> construct_domain128_via_map() {
+        return GetterMaps.createMap128();
+    }
+
+    @Benchmark
+    public Object firstGet_domain128_via_map() {
+        return firstGet(GetterMaps.createMap128(), new Domain128());
+    }
+
+    @Benchmark
+    public void firstFullRead_domain128_via_map(Blackhole blackhole) {
+        fullRead(GetterMaps.createMap128(), new Domain128(), blackhole);
+    }
+
+    @Benchmark
+    public Map<String, Function<Domain128, Object>> construct_domain128_via_reflection() {
+        return GetterMaps.createReflectionMap128();
+    }
+
+    @Benchmark
+    public Object firstGet_domain128_via_reflection() {
+        return firstGet(GetterMaps.createReflectionMap128(), new Domain128());
+    }
+
+    @Benchmark
+    public void firstFullRead_domain128_via_reflection(Blackhole blackhole) {
+        fullRead(GetterMaps.createReflectionMap128(), new Domain128(), blackhole);
+    }
+
+    @Benchmark
+    public Map<String, Function<Domain128, Object>> construct_domain128_via_handling() {
+        return GetterMaps.createHandlingMap128();
+    }
+
+    @Benchmark
+    public Object firstGet_domain128_via_handling() {
+        return firstGet(GetterMaps.createHandlingMap128(), new Domain128());
+    }
+
+    @Benchmark
+    public void firstFullRead_domain128_via_handling(Blackhole blackhole) {
+        fullRead(GetterMaps.createHandlingMap128(), new Domain128(), blackhole);
+    }
+}
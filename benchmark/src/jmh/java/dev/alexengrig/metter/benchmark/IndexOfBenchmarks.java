@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.alexengrig.metter.benchmark;
+
+import dev.alexengrig.metter.benchmark.domain.Domain32GetterSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup of ordinals of all fields of {@code Domain32} by names in a message of bytes:
+ * {@code string} - creating a string of name, {@code bytes} - by a range of bytes,
+ * {@code charBuffer} - by a char buffer over decoded message.
+ * <p>
+ * Run with {@code -prof gc} to see allocations.
+ */
+@Fork(value = 1, jvmArgs = "-ea")
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 10, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IndexOfBenchmarks {
+    private static final String[] FIELD_NAMES = Domain32GetterSupplier.getters().get().keySet().toArray(new String[0]);
+
+    private final int[] offsets = new int[FIELD_NAMES.length];
+    private final int[] lengths = new int[FIELD_NAMES.length];
+    private byte[] message;
+    private CharBuffer chars;
+
+    @Setup
+    public void setup() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (int i = 0; i < FIELD_NAMES.length; i++) {
+            byte[] name = ("\"" + FIELD_NAMES[i] + "\":0,").getBytes(StandardCharsets.UTF_8);
+            offsets[i] = output.size() + 1;
+            lengths[i] = name.length - 4;
+            output.write(name, 0, name.length);
+        }
+        message = output.toByteArray();
+        chars = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(message));
+        int expected = sumOrdinals_via_string();
+        assert expected == sumOrdinals_via_bytes() : "Sum of ordinals via bytes must be " + expected;
+        assert expected == sumOrdinals_via_charBuffer() : "Sum of ordinals via char buffer must be " + expected;
+    }
+
+    @Benchmark
+    public int sumOrdinals_via_string() {
+        int sum = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            sum += Domain32GetterSupplier.indexOf(new String(message, offsets[i], lengths[i], StandardCharsets.UTF_8));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int sumOrdinals_via_bytes() {
+        int sum = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            sum += Domain32GetterSupplier.indexOf(message, offsets[i], lengths[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int sumOrdinals_via_charBuffer() {
+        int sum = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            chars.limit(offsets[i] + lengths[i]).position(offsets[i]);
+            sum += Domain32GetterSupplier.indexOf(chars);
+        }
+        chars.clear();
+        return sum;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.benchmark;
+
+import dev.alexengrig.metter.benchmark.domain.Domain128;
+import dev.alexengrig.metter.benchmark.domain.Domain128GetterSupplier;
+import dev.alexengrig.metter.benchmark.util.ReflectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Run with the GC profiler ({@code -prof gc}) to compare {@code gc.alloc.rate.norm}:
+ * boxed getters allocate on every read, primitive getters do not.
+ */
+@Fork(value = 1, jvmArgs = "-ea")
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 10, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@CompilerControl(CompilerControl.Mode.DONT_INLINE)
+public class PrimitiveGetterSupplierBenchmarks {
+    private final long[] longValues128 = new long[128];
+    private Domain128 domain128;
+    private Domain128GetterSupplier getterSupplier128;
+    private List<Function<Domain128, Object>> boxedIntGetters128;
+    private List<Function<Domain128, Object>> boxedLongGetters128;
+    private List<ToIntFunction<Domain128>> intGetters128;
+    private List<ToLongFunction<Domain128>> longGetters128;
+
+    @Setup
+    public void setup() {
+        domain128 = ReflectionUtils.fill(new Domain128());
+        getterSupplier128 = new Domain128GetterSupplier();
+        Map<String, Function<Domain128, Object>> getterByField128 = getterSupplier128.get();
+        Map<String, ToIntFunction<Domain128>> intGetterByField128 = getterSupplier128.getIntGetters();
+        Map<String, ToLongFunction<Domain128>> longGetterByField128 = getterSupplier128.getLongGetters();
+        assert intGetterByField128.size() == 32 : "Int getters size must be 32, not " + intGetterByField128.size();
+        assert longGetterByField128.size() == 32 : "Long getters size must be 32, not " + longGetterByField128.size();
+        boxedIntGetters128 = new ArrayList<>(32);
+        intGetters128 = new ArrayList<>(32);
+        intGetterByField128.forEach((field, getter) -> {
+            boxedIntGetters128.add(getterByField128.get(field));
+            intGetters128.add(getter);
+        });
+        boxedLongGetters128 = new ArrayList<>(32);
+        longGetters128 = new ArrayList<>(32);
+        longGetterByField128.forEach((field, getter) -> {
+            boxedLongGetters128.add(getterByField128.get(field));
+            longGetters128.add(getter);
+        });
+    }
+
+//    128
+
+    @Benchmark
+    public long get_intValues_domain128_via_generation() {
+        long sum = 0;
+        for (Function<Domain128, Object> getter : boxedIntGetters128) {
+            sum += (int) getter.apply(domain128);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long get_intValues_domain128_via_primitive_generation() {
+        long sum = 0;
+        for (ToIntFunction<Domain128> getter : intGetters128) {
+            sum += getter.applyAsInt(domain128);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long get_longValues_domain128_via_generation() {
+        long sum = 0;
+        for (Function<Domain128, Object> getter : boxedLongGetters128) {
+            sum += (long) getter.apply(domain128);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long get_longValues_domain128_via_primitive_generation() {
+        long sum = 0;
+        for (ToLongFunction<Domain128> getter : longGetters128) {
+            sum += getter.applyAsLong(domain128);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long get_integralValues_domain128_via_snapshot() {
+        long[] values = getterSupplier128.snapshot(domain128, longValues128);
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+}
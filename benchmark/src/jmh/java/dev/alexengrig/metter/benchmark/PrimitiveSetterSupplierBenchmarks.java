@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.benchmark;
+
+import dev.alexengrig.metter.benchmark.domain.Domain128;
+import dev.alexengrig.metter.benchmark.domain.Domain128SetterSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * One operation is one write, run with the GC profiler ({@code -prof gc}) to compare {@code gc.alloc.rate.norm}:
+ * boxed setters allocate on every write, primitive setters do not.
+ */
+@Fork(value = 1, jvmArgs = "-ea")
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 10, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(32)
+@CompilerControl(CompilerControl.Mode.DONT_INLINE)
+public class PrimitiveSetterSupplierBenchmarks {
+    private final Domain128 domain128 = new Domain128();
+    private final int[] intValues = new int[32];
+    private final long[] longValues = new long[32];
+    private List<BiConsumer<Domain128, Object>> boxedIntSetters128;
+    private List<BiConsumer<Domain128, Object>> boxedLongSetters128;
+    private List<ObjIntConsumer<Domain128>> intSetters128;
+    private List<ObjLongConsumer<Domain128>> longSetters128;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < 32; i++) {
+            intValues[i] = 1000 + i;
+            longValues[i] = 1000L + i;
+        }
+        Domain128SetterSupplier setterSupplier128 = new Domain128SetterSupplier();
+        Map<String, BiConsumer<Domain128, Object>> setterByField128 = setterSupplier128.get();
+        Map<String, ObjIntConsumer<Domain128>> intSetterByField128 = setterSupplier128.getIntSetters();
+        Map<String, ObjLongConsumer<Domain128>> longSetterByField128 = setterSupplier128.getLongSetters();
+        assert intSetterByField128.size() == 32 : "Int setters size must be 32, not " + intSetterByField128.size();
+        assert longSetterByField128.size() == 32 : "Long setters size must be 32, not " + longSetterByField128.size();
+        boxedIntSetters128 = new ArrayList<>(32);
+        intSetters128 = new ArrayList<>(32);
+        intSetterByField128.forEach((field, setter) -> {
+            boxedIntSetters128.add(setterByField128.get(field));
+            intSetters128.add(setter);
+        });
+        boxedLongSetters128 = new ArrayList<>(32);
+        longSetters128 = new ArrayList<>(32);
+        longSetterByField128.forEach((field, setter) -> {
+            boxedLongSetters128.add(setterByField128.get(field));
+            longSetters128.add(setter);
+        });
+    }
+
+//    128
+
+    @Benchmark
+    public Object set_intValues_domain128_via_generation() {
+        for (int i = 0; i < 32; i++) {
+            boxedIntSetters128.get(i).accept(domain128, intValues[i]);
+        }
+        return domain128;
+    }
+
+    @Benchmark
+    public Object set_intValues_domain128_via_primitive_generation() {
+        for (int i = 0; i < 32; i++) {
+            intSetters128.get(i).accept(domain128, intValues[i]);
+        }
+        return domain128;
+    }
+
+    @Benchmark
+    public Object set_longValues_domain128_via_generation() {
+        for (int i = 0; i < 32; i++) {
+            boxedLongSetters128.get(i).accept(domain128, longValues[i]);
+        }
+        return domain128;
+    }
+
+    @Benchmark
+    public Object set_longValues_domain128_via_primitive_generation() {
+        for (int i = 0; i < 32; i++) {
+            longSetters128.get(i).accept(domain128, longValues[i]);
+        }
+        return domain128;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.benchmark;
+
+import dev.alexengrig.metter.processor.BaseMethodSupplierProcessor;
+import dev.alexengrig.metter.processor.GetterSupplierProcessor;
+import dev.alexengrig.metter.processor.MetterProcessor;
+import dev.alexengrig.metter.processor.SetterSupplierProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.lang.model.element.TypeElement;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation processing ({@code -proc:only}) of {@code leaves} classes with getter and setter suppliers,
+ * extending one chain of {@code depth} base classes, by {@link javax.tools.JavaCompiler} of the running JDK:
+ * {@code process} - generation of suppliers, {@code analyze} - only resolving of fields with methods,
+ * without generation, {@code baseline} - no processors;
+ * {@code *_unified} - by a single {@link dev.alexengrig.metter.processor.MetterProcessor}
+ * instead of a processor per annotation.
+ * <p>
+ * Time is of the whole compiler task, {@code process} includes parsing of generated sources by the compiler.
+ */
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProcessorHierarchyBenchmarks {
+    @Param({"1", "8", "32"})
+    private int depth;
+    @Param({"200"})
+    private int leaves;
+
+    private SyntheticSources sources;
+
+    @Setup
+    public void setup() throws IOException {
+        sources = new SyntheticSources("hierarchy", leaves, 4, depth,
+                "@dev.alexengrig.metter.annotation.GetterSupplier\n"
+                        + "@dev.alexengrig.metter.annotation.SetterSupplier\n",
+                "-proc:only");
+        if (!process() || !analyze() || !process_unified() || !analyze_unified()) {
+            throw new IllegalStateException("Processing failed");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        sources.close();
+    }
+
+    @Benchmark
+    public boolean baseline() {
+        return sources.compile();
+    }
+
+    @Benchmark
+    public boolean process() {
+        return sources.compile(new GetterSupplierProcessor(), new SetterSupplierProcessor());
+    }
+
+    @Benchmark
+    public boolean analyze() {
+        return sources.compile(new GetterAnalyzer(), new SetterAnalyzer());
+    }
+
+    @Benchmark
+    public boolean process_unified() {
+        return sources.compile(new MetterProcessor());
+    }
+
+    @Benchmark
+    public boolean analyze_unified() {
+        return sources.compile(new MetterProcessor() {
+            @Override
+            protected List<BaseMethodSupplierProcessor<?>> createProcessors() {
+                return Arrays.asList(new GetterAnalyzer(), new SetterAnalyzer());
+            }
+        });
+    }
+
+    private static class GetterAnalyzer extends GetterSupplierProcessor {
+        @Override
+        protected void process(TypeElement typeElement) {
+            createFieldMethods(getTypeDescriptor(typeElement));
+        }
+    }
+
+    private static class SetterAnalyzer extends SetterSupplierProcessor {
+        @Override
+        protected void process(TypeElement typeElement) {
+            createFieldMethods(getTypeDescriptor(typeElement));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.benchmark;
+
+import dev.alexengrig.metter.processor.MetterProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compilation of {@code classes} classes with getter and setter suppliers and {@code fields} fields,
+ * extending one chain of {@code depth} base classes with {@code fields} fields,
+ * by {@link javax.tools.JavaCompiler} of the running JDK:
+ * {@code compile} - without processors, {@code compile_with_metter} - with
+ * {@link dev.alexengrig.metter.processor.MetterProcessor}, including compilation of generated sources.
+ * <p>
+ * Added wall time of metter is the difference of scores, added allocation is the difference of
+ * {@code gc.alloc.rate.norm} of the gc profiler.
+ * Large sizes need memory and time, select them by options, for example:
+ * {@code -p classes=10000 -p fields=16 -p depth=0}.
+ */
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProcessorThroughputBenchmarks {
+    @Param({"10", "100", "1000", "10000"})
+    private int classes;
+    @Param({"16", "128", "1024"})
+    private int fields;
+    @Param({"0", "4"})
+    private int depth;
+
+    private SyntheticSources sources;
+
+    @Setup
+    public void setup() throws IOException {
+        sources = new SyntheticSources("throughput", classes, fields, depth,
+                "@dev.alexengrig.metter.annotation.GetterSupplier\n"
+                        + "@dev.alexengrig.metter.annotation.SetterSupplier\n");
+        if (!compile_with_metter()) {
+            throw new IllegalStateException("Compilation failed");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        sources.close();
+    }
+
+    @Benchmark
+    public boolean compile() {
+        return sources.compile();
+    }
+
+    @Benchmark
+    public boolean compile_with_metter() {
+        return sources.compile(new MetterProcessor());
+    }
+}
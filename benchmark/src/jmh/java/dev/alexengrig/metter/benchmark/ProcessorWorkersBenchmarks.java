@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.benchmark;
+
+import dev.alexengrig.metter.processor.MetterProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation processing only ({@code -proc:only}) of {@code classes} classes with getter, setter and diff suppliers
+ * and {@code fields} fields by {@link dev.alexengrig.metter.processor.MetterProcessor}
+ * with {@code workers} workers of {@code -Ametter.workers}:
+ * {@code 1} - sources are rendered and written one by one on the compiler thread,
+ * more - sources are rendered concurrently and written on the compiler thread.
+ */
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProcessorWorkersBenchmarks {
+    @Param({"100", "1000", "5000"})
+    private int classes;
+    @Param({"16", "128"})
+    private int fields;
+    @Param({"1", "2", "4", "8"})
+    private int workers;
+
+    private SyntheticSources sources;
+
+    @Setup
+    public void setup() throws IOException {
+        sources = new SyntheticSources("workers", classes, fields, 0,
+                "@dev.alexengrig.metter.annotation.GetterSupplier\n"
+                        + "@dev.alexengrig.metter.annotation.SetterSupplier\n"
+                        + "@dev.alexengrig.metter.annotation.DiffSupplier\n",
+                "-proc:only", "-A" + MetterProcessor.WORKERS_OPTION + "=" + workers);
+        if (!process()) {
+            throw new IllegalStateException("Processing failed");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        sources.close();
+    }
+
+    @Benchmark
+    public boolean process() {
+        return sources.compile(new MetterProcessor());
+    }
+}
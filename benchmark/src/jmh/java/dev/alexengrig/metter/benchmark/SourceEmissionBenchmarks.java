@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.benchmark;
+
+import dev.alexengrig.metter.generator.FieldMethod;
+import dev.alexengrig.metter.generator.GetterSupplierSourceGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emission of a getter supplier source of a type with {@code fields} fields to a source file writer:
+ * {@code string} - generation of the whole source, then printing by {@link java.io.PrintWriter},
+ * {@code streaming} - generation line by line to the writer.
+ * <p>
+ * Run with {@code -prof gc} to see allocations.
+ */
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SourceEmissionBenchmarks {
+    private static final String CLASS_NAME = "my.company.MyDomainGetterSupplier";
+    private static final String DOMAIN_CLASS_NAME = "my.company.MyDomain";
+
+    private final GetterSupplierSourceGenerator generator = new GetterSupplierSourceGenerator();
+    private final CountingWriter writer = new CountingWriter();
+
+    @Param({"16", "256", "1024", "4096"})
+    private int fields;
+
+    private List<FieldMethod> fieldMethods;
+
+    @Setup
+    public void setup() {
+        fieldMethods = new ArrayList<>(fields);
+        for (int i = 0; i < fields; i++) {
+            String getter = "getField" + i;
+            fieldMethods.add(new FieldMethod("field" + i, "int",
+                    DOMAIN_CLASS_NAME + "::" + getter, "%1$s." + getter + "()"));
+        }
+        writer.count = 0;
+        streaming();
+        long streamed = writer.count;
+        writer.count = 0;
+        string();
+        if (streamed != writer.count) {
+            throw new IllegalStateException("Sources differ: " + streamed + " != " + writer.count);
+        }
+    }
+
+    @Benchmark
+    public long string() {
+        String source = generator.generate(CLASS_NAME, DOMAIN_CLASS_NAME, fieldMethods, false);
+        PrintWriter printer = new PrintWriter(writer);
+        printer.print(source);
+        printer.flush();
+        return writer.count;
+    }
+
+    @Benchmark
+    public long streaming() {
+        generator.generate(writer, CLASS_NAME, DOMAIN_CLASS_NAME, fieldMethods, false);
+        return writer.count;
+    }
+
+    private static class CountingWriter extends Writer {
+        private long count;
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() throws IOException {
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.benchmark;
+
+import dev.alexengrig.metter.benchmark.domain.Domain128GetterSupplier;
+import dev.alexengrig.metter.benchmark.domain.Domain128SetterSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Obtaining of a supplier - a new instance per component versus the shared instance.
+ * Run with the GC profiler ({@code -prof gc}) to compare {@code gc.alloc.rate.norm}:
+ * it is the heap retained by every new instance, the shared instance retains nothing more.
+ */
+@Fork(value = 1, jvmArgs = "-ea")
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 10, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@CompilerControl(CompilerControl.Mode.DONT_INLINE)
+public class SupplierInstanceBenchmarks {
+    @Benchmark
+    public Domain128GetterSupplier getterSupplier_domain128_via_constructor() {
+        return new Domain128GetterSupplier();
+    }
+
+    @Benchmark
+    public Domain128GetterSupplier getterSupplier_domain128_via_sharedInstance() {
+        return Domain128GetterSupplier.getters();
+    }
+
+    @Benchmark
+    public Domain128SetterSupplier setterSupplier_domain128_via_constructor() {
+        return new Domain128SetterSupplier();
+    }
+
+    @Benchmark
+    public Domain128SetterSupplier setterSupplier_domain128_via_sharedInstance() {
+        return Domain128SetterSupplier.setters();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.benchmark;
+
+import javax.annotation.processing.Processor;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Synthetic sources in a temporary directory: {@code classes} annotated classes,
+ * extending one chain of {@code depth} base classes, every class has {@code fields} int fields
+ * with a getter and a setter; compiled by {@link javax.tools.JavaCompiler} of the running JDK.
+ */
+class SyntheticSources implements Closeable {
+    private final JavaCompiler compiler;
+    private final StandardJavaFileManager fileManager;
+    private final Path directory;
+    private final List<File> sources;
+    private final List<String> options;
+
+    SyntheticSources(String packageName, int classes, int fields, int depth, String annotations,
+                     String... compilerOptions) throws IOException {
+        compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No system Java compiler, run on JDK");
+        }
+        fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+        directory = Files.createTempDirectory("metter-" + packageName);
+        Path sourceDirectory = Files.createDirectories(directory.resolve("src").resolve(packageName));
+        Files.createDirectories(directory.resolve("generated"));
+        Files.createDirectories(directory.resolve("classes"));
+        sources = new ArrayList<>(depth + classes);
+        for (int i = 0; i < depth; i++) {
+            String superName = i > 0 ? "Base" + (i - 1) : null;
+            sources.add(write(sourceDirectory, "Base" + i,
+                    createClass(packageName, "Base" + i, superName, fields, "")));
+        }
+        String leafSuperName = depth > 0 ? "Base" + (depth - 1) : null;
+        for (int i = 0; i < classes; i++) {
+            sources.add(write(sourceDirectory, "Leaf" + i,
+                    createClass(packageName, "Leaf" + i, leafSuperName, fields, annotations)));
+        }
+        options = new ArrayList<>(Arrays.asList(compilerOptions));
+        options.addAll(Arrays.asList(
+                "-classpath", System.getProperty("java.class.path"),
+                "-s", directory.resolve("generated").toString(),
+                "-d", directory.resolve("classes").toString()));
+    }
+
+    private static String createClass(String packageName, String name, String superName, int fields,
+                                      String annotations) {
+        StringBuilder builder = new StringBuilder()
+                .append("package ").append(packageName).append(";\n\n")
+                .append(annotations)
+                .append("public class ").append(name)
+                .append(superName != null ? " extends " + superName : "").append(" {\n");
+        String prefix = Character.toLowerCase(name.charAt(0)) + name.substring(1) + "Field";
+        for (int i = 0; i < fields; i++) {
+            String field = prefix + i;
+            String capitalized = Character.toUpperCase(field.charAt(0)) + field.substring(1);
+            builder.append("    private int ").append(field).append(";\n\n")
+                    .append("    public int get").append(capitalized).append("() {\n")
+                    .append("        return ").append(field).append(";\n")
+                    .append("    }\n\n")
+                    .append("    public void set").append(capitalized).append("(int ").append(field).append(") {\n")
+                    .append("        this.").append(field).append(" = ").append(field).append(";\n")
+                    .append("    }\n\n");
+        }
+        return builder.append("}\n").toString();
+    }
+
+    private static File write(Path directory, String name, String source) throws IOException {
+        Path file = directory.resolve(name + ".java");
+        Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+        return file.toFile();
+    }
+
+    Path getClassesDirectory() {
+        return directory.resolve("classes");
+    }
+
+    boolean compile(Processor... processors) {
+        Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles(sources);
+        JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, compilationUnits);
+        task.setProcessors(Arrays.asList(processors));
+        return task.call();
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileManager.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+}
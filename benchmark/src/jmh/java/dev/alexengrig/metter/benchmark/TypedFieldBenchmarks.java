@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.benchmark;
+
+import dev.alexengrig.metter.benchmark.domain.Domain16;
+import dev.alexengrig.metter.benchmark.domain.Domain16Fields;
+import dev.alexengrig.metter.benchmark.domain.Domain16GetterSupplier;
+import dev.alexengrig.metter.benchmark.util.ReflectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Reading of all {@code int} and {@code long} fields of {@code Domain16}:
+ * {@code stringKey} - a getter by field name and a cast of value,
+ * {@code typedField} - a primitive getter of typed field constant,
+ * {@code direct} - getters of domain.
+ * <p>
+ * Run with {@code -prof gc} to see allocations.
+ */
+@Fork(value = 1, jvmArgs = "-ea")
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 10, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TypedFieldBenchmarks {
+    private Domain16 domain;
+    private Map<String, Function<Domain16, Object>> getterByField;
+
+    @Setup
+    public void setup() {
+        domain = ReflectionUtils.fill(new Domain16());
+        getterByField = Domain16GetterSupplier.getters().get();
+        long expected = sum_via_direct();
+        assert expected == sum_via_stringKey() : "Sum via string key must be " + expected;
+        assert expected == sum_via_typedField() : "Sum via typed field must be " + expected;
+    }
+
+    @Benchmark
+    public long sum_via_stringKey() {
+        return (Integer) getterByField.get("int0").apply(domain)
+                + (Integer) getterByField.get("int1").apply(domain)
+                + (Integer) getterByField.get("int2").apply(domain)
+                + (Integer) getterByField.get("int3").apply(domain)
+                + (Long) getterByField.get("long0").apply(domain)
+                + (Long) getterByField.get("long1").apply(domain)
+                + (Long) getterByField.get("long2").apply(domain)
+                + (Long) getterByField.get("long3").apply(domain);
+    }
+
+    @Benchmark
+    public long sum_via_typedField() {
+        return Domain16Fields.INT0.getInt(domain)
+                + Domain16Fields.INT1.getInt(domain)
+                + Domain16Fields.INT2.getInt(domain)
+                + Domain16Fields.INT3.getInt(domain)
+                + Domain16Fields.LONG0.getLong(domain)
+                + Domain16Fields.LONG1.getLong(domain)
+                + Domain16Fields.LONG2.getLong(domain)
+                + Domain16Fields.LONG3.getLong(domain);
+    }
+
+    @Benchmark
+    public long sum_via_direct() {
+        return domain.getInt0() + domain.getInt1() + domain.getInt2() + domain.getInt3()
+                + domain.getLong0() + domain.getLong1() + domain.getLong2() + domain.getLong3();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.benchmark;
+
+import dev.alexengrig.metter.processor.MetterProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Suppliers of a generated domain class with {@code fields} int fields, compiled at setup:
+ * creating a getter supplier (its map of all fields), getting and setting values of all fields by map
+ * and comparing all fields by a diff supplier (called by reflection, the class is unknown at compile time).
+ * Per-field methods of such wide classes are split into chunks by ranges of ordinals,
+ * so they stay under the limit of 64 KB of method code and are compiled by JIT.
+ * Suppliers dispatch by {@code switch}, method references of thousands of fields overflow the constant pool.
+ */
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WideDomainBenchmarks {
+    @Param({"512", "1024", "4096"})
+    private int fields;
+
+    private SyntheticSources sources;
+    private URLClassLoader classLoader;
+    private Constructor<?> getterSupplierConstructor;
+    private List<Function<Object, Object>> getters;
+    private List<BiConsumer<Object, Object>> setters;
+    private Object diffSupplier;
+    private Method diff;
+    private Object instance;
+    private Object newInstance;
+    private BitSet changes;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() throws Exception {
+        sources = new SyntheticSources("wide", 1, fields, 0,
+                "@dev.alexengrig.metter.annotation.GetterSupplier(switchDispatch = true)\n"
+                        + "@dev.alexengrig.metter.annotation.SetterSupplier(switchDispatch = true)\n"
+                        + "@dev.alexengrig.metter.annotation.DiffSupplier(switchDispatch = true)\n");
+        if (!sources.compile(new MetterProcessor())) {
+            throw new IllegalStateException("Compilation failed");
+        }
+        classLoader = new URLClassLoader(new URL[]{sources.getClassesDirectory().toUri().toURL()},
+                getClass().getClassLoader());
+        instance = classLoader.loadClass("wide.Leaf0").getConstructor().newInstance();
+        newInstance = classLoader.loadClass("wide.Leaf0").getConstructor().newInstance();
+        getterSupplierConstructor = classLoader.loadClass("wide.Leaf0GetterSupplier").getConstructor();
+        getters = new ArrayList<>(((Supplier<Map<String, Function<Object, Object>>>) getterSupplierConstructor
+                .newInstance()).get().values());
+        setters = new ArrayList<>(((Supplier<Map<String, BiConsumer<Object, Object>>>) classLoader
+                .loadClass("wide.Leaf0SetterSupplier").getConstructor().newInstance()).get().values());
+        for (BiConsumer<Object, Object> setter : setters) {
+            setter.accept(newInstance, 1);
+        }
+        diffSupplier = classLoader.loadClass("wide.Leaf0DiffSupplier").getConstructor().newInstance();
+        diff = diffSupplier.getClass().getMethod("diff", instance.getClass(), instance.getClass(), BitSet.class);
+        changes = new BitSet(fields);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        classLoader.close();
+        sources.close();
+    }
+
+    @Benchmark
+    public Object createGetterSupplier() throws ReflectiveOperationException {
+        return getterSupplierConstructor.newInstance();
+    }
+
+    @Benchmark
+    public void getAll(Blackhole blackhole) {
+        for (Function<Object, Object> getter : getters) {
+            blackhole.consume(getter.apply(instance));
+        }
+    }
+
+    @Benchmark
+    public Object setAll() {
+        Integer value = 42;
+        for (BiConsumer<Object, Object> setter : setters) {
+            setter.accept(instance, value);
+        }
+        return instance;
+    }
+
+    @Benchmark
+    public Object diffAll() throws ReflectiveOperationException {
+        return diff.invoke(diffSupplier, instance, newInstance, changes);
+    }
+}
@@ -16,11 +16,17 @@
 
 package dev.alexengrig.metter.benchmark.domain;
 
+import dev.alexengrig.metter.annotation.DiffSupplier;
 import dev.alexengrig.metter.annotation.GetterSupplier;
+import dev.alexengrig.metter.annotation.SetterSupplier;
 import lombok.Getter;
+import lombok.Setter;
 
 @Getter
+@Setter
 @GetterSupplier
+@DiffSupplier
+@SetterSupplier
 public class Domain128 extends Domain64 {
     private int int16;
     private int int17;
@@ -16,11 +16,17 @@
 
 package dev.alexengrig.metter.benchmark.domain;
 
+import dev.alexengrig.metter.annotation.Fields;
 import dev.alexengrig.metter.annotation.GetterSupplier;
+import dev.alexengrig.metter.annotation.SetterSupplier;
 import lombok.Getter;
+import lombok.Setter;
 
 @Getter
+@Setter
+@Fields
 @GetterSupplier
+@SetterSupplier
 public class Domain16 {
     private int int0;
     private int int1;
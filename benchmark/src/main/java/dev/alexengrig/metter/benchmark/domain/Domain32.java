@@ -17,10 +17,14 @@
 package dev.alexengrig.metter.benchmark.domain;
 
 import dev.alexengrig.metter.annotation.GetterSupplier;
+import dev.alexengrig.metter.annotation.SetterSupplier;
 import lombok.Getter;
+import lombok.Setter;
 
 @Getter
+@Setter
 @GetterSupplier
+@SetterSupplier
 public class Domain32 extends Domain16 {
     private int int4;
     private int int5;
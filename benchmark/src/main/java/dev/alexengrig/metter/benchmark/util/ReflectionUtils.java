@@ -18,8 +18,10 @@ package dev.alexengrig.metter.benchmark.util;
 
 import lombok.SneakyThrows;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.function.Function;
 
 public final class ReflectionUtils {
@@ -37,4 +39,27 @@ public final class ReflectionUtils {
             }
         };
     }
+
+    @SneakyThrows(IllegalAccessException.class)
+    public static <T> T fill(T instance) {
+        Field[] fields = instance.getClass().getDeclaredFields();
+        for (int i = 0; i < fields.length; i++) {
+            Field field = fields[i];
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            field.setAccessible(true);
+            Class<?> type = field.getType();
+            if (type == int.class) {
+                field.setInt(instance, 1000 + i);
+            } else if (type == long.class) {
+                field.setLong(instance, 1000L + i);
+            } else if (type == boolean.class) {
+                field.setBoolean(instance, i % 2 == 0);
+            } else if (type == String.class) {
+                field.set(instance, "string" + i);
+            }
+        }
+        return instance;
+    }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.demo.fieldaccess;
+
+import dev.alexengrig.metter.annotation.DiffSupplier;
+import dev.alexengrig.metter.annotation.GetterSupplier;
+import dev.alexengrig.metter.annotation.SetterSupplier;
+import dev.alexengrig.metter.demo.fieldaccess.base.FieldAccessBase;
+
+@GetterSupplier(fieldAccess = true)
+@SetterSupplier(fieldAccess = true)
+@DiffSupplier(fieldAccess = true)
+public class FieldAccessDomain extends FieldAccessBase {
+    final String code;
+    int count;
+    protected String name;
+    private boolean active;
+    private double hidden;
+
+    public FieldAccessDomain(String code) {
+        this.code = code;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.demo.hydrator;
+
+import dev.alexengrig.metter.annotation.Hydrator;
+
+import java.util.List;
+
+@Hydrator
+public class HydratorDomain extends HydratorEntity {
+    private static final String DEFAULT_NAME = "default";
+    private final String code;
+    private final int count;
+    private final List<String> tags;
+    private String name = DEFAULT_NAME;
+    private boolean hidden;
+
+    public HydratorDomain(String code) {
+        this(code, 0, null);
+    }
+
+    public HydratorDomain(String code, int count, List<String> tags) {
+        this.code = code;
+        this.count = count;
+        this.tags = tags;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isHidden() {
+        return hidden;
+    }
+}
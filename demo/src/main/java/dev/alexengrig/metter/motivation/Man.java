@@ -16,9 +16,11 @@
 
 package dev.alexengrig.metter.motivation;
 
+import dev.alexengrig.metter.annotation.DiffSupplier;
 import dev.alexengrig.metter.annotation.GetterSupplier;
 
 @GetterSupplier
+@DiffSupplier
 class Man {
     private String name;
     private int age;
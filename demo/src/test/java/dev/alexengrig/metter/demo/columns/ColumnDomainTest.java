@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.alexengrig.metter.demo.columns;
+
+import dev.alexengrig.metter.batch.ForkJoinBatch;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ColumnDomainTest {
+    private final ColumnDomainGetterSupplier getters = ColumnDomainGetterSupplier.getters();
+    private final ColumnDomainSetterSupplier setters = ColumnDomainSetterSupplier.setters();
+
+    private static List<ColumnDomain> createDomains() {
+        return Arrays.asList(
+                new ColumnDomain((short) 1, 10L, 1.5F, true, "first"),
+                new ColumnDomain((short) 2, 20L, 2.5F, false, "second"));
+    }
+
+    @Test
+    public void should_read_columns() {
+        List<ColumnDomain> domains = createDomains();
+        assertArrayEquals("Int column is wrong", new int[]{1, 2},
+                getters.column(domains, ColumnDomainGetterSupplier.COUNT, new int[2]));
+        assertArrayEquals("Long column is wrong", new long[]{10L, 20L},
+                getters.column(domains, ColumnDomainGetterSupplier.TOTAL, new long[2]));
+        assertArrayEquals("Double column is wrong", new double[]{1.5, 2.5},
+                getters.column(domains.toArray(new ColumnDomain[0]), ColumnDomainGetterSupplier.PRICE, new double[2]), 0);
+        assertArrayEquals("Boolean column is wrong", new boolean[]{true, false},
+                getters.column(domains, ColumnDomainGetterSupplier.ACTIVE, new boolean[2]));
+        assertArrayEquals("Object column is wrong", new Object[]{"first", "second"},
+                getters.column(domains, ColumnDomainGetterSupplier.NAME, new Object[2]));
+    }
+
+    @Test
+    public void should_hydrate_columns() {
+        List<ColumnDomain> domains = createDomains();
+        setters.hydrate(domains, ColumnDomainSetterSupplier.COUNT, new Object[]{(short) 3, (short) 4});
+        setters.hydrate(domains, ColumnDomainSetterSupplier.TOTAL, new long[]{30L, 40L});
+        setters.hydrate(domains.toArray(new ColumnDomain[0]), ColumnDomainSetterSupplier.ACTIVE, new boolean[]{false, true});
+        setters.hydrate(domains, ColumnDomainSetterSupplier.NAME, new Object[]{"third", "fourth"});
+        assertEquals("Domains are wrong", Arrays.asList(
+                new ColumnDomain((short) 3, 30L, 1.5F, false, "third"),
+                new ColumnDomain((short) 4, 40L, 2.5F, true, "fourth")), domains);
+    }
+
+    @Test
+    public void should_readAndHydrate_columns_inParallel() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ForkJoinBatch batch = new ForkJoinBatch(pool, 16);
+            ColumnDomain[] domains = IntStream.range(0, 1000)
+                    .mapToObj(i -> new ColumnDomain((short) i, i, i, false, null))
+                    .toArray(ColumnDomain[]::new);
+            long[] totals = getters.column(domains, ColumnDomainGetterSupplier.TOTAL, new long[domains.length], batch);
+            assertArrayEquals("Long column is wrong", LongStream.range(0, 1000).toArray(), totals);
+            setters.hydrate(Arrays.asList(domains), ColumnDomainSetterSupplier.TOTAL,
+                    Arrays.stream(totals).map(total -> total * 2).toArray(), batch);
+            Object[][] snapshots = getters.snapshot(domains, new Object[domains.length][5], batch);
+            for (int i = 0; i < domains.length; i++) {
+                assertEquals("Total is wrong", i * 2L, domains[i].getTotal());
+                assertEquals("Snapshot of total is wrong", i * 2L, snapshots[i][ColumnDomainGetterSupplier.TOTAL]);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void should_throw_ifFieldHasOtherType() {
+        getters.column(createDomains(), ColumnDomainGetterSupplier.NAME, new int[2]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_throw_ifTargetIsShort() {
+        getters.column(createDomains(), ColumnDomainGetterSupplier.TOTAL, new long[1]);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.demo.fieldaccess;
+
+import dev.alexengrig.metter.demo.BaseDomainTest;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+
+public class FieldAccessDomainTest extends BaseDomainTest<FieldAccessDomain> {
+    private static FieldAccessDomain createDomain() {
+        FieldAccessDomain domain = new FieldAccessDomain("code");
+        domain.count = 1;
+        domain.name = "name";
+        domain.setActive(true);
+        domain.tag = "tag";
+        domain.setId(2);
+        return domain;
+    }
+
+    @Test
+    public void should_contains_accessibleFieldsAndGetters() {
+        Map<String, Function<FieldAccessDomain, Object>> getterByField = getGetterMap(new FieldAccessDomainGetterSupplier());
+        assertSize(getterByField, 6);
+        assertGetterFields(getterByField, "code", "count", "name", "active", "tag", "id");
+        FieldAccessDomain domain = createDomain();
+        assertGetterValue(getterByField, domain, "code", "code");
+        assertGetterValue(getterByField, domain, "count", 1);
+        assertGetterValue(getterByField, domain, "name", "name");
+        assertGetterValue(getterByField, domain, "active", true);
+        assertGetterValue(getterByField, domain, "tag", "tag");
+        assertGetterValue(getterByField, domain, "id", 2L);
+    }
+
+    @Test
+    public void should_contains_accessibleNotFinalFieldsAndSetters() {
+        Map<String, BiConsumer<FieldAccessDomain, Object>> setterByField = getSetterMap(new FieldAccessDomainSetterSupplier());
+        assertSize(setterByField, 5);
+        assertSetterFields(setterByField, "count", "name", "active", "tag", "id");
+        FieldAccessDomain domain = createDomain();
+        assertSetterValue(setterByField, domain, "count", 10, d -> d.count);
+        assertSetterValue(setterByField, domain, "name", "new name", d -> d.name);
+        assertSetterValue(setterByField, domain, "active", false, FieldAccessDomain::isActive);
+        assertSetterValue(setterByField, domain, "tag", "new tag", d -> d.tag);
+        assertSetterValue(setterByField, domain, "id", 20L, FieldAccessDomain::getId);
+    }
+
+    @Test
+    public void should_set_primitiveFields() {
+        FieldAccessDomainSetterSupplier setters = new FieldAccessDomainSetterSupplier();
+        FieldAccessDomain domain = createDomain();
+        setters.getIntSetters().get("count").accept(domain, 10);
+        setters.set(domain, FieldAccessDomainSetterSupplier.NAME, "new name");
+        assertEquals("Int setter sets wrong value", 10, domain.count);
+        assertEquals("Setter by ordinal sets wrong value", "new name", domain.name);
+    }
+
+    @Test
+    public void should_diff_accessibleFields() {
+        FieldAccessDomainDiffSupplier diffSupplier = new FieldAccessDomainDiffSupplier();
+        FieldAccessDomain domain = createDomain();
+        FieldAccessDomain newDomain = createDomain();
+        newDomain.count = 10;
+        newDomain.tag = "new tag";
+        assertEquals("Diff is wrong",
+                1L << FieldAccessDomainDiffSupplier.COUNT | 1L << FieldAccessDomainDiffSupplier.TAG,
+                diffSupplier.diff(domain, newDomain));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.demo.fieldaccess;
+
+import dev.alexengrig.metter.demo.BaseDomainTest;
+import dev.alexengrig.metter.demo.fieldaccess.base.HiddenFieldBase;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HiddenFieldDomainTest extends BaseDomainTest<HiddenFieldDomain> {
+    private static HiddenFieldDomain createDomain() {
+        HiddenFieldDomain domain = new HiddenFieldDomain();
+        domain.name = "name";
+        domain.setLabel("label");
+        ((HiddenFieldBase) domain).setName(1);
+        ((HiddenFieldBase) domain).label = "base label";
+        return domain;
+    }
+
+    @Test
+    public void should_contains_hidingFieldsAndGetters() {
+        HiddenFieldDomainGetterSupplier getters = new HiddenFieldDomainGetterSupplier();
+        Map<String, Function<HiddenFieldDomain, Object>> getterByField = getGetterMap(getters);
+        assertSize(getterByField, 2);
+        assertGetterFields(getterByField, "name", "label");
+        HiddenFieldDomain domain = createDomain();
+        assertGetterValue(getterByField, domain, "name", "name");
+        assertGetterValue(getterByField, domain, "label", "label");
+        assertTrue("Map of int getters has hidden field", getters.getIntGetters().isEmpty());
+    }
+
+    @Test
+    public void should_contains_hidingFieldsAndSetters() {
+        HiddenFieldDomainSetterSupplier setters = new HiddenFieldDomainSetterSupplier();
+        Map<String, BiConsumer<HiddenFieldDomain, Object>> setterByField = getSetterMap(setters);
+        assertSize(setterByField, 2);
+        assertSetterFields(setterByField, "name", "label");
+        HiddenFieldDomain domain = createDomain();
+        assertSetterValue(setterByField, domain, "name", "new name", d -> d.name);
+        assertSetterValue(setterByField, domain, "label", "new label", HiddenFieldDomain::getLabel);
+        assertEquals("Setter sets hidden field", 1, ((HiddenFieldBase) domain).getName());
+        assertEquals("Setter sets hidden field", "base label", ((HiddenFieldBase) domain).label);
+        assertTrue("Map of int setters has hidden field", setters.getIntSetters().isEmpty());
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.demo.fields;
+
+import dev.alexengrig.metter.field.TypedField;
+import dev.alexengrig.metter.field.TypedFieldMap;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class FieldDomainTest {
+    private static FieldDomain createDomain() {
+        return new FieldDomain(1L, (short) 2, 3.5, true, "name", Arrays.asList("a", "b"));
+    }
+
+    @Test
+    public void should_describe_fields() {
+        assertEquals("Name is wrong", "count", FieldDomainFields.COUNT.getName());
+        assertEquals("Ordinal is wrong", 1, FieldDomainFields.COUNT.getOrdinal());
+        assertSame("Type is wrong", short.class, FieldDomainFields.COUNT.getType());
+        assertSame("Type is wrong", List.class, FieldDomainFields.TAGS.getType());
+        assertFalse("Final field is settable", FieldDomainFields.ID.isSettable());
+        assertTrue("Field is not settable", FieldDomainFields.NAME.isSettable());
+    }
+
+    @Test
+    public void should_get_typedValues() {
+        FieldDomain domain = createDomain();
+        long id = FieldDomainFields.ID.getLong(domain);
+        int count = FieldDomainFields.COUNT.getInt(domain);
+        short boxedCount = FieldDomainFields.COUNT.get(domain);
+        double price = FieldDomainFields.PRICE.getDouble(domain);
+        boolean active = FieldDomainFields.ACTIVE.getBoolean(domain);
+        String name = FieldDomainFields.NAME.get(domain);
+        List<String> tags = FieldDomainFields.TAGS.get(domain);
+        assertEquals("Id is wrong", 1L, id);
+        assertEquals("Count is wrong", 2, count);
+        assertEquals("Boxed count is wrong", 2, boxedCount);
+        assertEquals("Price is wrong", 3.5, price, 0);
+        assertTrue("Active is wrong", active);
+        assertEquals("Name is wrong", "name", name);
+        assertEquals("Tags are wrong", Arrays.asList("a", "b"), tags);
+    }
+
+    @Test
+    public void should_set_typedValues() {
+        FieldDomain domain = createDomain();
+        FieldDomainFields.COUNT.set(domain, (short) 20);
+        FieldDomainFields.PRICE.setDouble(domain, 30.5);
+        FieldDomainFields.ACTIVE.setBoolean(domain, false);
+        FieldDomainFields.NAME.set(domain, "new name");
+        FieldDomainFields.TAGS.set(domain, Collections.singletonList("c"));
+        assertEquals("Domain is wrong",
+                new FieldDomain(1L, (short) 20, 30.5, false, "new name", Collections.singletonList("c")), domain);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void should_throw_unsupportedOperationException_ofSetterOfFinalField() {
+        FieldDomainFields.ID.setLong(createDomain(), 10L);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void should_throw_unsupportedOperationException_ofNarrowingSetter() {
+        FieldDomainFields.COUNT.setInt(createDomain(), 10);
+    }
+
+    @Test
+    public void should_return_fields_byNameAndOrdinal() {
+        Map<String, TypedField<FieldDomain, ?>> fields = FieldDomainFields.fields().get();
+        assertSame("Field by name is wrong", FieldDomainFields.PRICE, fields.get("price"));
+        assertSame("Field by ordinal is wrong", FieldDomainFields.PRICE, FieldDomainFields.valueOf(2));
+        assertEquals("Fields are wrong", Arrays.asList("id", "count", "price", "active", "name", "tags"),
+                FieldDomainFields.values().stream().map(TypedField::getName).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void should_keep_stateByField() {
+        TypedFieldMap<FieldDomain, Integer> changes = FieldDomainFields.newMap();
+        changes.merge(FieldDomainFields.NAME, 1, Integer::sum);
+        changes.merge(FieldDomainFields.COUNT, 1, Integer::sum);
+        changes.merge(FieldDomainFields.NAME, 1, Integer::sum);
+        assertEquals("Changed fields are wrong", Arrays.asList(FieldDomainFields.COUNT, FieldDomainFields.NAME),
+                Arrays.asList(changes.keySet().toArray()));
+        assertEquals("Number of changes is wrong", Integer.valueOf(2), changes.get(FieldDomainFields.NAME));
+    }
+}
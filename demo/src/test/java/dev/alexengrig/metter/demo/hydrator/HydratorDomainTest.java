@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.demo.hydrator;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class HydratorDomainTest {
+    @Test
+    public void should_contains_typesOfParametersAndSetters() {
+        Map<String, Class<?>> typeByField = HydratorDomainHydrator.hydrator().get();
+        assertEquals("Fields are incorrect", Arrays.asList("code", "count", "tags", "name", "id"),
+                Arrays.asList(typeByField.keySet().toArray()));
+        assertEquals("Type of code is incorrect", String.class, typeByField.get("code"));
+        assertEquals("Type of count is incorrect", int.class, typeByField.get("count"));
+        assertEquals("Type of tags is incorrect", List.class, typeByField.get("tags"));
+        assertEquals("Type of id is incorrect", long.class, typeByField.get("id"));
+    }
+
+    @Test
+    public void should_create_fromArray() {
+        Object[] values = new Object[5];
+        values[HydratorDomainHydrator.CODE] = "code";
+        values[HydratorDomainHydrator.COUNT] = 1;
+        values[HydratorDomainHydrator.TAGS] = Collections.singletonList("tag");
+        values[HydratorDomainHydrator.NAME] = "name";
+        values[HydratorDomainHydrator.ID] = 2L;
+        HydratorDomain domain = HydratorDomainHydrator.hydrator().fromArray(values);
+        assertEquals("Code is incorrect", "code", domain.getCode());
+        assertEquals("Count is incorrect", 1, domain.getCount());
+        assertEquals("Tags are incorrect", Collections.singletonList("tag"), domain.getTags());
+        assertEquals("Name is incorrect", "name", domain.getName());
+        assertEquals("Id is incorrect", 2L, domain.getId());
+        assertFalse("Hidden is set", domain.isHidden());
+    }
+
+    @Test
+    public void should_create_fromMap() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("code", "code");
+        values.put("count", 1);
+        values.put("id", 2L);
+        HydratorDomain domain = HydratorDomainHydrator.hydrator().fromMap(values);
+        assertEquals("Code is incorrect", "code", domain.getCode());
+        assertEquals("Count is incorrect", 1, domain.getCount());
+        assertNull("Tags are not null", domain.getTags());
+        assertEquals("Name is not default", "default", domain.getName());
+        assertEquals("Id is incorrect", 2L, domain.getId());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void should_throw_forMissingPrimitiveValue() {
+        HydratorDomainHydrator.hydrator().fromMap(Collections.singletonMap("code", "code"));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.demo.hydrator;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class LombokDataHydratorDomainTest {
+    @Test
+    public void should_contain_fields_withoutInitializedFinalFields() {
+        Map<String, Class<?>> typeByField = LombokDataHydratorDomainHydrator.hydrator().get();
+        assertEquals("Number of fields is incorrect", 3, typeByField.size());
+        assertFalse("Hydrator contains initialized final field", typeByField.containsKey("tags"));
+    }
+
+    @Test
+    public void should_create_byRequiredArgsConstructor() {
+        LombokDataHydratorDomain domain = LombokDataHydratorDomainHydrator.hydrator()
+                .fromArray(new Object[]{"name", 1, 2.5});
+        LombokDataHydratorDomain expected = new LombokDataHydratorDomain("name", 1);
+        expected.setWeight(2.5);
+        assertEquals("Domain is incorrect", expected, domain);
+    }
+
+    @Test
+    public void should_create_fromMap_withoutMissingValues() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", "name");
+        values.put("age", 1);
+        LombokDataHydratorDomain domain = LombokDataHydratorDomainHydrator.hydrator().fromMap(values);
+        assertEquals("Domain is incorrect", new LombokDataHydratorDomain("name", 1), domain);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.demo.hydrator;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class LombokHydratorDomainTest {
+    @Test
+    public void should_contain_fields_withoutInitializedFinalFields() {
+        Map<String, Class<?>> typeByField = LombokHydratorDomainHydrator.hydrator().get();
+        assertEquals("Number of fields is incorrect", 3, typeByField.size());
+        assertFalse("Hydrator contains initialized final field", typeByField.containsKey("tags"));
+    }
+
+    @Test
+    public void should_create_byAllArgsConstructor() {
+        LombokHydratorDomain domain = LombokHydratorDomainHydrator.hydrator().fromArray(new Object[]{"name", 1, 2.5});
+        assertEquals("Domain is incorrect", new LombokHydratorDomain("name", 1, 2.5), domain);
+    }
+
+    @Test
+    public void should_create_fromMap_byAllArgsConstructor() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", "name");
+        values.put("age", 1);
+        values.put("weight", 2.5);
+        LombokHydratorDomain domain = LombokHydratorDomainHydrator.hydrator().fromMap(values);
+        assertEquals("Domain is incorrect", new LombokHydratorDomain("name", 1, 2.5), domain);
+    }
+}
@@ -16,14 +16,26 @@
 
 package dev.alexengrig.metter.demo.simple;
 
+import dev.alexengrig.metter.visitor.FieldVisitor;
+import dev.alexengrig.metter.visitor.ObjBooleanConsumer;
 import org.junit.Test;
 
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class SimpleDomainTest {
@@ -60,4 +72,142 @@ public class SimpleDomainTest {
         setterByField.get("string").accept(domain, "text");
         assertEquals("Setter for 'string' field sets wrong value", "text", domain.getString());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void should_get_byOrdinal() {
+        SimpleDomainGetterSupplier getters = new SimpleDomainGetterSupplier();
+        assertEquals("Ordinal of 'integer' field is incorrect", 0, SimpleDomainGetterSupplier.INTEGER);
+        assertEquals("Ordinal of 'bool' field is incorrect", 1, SimpleDomainGetterSupplier.indexOf("bool"));
+        assertEquals("Ordinal of unknown field is incorrect", -1, SimpleDomainGetterSupplier.indexOf("unknown"));
+        SimpleDomain domain = new SimpleDomain(1, true, "text");
+        assertEquals("Getter for 'integer' field returns wrong value",
+                1, getters.get(domain, SimpleDomainGetterSupplier.INTEGER));
+        assertEquals("Getter for 'bool' field returns wrong value",
+                true, getters.get(domain, SimpleDomainGetterSupplier.BOOL));
+        assertEquals("Getter for 'string' field returns wrong value",
+                "text", getters.get(domain, SimpleDomainGetterSupplier.indexOf("string")));
+    }
+
+    @Test
+    public void should_find_ordinal_byCharSequenceAndBytes() {
+        assertEquals("Ordinal of 'bool' char buffer is incorrect",
+                1, SimpleDomainGetterSupplier.indexOf(CharBuffer.wrap("bool")));
+        assertEquals("Ordinal of unknown char buffer is incorrect",
+                -1, SimpleDomainGetterSupplier.indexOf(new StringBuilder("boo")));
+        byte[] message = "{\"string\":\"text\"}".getBytes(StandardCharsets.UTF_8);
+        assertEquals("Ordinal of 'string' bytes is incorrect",
+                2, SimpleDomainGetterSupplier.indexOf(message, 2, 6));
+        assertEquals("Ordinal of unknown bytes is incorrect",
+                -1, SimpleDomainGetterSupplier.indexOf(message, 11, 4));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void should_throw_onUnknownOrdinal() {
+        new SimpleDomainGetterSupplier().get(new SimpleDomain(1, true, "text"), 3);
+    }
+
+    @Test
+    public void should_set_byOrdinal() {
+        SimpleDomainSetterSupplier setters = new SimpleDomainSetterSupplier();
+        SimpleDomain domain = new SimpleDomain(0, false, "");
+        setters.set(domain, SimpleDomainSetterSupplier.INTEGER, 1);
+        assertEquals("Setter for 'integer' field sets wrong value", 1, domain.getInteger());
+        setters.set(domain, SimpleDomainSetterSupplier.BOOL, true);
+        assertTrue("Setter for 'bool' field sets wrong value", domain.isBool());
+        setters.set(domain, SimpleDomainSetterSupplier.indexOf("string"), "text");
+        assertEquals("Setter for 'string' field sets wrong value", "text", domain.getString());
+    }
+
+    @Test
+    public void should_contains_primitiveGetters() {
+        SimpleDomainGetterSupplier getters = new SimpleDomainGetterSupplier();
+        Map<String, ToIntFunction<SimpleDomain>> intGetterByField = getters.getIntGetters();
+        assertEquals("Map of int getters has wrong fields", Collections.singleton("integer"), intGetterByField.keySet());
+        assertFalse("Map of int getters contains getter for 'bool' field", intGetterByField.containsKey("bool"));
+        assertNull("Map of int getters returns getter for 'string' field", intGetterByField.get("string"));
+        Map<String, Predicate<SimpleDomain>> booleanGetterByField = getters.getBooleanGetters();
+        assertEquals("Map of boolean getters has wrong fields", Collections.singleton("bool"), booleanGetterByField.keySet());
+        assertTrue("Map of long getters isn't empty", getters.getLongGetters().isEmpty());
+        assertTrue("Map of double getters isn't empty", getters.getDoubleGetters().isEmpty());
+        SimpleDomain domain = new SimpleDomain(1, true, "text");
+        assertEquals("Getter for 'integer' field returns wrong value",
+                1, intGetterByField.get("integer").applyAsInt(domain));
+        assertTrue("Getter for 'bool' field returns wrong value", booleanGetterByField.get("bool").test(domain));
+    }
+
+    @Test
+    public void should_contains_primitiveSetters() {
+        SimpleDomainSetterSupplier setters = new SimpleDomainSetterSupplier();
+        Map<String, ObjIntConsumer<SimpleDomain>> intSetterByField = setters.getIntSetters();
+        assertEquals("Map of int setters has wrong fields", Collections.singleton("integer"), intSetterByField.keySet());
+        Map<String, ObjBooleanConsumer<SimpleDomain>> booleanSetterByField
+                = setters.getBooleanSetters();
+        assertEquals("Map of boolean setters has wrong fields", Collections.singleton("bool"), booleanSetterByField.keySet());
+        assertTrue("Map of long setters isn't empty", setters.getLongSetters().isEmpty());
+        assertTrue("Map of double setters isn't empty", setters.getDoubleSetters().isEmpty());
+        SimpleDomain domain = new SimpleDomain(0, false, "");
+        intSetterByField.get("integer").accept(domain, 1);
+        assertEquals("Setter for 'integer' field sets wrong value", 1, domain.getInteger());
+        booleanSetterByField.get("bool").accept(domain, true);
+        assertTrue("Setter for 'bool' field sets wrong value", domain.isBool());
+    }
+
+    @Test
+    public void should_snapshot_allValues() {
+        SimpleDomainGetterSupplier getters = new SimpleDomainGetterSupplier();
+        SimpleDomain domain = new SimpleDomain(1, true, "text");
+        Object[] values = new Object[3];
+        assertSame("Snapshot returns another array", values, getters.snapshot(domain, values));
+        assertArrayEquals("Snapshot has wrong values", new Object[]{1, true, "text"}, values);
+        long[] longValues = getters.snapshot(domain, new long[]{-1, -1, -1});
+        assertArrayEquals("Snapshot of integral values has wrong values", new long[]{1, -1, -1}, longValues);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_throw_onShortSnapshotTarget() {
+        new SimpleDomainGetterSupplier().snapshot(new SimpleDomain(1, true, "text"), new Object[2]);
+    }
+
+    @Test
+    public void should_visit_allFields() {
+        StringBuilder builder = new StringBuilder();
+        new SimpleDomainGetterSupplier().forEach(new SimpleDomain(1, true, "text"), new FieldVisitor() {
+            @Override
+            public void visitInt(String field, int value) {
+                builder.append("int ").append(field).append('=').append(value).append(';');
+            }
+
+            @Override
+            public void visitLong(String field, long value) {
+                builder.append("long ").append(field).append('=').append(value).append(';');
+            }
+
+            @Override
+            public void visitDouble(String field, double value) {
+                builder.append("double ").append(field).append('=').append(value).append(';');
+            }
+
+            @Override
+            public void visitBoolean(String field, boolean value) {
+                builder.append("boolean ").append(field).append('=').append(value).append(';');
+            }
+
+            @Override
+            public void visitObject(String field, Object value) {
+                builder.append("object ").append(field).append('=').append(value).append(';');
+            }
+        });
+        assertEquals("Visitor visits wrong fields", "int integer=1;boolean bool=true;object string=text;",
+                builder.toString());
+    }
+
+    @Test
+    public void should_share_instances() {
+        SimpleDomainGetterSupplier getters = SimpleDomainGetterSupplier.getters();
+        assertSame("Getter supplier is not shared", getters, SimpleDomainGetterSupplier.getters());
+        assertEquals("Shared getter supplier has wrong getters", new SimpleDomainGetterSupplier().get().keySet(),
+                getters.get().keySet());
+        SimpleDomainSetterSupplier setters = SimpleDomainSetterSupplier.setters();
+        assertSame("Setter supplier is not shared", setters, SimpleDomainSetterSupplier.setters());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.demo.switchdispatch;
+
+import dev.alexengrig.metter.demo.BaseDomainTest;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SwitchDispatchDomainTest extends BaseDomainTest<SwitchDispatchDomain> {
+    @Test
+    public void should_contains_allGetters() {
+        Map<String, Function<SwitchDispatchDomain, Object>> getterByField = getGetterMap(new SwitchDispatchDomainGetterSupplier());
+        assertSize(getterByField, 5);
+        assertGetterFields(getterByField, "integer", "longer", "doubler", "bool", "string");
+        SwitchDispatchDomain domain = new SwitchDispatchDomain(1, 2, 3.5, true, "text");
+        assertGetterValue(getterByField, domain, "integer", 1);
+        assertGetterValue(getterByField, domain, "longer", 2L);
+        assertGetterValue(getterByField, domain, "doubler", 3.5);
+        assertGetterValue(getterByField, domain, "bool", true);
+        assertGetterValue(getterByField, domain, "string", "text");
+    }
+
+    @Test
+    public void should_contains_allSetters() {
+        Map<String, BiConsumer<SwitchDispatchDomain, Object>> setterByField = getSetterMap(new SwitchDispatchDomainSetterSupplier());
+        assertSize(setterByField, 5);
+        assertSetterFields(setterByField, "integer", "longer", "doubler", "bool", "string");
+        SwitchDispatchDomain domain = new SwitchDispatchDomain(1, 2, 3.5, true, "text");
+        assertSetterValue(setterByField, domain, "integer", 10, SwitchDispatchDomain::getInteger);
+        assertSetterValue(setterByField, domain, "longer", 20L, SwitchDispatchDomain::getLonger);
+        assertSetterValue(setterByField, domain, "doubler", 30.5, SwitchDispatchDomain::getDoubler);
+        assertSetterValue(setterByField, domain, "bool", false, SwitchDispatchDomain::isBool);
+        assertSetterValue(setterByField, domain, "string", "new text", SwitchDispatchDomain::getString);
+    }
+
+    @Test
+    public void should_contains_primitiveGettersAndSetters() {
+        SwitchDispatchDomainGetterSupplier getters = new SwitchDispatchDomainGetterSupplier();
+        SwitchDispatchDomainSetterSupplier setters = new SwitchDispatchDomainSetterSupplier();
+        SwitchDispatchDomain domain = new SwitchDispatchDomain(1, 2, 3.5, true, "text");
+        setters.getIntSetters().get("integer").accept(domain, 10);
+        setters.getLongSetters().get("longer").accept(domain, 20L);
+        setters.getDoubleSetters().get("doubler").accept(domain, 30.5);
+        setters.getBooleanSetters().get("bool").accept(domain, false);
+        assertEquals("Int getter returns wrong value", 10, getters.getIntGetters().get("integer").applyAsInt(domain));
+        assertEquals("Long getter returns wrong value", 20L, getters.getLongGetters().get("longer").applyAsLong(domain));
+        assertEquals("Double getter returns wrong value", 30.5,
+                getters.getDoubleGetters().get("doubler").applyAsDouble(domain), 0);
+        assertFalse("Boolean getter returns wrong value", getters.getBooleanGetters().get("bool").test(domain));
+    }
+
+    @Test
+    public void should_dispatch_bySwitch() {
+        new SwitchDispatchDomainGetterSupplier().get().values().forEach(getter ->
+                assertTrue("Getter is not field accessor: " + getter, getter instanceof SwitchDispatchDomainGetterSupplier.FieldAccessor));
+        new SwitchDispatchDomainSetterSupplier().get().values().forEach(setter ->
+                assertTrue("Setter is not field accessor: " + setter, setter instanceof SwitchDispatchDomainSetterSupplier.FieldAccessor));
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.motivation;
+
+import org.junit.Test;
+
+import java.util.BitSet;
+
+import static org.junit.Assert.assertEquals;
+
+public class DiffManChangeLogGeneratorTest extends ManChangeLogGeneratorTest {
+    @Override
+    protected DiffManChangeLogGenerator createGenerator() {
+        return new DiffManChangeLogGenerator();
+    }
+
+    @Test
+    public void should_diff_changedFields() {
+        ManDiffSupplier diffSupplier = new ManDiffSupplier();
+        Man man = new Man("Tomas", 18);
+        assertEquals(0L, diffSupplier.diff(man, new Man("Tomas", 18)));
+        assertEquals(1L << ManDiffSupplier.AGE, diffSupplier.diff(man, new Man("Tomas", 19)));
+        BitSet expected = new BitSet();
+        expected.set(ManDiffSupplier.NAME);
+        assertEquals(expected, diffSupplier.diff(man, new Man("Tom", 18), new BitSet()));
+    }
+
+    @Test
+    public void should_generate_emptyChangeLog_forEqualMen() {
+        assertEquals("", createGenerator().generate(new Man("Tomas", 18), new Man("Tomas", 18)));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation for to generate a diff supplier - a getters supplier with comparing of fields.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @see dev.alexengrig.metter.processor.DiffSupplierProcessor
+ * @since 0.2.0
+ */
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.SOURCE)
+public @interface DiffSupplier {
+    /**
+     * A supplier class name.
+     * <p>
+     * Default value consisting of a prefix as an annotated class name
+     * and a suffix as the supplier name: {@code ${CLASS_NAME}DiffSupplier}.
+     *
+     * @return the supplier class name
+     * @since 0.2.0
+     */
+    String value() default "";
+
+    /**
+     * Field names to be compared by diff supplier.
+     * <p>
+     * Primary relative to {@link #excludedFields()}.
+     *
+     * @return field names
+     * @since 0.2.0
+     */
+    String[] includedFields() default {};
+
+    /**
+     * Field names to be not compared by diff supplier.
+     * <p>
+     * Ignored if {@link #includedFields()} is specified.
+     *
+     * @return field names
+     * @since 0.2.0
+     */
+    String[] excludedFields() default {};
+
+    /**
+     * Generate map values as instances of one nested accessor class, dispatching by {@code switch} on ordinal,
+     * instead of method references, that are linked via {@code invokedynamic} at first use.
+     *
+     * @return if map values dispatch by {@code switch}
+     * @since 0.2.0
+     */
+    boolean switchDispatch() default false;
+
+    /**
+     * Read not private fields directly ({@code instance.field}) instead of getters,
+     * if fields are accessible from the package of annotated class: declared in the package or public.
+     * Other fields are read by getters.
+     *
+     * @return if accessible fields are read directly
+     * @since 0.2.0
+     */
+    boolean fieldAccess() default false;
+}
@@ -25,7 +25,7 @@ import java.lang.annotation.Target;
  * An annotation for to generate a getters supplier.
  *
  * @author Grig Alex
- * @version 0.1.0
+ * @version 0.2.0
  * @see dev.alexengrig.metter.processor.GetterSupplierProcessor
  * @since 0.1.0
  */
@@ -62,4 +62,23 @@ public @interface GetterSupplier {
      * @since 0.1.0
      */
     String[] excludedFields() default {};
+
+    /**
+     * Generate map values as instances of one nested accessor class, dispatching by {@code switch} on ordinal,
+     * instead of method references, that are linked via {@code invokedynamic} at first use.
+     *
+     * @return if map values dispatch by {@code switch}
+     * @since 0.2.0
+     */
+    boolean switchDispatch() default false;
+
+    /**
+     * Read not private fields directly ({@code instance.field}) instead of getters,
+     * if fields are accessible from the package of annotated class: declared in the package or public.
+     * Other fields are read by getters.
+     *
+     * @return if accessible fields are read directly
+     * @since 0.2.0
+     */
+    boolean fieldAccess() default false;
 }
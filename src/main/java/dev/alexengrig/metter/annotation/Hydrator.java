@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation for to generate a hydrator - a creator of instances from values of fields
+ * by a constructor and setters.
+ * <p>
+ * The constructor with the most parameters is selected, its parameters must be fields by name and type;
+ * {@link lombok.AllArgsConstructor} and {@link lombok.Value} are constructors with all not static fields
+ * of annotated class in order of declaration, except initialized final fields
+ * (a compiler other than javac detects only ones initialized by a constant).
+ * Other fields are set by setters.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @see dev.alexengrig.metter.processor.HydratorProcessor
+ * @since 0.2.0
+ */
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.SOURCE)
+public @interface Hydrator {
+    /**
+     * A hydrator class name.
+     * <p>
+     * Default value consisting of a prefix as an annotated class name
+     * and a suffix as the hydrator name: {@code ${CLASS_NAME}Hydrator}.
+     *
+     * @return the hydrator class name
+     * @since 0.2.0
+     */
+    String value() default "";
+
+    /**
+     * Field names to be hydrated.
+     * <p>
+     * Primary relative to {@link #excludedFields()}.
+     *
+     * @return field names
+     * @since 0.2.0
+     */
+    String[] includedFields() default {};
+
+    /**
+     * Field names to be not hydrated.
+     * <p>
+     * Ignored if {@link #includedFields()} is specified.
+     *
+     * @return field names
+     * @since 0.2.0
+     */
+    String[] excludedFields() default {};
+
+    /**
+     * Write not private and not final fields directly ({@code instance.field = value}) instead of setters,
+     * if fields are accessible from the package of annotated class: declared in the package or public.
+     * Other fields are written by setters.
+     *
+     * @return if accessible fields are written directly
+     * @since 0.2.0
+     */
+    boolean fieldAccess() default false;
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.alexengrig.metter.batch;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A batch of ranges of indices, split into fork-join tasks of a pool until a range is not greater than a threshold.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @since 0.2.0
+ */
+public class ForkJoinBatch {
+    /**
+     * Default threshold - maximum size of range of one task.
+     *
+     * @since 0.2.0
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    /**
+     * Pool of tasks.
+     *
+     * @since 0.2.0
+     */
+    protected final ForkJoinPool pool;
+    /**
+     * Maximum size of range of one task.
+     *
+     * @since 0.2.0
+     */
+    protected final int threshold;
+
+    /**
+     * Constructs with a pool and a threshold.
+     *
+     * @param pool      pool of tasks
+     * @param threshold maximum size of range of one task
+     * @throws java.lang.IllegalArgumentException if {@code threshold} is not positive
+     * @since 0.2.0
+     */
+    public ForkJoinBatch(ForkJoinPool pool, int threshold) {
+        this.pool = Objects.requireNonNull(pool, "Pool must not be null");
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Creates a batch with the common pool and the default threshold.
+     *
+     * @return batch with {@link java.util.concurrent.ForkJoinPool#commonPool()}
+     * and {@link dev.alexengrig.metter.batch.ForkJoinBatch#DEFAULT_THRESHOLD}
+     * @since 0.2.0
+     */
+    public static ForkJoinBatch common() {
+        return new ForkJoinBatch(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Applies an action on ranges of indices from {@code 0} (inclusive) to a size (exclusive)
+     * and waits for completion; a range not greater than the threshold is applied in the calling thread.
+     *
+     * @param size   size of range
+     * @param action action on range
+     * @since 0.2.0
+     */
+    public void run(int size, RangeAction action) {
+        if (size <= threshold) {
+            action.apply(0, size);
+        } else {
+            pool.invoke(new RangeTask(action, 0, size, threshold));
+        }
+    }
+
+    /**
+     * Returns a pool of tasks.
+     *
+     * @return pool of tasks
+     * @since 0.2.0
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Returns a maximum size of range of one task.
+     *
+     * @return maximum size of range of one task
+     * @since 0.2.0
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * A task of range, split in halves until a range is not greater than a threshold.
+     *
+     * @since 0.2.0
+     */
+    protected static class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Action on range.
+         *
+         * @since 0.2.0
+         */
+        protected final RangeAction action;
+        /**
+         * Index from (inclusive).
+         *
+         * @since 0.2.0
+         */
+        protected final int from;
+        /**
+         * Index to (exclusive).
+         *
+         * @since 0.2.0
+         */
+        protected final int to;
+        /**
+         * Maximum size of range of one task.
+         *
+         * @since 0.2.0
+         */
+        protected final int threshold;
+
+        /**
+         * Constructs with an action, a range and a threshold.
+         *
+         * @param action    action on range
+         * @param from      index from (inclusive)
+         * @param to        index to (exclusive)
+         * @param threshold maximum size of range of one task
+         * @since 0.2.0
+         */
+        protected RangeTask(RangeAction action, int from, int to, int threshold) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        /**
+         * Applies the action on the range or splits the range in halves.
+         *
+         * @since 0.2.0
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                action.apply(from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RangeTask(action, from, middle, threshold),
+                        new RangeTask(action, middle, to, threshold));
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.element;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.NoType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.SimpleTypeVisitor8;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Visitor of type names without type annotations, in the format of {@code TypeMirror#toString()} of javac,
+ * e.g. {@code java.util.List<java.lang.String>} for {@code List<@NonNull String>};
+ * javac of Java 8 formats an annotated type as {@code (@lombok.NonNull :: java.lang.String)}.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @since 0.2.0
+ */
+public class TypeNameVisitor extends SimpleTypeVisitor8<String, Void> {
+    /**
+     * Shared instance.
+     *
+     * @since 0.2.0
+     */
+    public static final TypeNameVisitor INSTANCE = new TypeNameVisitor();
+
+    /**
+     * Returns a name of a type without type annotations.
+     *
+     * @param type type
+     * @return name of {@code type} without type annotations
+     * @since 0.2.0
+     */
+    public static String getName(TypeMirror type) {
+        return type.accept(INSTANCE, null);
+    }
+
+    /**
+     * Returns {@code TypeMirror#toString()}, e.g. of an error or an intersection type.
+     *
+     * @param type   type
+     * @param unused unused
+     * @return {@code type.toString()}
+     * @since 0.2.0
+     */
+    @Override
+    protected String defaultAction(TypeMirror type, Void unused) {
+        return type.toString();
+    }
+
+    /**
+     * Returns {@code TypeMirror#toString()} of a type of an unknown kind.
+     *
+     * @param type   type
+     * @param unused unused
+     * @return {@code type.toString()}
+     * @since 0.2.0
+     */
+    @Override
+    public String visitUnknown(TypeMirror type, Void unused) {
+        return defaultAction(type, unused);
+    }
+
+    /**
+     * Returns a keyword of a primitive type, e.g. {@code int}.
+     *
+     * @param type   primitive type
+     * @param unused unused
+     * @return keyword of {@code type}
+     * @since 0.2.0
+     */
+    @Override
+    public String visitPrimitive(PrimitiveType type, Void unused) {
+        return type.getKind().name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns {@code void} for a void type, or {@code TypeMirror#toString()}.
+     *
+     * @param type   pseudo-type
+     * @param unused unused
+     * @return {@code void} if {@code type} is void, or {@code type.toString()}
+     * @since 0.2.0
+     */
+    @Override
+    public String visitNoType(NoType type, Void unused) {
+        return type.getKind() == TypeKind.VOID ? "void" : type.toString();
+    }
+
+    /**
+     * Returns a name of a component type with {@code []}.
+     *
+     * @param type   array type
+     * @param unused unused
+     * @return name of component type of {@code type} with {@code []}
+     * @since 0.2.0
+     */
+    @Override
+    public String visitArray(ArrayType type, Void unused) {
+        return type.getComponentType().accept(this, unused) + "[]";
+    }
+
+    /**
+     * Returns a qualified name, or a name of an enclosing type with a simple name for a nested type
+     * of a parameterized type, with names of type arguments.
+     *
+     * @param type   declared type
+     * @param unused unused
+     * @return name of {@code type} with names of type arguments
+     * @since 0.2.0
+     */
+    @Override
+    public String visitDeclared(DeclaredType type, Void unused) {
+        TypeElement element = (TypeElement) type.asElement();
+        TypeMirror enclosingType = type.getEnclosingType();
+        String name = enclosingType.getKind() == TypeKind.DECLARED
+                && !((DeclaredType) enclosingType).getTypeArguments().isEmpty()
+                ? enclosingType.accept(this, unused) + "." + element.getSimpleName()
+                : element.getQualifiedName().toString();
+        List<? extends TypeMirror> typeArguments = type.getTypeArguments();
+        if (typeArguments.isEmpty()) {
+            return name;
+        }
+        return typeArguments.stream()
+                .map(typeArgument -> typeArgument.accept(this, unused))
+                .collect(Collectors.joining(",", name + "<", ">"));
+    }
+
+    /**
+     * Returns a simple name of a type variable, e.g. {@code T}.
+     *
+     * @param type   type variable
+     * @param unused unused
+     * @return simple name of {@code type}
+     * @since 0.2.0
+     */
+    @Override
+    public String visitTypeVariable(TypeVariable type, Void unused) {
+        return type.asElement().getSimpleName().toString();
+    }
+
+    /**
+     * Returns {@code ?} with a name of a bound, e.g. {@code ? extends java.lang.Number}.
+     *
+     * @param type   wildcard type
+     * @param unused unused
+     * @return {@code ?} with name of bound of {@code type}
+     * @since 0.2.0
+     */
+    @Override
+    public String visitWildcard(WildcardType type, Void unused) {
+        if (type.getExtendsBound() != null) {
+            return "? extends " + type.getExtendsBound().accept(this, unused);
+        } else if (type.getSuperBound() != null) {
+            return "? super " + type.getSuperBound().accept(this, unused);
+        }
+        return "?";
+    }
+}
@@ -19,7 +19,7 @@ package dev.alexengrig.metter.element.collector;
 import dev.alexengrig.metter.element.BaseElementVisitor;
 
 import javax.lang.model.element.Element;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
@@ -63,7 +63,7 @@ public abstract class BaseEnclosedElementCollector<E extends Element, T extends
      */
     public Set<T> getChildren() {
         if (children == null) {
-            children = new HashSet<>();
+            children = new LinkedHashSet<>();
             for (Element enclosedElement : parent.getEnclosedElements()) {
                 enclosedElement.accept(this, null);
             }
@@ -17,6 +17,9 @@
 package dev.alexengrig.metter.element.descriptor;
 
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
 import java.lang.annotation.Annotation;
 import java.util.Objects;
 import java.util.Optional;
@@ -80,4 +83,29 @@ public class ElementDescriptor<E extends Element> {
     public <A extends Annotation> Optional<A> getAnnotation(Class<? extends A> annotationType) {
         return Optional.ofNullable(element.getAnnotation(annotationType));
     }
+
+    /**
+     * Checks if has a modifier.
+     *
+     * @param modifier modifier
+     * @return if has {@code modifier}
+     * @since 0.2.0
+     */
+    public boolean hasModifier(Modifier modifier) {
+        return element.getModifiers().contains(modifier);
+    }
+
+    /**
+     * Returns a qualified name of package of element.
+     *
+     * @return qualified name of package of element, empty for unnamed package
+     * @since 0.2.0
+     */
+    public String getPackageName() {
+        Element enclosingElement = element;
+        while (enclosingElement.getKind() != ElementKind.PACKAGE) {
+            enclosingElement = enclosingElement.getEnclosingElement();
+        }
+        return ((PackageElement) enclosingElement).getQualifiedName().toString();
+    }
 }
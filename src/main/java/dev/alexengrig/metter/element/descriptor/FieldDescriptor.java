@@ -16,11 +16,13 @@
 
 package dev.alexengrig.metter.element.descriptor;
 
+import dev.alexengrig.metter.element.TypeNameVisitor;
 import dev.alexengrig.metter.element.collector.FieldCollector;
 
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -29,7 +31,7 @@ import java.util.stream.Collectors;
  * A descriptor of field.
  *
  * @author Grig Alex
- * @version 0.1.1
+ * @version 0.2.0
  * @since 0.1.0
  */
 public class FieldDescriptor extends ElementDescriptor<VariableElement> {
@@ -50,6 +52,18 @@ public class FieldDescriptor extends ElementDescriptor<VariableElement> {
         super(requireValid(variableElement));
     }
 
+    /**
+     * Constructs with a variable element and a parent.
+     *
+     * @param variableElement variable element
+     * @param parent          parent - type descriptor of enclosing element
+     * @since 0.2.0
+     */
+    public FieldDescriptor(VariableElement variableElement, TypeDescriptor parent) {
+        this(variableElement);
+        this.parent = parent;
+    }
+
     /**
      * Checks that a variable element is valid.
      *
@@ -79,7 +93,21 @@ public class FieldDescriptor extends ElementDescriptor<VariableElement> {
         FieldCollector fieldCollector = new FieldCollector(typeElement);
         return fieldCollector.getChildren().stream()
                 .map(FieldDescriptor::new)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Creates a set from a type descriptor, the type descriptor is a parent of field descriptors.
+     *
+     * @param typeDescriptor type descriptor
+     * @return set from {@code typeDescriptor}
+     * @since 0.2.0
+     */
+    public static Set<FieldDescriptor> of(TypeDescriptor typeDescriptor) {
+        FieldCollector fieldCollector = new FieldCollector(typeDescriptor.getElement());
+        return fieldCollector.getChildren().stream()
+                .map(variableElement -> new FieldDescriptor(variableElement, typeDescriptor))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
     /**
@@ -106,12 +134,23 @@ public class FieldDescriptor extends ElementDescriptor<VariableElement> {
     }
 
     /**
-     * Returns a type name.
+     * Returns a type name, without type annotations.
      *
      * @return type name
+     * @see dev.alexengrig.metter.element.TypeNameVisitor
      * @since 0.1.0
      */
     public String getTypeName() {
-        return element.asType().toString();
+        return TypeNameVisitor.getName(element.asType());
+    }
+
+    /**
+     * Checks if has a constant value - is final and is initialized by a compile-time constant.
+     *
+     * @return if has a constant value
+     * @since 0.2.0
+     */
+    public boolean hasConstantValue() {
+        return element.getConstantValue() != null;
     }
 }
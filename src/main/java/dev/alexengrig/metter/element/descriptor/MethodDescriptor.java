@@ -16,6 +16,7 @@
 
 package dev.alexengrig.metter.element.descriptor;
 
+import dev.alexengrig.metter.element.TypeNameVisitor;
 import dev.alexengrig.metter.element.collector.MethodCollector;
 
 import javax.lang.model.element.ExecutableElement;
@@ -30,7 +31,7 @@ import java.util.stream.Collectors;
  * A descriptor of method.
  *
  * @author Grig Alex
- * @version 0.1.0
+ * @version 0.2.0
  * @since 0.1.1
  */
 public class MethodDescriptor {
@@ -77,6 +78,16 @@ public class MethodDescriptor {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Returns an executable element.
+     *
+     * @return executable element
+     * @since 0.2.0
+     */
+    public ExecutableElement getElement() {
+        return executableElement;
+    }
+
     /**
      * Returns a name.
      *
@@ -88,13 +99,14 @@ public class MethodDescriptor {
     }
 
     /**
-     * Returns a type name.
+     * Returns a type name, without type annotations.
      *
      * @return type name
+     * @see dev.alexengrig.metter.element.TypeNameVisitor
      * @since 0.1.1
      */
     public String getTypeName() {
-        return executableElement.getReturnType().toString();
+        return TypeNameVisitor.getName(executableElement.getReturnType());
     }
 
     /**
@@ -129,6 +141,31 @@ public class MethodDescriptor {
      */
     public boolean hasOnlyOneParameter(String parameterTypeName) {
         List<? extends VariableElement> parameters = executableElement.getParameters();
-        return parameters.size() == 1 && parameterTypeName.equals(parameters.get(0).asType().toString());
+        return parameters.size() == 1 && parameterTypeName.equals(TypeNameVisitor.getName(parameters.get(0).asType()));
+    }
+
+    /**
+     * Returns parameter names.
+     *
+     * @return parameter names
+     * @since 0.2.0
+     */
+    public List<String> getParameterNames() {
+        return executableElement.getParameters().stream()
+                .map(parameter -> parameter.getSimpleName().toString())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns parameter type names, without type annotations.
+     *
+     * @return parameter type names
+     * @see dev.alexengrig.metter.element.TypeNameVisitor
+     * @since 0.2.0
+     */
+    public List<String> getParameterTypeNames() {
+        return executableElement.getParameters().stream()
+                .map(parameter -> TypeNameVisitor.getName(parameter.asType()))
+                .collect(Collectors.toList());
     }
 }
@@ -18,16 +18,18 @@ package dev.alexengrig.metter.element.descriptor;
 
 
 import javax.lang.model.element.TypeElement;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * A type element descriptor.
  *
  * @author Grig Alex
- * @version 0.1.1
+ * @version 0.2.0
  * @since 0.1.0
  */
 public class TypeDescriptor extends ElementDescriptor<TypeElement> {
@@ -44,11 +46,17 @@ public class TypeDescriptor extends ElementDescriptor<TypeElement> {
      */
     protected transient Set<MethodDescriptor> methods;
     /**
-     * Map of method name to mark about presence
+     * Map of field name to field descriptor.
      *
-     * @since 0.1.0
+     * @since 0.2.0
      */
-    protected transient Map<String, Boolean> hasMethodByNameMap;
+    protected transient Map<String, FieldDescriptor> fieldByName;
+    /**
+     * Map of method name to method descriptors.
+     *
+     * @since 0.2.0
+     */
+    protected transient Map<String, Set<MethodDescriptor>> methodsByName;
 
     /**
      * Constructs with a type element.
@@ -88,7 +96,7 @@ public class TypeDescriptor extends ElementDescriptor<TypeElement> {
      */
     public Set<FieldDescriptor> getFields() {
         if (fields == null) {
-            fields = FieldDescriptor.of(element);
+            fields = FieldDescriptor.of(this);
         }
         return fields;
     }
@@ -106,6 +114,23 @@ public class TypeDescriptor extends ElementDescriptor<TypeElement> {
         return methods;
     }
 
+    /**
+     * Returns a field descriptor by a field name.
+     *
+     * @param fieldName field name
+     * @return {@link java.util.Optional} with field descriptor by {@code fieldName}, or empty if no field
+     * @since 0.2.0
+     */
+    public Optional<FieldDescriptor> getField(String fieldName) {
+        if (fieldByName == null) {
+            fieldByName = new HashMap<>();
+            for (FieldDescriptor field : getFields()) {
+                fieldByName.put(field.getName(), field);
+            }
+        }
+        return Optional.ofNullable(fieldByName.get(fieldName));
+    }
+
     /**
      * Returns a set of method descriptors by a method name.
      *
@@ -114,7 +139,7 @@ public class TypeDescriptor extends ElementDescriptor<TypeElement> {
      * @since 0.1.1
      */
     public Set<MethodDescriptor> getMethods(String methodName) {
-        return getMethods().stream().filter(m -> methodName.equals(m.getName())).collect(Collectors.toSet());
+        return Collections.unmodifiableSet(getMethodsByName().getOrDefault(methodName, Collections.emptySet()));
     }
 
     /**
@@ -125,15 +150,32 @@ public class TypeDescriptor extends ElementDescriptor<TypeElement> {
      * @since 0.1.0
      */
     public boolean hasMethod(String methodName) {
-        if (hasMethodByNameMap == null) {
-            hasMethodByNameMap = new HashMap<>();
-        } else if (hasMethodByNameMap.containsKey(methodName)) {
-            return hasMethodByNameMap.get(methodName);
+        return getMethodsByName().containsKey(methodName);
+    }
+
+    /**
+     * Returns a set of constructor descriptors, with the default constructor if it is implicit.
+     *
+     * @return set of constructor descriptors
+     * @since 0.2.0
+     */
+    public Set<MethodDescriptor> getConstructors() {
+        return getMethods("<init>");
+    }
+
+    /**
+     * Returns a map of method name to method descriptors, created once.
+     *
+     * @return map of method name to method descriptors
+     * @since 0.2.0
+     */
+    protected Map<String, Set<MethodDescriptor>> getMethodsByName() {
+        if (methodsByName == null) {
+            methodsByName = new HashMap<>();
+            for (MethodDescriptor method : getMethods()) {
+                methodsByName.computeIfAbsent(method.getName(), name -> new HashSet<>()).add(method);
+            }
         }
-        boolean hasMethod = getMethods().stream()
-                .map(MethodDescriptor::getName)
-                .anyMatch(methodName::equals);
-        hasMethodByNameMap.put(methodName, hasMethod);
-        return hasMethod;
+        return methodsByName;
     }
 }
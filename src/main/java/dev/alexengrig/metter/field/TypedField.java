@@ -0,0 +1,261 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.field;
+
+import java.util.Objects;
+
+/**
+ * A field of type with a name, an ordinal, a declared type and typed accessors.
+ * <p>
+ * Primitive getters are supported by fields that are widened to their types without boxing:
+ * {@code int} - {@code byte}, {@code short}, {@code char} and {@code int},
+ * {@code long} - {@code long},
+ * {@code double} - {@code float} and {@code double},
+ * {@code boolean} - {@code boolean}.
+ * Primitive setters are supported by fields of exactly their types, if fields are settable.
+ *
+ * @param <T> type of instance
+ * @param <V> type of value
+ * @author Grig Alex
+ * @version 0.2.0
+ * @since 0.2.0
+ */
+public abstract class TypedField<T, V> {
+    /**
+     * Field name.
+     *
+     * @since 0.2.0
+     */
+    protected final String name;
+    /**
+     * Field ordinal.
+     *
+     * @since 0.2.0
+     */
+    protected final int ordinal;
+    /**
+     * Declared type of field.
+     *
+     * @since 0.2.0
+     */
+    protected final Class<?> type;
+    /**
+     * Mark about having a setter.
+     *
+     * @since 0.2.0
+     */
+    protected final boolean settable;
+
+    /**
+     * Constructs with a name, an ordinal, a declared type and a mark about having a setter.
+     *
+     * @param name     field name
+     * @param ordinal  field ordinal
+     * @param type     declared type of field
+     * @param settable if field has a setter
+     * @throws java.lang.IllegalArgumentException if {@code ordinal} is negative
+     * @since 0.2.0
+     */
+    protected TypedField(String name, int ordinal, Class<?> type, boolean settable) {
+        this.name = Objects.requireNonNull(name, "Name must not be null");
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Ordinal must not be negative: " + ordinal);
+        }
+        this.ordinal = ordinal;
+        this.type = Objects.requireNonNull(type, "Type must not be null");
+        this.settable = settable;
+    }
+
+    /**
+     * Returns a value of this field of an instance.
+     *
+     * @param instance instance
+     * @return value of this field of {@code instance}
+     * @since 0.2.0
+     */
+    public abstract V get(T instance);
+
+    /**
+     * Sets a value of this field of an instance.
+     *
+     * @param instance instance
+     * @param value    value
+     * @throws java.lang.UnsupportedOperationException if this field is not settable
+     * @since 0.2.0
+     */
+    public void set(T instance, V value) {
+        throw unsupported("setter");
+    }
+
+    /**
+     * Returns an {@code int} value of this field of an instance.
+     *
+     * @param instance instance
+     * @return {@code int} value of this field of {@code instance}
+     * @throws java.lang.UnsupportedOperationException if this field is not of {@code int} getter
+     * @since 0.2.0
+     */
+    public int getInt(T instance) {
+        throw unsupported("int getter");
+    }
+
+    /**
+     * Returns a {@code long} value of this field of an instance.
+     *
+     * @param instance instance
+     * @return {@code long} value of this field of {@code instance}
+     * @throws java.lang.UnsupportedOperationException if this field is not of {@code long} getter
+     * @since 0.2.0
+     */
+    public long getLong(T instance) {
+        throw unsupported("long getter");
+    }
+
+    /**
+     * Returns a {@code double} value of this field of an instance.
+     *
+     * @param instance instance
+     * @return {@code double} value of this field of {@code instance}
+     * @throws java.lang.UnsupportedOperationException if this field is not of {@code double} getter
+     * @since 0.2.0
+     */
+    public double getDouble(T instance) {
+        throw unsupported("double getter");
+    }
+
+    /**
+     * Returns a {@code boolean} value of this field of an instance.
+     *
+     * @param instance instance
+     * @return {@code boolean} value of this field of {@code instance}
+     * @throws java.lang.UnsupportedOperationException if this field is not of {@code boolean} getter
+     * @since 0.2.0
+     */
+    public boolean getBoolean(T instance) {
+        throw unsupported("boolean getter");
+    }
+
+    /**
+     * Sets an {@code int} value of this field of an instance.
+     *
+     * @param instance instance
+     * @param value    {@code int} value
+     * @throws java.lang.UnsupportedOperationException if this field is not of {@code int} setter
+     * @since 0.2.0
+     */
+    public void setInt(T instance, int value) {
+        throw unsupported("int setter");
+    }
+
+    /**
+     * Sets a {@code long} value of this field of an instance.
+     *
+     * @param instance instance
+     * @param value    {@code long} value
+     * @throws java.lang.UnsupportedOperationException if this field is not of {@code long} setter
+     * @since 0.2.0
+     */
+    public void setLong(T instance, long value) {
+        throw unsupported("long setter");
+    }
+
+    /**
+     * Sets a {@code double} value of this field of an instance.
+     *
+     * @param instance instance
+     * @param value    {@code double} value
+     * @throws java.lang.UnsupportedOperationException if this field is not of {@code double} setter
+     * @since 0.2.0
+     */
+    public void setDouble(T instance, double value) {
+        throw unsupported("double setter");
+    }
+
+    /**
+     * Sets a {@code boolean} value of this field of an instance.
+     *
+     * @param instance instance
+     * @param value    {@code boolean} value
+     * @throws java.lang.UnsupportedOperationException if this field is not of {@code boolean} setter
+     * @since 0.2.0
+     */
+    public void setBoolean(T instance, boolean value) {
+        throw unsupported("boolean setter");
+    }
+
+    /**
+     * Creates an exception about an unsupported accessor.
+     *
+     * @param accessor accessor, e.g. {@code int getter}
+     * @return exception about unsupported {@code accessor}
+     * @since 0.2.0
+     */
+    protected UnsupportedOperationException unsupported(String accessor) {
+        return new UnsupportedOperationException("Field has no " + accessor + ": " + name);
+    }
+
+    /**
+     * Returns a field name.
+     *
+     * @return field name
+     * @since 0.2.0
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns a field ordinal.
+     *
+     * @return field ordinal
+     * @since 0.2.0
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    /**
+     * Returns a declared type of field.
+     *
+     * @return declared type of field
+     * @since 0.2.0
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Checks if this field has a setter.
+     *
+     * @return if this field has a setter
+     * @since 0.2.0
+     */
+    public boolean isSettable() {
+        return settable;
+    }
+
+    /**
+     * Returns a field name.
+     *
+     * @return field name
+     * @since 0.2.0
+     */
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.field;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A map by typed field of the same fields, backed by an array by field ordinal, like {@link java.util.EnumMap}.
+ * <p>
+ * Keys are fields of this map, iterated in order of ordinals; values may be {@code null}.
+ *
+ * @param <T> type of instance of fields
+ * @param <V> type of value
+ * @author Grig Alex
+ * @version 0.2.0
+ * @since 0.2.0
+ */
+public class TypedFieldMap<T, V> extends AbstractMap<TypedField<T, ?>, V> {
+    /**
+     * Value of {@code null}, to distinct from no value.
+     *
+     * @since 0.2.0
+     */
+    protected static final Object NULL = new Object();
+
+    /**
+     * Fields by ordinal.
+     *
+     * @since 0.2.0
+     */
+    protected final TypedField<T, ?>[] fields;
+    /**
+     * Values by field ordinal, {@code null} is no value.
+     *
+     * @since 0.2.0
+     */
+    protected final Object[] values;
+    /**
+     * Number of values.
+     *
+     * @since 0.2.0
+     */
+    protected int size;
+
+    /**
+     * Constructs with fields in order of ordinals.
+     *
+     * @param fields fields in order of ordinals
+     * @throws java.lang.IllegalArgumentException if ordinals of {@code fields} are not their indices
+     * @since 0.2.0
+     */
+    public TypedFieldMap(List<? extends TypedField<T, ?>> fields) {
+        @SuppressWarnings("unchecked")
+        TypedField<T, ?>[] array = (TypedField<T, ?>[]) new TypedField<?, ?>[fields.size()];
+        this.fields = fields.toArray(array);
+        for (int i = 0; i < this.fields.length; i++) {
+            if (this.fields[i].getOrdinal() != i) {
+                throw new IllegalArgumentException("Field " + this.fields[i] + " has ordinal "
+                        + this.fields[i].getOrdinal() + ", not " + i);
+            }
+        }
+        this.values = new Object[this.fields.length];
+    }
+
+    /**
+     * Returns an ordinal of a key if it is a field of this map.
+     *
+     * @param key key
+     * @return ordinal of {@code key}, or {@code -1} if it is not a field of this map
+     * @since 0.2.0
+     */
+    protected int ordinalOf(Object key) {
+        if (key instanceof TypedField) {
+            int ordinal = ((TypedField<?, ?>) key).getOrdinal();
+            if (ordinal < fields.length && fields[ordinal] == key) {
+                return ordinal;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Masks a value.
+     *
+     * @param value value
+     * @return {@link dev.alexengrig.metter.field.TypedFieldMap#NULL} if {@code value} is {@code null},
+     * or {@code value}
+     * @since 0.2.0
+     */
+    protected Object mask(Object value) {
+        return value == null ? NULL : value;
+    }
+
+    /**
+     * Unmasks a value.
+     *
+     * @param value masked value
+     * @return {@code null} if {@code value} is {@link dev.alexengrig.metter.field.TypedFieldMap#NULL}
+     * or {@code null}, or {@code value}
+     * @since 0.2.0
+     */
+    @SuppressWarnings("unchecked")
+    protected V unmask(Object value) {
+        return value == NULL ? null : (V) value;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int ordinal = ordinalOf(key);
+        return ordinal >= 0 && values[ordinal] != null;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        Object masked = mask(value);
+        for (Object v : values) {
+            if (v != null && Objects.equals(masked, v)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V get(Object key) {
+        int ordinal = ordinalOf(key);
+        return ordinal >= 0 ? unmask(values[ordinal]) : null;
+    }
+
+    /**
+     * Puts a value by a field of this map.
+     *
+     * @param key   field of this map
+     * @param value value
+     * @return previous value of {@code key}, or {@code null}
+     * @throws java.lang.IllegalArgumentException if {@code key} is not a field of this map
+     * @since 0.2.0
+     */
+    @Override
+    public V put(TypedField<T, ?> key, V value) {
+        int ordinal = ordinalOf(key);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Key is not a field of map: " + key);
+        }
+        Object previous = values[ordinal];
+        values[ordinal] = mask(value);
+        if (previous == null) {
+            size++;
+        }
+        return unmask(previous);
+    }
+
+    @Override
+    public V remove(Object key) {
+        int ordinal = ordinalOf(key);
+        if (ordinal < 0) {
+            return null;
+        }
+        Object previous = values[ordinal];
+        values[ordinal] = null;
+        if (previous != null) {
+            size--;
+        }
+        return unmask(previous);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<TypedField<T, ?>, V>> entrySet() {
+        return new AbstractSet<Entry<TypedField<T, ?>, V>>() {
+            @Override
+            public Iterator<Entry<TypedField<T, ?>, V>> iterator() {
+                return new Iterator<Entry<TypedField<T, ?>, V>>() {
+                    private int index = skip(0);
+                    private int last = -1;
+
+                    private int skip(int index) {
+                        while (index < values.length && values[index] == null) {
+                            index++;
+                        }
+                        return index;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < values.length;
+                    }
+
+                    @Override
+                    public Entry<TypedField<T, ?>, V> next() {
+                        if (index >= values.length) {
+                            throw new NoSuchElementException();
+                        }
+                        last = index;
+                        index = skip(index + 1);
+                        return new SimpleImmutableEntry<>(fields[last], unmask(values[last]));
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (last < 0) {
+                            throw new IllegalStateException();
+                        }
+                        TypedFieldMap.this.remove(fields[last]);
+                        last = -1;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.generator;
+
+import dev.alexengrig.metter.util.LineJoiner;
+import dev.alexengrig.metter.util.Strings;
+
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Generator source of diff supplier - getter supplier with comparing of fields.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @since 0.2.0
+ */
+public class DiffSupplierSourceGenerator extends GetterSupplierSourceGenerator {
+    /**
+     * Maximum number of fields for a bitmask of {@code long}.
+     *
+     * @since 0.2.0
+     */
+    protected static final int MAX_MASK_SIZE = Long.SIZE;
+
+    /**
+     * Constructs.
+     *
+     * @since 0.2.0
+     */
+    public DiffSupplierSourceGenerator() {
+        super();
+    }
+
+    /**
+     * Constructs with mark about adding generated date.
+     *
+     * @param withGeneratedDate mark about adding generated date
+     * @since 0.2.0
+     */
+    protected DiffSupplierSourceGenerator(boolean withGeneratedDate) {
+        super(withGeneratedDate);
+    }
+
+    /**
+     * Returns {@code diffs}.
+     *
+     * @return {@code diffs}
+     */
+    @Override
+    protected String getInstanceAccessorName() {
+        return "diffs";
+    }
+
+    /**
+     * Returns {@code Diff}.
+     *
+     * @return {@code Diff}
+     */
+    @Override
+    protected String getJavaDocTypeNameForClass() {
+        return "Diff";
+    }
+
+    /**
+     * Joins {@code diff(DomainClass, DomainClass)} - a bitmask of changed fields (if no more than 64 fields),
+     * {@code diff(DomainClass, DomainClass, BitSet)} - a bit set of changed fields
+     * and {@code changeLog} - a change log of fields by a bitmask or a bit set.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with getters in order of ordinals
+     * @since 0.2.0
+     */
+    @Override
+    protected void joinExtraMethods(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+        if (fieldMethods.size() <= MAX_MASK_SIZE) {
+            joinMaskDiff(joiner, domainClassName, fieldMethods);
+        }
+        joinBitSetDiff(joiner, domainClassName, fieldMethods);
+        joinChangeLog(joiner, domainClassName, fieldMethods);
+    }
+
+    /**
+     * Joins {@code diff(DomainClass, DomainClass)} - a bitmask of changed fields.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with getters in order of ordinals, no more than 64
+     * @since 0.2.0
+     */
+    protected void joinMaskDiff(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+        joiner.ln("    /**")
+                .ln("     * Compares values of all fields of instances.")
+                .ln("     *")
+                .ft("     * @param instance    instance of {@link %s}", domainClassName)
+                .ft("     * @param newInstance new instance of {@link %s}", domainClassName)
+                .ln("     * @return bitmask of changed fields, bit by ordinal")
+                .ln("     */")
+                .ft("    public long diff(%1$s instance, %1$s newInstance) {", domainClassName)
+                .ln("        long mask = 0L;");
+        for (int i = 0; i < fieldMethods.size(); i++) {
+            joiner.ft("        if (%s) {", getNotEqualCondition(fieldMethods.get(i)))
+                    .ft("            mask |= 1L << %d;", i)
+                    .ln("        }");
+        }
+        joiner.ln("        return mask;")
+                .ln("    }")
+                .ln();
+    }
+
+    /**
+     * Joins {@code diff(DomainClass, DomainClass, BitSet)} - a bit set of changed fields.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with getters in order of ordinals
+     * @since 0.2.0
+     */
+    protected void joinBitSetDiff(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+        joiner.ln("    /**")
+                .ln("     * Compares values of all fields of instances into a bit set, it is cleared before.")
+                .ln("     *")
+                .ft("     * @param instance    instance of {@link %s}", domainClassName)
+                .ft("     * @param newInstance new instance of {@link %s}", domainClassName)
+                .ln("     * @param target      bit set of changed fields, bit by ordinal")
+                .ln("     * @return {@code target}")
+                .ln("     */")
+                .ft("    public java.util.BitSet diff(%1$s instance, %1$s newInstance, java.util.BitSet target) {",
+                        domainClassName)
+                .ln("        target.clear();");
+        List<Integer> ordinals = getRange(fieldMethods.size());
+        ObjIntConsumer<String> joinStatement = (indent, i) ->
+                joiner.ft("%sif (%s) {", indent, getNotEqualCondition(fieldMethods.get(i)))
+                        .ft("%s    target.set(%d);", indent, i)
+                        .ft("%s}", indent);
+        joinStatements(joiner, "        ", ordinals, joinStatement, "diffChunk%d(instance, newInstance, target);");
+        joiner.ln("        return target;")
+                .ln("    }")
+                .ln();
+        joinStatementChunks(joiner, "    ", Strings.format(
+                        "private void diffChunk%%d(%1$s instance, %1$s newInstance, java.util.BitSet target)",
+                        domainClassName), ordinals, joinStatement);
+    }
+
+    /**
+     * Joins {@code changeLog} - a change log of fields by a bitmask (if no more than 64 fields) or a bit set.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with getters in order of ordinals
+     * @since 0.2.0
+     */
+    protected void joinChangeLog(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+        if (fieldMethods.size() <= MAX_MASK_SIZE) {
+            joiner.ln("    /**")
+                    .ln("     * Returns a change log of fields by a bitmask, a line by changed field:")
+                    .ln("     * {@code field: value -> newValue}.")
+                    .ln("     *")
+                    .ft("     * @param instance    instance of {@link %s}", domainClassName)
+                    .ft("     * @param newInstance new instance of {@link %s}", domainClassName)
+                    .ln("     * @param mask        bitmask of changed fields, bit by ordinal")
+                    .ln("     * @return change log of fields by {@code mask}")
+                    .ln("     * @throws java.lang.IndexOutOfBoundsException if no field by some bit of {@code mask}")
+                    .ln("     */")
+                    .ft("    public java.lang.String changeLog(%1$s instance, %1$s newInstance, long mask) {",
+                            domainClassName)
+                    .ln("        java.lang.StringBuilder builder = new java.lang.StringBuilder();")
+                    .ln("        for (long bits = mask; bits != 0L; bits &= bits - 1) {")
+                    .ln("            appendChange(builder, instance, newInstance, java.lang.Long.numberOfTrailingZeros(bits));")
+                    .ln("        }")
+                    .ln("        return builder.toString();")
+                    .ln("    }")
+                    .ln();
+        }
+        joiner.ln("    /**")
+                .ln("     * Returns a change log of fields by a bit set, a line by changed field:")
+                .ln("     * {@code field: value -> newValue}.")
+                .ln("     *")
+                .ft("     * @param instance    instance of {@link %s}", domainClassName)
+                .ft("     * @param newInstance new instance of {@link %s}", domainClassName)
+                .ln("     * @param mask        bit set of changed fields, bit by ordinal")
+                .ln("     * @return change log of fields by {@code mask}")
+                .ln("     * @throws java.lang.IndexOutOfBoundsException if no field by some bit of {@code mask}")
+                .ln("     */")
+                .ft("    public java.lang.String changeLog(%1$s instance, %1$s newInstance, java.util.BitSet mask) {",
+                        domainClassName)
+                .ln("        java.lang.StringBuilder builder = new java.lang.StringBuilder();")
+                .ln("        for (int ordinal = mask.nextSetBit(0); ordinal >= 0; ordinal = mask.nextSetBit(ordinal + 1)) {")
+                .ln("            appendChange(builder, instance, newInstance, ordinal);")
+                .ln("        }")
+                .ln("        return builder.toString();")
+                .ln("    }")
+                .ln()
+                .ft("    private void appendChange(java.lang.StringBuilder builder, %1$s instance, %1$s newInstance,",
+                        domainClassName)
+                .ln("                              int ordinal) {")
+                .ln("        if (builder.length() > 0) {")
+                .ln("            builder.append('\\n');")
+                .ln("        }")
+                .ln("        builder.append(FIELD_NAMES[ordinal]).append(\": \").append(get(instance, ordinal))")
+                .ln("                .append(\" -> \").append(get(newInstance, ordinal));")
+                .ln("    }")
+                .ln();
+    }
+
+    /**
+     * Returns a condition of not equal values of a field of {@code instance} and {@code newInstance}:
+     * {@code !=} for primitives (as {@code compare} for {@code float} and {@code double}, like their wrappers),
+     * {@link java.util.Objects#equals(Object, Object)} for references.
+     *
+     * @param fieldMethod field with getter
+     * @return condition of not equal values of {@code fieldMethod}
+     * @since 0.2.0
+     */
+    protected String getNotEqualCondition(FieldMethod fieldMethod) {
+        String value = fieldMethod.getInvocation("instance", null);
+        String newValue = fieldMethod.getInvocation("newInstance", null);
+        switch (fieldMethod.getTypeName()) {
+            case "byte":
+            case "short":
+            case "char":
+            case "int":
+            case "long":
+            case "boolean":
+                return value + " != " + newValue;
+            case "float":
+                return "java.lang.Float.compare(" + value + ", " + newValue + ") != 0";
+            case "double":
+                return "java.lang.Double.compare(" + value + ", " + newValue + ") != 0";
+            default:
+                return "!java.util.Objects.equals(" + value + ", " + newValue + ")";
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.generator;
+
+import dev.alexengrig.metter.util.Strings;
+
+import java.util.Objects;
+
+/**
+ * A field with a method for source generation.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @since 0.2.0
+ */
+public class FieldMethod {
+    /**
+     * Field name.
+     *
+     * @since 0.2.0
+     */
+    protected final String name;
+    /**
+     * Field type name.
+     *
+     * @since 0.2.0
+     */
+    protected final String typeName;
+    /**
+     * Method - value of map.
+     *
+     * @since 0.2.0
+     */
+    protected final String method;
+    /**
+     * Invocation - template for {@link dev.alexengrig.metter.util.Strings#format(String, Object...)}
+     * with an instance name and a value name (for setter).
+     *
+     * @since 0.2.0
+     */
+    protected final String invocation;
+
+    /**
+     * Constructs with a field name, a field type name, a method and an invocation.
+     *
+     * @param name       field name
+     * @param typeName   field type name
+     * @param method     method - value of map
+     * @param invocation invocation - template with an instance name and a value name (for setter)
+     * @since 0.2.0
+     */
+    public FieldMethod(String name, String typeName, String method, String invocation) {
+        this.name = Objects.requireNonNull(name, "Name must not be null");
+        this.typeName = Objects.requireNonNull(typeName, "Type name must not be null");
+        this.method = method;
+        this.invocation = invocation;
+    }
+
+    /**
+     * Returns a field name.
+     *
+     * @return field name
+     * @since 0.2.0
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns a field type name.
+     *
+     * @return field type name
+     * @since 0.2.0
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * Returns a method - value of map.
+     *
+     * @return method - value of map
+     * @since 0.2.0
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Returns an invocation for an instance name and a value name.
+     *
+     * @param instanceName instance name
+     * @param valueName    value name, ignored by getter
+     * @return invocation for {@code instanceName} and {@code valueName}
+     * @since 0.2.0
+     */
+    public String getInvocation(String instanceName, String valueName) {
+        return Strings.format(invocation, instanceName, valueName);
+    }
+}
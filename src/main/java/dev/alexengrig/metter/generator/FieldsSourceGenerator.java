@@ -0,0 +1,329 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.generator;
+
+import dev.alexengrig.metter.util.LineJoiner;
+import dev.alexengrig.metter.util.Strings;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Generator source of fields - constants of {@link dev.alexengrig.metter.field.TypedField} and a supplier of them.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @since 0.2.0
+ */
+public class FieldsSourceGenerator extends MethodSupplierSourceGenerator {
+    /**
+     * Wrapper types by primitive types.
+     *
+     * @since 0.2.0
+     */
+    protected static final Map<String, String> WRAPPER_TYPE_BY_PRIMITIVE_TYPE = createWrapperTypeByPrimitiveType();
+
+    /**
+     * Constructs.
+     *
+     * @since 0.2.0
+     */
+    public FieldsSourceGenerator() {
+        super();
+    }
+
+    /**
+     * Constructs with mark about adding generated date.
+     *
+     * @param withGeneratedDate mark about adding generated date
+     * @since 0.2.0
+     */
+    protected FieldsSourceGenerator(boolean withGeneratedDate) {
+        super(withGeneratedDate);
+    }
+
+    /**
+     * Creates wrapper types by primitive types.
+     *
+     * @return wrapper types by primitive types
+     * @since 0.2.0
+     */
+    protected static Map<String, String> createWrapperTypeByPrimitiveType() {
+        Map<String, String> wrapperTypeByPrimitiveType = new HashMap<>();
+        wrapperTypeByPrimitiveType.put("boolean", "java.lang.Boolean");
+        wrapperTypeByPrimitiveType.put("byte", "java.lang.Byte");
+        wrapperTypeByPrimitiveType.put("short", "java.lang.Short");
+        wrapperTypeByPrimitiveType.put("char", "java.lang.Character");
+        wrapperTypeByPrimitiveType.put("int", "java.lang.Integer");
+        wrapperTypeByPrimitiveType.put("long", "java.lang.Long");
+        wrapperTypeByPrimitiveType.put("float", "java.lang.Float");
+        wrapperTypeByPrimitiveType.put("double", "java.lang.Double");
+        return wrapperTypeByPrimitiveType;
+    }
+
+    /**
+     * Returns {@code fieldByName}.
+     *
+     * @return {@code fieldByName}
+     */
+    @Override
+    protected String getMapFieldName() {
+        return "fieldByName";
+    }
+
+    /**
+     * Returns {@code fields}.
+     *
+     * @return {@code fields}
+     */
+    @Override
+    protected String getInstanceAccessorName() {
+        return "fields";
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <pre>{@code
+     * dev.alexengrig.metter.field.TypedField<DomainClass, ?>
+     * }</pre>
+     *
+     * @since 0.2.0
+     */
+    @Override
+    protected String getMapValueType(String domainClassName) {
+        return Strings.format("dev.alexengrig.metter.field.TypedField<%s, ?>", domainClassName);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Map values are constants of typed fields, so the getter is invoked - a method reference,
+     * a lambda must not declare a parameter {@code instance}.
+     *
+     * <pre>{@code
+     * ((java.util.function.Function<DomainClass, java.lang.Object>) DomainClass::getField).apply(instance)
+     * }</pre>
+     *
+     * @since 0.2.0
+     */
+    @Override
+    protected String getMapValueInvocation(String domainClassName, String field, String method) {
+        return Strings.format("((java.util.function.Function<%s, java.lang.Object>) %s).apply(%%1$s)",
+                domainClassName, method);
+    }
+
+    /**
+     * Returns {@code Fields}.
+     *
+     * @return {@code Fields}
+     */
+    @Override
+    protected String getJavaDocTypeNameForClass() {
+        return "Fields";
+    }
+
+    /**
+     * Returns {@code typed field}.
+     *
+     * @return {@code typed field}
+     */
+    @Override
+    protected String getJavaDocTypeName() {
+        return "typed field";
+    }
+
+    /**
+     * Returns fields with methods - constants of typed fields.
+     *
+     * @param fieldMethods   fields with methods in order of ordinals
+     * @param ordinalNames   names of constants in order of ordinals
+     * @param switchDispatch ignored, constants are map values
+     * @return fields with methods - constants of typed fields
+     * @since 0.2.0
+     */
+    @Override
+    protected List<FieldMethod> getMapFieldMethods(List<FieldMethod> fieldMethods, List<String> ordinalNames,
+                                                   boolean switchDispatch) {
+        List<FieldMethod> constants = new ArrayList<>(fieldMethods.size());
+        for (int i = 0; i < fieldMethods.size(); i++) {
+            FieldMethod fieldMethod = fieldMethods.get(i);
+            constants.add(new FieldMethod(fieldMethod.getName(), fieldMethod.getTypeName(),
+                    ordinalNames.get(i), fieldMethod.invocation));
+        }
+        return constants;
+    }
+
+    /**
+     * Joins a constant of typed field - an anonymous class with a getter,
+     * primitive getters of widening types and a setter with a primitive setter of exact type if the field has setter.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethod     field with getter, and setter if it is {@link dev.alexengrig.metter.generator.TypedFieldMethod}
+     * @param ordinalName     name of constant
+     * @param ordinal         field ordinal
+     * @since 0.2.0
+     */
+    @Override
+    protected void joinOrdinalConstant(LineJoiner joiner, String domainClassName, FieldMethod fieldMethod,
+                                       String ordinalName, int ordinal) {
+        String typeName = fieldMethod.getTypeName();
+        String valueType = WRAPPER_TYPE_BY_PRIMITIVE_TYPE.getOrDefault(typeName, typeName);
+        String fieldType = Strings.format("dev.alexengrig.metter.field.TypedField<%s, %s>", domainClassName, valueType);
+        boolean settable = fieldMethod instanceof TypedFieldMethod && ((TypedFieldMethod) fieldMethod).hasSetter();
+        joiner.ln("    /**")
+                .ft("     * Field {@code %s}, ordinal is {@code %d}.", fieldMethod.getName(), ordinal)
+                .ln("     */")
+                .ft("    public static final %s %s", fieldType, ordinalName)
+                .ft("            = new %s(\"%s\", %d, %s.class, %b) {", fieldType, fieldMethod.getName(), ordinal,
+                        getErasedType(typeName), settable)
+                .ln("        @Override")
+                .ft("        public %s get(%s instance) {", valueType, domainClassName)
+                .ft("            return %s;", fieldMethod.getInvocation("instance", null))
+                .ln("        }");
+        String primitiveGetterType = getPrimitiveGetterType(typeName);
+        if (primitiveGetterType != null) {
+            joiner.ln()
+                    .ln("        @Override")
+                    .ft("        public %s get%s(%s instance) {", primitiveGetterType,
+                            Strings.capitalize(primitiveGetterType), domainClassName)
+                    .ft("            return %s;", fieldMethod.getInvocation("instance", null))
+                    .ln("        }");
+        }
+        if (settable) {
+            TypedFieldMethod typedFieldMethod = (TypedFieldMethod) fieldMethod;
+            joiner.ln()
+                    .ln("        @Override")
+                    .ft("        public void set(%s instance, %s value) {", domainClassName, valueType)
+                    .ft("            %s;", typedFieldMethod.getSetterInvocation("instance", "value"))
+                    .ln("        }");
+            if (isPrimitiveSetterType(typeName)) {
+                joiner.ln()
+                        .ln("        @Override")
+                        .ft("        public void set%s(%s instance, %s value) {",
+                                Strings.capitalize(typeName), domainClassName, typeName)
+                        .ft("            %s;", typedFieldMethod.getSetterInvocation("instance", "value"))
+                        .ln("        }");
+            }
+        }
+        joiner.ln("    };")
+                .ln();
+    }
+
+    /**
+     * Joins {@code valueOf(int)} - a typed field by ordinal, {@code values()} - a list of typed fields
+     * and {@code newMap()} - a map by typed field.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with methods in order of ordinals
+     * @since 0.2.0
+     */
+    @Override
+    protected void joinOrdinalAccessor(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+        String mapValueType = getMapValueType(domainClassName);
+        List<String> ordinalNames = getOrdinalNames(fieldMethods.stream()
+                .map(FieldMethod::getName)
+                .collect(Collectors.toList()));
+        joiner.ln("    /**")
+                .ln("     * Returns a typed field by ordinal.")
+                .ln("     *")
+                .ln("     * @param ordinal ordinal of field")
+                .ln("     * @return typed field by {@code ordinal}")
+                .ln("     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}")
+                .ln("     */")
+                .ft("    public static %s valueOf(int ordinal) {", mapValueType);
+        List<Integer> ordinals = getRange(ordinalNames.size());
+        ObjIntConsumer<String> joinCase = (indent, i) -> joiner.ft("%sreturn %s;", indent, ordinalNames.get(i));
+        String defaultCase = "throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);";
+        joinOrdinalSwitch(joiner, "        ", ordinals, joinCase, defaultCase, "return valueOfChunk%d(ordinal);");
+        joiner.ln("    }")
+                .ln();
+        joinOrdinalSwitchChunks(joiner, "    ",
+                Strings.format("private static %s valueOfChunk%%d(int ordinal)", mapValueType),
+                ordinals, joinCase, defaultCase);
+        joiner
+                .ln("    /**")
+                .ln("     * Returns a new list of typed fields in order of ordinals.")
+                .ln("     *")
+                .ln("     * @return new list of typed fields in order of ordinals")
+                .ln("     */")
+                .ft("    public static java.util.List<%s> values() {", mapValueType)
+                .ft("        return new java.util.ArrayList<>(%s().get().values());", getInstanceAccessorName())
+                .ln("    }")
+                .ln()
+                .ln("    /**")
+                .ln("     * Returns a new empty map by typed field, backed by an array by ordinal.")
+                .ln("     *")
+                .ln("     * @param <V> type of value")
+                .ln("     * @return new empty map by typed field")
+                .ln("     */")
+                .ft("    public static <V> dev.alexengrig.metter.field.TypedFieldMap<%s, V> newMap() {", domainClassName)
+                .ln("        return new dev.alexengrig.metter.field.TypedFieldMap<>(values());")
+                .ln("    }")
+                .ln();
+    }
+
+    /**
+     * Joins nothing, constants of typed fields are map values.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with methods in order of ordinals
+     * @since 0.2.0
+     */
+    @Override
+    protected void joinFieldAccessor(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+    }
+
+    /**
+     * Returns a primitive type of getter of a field type without boxing.
+     *
+     * @param typeName field type name
+     * @return {@code int}, {@code long}, {@code double}, {@code boolean} or {@code null} if no primitive getter
+     * @since 0.2.0
+     */
+    protected String getPrimitiveGetterType(String typeName) {
+        if (GetterSupplierSourceGenerator.INT_TYPE_NAMES.contains(typeName)) {
+            return "int";
+        } else if (GetterSupplierSourceGenerator.LONG_TYPE_NAMES.contains(typeName)) {
+            return "long";
+        } else if (GetterSupplierSourceGenerator.DOUBLE_TYPE_NAMES.contains(typeName)) {
+            return "double";
+        } else if (GetterSupplierSourceGenerator.BOOLEAN_TYPE_NAMES.contains(typeName)) {
+            return "boolean";
+        }
+        return null;
+    }
+
+    /**
+     * Checks if a field type has a primitive setter.
+     *
+     * @param typeName field type name
+     * @return if {@code typeName} is {@code int}, {@code long}, {@code double} or {@code boolean}
+     * @since 0.2.0
+     */
+    protected boolean isPrimitiveSetterType(String typeName) {
+        return "int".equals(typeName) || "long".equals(typeName)
+                || "double".equals(typeName) || "boolean".equals(typeName);
+    }
+}
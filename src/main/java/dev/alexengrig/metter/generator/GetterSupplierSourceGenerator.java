@@ -16,14 +16,68 @@
 
 package dev.alexengrig.metter.generator;
 
+import dev.alexengrig.metter.batch.ForkJoinBatch;
+import dev.alexengrig.metter.util.LineJoiner;
+import dev.alexengrig.metter.util.Strings;
+import dev.alexengrig.metter.visitor.FieldVisitor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Collectors;
+
 /**
  * Generator source of getter supplier.
  *
  * @author Grig Alex
- * @version 0.1.0
+ * @version 0.2.0
  * @since 0.1.0
  */
 public class GetterSupplierSourceGenerator extends MethodSupplierSourceGenerator {
+    /**
+     * Type names of fields of {@code int} getters.
+     *
+     * @since 0.2.0
+     */
+    protected static final Set<String> INT_TYPE_NAMES = new HashSet<>(Arrays.asList("byte", "short", "char", "int"));
+    /**
+     * Type names of fields of {@code long} getters.
+     *
+     * @since 0.2.0
+     */
+    protected static final Set<String> LONG_TYPE_NAMES = Collections.singleton("long");
+    /**
+     * Type names of fields of {@code double} getters.
+     *
+     * @since 0.2.0
+     */
+    protected static final Set<String> DOUBLE_TYPE_NAMES = new HashSet<>(Arrays.asList("float", "double"));
+    /**
+     * Type names of fields of {@code boolean} getters.
+     *
+     * @since 0.2.0
+     */
+    protected static final Set<String> BOOLEAN_TYPE_NAMES = Collections.singleton("boolean");
+    /**
+     * Type names of integral fields of {@code long} snapshot.
+     *
+     * @since 0.2.0
+     */
+    protected static final Set<String> INTEGRAL_TYPE_NAMES = new HashSet<>(
+            Arrays.asList("byte", "short", "char", "int", "long"));
+    /**
+     * Type names of floating-point fields of {@code double} snapshot.
+     *
+     * @since 0.2.0
+     */
+    protected static final Set<String> FLOATING_POINT_TYPE_NAMES = DOUBLE_TYPE_NAMES;
+
     /**
      * Constructs.
      *
@@ -53,6 +107,16 @@ public class GetterSupplierSourceGenerator extends MethodSupplierSourceGenerator
         return "getterByField";
     }
 
+    /**
+     * Returns {@code getters}.
+     *
+     * @return {@code getters}
+     */
+    @Override
+    protected String getInstanceAccessorName() {
+        return "getters";
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -64,7 +128,21 @@ public class GetterSupplierSourceGenerator extends MethodSupplierSourceGenerator
      */
     @Override
     protected String getMapValueType(String domainClassName) {
-        return String.format("java.util.function.Function<%s, java.lang.Object>", domainClassName);
+        return Strings.format("java.util.function.Function<%s, java.lang.Object>", domainClassName);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <pre>{@code
+     * getterByField.get("field").apply(instance)
+     * }</pre>
+     *
+     * @since 0.2.0
+     */
+    @Override
+    protected String getMapValueInvocation(String domainClassName, String field, String method) {
+        return Strings.format("%s.get(\"%s\").apply(%%1$s)", getMapFieldName(), field);
     }
 
     /**
@@ -86,4 +164,515 @@ public class GetterSupplierSourceGenerator extends MethodSupplierSourceGenerator
     protected String getJavaDocTypeName() {
         return "getter";
     }
+
+    /**
+     * Joins {@code get(DomainClass, int)} - a value of field by ordinal.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with getters in order of ordinals
+     * @since 0.2.0
+     */
+    @Override
+    protected void joinOrdinalAccessor(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+        joiner.ln("    /**")
+                .ln("     * Returns a value of field by ordinal.")
+                .ln("     *")
+                .ft("     * @param instance instance of {@link %s}", domainClassName)
+                .ln("     * @param ordinal  ordinal of field")
+                .ln("     * @return value of field by {@code ordinal}")
+                .ln("     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}")
+                .ln("     */")
+                .ft("    public java.lang.Object get(%s instance, int ordinal) {", domainClassName);
+        List<Integer> ordinals = getRange(fieldMethods.size());
+        ObjIntConsumer<String> joinCase = (indent, i) ->
+                joiner.ft("%sreturn %s;", indent, fieldMethods.get(i).getInvocation("instance", null));
+        String defaultCase = "throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);";
+        joinOrdinalSwitch(joiner, "        ", ordinals, joinCase, defaultCase, "return getChunk%d(instance, ordinal);");
+        joiner.ln("    }")
+                .ln();
+        joinOrdinalSwitchChunks(joiner, "    ",
+                Strings.format("private java.lang.Object getChunk%%d(%s instance, int ordinal)", domainClassName),
+                ordinals, joinCase, defaultCase);
+        joinSnapshot(joiner, domainClassName, fieldMethods, "java.lang.Object", "all",
+                fieldMethods.stream().map(FieldMethod::getTypeName).collect(Collectors.toSet()));
+        if (hasFields(fieldMethods, INTEGRAL_TYPE_NAMES)) {
+            joinSnapshot(joiner, domainClassName, fieldMethods, "long", "integral", INTEGRAL_TYPE_NAMES);
+        }
+        if (hasFields(fieldMethods, FLOATING_POINT_TYPE_NAMES)) {
+            joinSnapshot(joiner, domainClassName, fieldMethods, "double", "floating-point",
+                    FLOATING_POINT_TYPE_NAMES);
+        }
+        joinForEach(joiner, domainClassName, fieldMethods);
+        joinColumns(joiner, domainClassName, fieldMethods);
+    }
+
+    /**
+     * Joins {@code forEach(DomainClass, FieldVisitor)} - visiting values of all fields in order of ordinals.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with getters in order of ordinals
+     * @see dev.alexengrig.metter.visitor.FieldVisitor
+     * @since 0.2.0
+     */
+    protected void joinForEach(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+        joiner.ln("    /**")
+                .ln("     * Visits values of all fields in order of ordinals.")
+                .ln("     *")
+                .ft("     * @param instance instance of {@link %s}", domainClassName)
+                .ln("     * @param visitor  visitor of field values")
+                .ln("     */")
+                .ft("    public void forEach(%s instance, %s visitor) {", domainClassName, FieldVisitor.class.getName());
+        List<Integer> ordinals = getRange(fieldMethods.size());
+        ObjIntConsumer<String> joinStatement = (indent, i) -> {
+            FieldMethod fieldMethod = fieldMethods.get(i);
+            joiner.ft("%svisitor.%s(\"%s\", %s);", indent, getVisitMethod(fieldMethod.getTypeName()),
+                    fieldMethod.getName(), fieldMethod.getInvocation("instance", null));
+        };
+        joinStatements(joiner, "        ", ordinals, joinStatement, "forEachChunk%d(instance, visitor);");
+        joiner.ln("    }")
+                .ln();
+        joinStatementChunks(joiner, "    ", Strings.format("private void forEachChunk%%d(%s instance, %s visitor)",
+                domainClassName, FieldVisitor.class.getName()), ordinals, joinStatement);
+    }
+
+    /**
+     * Joins {@code column(instances, int, type[])} - reading values of field of instances
+     * into an array by index of instance, in a range of instances and in parallel by ranges,
+     * for instances of {@code java.util.List<DomainClass>} and {@code DomainClass[]} and for columns:
+     * <pre>{@code
+     * int[] // byte, short, char, int
+     * long[] // long
+     * double[] // float, double
+     * boolean[] // boolean
+     * java.lang.Object[] // all
+     * }</pre>
+     * and {@code snapshot(instances, type[][], ForkJoinBatch)} - reading values of fields of instances
+     * into arrays by ordinal in parallel by ranges; a primitive column or snapshot only if there are fields of it.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with getters in order of ordinals
+     * @see dev.alexengrig.metter.batch.ForkJoinBatch
+     * @since 0.2.0
+     */
+    protected void joinColumns(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+        joinCheckRange(joiner, "Target");
+        for (String instancesType : getInstancesTypes(domainClassName)) {
+            joinColumn(joiner, domainClassName, instancesType, fieldMethods, "int", INT_TYPE_NAMES);
+            joinColumn(joiner, domainClassName, instancesType, fieldMethods, "long", LONG_TYPE_NAMES);
+            joinColumn(joiner, domainClassName, instancesType, fieldMethods, "double", DOUBLE_TYPE_NAMES);
+            joinColumn(joiner, domainClassName, instancesType, fieldMethods, "boolean", BOOLEAN_TYPE_NAMES);
+            joinObjectColumn(joiner, domainClassName, instancesType, fieldMethods.size());
+            joinBatchSnapshot(joiner, domainClassName, instancesType, "java.lang.Object", "all");
+            if (hasFields(fieldMethods, INTEGRAL_TYPE_NAMES)) {
+                joinBatchSnapshot(joiner, domainClassName, instancesType, "long", "integral");
+            }
+            if (hasFields(fieldMethods, FLOATING_POINT_TYPE_NAMES)) {
+                joinBatchSnapshot(joiner, domainClassName, instancesType, "double", "floating-point");
+            }
+        }
+    }
+
+    /**
+     * Joins {@code column(instances, int, type[])} - reading values of field with some types of instances
+     * into an array by index of instance, without boxing of value, with variants in a range and in parallel;
+     * nothing, if no fields with these types.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param instancesType   type of instances - a list or an array
+     * @param fieldMethods    fields with getters in order of ordinals
+     * @param type            type of array element
+     * @param typeNames       type names of fields
+     * @since 0.2.0
+     */
+    protected void joinColumn(LineJoiner joiner, String domainClassName, String instancesType,
+                              List<FieldMethod> fieldMethods, String type, Set<String> typeNames) {
+        List<Integer> ordinals = getOrdinals(fieldMethods,
+                fieldMethod -> typeNames.contains(fieldMethod.getTypeName()));
+        if (ordinals.isEmpty()) {
+            return;
+        }
+        String fieldName = Strings.format("{@code %s} field", type);
+        joinColumnDelegates(joiner, domainClassName, instancesType, type, fieldName);
+        joiner.ln("    /**")
+                .ft("     * Reads values of %s of instances in a range into an array by index of instance.", fieldName)
+                .ln("     *")
+                .ft("     * @param instances instances of {@link %s}", domainClassName)
+                .ln("     * @param ordinal   ordinal of field")
+                .ln("     * @param target    array of values by index of instance")
+                .ln("     * @param from      index of instance from (inclusive)")
+                .ln("     * @param to        index of instance to (exclusive)")
+                .ln("     * @return {@code target}")
+                .ft("     * @throws java.lang.IndexOutOfBoundsException if no %s by {@code ordinal}", fieldName)
+                .ln("     *                                             or range is out of instances")
+                .ln("     * @throws java.lang.IllegalArgumentException  if length of {@code target} is less than {@code to}")
+                .ln("     */")
+                .ft("    public %1$s[] column(%2$s instances, int ordinal, %1$s[] target, int from, int to) {",
+                        type, instancesType)
+                .ft("        checkRange(from, to, %s, target.length);", getNumberOfInstances(instancesType));
+        ObjIntConsumer<String> joinCase = (indent, i) -> {
+            joinRangeLoop(joiner, indent, domainClassName, instancesType, (instance, index) ->
+                    Strings.format("target[%s] = %s", index, fieldMethods.get(i).getInvocation(instance, null)));
+            joiner.ft("%sreturn target;", indent);
+        };
+        String defaultCase = Strings.format(
+                "throw new java.lang.IndexOutOfBoundsException(\"No %s field by ordinal: \" + ordinal);", type);
+        String chunkName = Strings.format("column%sChunk%%d", Strings.capitalize(type));
+        if (getChunks(ordinals).isEmpty()) {
+            joinRangeIndex(joiner, "        ", instancesType);
+        }
+        joinOrdinalSwitch(joiner, "        ", ordinals, joinCase, defaultCase,
+                "return " + chunkName + "(instances, ordinal, target, from, to);");
+        joiner.ln("    }")
+                .ln();
+        joinOrdinalSwitchChunks(joiner, "    ", Strings.format("private %1$s[] %3$s(%2$s instances, int ordinal,"
+                        + " %1$s[] target, int from, int to)", type, instancesType, chunkName), ordinals,
+                indent -> joinRangeIndex(joiner, indent, instancesType), joinCase, defaultCase);
+    }
+
+    /**
+     * Joins {@code column(instances, int, Object[])} - reading values of field of instances
+     * into an array by index of instance, with variants in a range and in parallel.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param instancesType   type of instances - a list or an array
+     * @param numberOfFields  number of fields
+     * @since 0.2.0
+     */
+    protected void joinObjectColumn(LineJoiner joiner, String domainClassName, String instancesType,
+                                    int numberOfFields) {
+        joinColumnDelegates(joiner, domainClassName, instancesType, "java.lang.Object", "field");
+        joiner.ln("    /**")
+                .ln("     * Reads values of field of instances in a range into an array by index of instance.")
+                .ln("     *")
+                .ft("     * @param instances instances of {@link %s}", domainClassName)
+                .ln("     * @param ordinal   ordinal of field")
+                .ln("     * @param target    array of values by index of instance")
+                .ln("     * @param from      index of instance from (inclusive)")
+                .ln("     * @param to        index of instance to (exclusive)")
+                .ln("     * @return {@code target}")
+                .ln("     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal} or range is out of instances")
+                .ln("     * @throws java.lang.IllegalArgumentException  if length of {@code target} is less than {@code to}")
+                .ln("     */")
+                .ft("    public java.lang.Object[] column(%s instances, int ordinal, java.lang.Object[] target, int from, int to) {",
+                        instancesType)
+                .ft("        checkRange(from, to, %s, target.length);", getNumberOfInstances(instancesType))
+                .ft("        if (ordinal < 0 || ordinal >= %d) {", numberOfFields)
+                .ln("            throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);")
+                .ln("        }");
+        joinRangeIndex(joiner, "        ", instancesType);
+        joinRangeLoop(joiner, "        ", domainClassName, instancesType, (instance, index) ->
+                Strings.format("target[%s] = get(%s, ordinal)", index, instance));
+        joiner.ln("        return target;")
+                .ln("    }")
+                .ln();
+    }
+
+    /**
+     * Joins {@code column(instances, int, type[])} and {@code column(instances, int, type[], ForkJoinBatch)} -
+     * reading values of field of all instances, delegating to {@code column(instances, int, type[], int, int)}.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param instancesType   type of instances - a list or an array
+     * @param type            type of array element
+     * @param fieldName       field name for JavaDoc, e.g. {@code {@code int} field}
+     * @since 0.2.0
+     */
+    protected void joinColumnDelegates(LineJoiner joiner, String domainClassName, String instancesType,
+                                       String type, String fieldName) {
+        String numberOfInstances = getNumberOfInstances(instancesType);
+        joiner.ln("    /**")
+                .ft("     * Reads values of %s of instances into an array by index of instance.", fieldName)
+                .ln("     *")
+                .ft("     * @param instances instances of {@link %s}", domainClassName)
+                .ln("     * @param ordinal   ordinal of field")
+                .ln("     * @param target    array of values by index of instance")
+                .ln("     * @return {@code target}")
+                .ft("     * @throws java.lang.IndexOutOfBoundsException if no %s by {@code ordinal}", fieldName)
+                .ln("     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances")
+                .ln("     */")
+                .ft("    public %1$s[] column(%2$s instances, int ordinal, %1$s[] target) {", type, instancesType)
+                .ft("        return column(instances, ordinal, target, 0, %s);", numberOfInstances)
+                .ln("    }")
+                .ln()
+                .ln("    /**")
+                .ft("     * Reads values of %s of instances into an array by index of instance, in parallel by ranges.", fieldName)
+                .ln("     *")
+                .ft("     * @param instances instances of {@link %s}", domainClassName)
+                .ln("     * @param ordinal   ordinal of field")
+                .ln("     * @param target    array of values by index of instance")
+                .ln("     * @param batch     fork-join batch of ranges of instances")
+                .ln("     * @return {@code target}")
+                .ft("     * @throws java.lang.IndexOutOfBoundsException if no %s by {@code ordinal}", fieldName)
+                .ln("     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances")
+                .ln("     */")
+                .ft("    public %1$s[] column(%2$s instances, int ordinal, %1$s[] target,", type, instancesType)
+                .ft("            %s batch) {", ForkJoinBatch.class.getName())
+                .ft("        checkRange(0, %1$s, %1$s, target.length);", numberOfInstances)
+                .ft("        batch.run(%s, (from, to) -> column(instances, ordinal, target, from, to));", numberOfInstances)
+                .ln("        return target;")
+                .ln("    }")
+                .ln();
+    }
+
+    /**
+     * Joins {@code snapshot(instances, type[][], ForkJoinBatch)} - reading values of fields with some types
+     * of instances into arrays by ordinal, by index of instance, in parallel by ranges.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param instancesType   type of instances - a list or an array
+     * @param type            type of array element
+     * @param javaDocTypeName type name of fields for JavaDoc
+     * @since 0.2.0
+     */
+    protected void joinBatchSnapshot(LineJoiner joiner, String domainClassName, String instancesType,
+                                     String type, String javaDocTypeName) {
+        String numberOfInstances = getNumberOfInstances(instancesType);
+        joiner.ln("    /**")
+                .ft("     * Reads values of %s fields of instances into arrays by ordinal, by index of instance,", javaDocTypeName)
+                .ln("     * in parallel by ranges.")
+                .ln("     *")
+                .ft("     * @param instances instances of {@link %s}", domainClassName)
+                .ln("     * @param targets   arrays of values by ordinal, by index of instance")
+                .ln("     * @param batch     fork-join batch of ranges of instances")
+                .ln("     * @return {@code targets}")
+                .ln("     * @throws java.lang.IllegalArgumentException if {@code targets} is shorter than instances")
+                .ln("     *                                            or some target is shorter than fields")
+                .ln("     */")
+                .ft("    public %1$s[][] snapshot(%2$s instances, %1$s[][] targets,", type, instancesType)
+                .ft("            %s batch) {", ForkJoinBatch.class.getName())
+                .ft("        checkRange(0, %1$s, %1$s, targets.length);", numberOfInstances)
+                .ft("        batch.run(%s, (from, to) -> {", numberOfInstances);
+        joinRangeIndex(joiner, "            ", instancesType);
+        joinRangeLoop(joiner, "            ", domainClassName, instancesType, (instance, index) ->
+                Strings.format("snapshot(%s, targets[%s])", instance, index));
+        joiner.ln("        });")
+                .ln("        return targets;")
+                .ln("    }")
+                .ln();
+    }
+
+    /**
+     * Returns a method of {@link dev.alexengrig.metter.visitor.FieldVisitor} for a field type name.
+     *
+     * @param typeName field type name
+     * @return method of {@link dev.alexengrig.metter.visitor.FieldVisitor} for {@code typeName}
+     * @since 0.2.0
+     */
+    protected String getVisitMethod(String typeName) {
+        switch (typeName) {
+            case "byte":
+            case "short":
+            case "char":
+            case "int":
+            case "long":
+            case "float":
+            case "double":
+            case "boolean":
+                return "visit" + Strings.capitalize(typeName);
+            default:
+                return "visitObject";
+        }
+    }
+
+    /**
+     * Joins {@code snapshot(DomainClass, type[])} - reading values of fields with some types into an array by ordinal.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with getters in order of ordinals
+     * @param type            type of array element
+     * @param javaDocTypeName type name of fields for JavaDoc
+     * @param typeNames       type names of fields
+     * @since 0.2.0
+     */
+    protected void joinSnapshot(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods,
+                                String type, String javaDocTypeName, Set<String> typeNames) {
+        int lastOrdinal = -1;
+        for (int i = 0; i < fieldMethods.size(); i++) {
+            if (typeNames.contains(fieldMethods.get(i).getTypeName())) {
+                lastOrdinal = i;
+            }
+        }
+        joiner.ln("    /**")
+                .ft("     * Reads values of %s fields into an array by ordinal, other elements are not changed.", javaDocTypeName)
+                .ln("     *")
+                .ft("     * @param instance instance of {@link %s}", domainClassName)
+                .ln("     * @param target   array of values by ordinal")
+                .ln("     * @return {@code target}")
+                .ftIf(lastOrdinal >= 0, "     * @throws java.lang.IllegalArgumentException"
+                        + " if length of {@code target} is less than %d", lastOrdinal + 1)
+                .ln("     */")
+                .ft("    public %1$s[] snapshot(%2$s instance, %1$s[] target) {", type, domainClassName);
+        if (lastOrdinal >= 0) {
+            joiner.ft("        if (target.length < %d) {", lastOrdinal + 1)
+                    .ln("            throw new java.lang.IllegalArgumentException(")
+                    .ft("                    \"Target length must be at least %d, not \" + target.length);", lastOrdinal + 1)
+                    .ln("        }");
+        }
+        List<Integer> ordinals = getOrdinals(fieldMethods,
+                fieldMethod -> typeNames.contains(fieldMethod.getTypeName()));
+        ObjIntConsumer<String> joinStatement = (indent, i) ->
+                joiner.ft("%starget[%d] = %s;", indent, i, fieldMethods.get(i).getInvocation("instance", null));
+        String chunkName = Strings.format("snapshot%sChunk%%d", Strings.capitalize(getSimpleName(type)));
+        joinStatements(joiner, "        ", ordinals, joinStatement, chunkName + "(instance, target);");
+        joiner.ln("        return target;")
+                .ln("    }")
+                .ln();
+        joinStatementChunks(joiner, "    ", Strings.format("private void %3$s(%2$s instance, %1$s[] target)",
+                type, domainClassName, chunkName), ordinals, joinStatement);
+    }
+
+    /**
+     * Joins maps of primitive getters, without boxing of value:
+     * <pre>{@code
+     * java.util.function.ToIntFunction<DomainClass> // byte, short, char, int
+     * java.util.function.ToLongFunction<DomainClass> // long
+     * java.util.function.ToDoubleFunction<DomainClass> // float, double
+     * java.util.function.Predicate<DomainClass> // boolean
+     * }</pre>
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with getters (map values) in order of ordinals
+     * @param switchDispatch  if getters are instances of {@code FieldAccessor}
+     * @since 0.2.0
+     */
+    @Override
+    protected void joinSpecializedMaps(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods,
+                                       boolean switchDispatch) {
+        joinSpecializedMap(joiner, fieldMethods, "int",
+                Strings.format("java.util.function.ToIntFunction<%s>", domainClassName),
+                INT_TYPE_NAMES, FieldMethod::getMethod);
+        joinSpecializedMap(joiner, fieldMethods, "long",
+                Strings.format("java.util.function.ToLongFunction<%s>", domainClassName),
+                LONG_TYPE_NAMES, FieldMethod::getMethod);
+        joinSpecializedMap(joiner, fieldMethods, "double",
+                Strings.format("java.util.function.ToDoubleFunction<%s>", domainClassName),
+                DOUBLE_TYPE_NAMES, FieldMethod::getMethod);
+        joinSpecializedMap(joiner, fieldMethods, "boolean",
+                Strings.format("java.util.function.Predicate<%s>", domainClassName),
+                BOOLEAN_TYPE_NAMES, FieldMethod::getMethod);
+    }
+
+    /**
+     * Joins {@code FieldAccessor} - a nested class of getters by ordinal, dispatching by {@code switch},
+     * implementing types of all maps of getters, a primitive type only if there are fields of it.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with getters in order of ordinals
+     * @since 0.2.0
+     */
+    @Override
+    protected void joinFieldAccessor(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+        List<String> interfaces = new ArrayList<>();
+        Map<String, Set<String>> typeNamesBySignature = new LinkedHashMap<>();
+        interfaces.add(Strings.format("java.util.function.Function<%s, java.lang.Object>", domainClassName));
+        if (hasFields(fieldMethods, INT_TYPE_NAMES)) {
+            interfaces.add(Strings.format("java.util.function.ToIntFunction<%s>", domainClassName));
+            typeNamesBySignature.put(Strings.format("int applyAsInt(%s instance)", domainClassName), INT_TYPE_NAMES);
+        }
+        if (hasFields(fieldMethods, LONG_TYPE_NAMES)) {
+            interfaces.add(Strings.format("java.util.function.ToLongFunction<%s>", domainClassName));
+            typeNamesBySignature.put(Strings.format("long applyAsLong(%s instance)", domainClassName),
+                    LONG_TYPE_NAMES);
+        }
+        if (hasFields(fieldMethods, DOUBLE_TYPE_NAMES)) {
+            interfaces.add(Strings.format("java.util.function.ToDoubleFunction<%s>", domainClassName));
+            typeNamesBySignature.put(Strings.format("double applyAsDouble(%s instance)", domainClassName),
+                    DOUBLE_TYPE_NAMES);
+        }
+        if (hasFields(fieldMethods, BOOLEAN_TYPE_NAMES)) {
+            interfaces.add(Strings.format("java.util.function.Predicate<%s>", domainClassName));
+            typeNamesBySignature.put(Strings.format("boolean test(%s instance)", domainClassName),
+                    BOOLEAN_TYPE_NAMES);
+        }
+        joiner.ln("    /**")
+                .ln("     * Getter function of field by ordinal, dispatching by {@code switch}.")
+                .ln("     */")
+                .ln("    protected class FieldAccessor implements")
+                .ft("            %s {", String.join(",\n            ", interfaces))
+                .ln("        private final int ordinal;")
+                .ln()
+                .ln("        protected FieldAccessor(int ordinal) {")
+                .ln("            this.ordinal = ordinal;")
+                .ln("        }")
+                .ln()
+                .ln("        @Override")
+                .ft("        public java.lang.Object apply(%s instance) {", domainClassName)
+                .ln("            return get(instance, ordinal);")
+                .ln("        }");
+        typeNamesBySignature.forEach((signature, typeNames) ->
+                joinFieldAccessorMethod(joiner, fieldMethods, typeNames, signature));
+        joiner.ln("    }")
+                .ln();
+        typeNamesBySignature.forEach((signature, typeNames) ->
+                joinFieldAccessorMethodChunks(joiner, domainClassName, fieldMethods, typeNames, signature));
+    }
+
+    /**
+     * Joins a method of {@code FieldAccessor} for fields with some types, returning a value by ordinal.
+     *
+     * @param joiner       line joiner of source
+     * @param fieldMethods fields with getters in order of ordinals
+     * @param typeNames    type names of fields
+     * @param signature    signature of method without modifiers
+     * @since 0.2.0
+     */
+    protected void joinFieldAccessorMethod(LineJoiner joiner, List<FieldMethod> fieldMethods, Set<String> typeNames,
+                                           String signature) {
+        List<Integer> ordinals = getOrdinals(fieldMethods,
+                fieldMethod -> typeNames.contains(fieldMethod.getTypeName()));
+        ObjIntConsumer<String> joinCase = (indent, i) ->
+                joiner.ft("%sreturn %s;", indent, fieldMethods.get(i).getInvocation("instance", null));
+        String defaultCase = "throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);";
+        joiner.ln()
+                .ln("        @Override")
+                .ft("        public %s {", signature);
+        joinOrdinalSwitch(joiner, "            ", ordinals, joinCase, defaultCase,
+                "return " + getFieldAccessorChunkName(signature) + "(instance, ordinal);");
+        joiner.ln("        }");
+    }
+
+    /**
+     * Joins chunk methods of a method of {@code FieldAccessor} for fields with some types, if they are chunked,
+     * as methods of supplier called by {@code FieldAccessor}.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with getters in order of ordinals
+     * @param typeNames       type names of fields
+     * @param signature       signature of method without modifiers
+     * @since 0.2.0
+     */
+    protected void joinFieldAccessorMethodChunks(LineJoiner joiner, String domainClassName,
+                                                 List<FieldMethod> fieldMethods, Set<String> typeNames,
+                                                 String signature) {
+        List<Integer> ordinals = getOrdinals(fieldMethods,
+                fieldMethod -> typeNames.contains(fieldMethod.getTypeName()));
+        ObjIntConsumer<String> joinCase = (indent, i) ->
+                joiner.ft("%sreturn %s;", indent, fieldMethods.get(i).getInvocation("instance", null));
+        String defaultCase = "throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);";
+        String returnType = signature.substring(0, signature.indexOf(' '));
+        joinOrdinalSwitchChunks(joiner, "    ", Strings.format("private %s %s(%s instance, int ordinal)",
+                returnType, getFieldAccessorChunkName(signature), domainClassName), ordinals, joinCase, defaultCase);
+    }
+
+    /**
+     * Returns a name of chunk method of a method of {@code FieldAccessor}, template with a chunk number.
+     *
+     * @param signature signature of method without modifiers
+     * @return name of chunk method of method with {@code signature}, e.g. {@code applyAsIntChunk%d}
+     * @since 0.2.0
+     */
+    protected String getFieldAccessorChunkName(String signature) {
+        return signature.substring(signature.indexOf(' ') + 1, signature.indexOf('(')) + "Chunk%d";
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.generator;
+
+/**
+ * A field with a parameter of constructor or a setter for source generation of hydrator.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @see dev.alexengrig.metter.generator.HydratorSourceGenerator
+ * @since 0.2.0
+ */
+public class HydratorFieldMethod extends FieldMethod {
+    /**
+     * Index of parameter of constructor, {@code -1} is no parameter.
+     *
+     * @since 0.2.0
+     */
+    protected final int parameterIndex;
+
+    /**
+     * Constructs with a field name, a field type name, an invocation of setter and an index of parameter.
+     *
+     * @param name           field name
+     * @param typeName       field type name
+     * @param invocation     invocation of setter - template with an instance name and a value name,
+     *                       {@code null} if the field is a parameter of constructor
+     * @param parameterIndex index of parameter of constructor, {@code -1} if the field is set by setter
+     * @since 0.2.0
+     */
+    public HydratorFieldMethod(String name, String typeName, String invocation, int parameterIndex) {
+        super(name, typeName, null, invocation);
+        this.parameterIndex = parameterIndex;
+    }
+
+    /**
+     * Checks if this field is a parameter of constructor.
+     *
+     * @return if this field is a parameter of constructor
+     * @since 0.2.0
+     */
+    public boolean isParameter() {
+        return parameterIndex >= 0;
+    }
+
+    /**
+     * Returns an index of parameter of constructor.
+     *
+     * @return index of parameter of constructor, {@code -1} if this field is set by setter
+     * @since 0.2.0
+     */
+    public int getParameterIndex() {
+        return parameterIndex;
+    }
+}
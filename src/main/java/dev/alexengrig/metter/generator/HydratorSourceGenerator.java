@@ -0,0 +1,338 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.generator;
+
+import dev.alexengrig.metter.util.LineJoiner;
+import dev.alexengrig.metter.util.Strings;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Generator source of hydrator - a creator of instances from values of fields by a constructor and setters,
+ * and a supplier of field types.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @since 0.2.0
+ */
+public class HydratorSourceGenerator extends MethodSupplierSourceGenerator {
+    /**
+     * Constructs.
+     *
+     * @since 0.2.0
+     */
+    public HydratorSourceGenerator() {
+        super();
+    }
+
+    /**
+     * Constructs with mark about adding generated date.
+     *
+     * @param withGeneratedDate mark about adding generated date
+     * @since 0.2.0
+     */
+    protected HydratorSourceGenerator(boolean withGeneratedDate) {
+        super(withGeneratedDate);
+    }
+
+    /**
+     * Not supported, a hydrator needs field types and parameters of constructor,
+     * see {@link dev.alexengrig.metter.generator.HydratorFieldMethod}.
+     *
+     * @param className       supplier class name
+     * @param domainClassName domain class name
+     * @param field2Method    map of field to method
+     * @return nothing
+     * @throws java.lang.UnsupportedOperationException always
+     * @since 0.2.0
+     * @deprecated since 0.2.0, use {@link #generate(String, String, java.util.List)}
+     * with {@link dev.alexengrig.metter.generator.HydratorFieldMethod}
+     */
+    @Deprecated
+    @Override
+    public String generate(String className, String domainClassName, Map<String, String> field2Method) {
+        throw new UnsupportedOperationException(
+                "Hydrator needs field types and parameters of constructor, use generate(String, String, List)");
+    }
+
+    /**
+     * Returns fields with parameters of constructor or setters as is, a missing invocation is a parameter.
+     *
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with parameters of constructor or setters
+     * @return {@code fieldMethods}
+     * @since 0.2.0
+     */
+    @Override
+    protected List<FieldMethod> resolveFieldMethods(String domainClassName, List<FieldMethod> fieldMethods) {
+        return fieldMethods;
+    }
+
+    /**
+     * Returns {@code typeByField}.
+     *
+     * @return {@code typeByField}
+     */
+    @Override
+    protected String getMapFieldName() {
+        return "typeByField";
+    }
+
+    /**
+     * Returns {@code hydrator}.
+     *
+     * @return {@code hydrator}
+     */
+    @Override
+    protected String getInstanceAccessorName() {
+        return "hydrator";
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <pre>{@code
+     * java.lang.Class<?>
+     * }</pre>
+     *
+     * @since 0.2.0
+     */
+    @Override
+    protected String getMapValueType(String domainClassName) {
+        return "java.lang.Class<?>";
+    }
+
+    /**
+     * Returns {@code Hydrator and types}.
+     *
+     * @return {@code Hydrator and types}
+     */
+    @Override
+    protected String getJavaDocTypeNameForClass() {
+        return "Hydrator and types";
+    }
+
+    /**
+     * Returns {@code type}.
+     *
+     * @return {@code type}
+     */
+    @Override
+    protected String getJavaDocTypeName() {
+        return "type";
+    }
+
+    /**
+     * Returns fields with methods - class literals of erased field types.
+     *
+     * @param fieldMethods   fields with parameters of constructor or setters in order of ordinals
+     * @param ordinalNames   names of ordinal constants in order of ordinals
+     * @param switchDispatch ignored, class literals are map values
+     * @return fields with methods - class literals of erased field types
+     * @since 0.2.0
+     */
+    @Override
+    protected List<FieldMethod> getMapFieldMethods(List<FieldMethod> fieldMethods, List<String> ordinalNames,
+                                                   boolean switchDispatch) {
+        List<FieldMethod> types = new ArrayList<>(fieldMethods.size());
+        for (FieldMethod fieldMethod : fieldMethods) {
+            types.add(new FieldMethod(fieldMethod.getName(), fieldMethod.getTypeName(),
+                    getErasedType(fieldMethod.getTypeName()) + ".class", fieldMethod.invocation));
+        }
+        return types;
+    }
+
+    /**
+     * Joins {@code fromArray(Object[])} - an instance from values in order of ordinals
+     * and {@code fromMap(Map)} - an instance from values by field name.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with parameters of constructor or setters in order of ordinals,
+     *                        see {@link dev.alexengrig.metter.generator.HydratorFieldMethod}
+     * @since 0.2.0
+     */
+    @Override
+    protected void joinOrdinalAccessor(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+        String constructor = getParameters(fieldMethods).stream()
+                .map(FieldMethod::getTypeName)
+                .collect(Collectors.joining(", ", getSimpleName(domainClassName) + "(", ")"));
+        IntFunction<String> arrayValue = i -> Strings.format("values[%d]", i);
+        IntFunction<String> mapValue = i -> Strings.format("values.get(\"%s\")", fieldMethods.get(i).getName());
+        IntFunction<String> mapCondition = i -> Strings.format("values.containsKey(\"%s\")",
+                fieldMethods.get(i).getName());
+        List<Integer> setterOrdinals = getOrdinals(fieldMethods, fieldMethod -> !isParameter(fieldMethod));
+        String annotation = hasTypeArguments(fieldMethods) ? "@SuppressWarnings(\"unchecked\")" : null;
+        String chunkAnnotation = hasTypeArguments(setterOrdinals.stream()
+                .map(fieldMethods::get)
+                .collect(Collectors.toList())) ? annotation : null;
+        joiner.ln("    /**")
+                .ln("     * Creates an instance from values of fields in order of ordinals,")
+                .ft("     * by constructor {@code %s} and setters.", constructor)
+                .ln("     *")
+                .ln("     * @param values values of fields in order of ordinals")
+                .ft("     * @return new instance of {@link %s} from {@code values}", domainClassName)
+                .ln("     * @throws java.lang.ClassCastException  if a value has an incorrect type")
+                .ln("     * @throws java.lang.NullPointerException if a value of primitive field is {@code null}")
+                .ln("     */")
+                .ftIf(annotation != null, "    %s", annotation)
+                .ft("    public %s fromArray(java.lang.Object[] values) {", domainClassName);
+        joinCreation(joiner, domainClassName, fieldMethods, arrayValue, null, "fromArrayChunk%d(instance, values);");
+        joiner.ln("    /**")
+                .ln("     * Creates an instance from values of fields by field name,")
+                .ft("     * by constructor {@code %s} and setters.", constructor)
+                .ln("     * A missing value of constructor parameter is {@code null},")
+                .ln("     * a setter of missing value is not called.")
+                .ln("     *")
+                .ln("     * @param values values of fields by field name")
+                .ft("     * @return new instance of {@link %s} from {@code values}", domainClassName)
+                .ln("     * @throws java.lang.ClassCastException  if a value has an incorrect type")
+                .ln("     * @throws java.lang.NullPointerException if a value of primitive field is {@code null}")
+                .ln("     */")
+                .ftIf(annotation != null, "    %s", annotation)
+                .ft("    public %s fromMap(java.util.Map<java.lang.String, java.lang.Object> values) {",
+                        domainClassName);
+        joinCreation(joiner, domainClassName, fieldMethods, mapValue, mapCondition,
+                "fromMapChunk%d(instance, values);");
+        joinStatementChunks(joiner, "    ", chunkAnnotation,
+                Strings.format("private void fromArrayChunk%%d(%s instance, java.lang.Object[] values)",
+                        domainClassName),
+                setterOrdinals, getSetterJoiner(joiner, fieldMethods, arrayValue, null));
+        joinStatementChunks(joiner, "    ", chunkAnnotation,
+                Strings.format("private void fromMapChunk%%d(%s instance, "
+                        + "java.util.Map<java.lang.String, java.lang.Object> values)", domainClassName),
+                setterOrdinals, getSetterJoiner(joiner, fieldMethods, mapValue, mapCondition));
+    }
+
+    /**
+     * Checks if some field has a type with type arguments, a cast to that is unchecked.
+     *
+     * @param fieldMethods fields with parameters of constructor or setters
+     * @return if some field of {@code fieldMethods} has a type with type arguments
+     * @since 0.2.0
+     */
+    protected boolean hasTypeArguments(List<FieldMethod> fieldMethods) {
+        return fieldMethods.stream()
+                .map(FieldMethod::getTypeName)
+                .anyMatch(typeName -> !getErasedType(typeName).equals(typeName));
+    }
+
+    /**
+     * Joins a body of method of creation: a call of constructor with parameters and calls of setters,
+     * or calls of chunk methods of setters if they are chunked.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with parameters of constructor or setters in order of ordinals
+     * @param valueMapper     mapper of ordinal to expression of value
+     * @param conditionMapper mapper of ordinal to condition of calling setter, e.g. presence of value,
+     *                        or {@code null} if setters are called unconditionally
+     * @param chunkCall       call of chunk method of setters, template with a chunk number
+     * @since 0.2.0
+     */
+    protected void joinCreation(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods,
+                                IntFunction<String> valueMapper, IntFunction<String> conditionMapper,
+                                String chunkCall) {
+        List<FieldMethod> parameters = getParameters(fieldMethods);
+        if (parameters.isEmpty()) {
+            joiner.ft("        %1$s instance = new %1$s();", domainClassName);
+        } else {
+            joiner.ft("        %1$s instance = new %1$s(", domainClassName);
+            for (int i = 0; i < parameters.size(); i++) {
+                FieldMethod parameter = parameters.get(i);
+                joiner.ft("                (%s) %s%s", parameter.getTypeName(),
+                        valueMapper.apply(fieldMethods.indexOf(parameter)), i < parameters.size() - 1 ? "," : ");");
+            }
+        }
+        List<Integer> setterOrdinals = getOrdinals(fieldMethods, fieldMethod -> !isParameter(fieldMethod));
+        joinStatements(joiner, "        ", setterOrdinals,
+                getSetterJoiner(joiner, fieldMethods, valueMapper, conditionMapper), chunkCall);
+        joiner.ln("        return instance;")
+                .ln("    }")
+                .ln();
+    }
+
+    /**
+     * Returns a joiner of a call of setter by an indent and an ordinal.
+     *
+     * @param joiner          line joiner of source
+     * @param fieldMethods    fields with parameters of constructor or setters in order of ordinals
+     * @param valueMapper     mapper of ordinal to expression of value
+     * @param conditionMapper mapper of ordinal to condition of calling setter, or {@code null}
+     * @return joiner of a call of setter of field by ordinal with a value by {@code valueMapper},
+     * under {@code if} by {@code conditionMapper} if it is not {@code null}
+     * @since 0.2.0
+     */
+    protected ObjIntConsumer<String> getSetterJoiner(LineJoiner joiner, List<FieldMethod> fieldMethods,
+                                                     IntFunction<String> valueMapper,
+                                                     IntFunction<String> conditionMapper) {
+        return (indent, i) -> {
+            FieldMethod fieldMethod = fieldMethods.get(i);
+            String value = Strings.format("(%s) %s", fieldMethod.getTypeName(), valueMapper.apply(i));
+            if (conditionMapper == null) {
+                joiner.ft("%s%s;", indent, fieldMethod.getInvocation("instance", value));
+            } else {
+                joiner.ft("%sif (%s) {", indent, conditionMapper.apply(i))
+                        .ft("%s    %s;", indent, fieldMethod.getInvocation("instance", value))
+                        .ft("%s}", indent);
+            }
+        };
+    }
+
+    /**
+     * Joins nothing, class literals are map values.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with methods in order of ordinals
+     * @since 0.2.0
+     */
+    @Override
+    protected void joinFieldAccessor(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+    }
+
+    /**
+     * Returns fields that are parameters of constructor, in order of parameters.
+     *
+     * @param fieldMethods fields with parameters of constructor or setters in order of ordinals
+     * @return fields that are parameters of constructor, in order of parameters
+     * @since 0.2.0
+     */
+    protected List<FieldMethod> getParameters(List<FieldMethod> fieldMethods) {
+        return fieldMethods.stream()
+                .filter(this::isParameter)
+                .sorted(Comparator.comparingInt(fieldMethod -> ((HydratorFieldMethod) fieldMethod).getParameterIndex()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Checks if a field is a parameter of constructor.
+     *
+     * @param fieldMethod field with parameter of constructor or setter
+     * @return if {@code fieldMethod} is a parameter of constructor
+     * @since 0.2.0
+     */
+    protected boolean isParameter(FieldMethod fieldMethod) {
+        return fieldMethod instanceof HydratorFieldMethod && ((HydratorFieldMethod) fieldMethod).isParameter();
+    }
+}
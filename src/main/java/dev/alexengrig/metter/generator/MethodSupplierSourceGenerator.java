@@ -17,9 +17,26 @@
 package dev.alexengrig.metter.generator;
 
 import dev.alexengrig.metter.util.LineJoiner;
+import dev.alexengrig.metter.util.PerfectHash;
+import dev.alexengrig.metter.util.Strings;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Base generator source of method supplier.
@@ -29,12 +46,33 @@ import java.util.Map;
  * @since 0.1.0
  */
 public abstract class MethodSupplierSourceGenerator {
+    /**
+     * Maximum number of statements or cases by field in a generated method,
+     * more are split into chunk methods by ranges of ordinals, so methods of wide types
+     * are not too large for JIT compilation ({@code -XX:-DontCompileHugeMethods})
+     * and for the limit of 64 KB of method code.
+     *
+     * @since 0.2.0
+     */
+    protected static final int CHUNK_SIZE = 128;
+
+    /**
+     * Names of constants of generated sources and of this generator,
+     * names of ordinal constants are suffixed to not clash with them.
+     *
+     * @see #getOrdinalNames(List)
+     * @since 0.2.0
+     */
+    protected static final Set<String> GENERATED_CONSTANT_NAMES = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList("FIELD_NAMES", "HASH_SEEDS", "HASH_INDICES", "INSTANCE", "CHUNK_SIZE")));
+
     /**
      * Mark about adding generated date to {@link javax.annotation.Generated#date()}.
      *
+     * @see #setWithGeneratedDate(boolean)
      * @since 0.1.0
      */
-    private final boolean withGeneratedDate;
+    private boolean withGeneratedDate;
 
     /**
      * Constructs generator with generated date.
@@ -56,27 +94,99 @@ public abstract class MethodSupplierSourceGenerator {
     }
 
     /**
-     * Generates method supplier source.
+     * Sets a mark about adding generated date,
+     * without it sources are the same for the same input.
+     *
+     * @param withGeneratedDate mark about adding generated date
+     * @since 0.2.0
+     */
+    public void setWithGeneratedDate(boolean withGeneratedDate) {
+        this.withGeneratedDate = withGeneratedDate;
+    }
+
+    /**
+     * Generates a method supplier source with map values of method references.
      *
      * @param className       supplier class name
      * @param domainClassName domain class name
-     * @param field2Method    map of field to method
+     * @param fieldMethods    fields with methods
      * @return method supplier source
      * @since 0.1.0
      */
+    public String generate(String className, String domainClassName, List<FieldMethod> fieldMethods) {
+        return generate(className, domainClassName, fieldMethods, false);
+    }
+
+    /**
+     * Generates a method supplier source with map values of method references, by a map of field to method.
+     * <p>
+     * The map has no field types and no invocations, so fields are resolved by
+     * {@link #resolveFieldMethods(String, java.util.List)}.
+     *
+     * @param className       supplier class name
+     * @param domainClassName domain class name
+     * @param field2Method    map of field to method - map value
+     * @return method supplier source
+     * @throws java.lang.UnsupportedOperationException if this generator needs field types or invocations
+     * @since 0.1.0
+     * @deprecated since 0.2.0, use {@link #generate(String, String, java.util.List)} with field types and invocations
+     */
+    @Deprecated
     public String generate(String className, String domainClassName, Map<String, String> field2Method) {
+        List<FieldMethod> fieldMethods = field2Method.entrySet().stream()
+                .map(entry -> new FieldMethod(entry.getKey(), Object.class.getName(), entry.getValue(), null))
+                .collect(Collectors.toList());
+        return generate(className, domainClassName, fieldMethods);
+    }
+
+    /**
+     * Generates method supplier source.
+     *
+     * @param className       supplier class name
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with methods
+     * @param switchDispatch  if map values are instances of nested accessor class, dispatching by {@code switch}
+     * @return method supplier source
+     * @since 0.2.0
+     */
+    public String generate(String className, String domainClassName, List<FieldMethod> fieldMethods,
+                           boolean switchDispatch) {
+        StringBuilder builder = new StringBuilder();
+        generate(builder, className, domainClassName, fieldMethods, switchDispatch);
+        return builder.toString();
+    }
+
+    /**
+     * Generates method supplier source to an output, line by line.
+     *
+     * @param out             output of source, e.g. {@link java.io.Writer} of source file
+     * @param className       supplier class name
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with methods
+     * @param switchDispatch  if map values are instances of nested accessor class, dispatching by {@code switch}
+     * @throws java.io.UncheckedIOException if {@code out} throws {@link java.io.IOException}
+     * @since 0.2.0
+     */
+    public void generate(Appendable out, String className, String domainClassName, List<FieldMethod> fieldMethods,
+                         boolean switchDispatch) {
+        fieldMethods = resolveFieldMethods(domainClassName, fieldMethods);
         String packageName = getPackageName(className);
         String simpleClassName = getSimpleName(className);
         String mapFieldName = getMapFieldName();
         String mapValueType = getMapValueType(domainClassName);
         String javaDocTypeName = getJavaDocTypeName();
-        return new LineJoiner()
+        List<String> fields = fieldMethods.stream().map(FieldMethod::getName).collect(Collectors.toList());
+        List<String> ordinalNames = getOrdinalNames(fields);
+        Optional<PerfectHash> perfectHash = PerfectHash.of(fields);
+        List<FieldMethod> mapFieldMethods = getMapFieldMethods(fieldMethods, ordinalNames, switchDispatch);
+        String generatedDate = withGeneratedDate ? LocalDateTime.now().toString() : null;
+        LineJoiner joiner = new LineJoiner(out)
                 .ftIf(packageName != null, "package %s;\n", packageName)
                 .ln("/**")
                 .ft(" * %s supplier of {@link %s}.", getJavaDocTypeNameForClass(), domainClassName)
                 .ln(" */")
                 .ln("@javax.annotation.Generated(")
-                .ftIf(withGeneratedDate, "        date = \"%s\",", LocalDateTime.now().toString())
+                .ftIf(generatedDate != null, "        date = \"%s\",", generatedDate)
                 .ft("        value = \"%s\")", getClass().getName())
                 .ft("public class %s implements", simpleClassName)
                 .ln("        java.util.function.Supplier<")
@@ -85,6 +195,36 @@ public abstract class MethodSupplierSourceGenerator {
                 .ft("                        %s", mapValueType)
                 .ln("                        >> {")
                 .ln()
+                .ln("    /**")
+                .ln("     * Field names.")
+                .ln("     */");
+        int[] hashSeeds = perfectHash.map(PerfectHash::getSeeds).orElseGet(() -> new int[0]);
+        int[] hashIndices = perfectHash.map(PerfectHash::getIndices).orElseGet(() -> new int[0]);
+        if (fields.size() > CHUNK_SIZE) {
+            joinChunkedConstants(joiner, fields, hashSeeds, hashIndices);
+        } else {
+            joiner.ln("    private static final java.lang.String[] FIELD_NAMES = {");
+            for (int i = 0; i < fields.size(); i++) {
+                joiner.ft(i < fields.size() - 1 ? "            \"%s\"," : "            \"%s\"};", fields.get(i));
+            }
+            joiner
+                    .ftIf(fields.isEmpty(), "};")
+                    .ln()
+                    .ln("    /**")
+                    .ln("     * Perfect hash seeds by bucket, empty for linear search.")
+                    .ln("     */")
+                    .ft("    private static final int[] HASH_SEEDS = {%s};", join(hashSeeds))
+                    .ln()
+                    .ln("    /**")
+                    .ln("     * Perfect hash indices of field name by slot.")
+                    .ln("     */")
+                    .ft("    private static final int[] HASH_INDICES = {%s};", join(hashIndices))
+                    .ln();
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            joinOrdinalConstant(joiner, domainClassName, fieldMethods.get(i), ordinalNames.get(i), i);
+        }
+        joiner
                 .ln("    /**")
                 .ft("     * Map, %s function by field name.", javaDocTypeName)
                 .ln("     */")
@@ -101,6 +241,15 @@ public abstract class MethodSupplierSourceGenerator {
                 .ln("    }")
                 .ln()
                 .ln("    /**")
+                .ln("     * Returns a shared instance, created lazily once per class loader.")
+                .ln("     *")
+                .ln("     * @return shared instance")
+                .ln("     */")
+                .ft("    public static %s %s() {", simpleClassName, getInstanceAccessorName())
+                .ln("        return InstanceHolder.INSTANCE;")
+                .ln("    }")
+                .ln()
+                .ln("    /**")
                 .ft("     * Creates map, %s function by field name.", javaDocTypeName)
                 .ln("     *")
                 .ft("     * @return map, %s function by field name", javaDocTypeName)
@@ -109,14 +258,20 @@ public abstract class MethodSupplierSourceGenerator {
                 .ln("            java.lang.String,")
                 .ft("            %s", mapValueType)
                 .ln("            > createMap() {")
-                .ln("        java.util.HashMap<")
-                .ln("                java.lang.String,")
-                .ft("                %s", mapValueType)
-                .ft("                > map = new java.util.HashMap<>(%d);", field2Method.size())
-                .mp("        map.put(\"%s\",\n                %s);", (s, f) -> new Object[]{s, f}, field2Method)
-                .ln("        return map;")
+                .ln("        @SuppressWarnings({\"unchecked\", \"rawtypes\"})")
+                .ft("        %s[] values", mapValueType)
+                .ft("                = new %s[%d];", getRawType(mapValueType), fields.size());
+        List<Integer> ordinals = getOrdinals(fieldMethods, fieldMethod -> true);
+        ObjIntConsumer<String> joinValue = (indent, i) ->
+                joiner.ft("%svalues[%d] = %s;", indent, i, mapFieldMethods.get(i).getMethod());
+        joinStatements(joiner, "        ", ordinals, joinValue, "createMapChunk%d(values);");
+        joiner
+                .ln("        return new FieldMap<>(values);")
                 .ln("    }")
-                .ln()
+                .ln();
+        joinStatementChunks(joiner, "    ", Strings.format("private void createMapChunk%%d(%s[] values)", mapValueType),
+                ordinals, joinValue);
+        joiner
                 .ln("    /**")
                 .ft("     * Returns map, %s function by field name.", javaDocTypeName)
                 .ln("     *")
@@ -129,8 +284,934 @@ public abstract class MethodSupplierSourceGenerator {
                 .ln("            > get() {")
                 .ft("        return %s;", mapFieldName)
                 .ln("    }")
+                .ln();
+        joinIndexOf(joiner, fields);
+        joinOrdinalAccessor(joiner, domainClassName, fieldMethods);
+        joinExtraMethods(joiner, domainClassName, fieldMethods);
+        joinSpecializedMaps(joiner, domainClassName, mapFieldMethods, switchDispatch);
+        if (switchDispatch) {
+            joinFieldAccessor(joiner, domainClassName, fieldMethods);
+        }
+        joiner
+                .ln("    /**")
+                .ln("     * Lazy holder of shared instance.")
+                .ln("     */")
+                .ln("    private static final class InstanceHolder {")
+                .ft("        private static final %1$s INSTANCE = new %1$s();", simpleClassName)
+                .ln("    }")
+                .ln()
+                .ln("    /**")
+                .ln("     * Immutable map by field name, backed by arrays in order of field names,")
+                .ln("     * {@code null} value is no field.")
+                .ln("     *")
+                .ln("     * @param <V> type of value")
+                .ln("     */")
+                .ln("    protected static final class FieldMap<V> extends java.util.AbstractMap<java.lang.String, V> {")
+                .ln("        private final V[] values;")
+                .ln("        private final int size;")
+                .ln()
+                .ln("        protected FieldMap(V[] values) {")
+                .ln("            this.values = values;")
+                .ln("            int size = 0;")
+                .ln("            for (V value : values) {")
+                .ln("                if (value != null) {")
+                .ln("                    size++;")
+                .ln("                }")
+                .ln("            }")
+                .ln("            this.size = size;")
+                .ln("        }")
+                .ln()
+                .ln("        private static int indexOf(java.lang.Object key) {")
+                .ln("            return key instanceof java.lang.String")
+                .ft("                    ? %s.indexOf((java.lang.String) key)", simpleClassName)
+                .ln("                    : -1;")
+                .ln("        }")
+                .ln()
+                .ln("        @Override")
+                .ln("        public int size() {")
+                .ln("            return size;")
+                .ln("        }")
+                .ln()
+                .ln("        @Override")
+                .ln("        public boolean containsKey(java.lang.Object key) {")
+                .ln("            return get(key) != null;")
+                .ln("        }")
+                .ln()
+                .ln("        @Override")
+                .ln("        public V get(java.lang.Object key) {")
+                .ln("            int index = indexOf(key);")
+                .ln("            return index >= 0 ? values[index] : null;")
+                .ln("        }")
+                .ln()
+                .ln("        @Override")
+                .ln("        public java.util.Collection<V> values() {")
+                .ln("            if (size == values.length) {")
+                .ln("                return java.util.Collections.unmodifiableList(java.util.Arrays.asList(values));")
+                .ln("            }")
+                .ln("            return super.values();")
+                .ln("        }")
+                .ln()
+                .ln("        @Override")
+                .ln("        public void forEach(java.util.function.BiConsumer<? super java.lang.String, ? super V> action) {")
+                .ln("            for (int i = 0; i < values.length; i++) {")
+                .ln("                if (values[i] != null) {")
+                .ln("                    action.accept(FIELD_NAMES[i], values[i]);")
+                .ln("                }")
+                .ln("            }")
+                .ln("        }")
+                .ln()
+                .ln("        @Override")
+                .ln("        public java.util.Set<java.util.Map.Entry<java.lang.String, V>> entrySet() {")
+                .ln("            return new java.util.AbstractSet<java.util.Map.Entry<java.lang.String, V>>() {")
+                .ln("                @Override")
+                .ln("                public java.util.Iterator<java.util.Map.Entry<java.lang.String, V>> iterator() {")
+                .ln("                    return new java.util.Iterator<java.util.Map.Entry<java.lang.String, V>>() {")
+                .ln("                        private int index = skip(0);")
+                .ln()
+                .ln("                        private int skip(int index) {")
+                .ln("                            while (index < values.length && values[index] == null) {")
+                .ln("                                index++;")
+                .ln("                            }")
+                .ln("                            return index;")
+                .ln("                        }")
+                .ln()
+                .ln("                        @Override")
+                .ln("                        public boolean hasNext() {")
+                .ln("                            return index < values.length;")
+                .ln("                        }")
+                .ln()
+                .ln("                        @Override")
+                .ln("                        public java.util.Map.Entry<java.lang.String, V> next() {")
+                .ln("                            if (index >= values.length) {")
+                .ln("                                throw new java.util.NoSuchElementException();")
+                .ln("                            }")
+                .ln("                            int i = index;")
+                .ln("                            index = skip(i + 1);")
+                .ln("                            return new java.util.AbstractMap.SimpleImmutableEntry<>(FIELD_NAMES[i], values[i]);")
+                .ln("                        }")
+                .ln("                    };")
+                .ln("                }")
+                .ln()
+                .ln("                @Override")
+                .ln("                public int size() {")
+                .ln("                    return size;")
+                .ln("                }")
+                .ln("            };")
+                .ln("        }")
+                .ln("    }")
                 .ln("}")
-                .toString();
+                .flush();
+    }
+
+    /**
+     * Joins a constant of field by ordinal; an ordinal of {@code int} by default.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethod     field with method
+     * @param ordinalName     name of constant
+     * @param ordinal         field ordinal
+     * @since 0.2.0
+     */
+    protected void joinOrdinalConstant(LineJoiner joiner, String domainClassName, FieldMethod fieldMethod,
+                                       String ordinalName, int ordinal) {
+        joiner.ln("    /**")
+                .ft("     * Ordinal of field {@code %s}.", fieldMethod.getName())
+                .ln("     */")
+                .ft("    public static final int %s = %d;", ordinalName, ordinal)
+                .ln();
+    }
+
+    /**
+     * Returns fields with methods - map values; instances of {@code FieldAccessor} for switch dispatch,
+     * or fields with methods by default.
+     *
+     * @param fieldMethods   fields with methods in order of ordinals
+     * @param ordinalNames   names of ordinal constants in order of ordinals
+     * @param switchDispatch if map values are instances of nested accessor class, dispatching by {@code switch}
+     * @return fields with methods - map values
+     * @since 0.2.0
+     */
+    protected List<FieldMethod> getMapFieldMethods(List<FieldMethod> fieldMethods, List<String> ordinalNames,
+                                                   boolean switchDispatch) {
+        return switchDispatch ? toFieldAccessors(fieldMethods) : fieldMethods;
+    }
+
+    /**
+     * Joins a method of accessing a field by ordinal; none by default.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with methods in order of ordinals
+     * @since 0.2.0
+     */
+    protected void joinOrdinalAccessor(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+    }
+
+    /**
+     * Joins extra methods of a supplier by fields, after methods of accessing a field by ordinal; none by default.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with methods in order of ordinals
+     * @since 0.2.0
+     */
+    protected void joinExtraMethods(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+    }
+
+    /**
+     * Joins specialized maps, e.g. for primitive types; none by default.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with methods (map values) in order of ordinals
+     * @param switchDispatch  if methods are instances of nested accessor class, dispatching by {@code switch}
+     * @since 0.2.0
+     */
+    protected void joinSpecializedMaps(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods,
+                                       boolean switchDispatch) {
+    }
+
+    /**
+     * Joins {@code FieldAccessor} - a nested class of methods by ordinal, dispatching by {@code switch},
+     * instances of that are map values instead of method references; none by default.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with methods in order of ordinals
+     * @since 0.2.0
+     */
+    protected void joinFieldAccessor(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+    }
+
+    /**
+     * Returns fields with methods - instances of {@code FieldAccessor} by ordinal.
+     *
+     * @param fieldMethods fields with methods in order of ordinals
+     * @return fields with methods - instances of {@code FieldAccessor} by ordinal
+     * @since 0.2.0
+     */
+    protected List<FieldMethod> toFieldAccessors(List<FieldMethod> fieldMethods) {
+        List<FieldMethod> fieldAccessors = new ArrayList<>(fieldMethods.size());
+        for (int i = 0; i < fieldMethods.size(); i++) {
+            FieldMethod fieldMethod = fieldMethods.get(i);
+            fieldAccessors.add(new FieldMethod(fieldMethod.getName(), fieldMethod.getTypeName(),
+                    "new FieldAccessor(" + i + ")", fieldMethod.invocation));
+        }
+        return fieldAccessors;
+    }
+
+    /**
+     * Joins a map of fields with some types: a field, a method of creation and a method of getting,
+     * creating the map on the first getting; only the method of getting an empty map, if no fields with these types.
+     *
+     * @param joiner       line joiner of source
+     * @param fieldMethods fields with methods in order of ordinals
+     * @param prefix       prefix of map, e.g. a primitive type
+     * @param mapValueType type of map value
+     * @param typeNames    type names of fields of map
+     * @param valueMapper  mapper of field with method to map value
+     * @since 0.2.0
+     */
+    protected void joinSpecializedMap(LineJoiner joiner, List<FieldMethod> fieldMethods, String prefix,
+                                      String mapValueType, Set<String> typeNames,
+                                      Function<FieldMethod, String> valueMapper) {
+        String capitalizedPrefix = Strings.capitalize(prefix);
+        String mapFieldName = prefix + Strings.capitalize(getMapFieldName());
+        String javaDocTypeName = prefix + " " + getJavaDocTypeName();
+        List<Integer> ordinals = getOrdinals(fieldMethods,
+                fieldMethod -> typeNames.contains(fieldMethod.getTypeName()));
+        if (ordinals.isEmpty()) {
+            joiner.ln("    /**")
+                    .ft("     * Returns map, %s function by field name; empty, no fields.", javaDocTypeName)
+                    .ln("     *")
+                    .ft("     * @return empty map, %s function by field name", javaDocTypeName)
+                    .ln("     */")
+                    .ln("    public java.util.Map<")
+                    .ln("            java.lang.String,")
+                    .ft("            %s", mapValueType)
+                    .ft("            > get%s%ss() {", capitalizedPrefix, Strings.capitalize(getJavaDocTypeName()))
+                    .ln("        return java.util.Collections.emptyMap();")
+                    .ln("    }")
+                    .ln();
+            return;
+        }
+        joiner.ln("    /**")
+                .ft("     * Map, %s function by field name; created on the first getting.", javaDocTypeName)
+                .ln("     */")
+                .ln("    protected java.util.Map<")
+                .ln("            java.lang.String,")
+                .ft("            %s", mapValueType)
+                .ft("            > %s;", mapFieldName)
+                .ln()
+                .ln("    /**")
+                .ft("     * Creates map, %s function by field name.", javaDocTypeName)
+                .ln("     *")
+                .ft("     * @return map, %s function by field name", javaDocTypeName)
+                .ln("     */")
+                .ln("    protected java.util.Map<")
+                .ln("            java.lang.String,")
+                .ft("            %s", mapValueType)
+                .ft("            > create%sMap() {", capitalizedPrefix)
+                .ln("        @SuppressWarnings({\"unchecked\", \"rawtypes\"})")
+                .ft("        %s[] values", mapValueType)
+                .ft("                = new %s[%d];", getRawType(mapValueType), fieldMethods.size());
+        ObjIntConsumer<String> joinValue = (indent, i) ->
+                joiner.ft("%svalues[%d] = %s;", indent, i, valueMapper.apply(fieldMethods.get(i)));
+        joinStatements(joiner, "        ", ordinals, joinValue,
+                Strings.format("create%sMapChunk%%d(values);", capitalizedPrefix));
+        joiner.ln("        return new FieldMap<>(values);")
+                .ln("    }")
+                .ln();
+        joinStatementChunks(joiner, "    ",
+                Strings.format("private void create%sMapChunk%%d(%s[] values)", capitalizedPrefix, mapValueType),
+                ordinals, joinValue);
+        joiner
+                .ln("    /**")
+                .ft("     * Returns map, %s function by field name.", javaDocTypeName)
+                .ln("     *")
+                .ft("     * @return map, %s function by field name", javaDocTypeName)
+                .ln("     */")
+                .ln("    public java.util.Map<")
+                .ln("            java.lang.String,")
+                .ft("            %s", mapValueType)
+                .ft("            > get%s%ss() {", capitalizedPrefix, Strings.capitalize(getJavaDocTypeName()))
+                .ln("        java.util.Map<")
+                .ln("                java.lang.String,")
+                .ft("                %s", mapValueType)
+                .ft("                > map = %s;", mapFieldName)
+                .ln("        if (map == null) {")
+                .ft("            %s = map = create%sMap();", mapFieldName, capitalizedPrefix)
+                .ln("        }")
+                .ln("        return map;")
+                .ln("    }")
+                .ln();
+    }
+
+    /**
+     * Joins {@code indexOf} - an ordinal of field by name of {@code java.lang.String},
+     * {@code java.lang.CharSequence} and UTF-8 bytes, by the perfect hash of {@code java.lang.String#hashCode()}.
+     * <p>
+     * Bytes are hashed as ASCII characters; bytes of other characters are compared with all field names,
+     * only if some field name has such characters.
+     *
+     * @param joiner line joiner of source
+     * @param fields field names in order of ordinals
+     * @since 0.2.0
+     */
+    protected void joinIndexOf(LineJoiner joiner, List<String> fields) {
+        boolean asciiFields = fields.stream().allMatch(field -> field.chars().allMatch(c -> c < 0x80));
+        joiner.ln("    /**")
+                .ln("     * Returns an ordinal of field by name.")
+                .ln("     *")
+                .ln("     * @param field field name")
+                .ln("     * @return ordinal of {@code field}, or {@code -1} if no field")
+                .ln("     */")
+                .ln("    public static int indexOf(java.lang.String field) {")
+                .ln("        if (field == null) {")
+                .ln("            return -1;")
+                .ln("        }")
+                .ln("        if (HASH_SEEDS.length == 0) {")
+                .ln("            for (int i = 0; i < FIELD_NAMES.length; i++) {")
+                .ln("                if (FIELD_NAMES[i].equals(field)) {")
+                .ln("                    return i;")
+                .ln("                }")
+                .ln("            }")
+                .ln("            return -1;")
+                .ln("        }")
+                .ln("        int index = indexOfHash(field.hashCode());")
+                .ln("        return FIELD_NAMES[index].equals(field) ? index : -1;")
+                .ln("    }")
+                .ln()
+                .ln("    /**")
+                .ln("     * Returns an ordinal of field by name, without creating a string.")
+                .ln("     *")
+                .ln("     * @param field field name")
+                .ln("     * @return ordinal of {@code field}, or {@code -1} if no field")
+                .ln("     */")
+                .ln("    public static int indexOf(java.lang.CharSequence field) {")
+                .ln("        if (field == null) {")
+                .ln("            return -1;")
+                .ln("        }")
+                .ln("        if (HASH_SEEDS.length == 0) {")
+                .ln("            for (int i = 0; i < FIELD_NAMES.length; i++) {")
+                .ln("                if (FIELD_NAMES[i].contentEquals(field)) {")
+                .ln("                    return i;")
+                .ln("                }")
+                .ln("            }")
+                .ln("            return -1;")
+                .ln("        }")
+                .ln("        int hash = 0;")
+                .ln("        for (int i = 0; i < field.length(); i++) {")
+                .ln("            hash = 31 * hash + field.charAt(i);")
+                .ln("        }")
+                .ln("        int index = indexOfHash(hash);")
+                .ln("        return FIELD_NAMES[index].contentEquals(field) ? index : -1;")
+                .ln("    }")
+                .ln()
+                .ln("    /**")
+                .ln("     * Returns an ordinal of field by name in UTF-8 bytes, without creating a string.")
+                .ln("     *")
+                .ln("     * @param bytes  bytes with field name")
+                .ln("     * @param offset offset of field name in {@code bytes}")
+                .ln("     * @param length length of field name in {@code bytes}")
+                .ln("     * @return ordinal of field, or {@code -1} if no field")
+                .ln("     * @throws java.lang.IndexOutOfBoundsException if range is out of {@code bytes}")
+                .ln("     */")
+                .ln("    public static int indexOf(byte[] bytes, int offset, int length) {")
+                .ln("        if (offset < 0 || length < 0 || offset > bytes.length - length) {")
+                .ln("            throw new java.lang.IndexOutOfBoundsException(")
+                .ln("                    \"Range \" + offset + \"..\" + (offset + length) + \" is out of bytes: \" + bytes.length);")
+                .ln("        }")
+                .ln("        int hash = 0;")
+                .ln("        for (int i = offset; i < offset + length; i++) {")
+                .ln("            if (bytes[i] < 0) {")
+                .ln(asciiFields
+                        ? "                return -1;"
+                        : "                return indexOfUtf8(bytes, offset, length);")
+                .ln("            }")
+                .ln("            hash = 31 * hash + bytes[i];")
+                .ln("        }")
+                .ln("        if (HASH_SEEDS.length == 0) {")
+                .ln("            for (int i = 0; i < FIELD_NAMES.length; i++) {")
+                .ln("                if (equalsAscii(FIELD_NAMES[i], bytes, offset, length)) {")
+                .ln("                    return i;")
+                .ln("                }")
+                .ln("            }")
+                .ln("            return -1;")
+                .ln("        }")
+                .ln("        int index = indexOfHash(hash);")
+                .ln("        return equalsAscii(FIELD_NAMES[index], bytes, offset, length) ? index : -1;")
+                .ln("    }")
+                .ln()
+                .ln("    private static boolean equalsAscii(java.lang.String field, byte[] bytes, int offset, int length) {")
+                .ln("        if (field.length() != length) {")
+                .ln("            return false;")
+                .ln("        }")
+                .ln("        for (int i = 0; i < length; i++) {")
+                .ln("            if (field.charAt(i) != bytes[offset + i]) {")
+                .ln("                return false;")
+                .ln("            }")
+                .ln("        }")
+                .ln("        return true;")
+                .ln("    }")
+                .ln();
+        if (!asciiFields) {
+            joinIndexOfUtf8(joiner);
+        }
+        joiner.ln("    private static int indexOfHash(int hash) {")
+                .ln("        int seed = HASH_SEEDS[range(mix(hash, 0), HASH_SEEDS.length)];")
+                .ln("        return HASH_INDICES[range(mix(hash, seed), HASH_INDICES.length)];")
+                .ln("    }")
+                .ln()
+                .ln("    private static int mix(int hash, int seed) {")
+                .ln("        int h = (hash ^ seed) * 0x9E3779B9;")
+                .ln("        return h ^ h >>> 15;")
+                .ln("    }")
+                .ln()
+                .ln("    private static int range(int hash, int size) {")
+                .ln("        return (int) ((hash & 0xFFFFFFFFL) * size >>> 32);")
+                .ln("    }")
+                .ln();
+    }
+
+    /**
+     * Joins {@code indexOfUtf8(byte[], int, int)} - an ordinal of field by name in UTF-8 bytes,
+     * by comparing with all field names encoded on the fly, for field names with non-ASCII characters.
+     *
+     * @param joiner line joiner of source
+     * @since 0.2.0
+     */
+    protected void joinIndexOfUtf8(LineJoiner joiner) {
+        joiner.ln("    private static int indexOfUtf8(byte[] bytes, int offset, int length) {")
+                .ln("        for (int i = 0; i < FIELD_NAMES.length; i++) {")
+                .ln("            if (equalsUtf8(FIELD_NAMES[i], bytes, offset, length)) {")
+                .ln("                return i;")
+                .ln("            }")
+                .ln("        }")
+                .ln("        return -1;")
+                .ln("    }")
+                .ln()
+                .ln("    private static boolean equalsUtf8(java.lang.String field, byte[] bytes, int offset, int length) {")
+                .ln("        int index = offset;")
+                .ln("        int end = offset + length;")
+                .ln("        for (int i = 0; i < field.length(); i++) {")
+                .ln("            int c = field.codePointAt(i);")
+                .ln("            if (c >= 0x10000) {")
+                .ln("                i++;")
+                .ln("            }")
+                .ln("            int n = c < 0x80 ? 1 : c < 0x800 ? 2 : c < 0x10000 ? 3 : 4;")
+                .ln("            if (end - index < n) {")
+                .ln("                return false;")
+                .ln("            }")
+                .ln("            byte first = (byte) (n == 1 ? c : (0xF00 >> n) | (c >> 6 * (n - 1)));")
+                .ln("            if (bytes[index++] != first) {")
+                .ln("                return false;")
+                .ln("            }")
+                .ln("            for (int shift = 6 * (n - 2); shift >= 0; shift -= 6) {")
+                .ln("                if (bytes[index++] != (byte) (0x80 | ((c >> shift) & 0x3F))) {")
+                .ln("                    return false;")
+                .ln("                }")
+                .ln("            }")
+                .ln("        }")
+                .ln("        return index == end;")
+                .ln("    }")
+                .ln();
+    }
+
+    /**
+     * Returns types of instances for batch methods - a list and an array.
+     *
+     * @param domainClassName domain class name
+     * @return types of instances - {@code java.util.List<DomainClass>} and {@code DomainClass[]}
+     * @since 0.2.0
+     */
+    protected List<String> getInstancesTypes(String domainClassName) {
+        return Arrays.asList(Strings.format("java.util.List<%s>", domainClassName), domainClassName + "[]");
+    }
+
+    /**
+     * Returns an expression of number of instances of a type.
+     *
+     * @param instancesType type of instances - a list or an array
+     * @return expression of number of instances of {@code instancesType}
+     * @since 0.2.0
+     */
+    protected String getNumberOfInstances(String instancesType) {
+        return instancesType.endsWith("[]") ? "instances.length" : "instances.size()";
+    }
+
+    /**
+     * Joins {@code checkRange(int, int, int, int)} - checking a range of instances and a length of array.
+     *
+     * @param joiner    line joiner of source
+     * @param arrayName name of array for exception message
+     * @since 0.2.0
+     */
+    protected void joinCheckRange(LineJoiner joiner, String arrayName) {
+        joiner.ln("    private static void checkRange(int from, int to, int numberOfInstances, int length) {")
+                .ln("        if (from < 0 || from > to || to > numberOfInstances) {")
+                .ln("            throw new java.lang.IndexOutOfBoundsException(")
+                .ln("                    \"Range \" + from + \"..\" + to + \" is out of instances: \" + numberOfInstances);")
+                .ln("        }")
+                .ln("        if (length < to) {")
+                .ln("            throw new java.lang.IllegalArgumentException(")
+                .ft("                    \"%s length must be at least \" + to + \", not \" + length);", arrayName)
+                .ln("        }")
+                .ln("    }")
+                .ln();
+    }
+
+    /**
+     * Joins a declaration of index of instance, if a loop of
+     * {@link #joinRangeLoop(LineJoiner, String, String, String, BiFunction)} has no index.
+     *
+     * @param joiner        line joiner of source
+     * @param indent        indent of declaration
+     * @param instancesType type of instances - a list or an array
+     * @since 0.2.0
+     */
+    protected void joinRangeIndex(LineJoiner joiner, String indent, String instancesType) {
+        if (!instancesType.endsWith("[]")) {
+            joiner.ft("%sint index = from;", indent);
+        }
+    }
+
+    /**
+     * Joins a loop over instances from {@code from} (inclusive) to {@code to} (exclusive).
+     *
+     * @param joiner          line joiner of source
+     * @param indent          indent of loop
+     * @param domainClassName domain class name
+     * @param instancesType   type of instances - a list or an array
+     * @param statement       statement of loop by an instance and an index of instance
+     * @since 0.2.0
+     */
+    protected void joinRangeLoop(LineJoiner joiner, String indent, String domainClassName, String instancesType,
+                                 BiFunction<String, String, String> statement) {
+        if (instancesType.endsWith("[]")) {
+            joiner.ft("%sfor (int index = from; index < to; index++) {", indent)
+                    .ft("%s    %s;", indent, statement.apply("instances[index]", "index"));
+        } else {
+            joiner.ft("%sfor (%s instance : instances.subList(from, to)) {", indent, domainClassName)
+                    .ft("%s    %s;", indent, statement.apply("instance", "index++"));
+        }
+        joiner.ft("%s}", indent);
+    }
+
+    /**
+     * Joins constants of field names and of the perfect hash, filled by chunk methods in a static initializer.
+     *
+     * @param joiner      line joiner of source
+     * @param fields      field names in order of ordinals, more than {@link #CHUNK_SIZE}
+     * @param hashSeeds   perfect hash seeds by bucket
+     * @param hashIndices perfect hash indices of field name by slot
+     * @since 0.2.0
+     */
+    protected void joinChunkedConstants(LineJoiner joiner, List<String> fields, int[] hashSeeds, int[] hashIndices) {
+        List<Integer> fieldOrdinals = getRange(fields.size());
+        List<Integer> seedOrdinals = getRange(hashSeeds.length);
+        List<Integer> indexOrdinals = getRange(hashIndices.length);
+        ObjIntConsumer<String> joinField = (indent, i) ->
+                joiner.ft("%sFIELD_NAMES[%d] = \"%s\";", indent, i, fields.get(i));
+        ObjIntConsumer<String> joinSeed = (indent, i) ->
+                joiner.ft("%sHASH_SEEDS[%d] = %d;", indent, i, hashSeeds[i]);
+        ObjIntConsumer<String> joinIndex = (indent, i) ->
+                joiner.ft("%sHASH_INDICES[%d] = %d;", indent, i, hashIndices[i]);
+        joiner.ft("    private static final java.lang.String[] FIELD_NAMES = new java.lang.String[%d];", fields.size())
+                .ln()
+                .ln("    /**")
+                .ln("     * Perfect hash seeds by bucket, empty for linear search.")
+                .ln("     */")
+                .ft("    private static final int[] HASH_SEEDS = new int[%d];", hashSeeds.length)
+                .ln()
+                .ln("    /**")
+                .ln("     * Perfect hash indices of field name by slot.")
+                .ln("     */")
+                .ft("    private static final int[] HASH_INDICES = new int[%d];", hashIndices.length)
+                .ln()
+                .ln("    static {");
+        joinStatements(joiner, "        ", fieldOrdinals, joinField, "fieldNamesChunk%d();");
+        joinStatements(joiner, "        ", seedOrdinals, joinSeed, "hashSeedsChunk%d();");
+        joinStatements(joiner, "        ", indexOrdinals, joinIndex, "hashIndicesChunk%d();");
+        joiner.ln("    }")
+                .ln();
+        joinStatementChunks(joiner, "    ", "private static void fieldNamesChunk%d()", fieldOrdinals, joinField);
+        joinStatementChunks(joiner, "    ", "private static void hashSeedsChunk%d()", seedOrdinals, joinSeed);
+        joinStatementChunks(joiner, "    ", "private static void hashIndicesChunk%d()", indexOrdinals, joinIndex);
+    }
+
+    /**
+     * Returns ordinals of fields with methods by a condition.
+     *
+     * @param fieldMethods fields with methods in order of ordinals
+     * @param condition    condition of field with method
+     * @return ordinals of {@code fieldMethods} by {@code condition} in ascending order
+     * @since 0.2.0
+     */
+    protected List<Integer> getOrdinals(List<FieldMethod> fieldMethods, Predicate<FieldMethod> condition) {
+        List<Integer> ordinals = new ArrayList<>(fieldMethods.size());
+        for (int i = 0; i < fieldMethods.size(); i++) {
+            if (condition.test(fieldMethods.get(i))) {
+                ordinals.add(i);
+            }
+        }
+        return ordinals;
+    }
+
+    /**
+     * Checks if there are fields with some types.
+     *
+     * @param fieldMethods fields with methods in order of ordinals
+     * @param typeNames    type names of fields
+     * @return if some field of {@code fieldMethods} has a type of {@code typeNames}
+     * @since 0.2.0
+     */
+    protected boolean hasFields(List<FieldMethod> fieldMethods, Set<String> typeNames) {
+        return fieldMethods.stream().anyMatch(fieldMethod -> typeNames.contains(fieldMethod.getTypeName()));
+    }
+
+    /**
+     * Returns ordinals from {@code 0} (inclusive) to a size (exclusive).
+     *
+     * @param size size of range
+     * @return ordinals from {@code 0} (inclusive) to {@code size} (exclusive)
+     * @since 0.2.0
+     */
+    protected List<Integer> getRange(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * Returns chunks of ordinals by chunk number - {@code ordinal / CHUNK_SIZE},
+     * if there are more ordinals than {@link #CHUNK_SIZE}.
+     *
+     * @param ordinals ordinals in ascending order
+     * @return chunks of {@code ordinals} by chunk number in ascending order, or empty if they are not chunked
+     * @since 0.2.0
+     */
+    protected Map<Integer, List<Integer>> getChunks(List<Integer> ordinals) {
+        Map<Integer, List<Integer>> chunks = new LinkedHashMap<>();
+        if (ordinals.size() > CHUNK_SIZE) {
+            for (int ordinal : ordinals) {
+                chunks.computeIfAbsent(ordinal / CHUNK_SIZE, number -> new ArrayList<>()).add(ordinal);
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Joins statements by ordinals, or calls of chunk methods of statements if they are chunked.
+     *
+     * @param joiner        line joiner of source
+     * @param indent        indent of statements
+     * @param ordinals      ordinals of statements in ascending order
+     * @param joinStatement joiner of statements by an indent and an ordinal
+     * @param chunkCall     call of chunk method, template with a chunk number, e.g. {@code snapshotChunk%d(target);}
+     * @see #joinStatementChunks(LineJoiner, String, String, List, ObjIntConsumer)
+     * @since 0.2.0
+     */
+    protected void joinStatements(LineJoiner joiner, String indent, List<Integer> ordinals,
+                                  ObjIntConsumer<String> joinStatement, String chunkCall) {
+        Map<Integer, List<Integer>> chunks = getChunks(ordinals);
+        if (chunks.isEmpty()) {
+            for (int ordinal : ordinals) {
+                joinStatement.accept(indent, ordinal);
+            }
+        } else {
+            for (int number : chunks.keySet()) {
+                joiner.ft("%s" + chunkCall, indent, number);
+            }
+        }
+    }
+
+    /**
+     * Joins chunk methods of statements by ordinals, if they are chunked.
+     *
+     * @param joiner        line joiner of source
+     * @param indent        indent of methods
+     * @param signature     signature of chunk method, template with a chunk number,
+     *                      e.g. {@code private void snapshotChunk%d(int[] target)}
+     * @param ordinals      ordinals of statements in ascending order
+     * @param joinStatement joiner of statements by an indent and an ordinal
+     * @see #joinStatements(LineJoiner, String, List, ObjIntConsumer, String)
+     * @since 0.2.0
+     */
+    protected void joinStatementChunks(LineJoiner joiner, String indent, String signature, List<Integer> ordinals,
+                                       ObjIntConsumer<String> joinStatement) {
+        joinStatementChunks(joiner, indent, null, signature, ordinals, joinStatement);
+    }
+
+    /**
+     * Joins annotated chunk methods of statements by ordinals, if they are chunked.
+     *
+     * @param joiner        line joiner of source
+     * @param indent        indent of methods
+     * @param annotation    annotation of chunk method, e.g. {@code @SuppressWarnings("unchecked")},
+     *                      or {@code null}
+     * @param signature     signature of chunk method, template with a chunk number,
+     *                      e.g. {@code private void snapshotChunk%d(int[] target)}
+     * @param ordinals      ordinals of statements in ascending order
+     * @param joinStatement joiner of statements by an indent and an ordinal
+     * @see #joinStatements(LineJoiner, String, List, ObjIntConsumer, String)
+     * @since 0.2.0
+     */
+    protected void joinStatementChunks(LineJoiner joiner, String indent, String annotation, String signature,
+                                       List<Integer> ordinals, ObjIntConsumer<String> joinStatement) {
+        for (Map.Entry<Integer, List<Integer>> chunk : getChunks(ordinals).entrySet()) {
+            List<Integer> chunkOrdinals = chunk.getValue();
+            joinChunkJavaDoc(joiner, indent, "Statements", chunkOrdinals);
+            joiner.ftIf(annotation != null, "%s%s", indent, annotation)
+                    .ft("%s" + signature + " {", indent, chunk.getKey());
+            for (int ordinal : chunkOrdinals) {
+                joinStatement.accept(indent + "    ", ordinal);
+            }
+            joiner.ft("%s}", indent)
+                    .ln();
+        }
+    }
+
+    /**
+     * Joins {@code switch (ordinal)} with cases of ordinals and a default case,
+     * or {@code switch} by chunk number with calls of chunk methods if cases are chunked.
+     *
+     * @param joiner      line joiner of source
+     * @param indent      indent of {@code switch}
+     * @param ordinals    ordinals of cases in ascending order
+     * @param joinCase    joiner of statements of case by an indent and an ordinal,
+     *                    the last one is {@code return}, {@code break} or {@code throw}
+     * @param defaultCase statement of default case
+     * @param chunkCase   statements of case of chunk method, templates with a chunk number,
+     *                    e.g. {@code return getChunk%d(instance, ordinal);}
+     * @see #joinOrdinalSwitchChunks(LineJoiner, String, String, List, ObjIntConsumer, String)
+     * @since 0.2.0
+     */
+    protected void joinOrdinalSwitch(LineJoiner joiner, String indent, List<Integer> ordinals,
+                                     ObjIntConsumer<String> joinCase, String defaultCase, String... chunkCase) {
+        Map<Integer, List<Integer>> chunks = getChunks(ordinals);
+        if (chunks.isEmpty()) {
+            joiner.ft("%sswitch (ordinal) {", indent);
+            for (int ordinal : ordinals) {
+                joiner.ft("%s    case %d:", indent, ordinal);
+                joinCase.accept(indent + "        ", ordinal);
+            }
+        } else {
+            joiner.ft("%sswitch (ordinal / %d) {", indent, CHUNK_SIZE);
+            for (int number : chunks.keySet()) {
+                joiner.ft("%s    case %d:", indent, number);
+                for (String statement : chunkCase) {
+                    joiner.ft("%s        " + statement, indent, number);
+                }
+            }
+        }
+        joiner.ft("%s    default:", indent)
+                .ft("%s        %s", indent, defaultCase)
+                .ft("%s}", indent);
+    }
+
+    /**
+     * Joins chunk methods of cases of {@code switch (ordinal)}, if they are chunked.
+     *
+     * @param joiner      line joiner of source
+     * @param indent      indent of methods
+     * @param signature   signature of chunk method, template with a chunk number,
+     *                    e.g. {@code private java.lang.Object getChunk%d(DomainClass instance, int ordinal)}
+     * @param ordinals    ordinals of cases in ascending order
+     * @param joinCase    joiner of statements of case by an indent and an ordinal,
+     *                    the last one is {@code return}, {@code break} or {@code throw}
+     * @param defaultCase statement of default case
+     * @see #joinOrdinalSwitch(LineJoiner, String, List, ObjIntConsumer, String, String...)
+     * @since 0.2.0
+     */
+    protected void joinOrdinalSwitchChunks(LineJoiner joiner, String indent, String signature, List<Integer> ordinals,
+                                           ObjIntConsumer<String> joinCase, String defaultCase) {
+        joinOrdinalSwitchChunks(joiner, indent, signature, ordinals, bodyIndent -> {
+        }, joinCase, defaultCase);
+    }
+
+    /**
+     * Joins chunk methods of cases of {@code switch (ordinal)} with statements before {@code switch},
+     * if they are chunked.
+     *
+     * @param joiner      line joiner of source
+     * @param indent      indent of methods
+     * @param signature   signature of chunk method, template with a chunk number
+     * @param ordinals    ordinals of cases in ascending order
+     * @param joinPrefix  joiner of statements before {@code switch} by an indent
+     * @param joinCase    joiner of statements of case by an indent and an ordinal,
+     *                    the last one is {@code return}, {@code break} or {@code throw}
+     * @param defaultCase statement of default case
+     * @since 0.2.0
+     */
+    protected void joinOrdinalSwitchChunks(LineJoiner joiner, String indent, String signature, List<Integer> ordinals,
+                                           Consumer<String> joinPrefix, ObjIntConsumer<String> joinCase,
+                                           String defaultCase) {
+        for (Map.Entry<Integer, List<Integer>> chunk : getChunks(ordinals).entrySet()) {
+            List<Integer> chunkOrdinals = chunk.getValue();
+            joinChunkJavaDoc(joiner, indent, "Cases", chunkOrdinals);
+            joiner.ft("%s" + signature + " {", indent, chunk.getKey());
+            joinPrefix.accept(indent + "    ");
+            joiner.ft("%s    switch (ordinal) {", indent);
+            for (int ordinal : chunkOrdinals) {
+                joiner.ft("%s        case %d:", indent, ordinal);
+                joinCase.accept(indent + "            ", ordinal);
+            }
+            joiner.ft("%s        default:", indent)
+                    .ft("%s            %s", indent, defaultCase)
+                    .ft("%s    }", indent)
+                    .ft("%s}", indent)
+                    .ln();
+        }
+    }
+
+    /**
+     * Joins JavaDoc of chunk method.
+     *
+     * @param joiner   line joiner of source
+     * @param indent   indent of method
+     * @param content  content of chunk, e.g. {@code Cases}
+     * @param ordinals ordinals of chunk in ascending order
+     * @since 0.2.0
+     */
+    protected void joinChunkJavaDoc(LineJoiner joiner, String indent, String content, List<Integer> ordinals) {
+        joiner.ft("%s/**", indent)
+                .ft("%s * %s of ordinals from %d to %d.", indent, content, ordinals.get(0),
+                        ordinals.get(ordinals.size() - 1))
+                .ft("%s */", indent);
+    }
+
+    /**
+     * Resolves fields with methods without invocations - {@link java.lang.Object} fields,
+     * map values of that are invoked, see {@link #getMapValueInvocation(String, String, String)}.
+     *
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with methods
+     * @return fields with methods, with invocations of map values instead of missing invocations
+     * @since 0.2.0
+     */
+    protected List<FieldMethod> resolveFieldMethods(String domainClassName, List<FieldMethod> fieldMethods) {
+        List<FieldMethod> resolved = new ArrayList<>(fieldMethods.size());
+        for (FieldMethod fieldMethod : fieldMethods) {
+            if (fieldMethod.invocation != null) {
+                resolved.add(fieldMethod);
+            } else {
+                resolved.add(new FieldMethod(fieldMethod.getName(), Object.class.getName(), fieldMethod.getMethod(),
+                        getMapValueInvocation(domainClassName, fieldMethod.getName(), fieldMethod.getMethod())));
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Returns names of ordinal constants for field names.
+     * <p>
+     * A name is a field name in constant case,
+     * with a suffix of ordinal if it is one of {@link #GENERATED_CONSTANT_NAMES} or it is already used.
+     *
+     * @param fields field names
+     * @return names of ordinal constants for {@code fields}
+     * @since 0.2.0
+     */
+    protected List<String> getOrdinalNames(List<String> fields) {
+        Set<String> names = new HashSet<>(GENERATED_CONSTANT_NAMES);
+        List<String> ordinalNames = new ArrayList<>(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            String name = Strings.toConstantCase(fields.get(i));
+            while (!names.add(name)) {
+                name = name + "_" + i;
+            }
+            ordinalNames.add(name);
+        }
+        return ordinalNames;
+    }
+
+    /**
+     * Returns a raw type (without type arguments) from a type.
+     *
+     * @param type type
+     * @return raw type from {@code type}
+     * @since 0.2.0
+     */
+    protected String getRawType(String type) {
+        int indexOfLessThan = type.indexOf('<');
+        if (indexOfLessThan > 0) {
+            return type.substring(0, indexOfLessThan);
+        }
+        return type;
+    }
+
+    /**
+     * Returns an erased type (without all type arguments) from a type.
+     *
+     * @param type type
+     * @return erased type from {@code type}
+     * @since 0.2.0
+     */
+    protected String getErasedType(String type) {
+        StringBuilder builder = new StringBuilder(type.length());
+        int depth = 0;
+        for (int i = 0; i < type.length(); i++) {
+            char c = type.charAt(i);
+            if (c == '<') {
+                depth++;
+            } else if (c == '>') {
+                depth--;
+            } else if (depth == 0) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Joins numbers with a comma.
+     *
+     * @param numbers numbers
+     * @return numbers joined with a comma
+     * @since 0.2.0
+     */
+    protected String join(int[] numbers) {
+        return Arrays.stream(numbers).mapToObj(Integer::toString).collect(Collectors.joining(", "));
     }
 
     /**
@@ -161,12 +1242,40 @@ public abstract class MethodSupplierSourceGenerator {
     }
 
     /**
-     * Returns a field name of map.
+     * Returns a field name of map; {@code methodByField} by default.
      *
      * @return field name of map
      * @since 0.2.0
      */
-    protected abstract String getMapFieldName();
+    protected String getMapFieldName() {
+        return "methodByField";
+    }
+
+    /**
+     * Returns a name of static accessor of shared instance; {@code methods} by default.
+     *
+     * @return name of static accessor of shared instance
+     * @since 0.2.0
+     */
+    protected String getInstanceAccessorName() {
+        return "methods";
+    }
+
+    /**
+     * Returns an invocation of a map value of a field, e.g. got from the map by field name;
+     * no invocation by default, ordinal accessors are not joined.
+     *
+     * @param domainClassName domain class name
+     * @param field           field name
+     * @param method          method of field - map value
+     * @return invocation of map value of {@code field} - template with an instance name and a value name (for setter),
+     * or {@code null} if there is no invocation
+     * @see #generate(String, String, java.util.Map)
+     * @since 0.2.0
+     */
+    protected String getMapValueInvocation(String domainClassName, String field, String method) {
+        return null;
+    }
 
     /**
      * Returns a type of map value from a domain class name.
@@ -178,18 +1287,22 @@ public abstract class MethodSupplierSourceGenerator {
     protected abstract String getMapValueType(String domainClassName);
 
     /**
-     * Returns a type name for JavaDoc in class.
+     * Returns a type name for JavaDoc in class; {@code Method} by default.
      *
      * @return type name for JavaDoc in class
      * @since 0.2.0
      */
-    protected abstract String getJavaDocTypeNameForClass();
+    protected String getJavaDocTypeNameForClass() {
+        return "Method";
+    }
 
     /**
-     * Returns a type name for JavaDoc.
+     * Returns a type name for JavaDoc; {@code method} by default.
      *
      * @return type name for JavaDoc
      * @since 0.2.0
      */
-    protected abstract String getJavaDocTypeName();
+    protected String getJavaDocTypeName() {
+        return "method";
+    }
 }
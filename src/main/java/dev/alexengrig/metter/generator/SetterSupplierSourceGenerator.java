@@ -16,6 +16,18 @@
 
 package dev.alexengrig.metter.generator;
 
+import dev.alexengrig.metter.batch.ForkJoinBatch;
+import dev.alexengrig.metter.util.LineJoiner;
+import dev.alexengrig.metter.util.Strings;
+import dev.alexengrig.metter.visitor.ObjBooleanConsumer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+
 /**
  * Generator source of setter supplier.
  *
@@ -54,6 +66,16 @@ public class SetterSupplierSourceGenerator extends MethodSupplierSourceGenerator
         return "setterByField";
     }
 
+    /**
+     * Returns {@code setters}.
+     *
+     * @return {@code setters}
+     */
+    @Override
+    protected String getInstanceAccessorName() {
+        return "setters";
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -65,7 +87,21 @@ public class SetterSupplierSourceGenerator extends MethodSupplierSourceGenerator
      */
     @Override
     protected String getMapValueType(String domainClassName) {
-        return String.format("java.util.function.BiConsumer<%s, java.lang.Object>", domainClassName);
+        return Strings.format("java.util.function.BiConsumer<%s, java.lang.Object>", domainClassName);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <pre>{@code
+     * setterByField.get("field").accept(instance, value)
+     * }</pre>
+     *
+     * @since 0.2.0
+     */
+    @Override
+    protected String getMapValueInvocation(String domainClassName, String field, String method) {
+        return Strings.format("%s.get(\"%s\").accept(%%1$s, %%2$s)", getMapFieldName(), field);
     }
 
     /**
@@ -89,4 +125,353 @@ public class SetterSupplierSourceGenerator extends MethodSupplierSourceGenerator
     protected String getJavaDocTypeName() {
         return "setter";
     }
+
+    /**
+     * Joins {@code set(DomainClass, int, Object)} - a value of field by ordinal.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with setters in order of ordinals
+     * @since 0.2.0
+     */
+    @Override
+    protected void joinOrdinalAccessor(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+        joiner.ln("    /**")
+                .ln("     * Sets a value of field by ordinal.")
+                .ln("     *")
+                .ft("     * @param instance instance of {@link %s}", domainClassName)
+                .ln("     * @param ordinal  ordinal of field")
+                .ln("     * @param value    value of field")
+                .ln("     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}")
+                .ln("     */")
+                .ft("    public void set(%s instance, int ordinal, java.lang.Object value) {", domainClassName);
+        List<Integer> ordinals = getRange(fieldMethods.size());
+        ObjIntConsumer<String> joinCase = (indent, i) -> {
+            FieldMethod fieldMethod = fieldMethods.get(i);
+            String castValue = "(" + fieldMethod.getTypeName() + ") value";
+            joiner.ft("%s%s;", indent, fieldMethod.getInvocation("instance", castValue))
+                    .ft("%sbreak;", indent);
+        };
+        String defaultCase = "throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);";
+        joinOrdinalSwitch(joiner, "        ", ordinals, joinCase, defaultCase,
+                "setChunk%d(instance, ordinal, value);", "break;");
+        joiner.ln("    }")
+                .ln();
+        joinOrdinalSwitchChunks(joiner, "    ", Strings.format(
+                        "private void setChunk%%d(%s instance, int ordinal, java.lang.Object value)", domainClassName),
+                ordinals, joinCase, defaultCase);
+        joinHydrates(joiner, domainClassName, fieldMethods);
+    }
+
+    /**
+     * Joins {@code hydrate(instances, int, type[])} - setting values of field of instances
+     * from an array by index of instance, in a range of instances and in parallel by ranges,
+     * for instances of {@code java.util.List<DomainClass>} and {@code DomainClass[]} and for columns:
+     * <pre>{@code
+     * int[] // int
+     * long[] // long
+     * double[] // double
+     * boolean[] // boolean
+     * java.lang.Object[] // all
+     * }</pre>
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with setters in order of ordinals
+     * @see dev.alexengrig.metter.batch.ForkJoinBatch
+     * @since 0.2.0
+     */
+    protected void joinHydrates(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+        joinCheckRange(joiner, "Column");
+        for (String instancesType : getInstancesTypes(domainClassName)) {
+            for (String type : Arrays.asList("int", "long", "double", "boolean")) {
+                joinHydrate(joiner, domainClassName, instancesType, fieldMethods, type);
+            }
+            joinObjectHydrate(joiner, domainClassName, instancesType, fieldMethods.size());
+        }
+    }
+
+    /**
+     * Joins {@code hydrate(instances, int, type[])} - setting values of field with a type of instances
+     * from an array by index of instance, without unboxing of value, with variants in a range and in parallel;
+     * nothing, if no fields with the type.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param instancesType   type of instances - a list or an array
+     * @param fieldMethods    fields with setters in order of ordinals
+     * @param type            type of fields and array element
+     * @since 0.2.0
+     */
+    protected void joinHydrate(LineJoiner joiner, String domainClassName, String instancesType,
+                               List<FieldMethod> fieldMethods, String type) {
+        List<Integer> ordinals = getOrdinals(fieldMethods, fieldMethod -> type.equals(fieldMethod.getTypeName()));
+        if (ordinals.isEmpty()) {
+            return;
+        }
+        String fieldName = Strings.format("{@code %s} field", type);
+        joinHydrateDelegates(joiner, domainClassName, instancesType, type, fieldName);
+        joiner.ln("    /**")
+                .ft("     * Sets values of %s of instances in a range from an array by index of instance.", fieldName)
+                .ln("     *")
+                .ft("     * @param instances instances of {@link %s}", domainClassName)
+                .ln("     * @param ordinal   ordinal of field")
+                .ln("     * @param column    array of values by index of instance")
+                .ln("     * @param from      index of instance from (inclusive)")
+                .ln("     * @param to        index of instance to (exclusive)")
+                .ft("     * @throws java.lang.IndexOutOfBoundsException if no %s by {@code ordinal}", fieldName)
+                .ln("     *                                             or range is out of instances")
+                .ln("     * @throws java.lang.IllegalArgumentException  if length of {@code column} is less than {@code to}")
+                .ln("     */")
+                .ft("    public void hydrate(%s instances, int ordinal, %s[] column, int from, int to) {",
+                        instancesType, type)
+                .ft("        checkRange(from, to, %s, column.length);", getNumberOfInstances(instancesType));
+        ObjIntConsumer<String> joinCase = (indent, i) -> {
+            joinRangeLoop(joiner, indent, domainClassName, instancesType, (instance, index) ->
+                    fieldMethods.get(i).getInvocation(instance, "column[" + index + "]"));
+            joiner.ft("%sbreak;", indent);
+        };
+        String defaultCase = Strings.format(
+                "throw new java.lang.IndexOutOfBoundsException(\"No %s field by ordinal: \" + ordinal);", type);
+        String chunkName = Strings.format("hydrate%sChunk%%d", Strings.capitalize(type));
+        if (getChunks(ordinals).isEmpty()) {
+            joinRangeIndex(joiner, "        ", instancesType);
+        }
+        joinOrdinalSwitch(joiner, "        ", ordinals, joinCase, defaultCase,
+                chunkName + "(instances, ordinal, column, from, to);", "break;");
+        joiner.ln("    }")
+                .ln();
+        joinOrdinalSwitchChunks(joiner, "    ", Strings.format("private void %3$s(%1$s instances, int ordinal,"
+                        + " %2$s[] column, int from, int to)", instancesType, type, chunkName), ordinals,
+                indent -> joinRangeIndex(joiner, indent, instancesType), joinCase, defaultCase);
+    }
+
+    /**
+     * Joins {@code hydrate(instances, int, Object[])} - setting values of field of instances
+     * from an array by index of instance, with variants in a range and in parallel.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param instancesType   type of instances - a list or an array
+     * @param numberOfFields  number of fields
+     * @since 0.2.0
+     */
+    protected void joinObjectHydrate(LineJoiner joiner, String domainClassName, String instancesType,
+                                     int numberOfFields) {
+        joinHydrateDelegates(joiner, domainClassName, instancesType, "java.lang.Object", "field");
+        joiner.ln("    /**")
+                .ln("     * Sets values of field of instances in a range from an array by index of instance.")
+                .ln("     *")
+                .ft("     * @param instances instances of {@link %s}", domainClassName)
+                .ln("     * @param ordinal   ordinal of field")
+                .ln("     * @param column    array of values by index of instance")
+                .ln("     * @param from      index of instance from (inclusive)")
+                .ln("     * @param to        index of instance to (exclusive)")
+                .ln("     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal} or range is out of instances")
+                .ln("     * @throws java.lang.IllegalArgumentException  if length of {@code column} is less than {@code to}")
+                .ln("     */")
+                .ft("    public void hydrate(%s instances, int ordinal, java.lang.Object[] column, int from, int to) {",
+                        instancesType)
+                .ft("        checkRange(from, to, %s, column.length);", getNumberOfInstances(instancesType))
+                .ft("        if (ordinal < 0 || ordinal >= %d) {", numberOfFields)
+                .ln("            throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);")
+                .ln("        }");
+        joinRangeIndex(joiner, "        ", instancesType);
+        joinRangeLoop(joiner, "        ", domainClassName, instancesType, (instance, index) ->
+                Strings.format("set(%s, ordinal, column[%s])", instance, index));
+        joiner.ln("    }")
+                .ln();
+    }
+
+    /**
+     * Joins {@code hydrate(instances, int, type[])} and {@code hydrate(instances, int, type[], ForkJoinBatch)} -
+     * setting values of field of all instances, delegating to {@code hydrate(instances, int, type[], int, int)}.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param instancesType   type of instances - a list or an array
+     * @param type            type of array element
+     * @param fieldName       field name for JavaDoc, e.g. {@code {@code int} field}
+     * @since 0.2.0
+     */
+    protected void joinHydrateDelegates(LineJoiner joiner, String domainClassName, String instancesType,
+                                        String type, String fieldName) {
+        String numberOfInstances = getNumberOfInstances(instancesType);
+        joiner.ln("    /**")
+                .ft("     * Sets values of %s of instances from an array by index of instance.", fieldName)
+                .ln("     *")
+                .ft("     * @param instances instances of {@link %s}", domainClassName)
+                .ln("     * @param ordinal   ordinal of field")
+                .ln("     * @param column    array of values by index of instance")
+                .ft("     * @throws java.lang.IndexOutOfBoundsException if no %s by {@code ordinal}", fieldName)
+                .ln("     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances")
+                .ln("     */")
+                .ft("    public void hydrate(%s instances, int ordinal, %s[] column) {", instancesType, type)
+                .ft("        hydrate(instances, ordinal, column, 0, %s);", numberOfInstances)
+                .ln("    }")
+                .ln()
+                .ln("    /**")
+                .ft("     * Sets values of %s of instances from an array by index of instance, in parallel by ranges.", fieldName)
+                .ln("     *")
+                .ft("     * @param instances instances of {@link %s}", domainClassName)
+                .ln("     * @param ordinal   ordinal of field")
+                .ln("     * @param column    array of values by index of instance")
+                .ln("     * @param batch     fork-join batch of ranges of instances")
+                .ft("     * @throws java.lang.IndexOutOfBoundsException if no %s by {@code ordinal}", fieldName)
+                .ln("     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances")
+                .ln("     */")
+                .ft("    public void hydrate(%s instances, int ordinal, %s[] column,", instancesType, type)
+                .ft("            %s batch) {", ForkJoinBatch.class.getName())
+                .ft("        checkRange(0, %1$s, %1$s, column.length);", numberOfInstances)
+                .ft("        batch.run(%s, (from, to) -> hydrate(instances, ordinal, column, from, to));", numberOfInstances)
+                .ln("    }")
+                .ln();
+    }
+
+    /**
+     * Joins maps of primitive setters, without unboxing of value:
+     * <pre>{@code
+     * java.util.function.ObjIntConsumer<DomainClass> // int
+     * java.util.function.ObjLongConsumer<DomainClass> // long
+     * java.util.function.ObjDoubleConsumer<DomainClass> // double
+     * dev.alexengrig.metter.visitor.ObjBooleanConsumer<DomainClass> // boolean
+     * }</pre>
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with setters (map values) in order of ordinals
+     * @param switchDispatch  if setters are instances of {@code FieldAccessor}, otherwise lambdas are created;
+     *                        boolean setters are method references to {@code FieldAccessor}
+     * @since 0.2.0
+     */
+    @Override
+    protected void joinSpecializedMaps(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods,
+                                       boolean switchDispatch) {
+        Function<FieldMethod, String> valueMapper = switchDispatch
+                ? FieldMethod::getMethod
+                : fieldMethod -> "(instance, value) -> " + fieldMethod.getInvocation("instance", "value");
+        Function<FieldMethod, String> booleanValueMapper = switchDispatch
+                ? fieldMethod -> fieldMethod.getMethod() + "::accept"
+                : valueMapper;
+        joinSpecializedMap(joiner, fieldMethods, "int",
+                Strings.format("java.util.function.ObjIntConsumer<%s>", domainClassName),
+                Collections.singleton("int"), valueMapper);
+        joinSpecializedMap(joiner, fieldMethods, "long",
+                Strings.format("java.util.function.ObjLongConsumer<%s>", domainClassName),
+                Collections.singleton("long"), valueMapper);
+        joinSpecializedMap(joiner, fieldMethods, "double",
+                Strings.format("java.util.function.ObjDoubleConsumer<%s>", domainClassName),
+                Collections.singleton("double"), valueMapper);
+        joinSpecializedMap(joiner, fieldMethods, "boolean",
+                Strings.format("%s<%s>", ObjBooleanConsumer.class.getName(), domainClassName),
+                Collections.singleton("boolean"), booleanValueMapper);
+    }
+
+    /**
+     * Joins {@code FieldAccessor} - a nested class of setters by ordinal, dispatching by {@code switch},
+     * implementing types of all maps of setters, a primitive type only if there are fields of it.
+     * <p>
+     * {@code FieldAccessor} does not implement {@link dev.alexengrig.metter.visitor.ObjBooleanConsumer},
+     * so creating a supplier does not load it and metter is not needed on the runtime classpath;
+     * the map of boolean setters refers to {@code accept(DomainClass, boolean)} of {@code FieldAccessor}.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with setters in order of ordinals
+     * @since 0.2.0
+     */
+    @Override
+    protected void joinFieldAccessor(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods) {
+        List<String> types = new ArrayList<>();
+        List<String> interfaces = new ArrayList<>();
+        interfaces.add(Strings.format("java.util.function.BiConsumer<%s, java.lang.Object>", domainClassName));
+        for (String type : Arrays.asList("int", "long", "double", "boolean")) {
+            if (hasFields(fieldMethods, Collections.singleton(type))) {
+                types.add(type);
+            }
+        }
+        for (String type : Arrays.asList("int", "long", "double")) {
+            if (types.contains(type)) {
+                interfaces.add(Strings.format("java.util.function.Obj%sConsumer<%s>",
+                        Strings.capitalize(type), domainClassName));
+            }
+        }
+        joiner.ln("    /**")
+                .ln("     * Setter function of field by ordinal, dispatching by {@code switch}.")
+                .ln("     */")
+                .ln("    protected class FieldAccessor implements")
+                .ft("            %s {", String.join(",\n            ", interfaces))
+                .ln("        private final int ordinal;")
+                .ln()
+                .ln("        protected FieldAccessor(int ordinal) {")
+                .ln("            this.ordinal = ordinal;")
+                .ln("        }")
+                .ln()
+                .ln("        @Override")
+                .ft("        public void accept(%s instance, java.lang.Object value) {", domainClassName)
+                .ln("            set(instance, ordinal, value);")
+                .ln("        }");
+        for (String type : types) {
+            joinFieldAccessorMethod(joiner, domainClassName, fieldMethods, type);
+        }
+        joiner.ln("    }")
+                .ln();
+        for (String type : types) {
+            joinFieldAccessorMethodChunks(joiner, domainClassName, fieldMethods, type);
+        }
+    }
+
+    /**
+     * Joins {@code accept(DomainClass, type)} of {@code FieldAccessor} for fields with a type,
+     * setting a value by ordinal; not an override for {@code boolean}.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with setters in order of ordinals
+     * @param type            type of fields and value
+     * @since 0.2.0
+     */
+    protected void joinFieldAccessorMethod(LineJoiner joiner, String domainClassName, List<FieldMethod> fieldMethods,
+                                           String type) {
+        joiner.ln()
+                .ftIf(!"boolean".equals(type), "        @Override")
+                .ft("        public void accept(%s instance, %s value) {", domainClassName, type);
+        List<Integer> ordinals = getOrdinals(fieldMethods, fieldMethod -> type.equals(fieldMethod.getTypeName()));
+        joinOrdinalSwitch(joiner, "            ", ordinals, getFieldAccessorCase(joiner, fieldMethods),
+                "throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);",
+                Strings.format("accept%sChunk%%d(instance, ordinal, value);", Strings.capitalize(type)), "break;");
+        joiner.ln("        }");
+    }
+
+    /**
+     * Joins chunk methods of {@code accept(DomainClass, type)} of {@code FieldAccessor} for fields with a type,
+     * if they are chunked, as methods of supplier called by {@code FieldAccessor}.
+     *
+     * @param joiner          line joiner of source
+     * @param domainClassName domain class name
+     * @param fieldMethods    fields with setters in order of ordinals
+     * @param type            type of fields and value
+     * @since 0.2.0
+     */
+    protected void joinFieldAccessorMethodChunks(LineJoiner joiner, String domainClassName,
+                                                 List<FieldMethod> fieldMethods, String type) {
+        joinOrdinalSwitchChunks(joiner, "    ", Strings.format("private void accept%sChunk%%d(%s instance,"
+                        + " int ordinal, %s value)", Strings.capitalize(type), domainClassName, type),
+                getOrdinals(fieldMethods, fieldMethod -> type.equals(fieldMethod.getTypeName())),
+                getFieldAccessorCase(joiner, fieldMethods),
+                "throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);");
+    }
+
+    /**
+     * Returns a joiner of case of {@code accept(DomainClass, type)} of {@code FieldAccessor}, setting a value.
+     *
+     * @param joiner       line joiner of source
+     * @param fieldMethods fields with setters in order of ordinals
+     * @return joiner of case by an indent and an ordinal
+     * @since 0.2.0
+     */
+    protected ObjIntConsumer<String> getFieldAccessorCase(LineJoiner joiner, List<FieldMethod> fieldMethods) {
+        return (indent, i) -> joiner.ft("%s%s;", indent, fieldMethods.get(i).getInvocation("instance", "value"))
+                .ft("%sbreak;", indent);
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.generator;
+
+import dev.alexengrig.metter.util.Strings;
+
+/**
+ * A field with a getter and an optional setter for source generation of typed field.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @see dev.alexengrig.metter.generator.FieldsSourceGenerator
+ * @since 0.2.0
+ */
+public class TypedFieldMethod extends FieldMethod {
+    /**
+     * Invocation of setter - template for {@link dev.alexengrig.metter.util.Strings#format(String, Object...)}
+     * with an instance name and a value name, {@code null} is no setter.
+     *
+     * @since 0.2.0
+     */
+    protected final String setterInvocation;
+
+    /**
+     * Constructs with a field name, a field type name, a getter, an invocation of getter and an invocation of setter.
+     *
+     * @param name             field name
+     * @param typeName         field type name
+     * @param method           getter - value of map
+     * @param invocation       invocation of getter - template with an instance name
+     * @param setterInvocation invocation of setter - template with an instance name and a value name,
+     *                         {@code null} is no setter
+     * @since 0.2.0
+     */
+    public TypedFieldMethod(String name, String typeName, String method, String invocation, String setterInvocation) {
+        super(name, typeName, method, invocation);
+        this.setterInvocation = setterInvocation;
+    }
+
+    /**
+     * Checks if this field has a setter.
+     *
+     * @return if this field has a setter
+     * @since 0.2.0
+     */
+    public boolean hasSetter() {
+        return setterInvocation != null;
+    }
+
+    /**
+     * Returns an invocation of setter for an instance name and a value name.
+     *
+     * @param instanceName instance name
+     * @param valueName    value name
+     * @return invocation of setter for {@code instanceName} and {@code valueName}
+     * @throws java.lang.IllegalStateException if this field has no setter
+     * @since 0.2.0
+     */
+    public String getSetterInvocation(String instanceName, String valueName) {
+        if (setterInvocation == null) {
+            throw new IllegalStateException("Field has no setter: " + name);
+        }
+        return Strings.format(setterInvocation, instanceName, valueName);
+    }
+}
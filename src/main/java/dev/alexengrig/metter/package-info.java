@@ -20,6 +20,10 @@
  * {@link dev.alexengrig.metter.annotation.GetterSupplier} for generation getter supplier.
  * <p>
  * {@link dev.alexengrig.metter.annotation.SetterSupplier} for generation setter supplier.
+ * <p>
+ * {@link dev.alexengrig.metter.annotation.DiffSupplier} for generation diff supplier.
+ * <p>
+ * {@link dev.alexengrig.metter.visitor.FieldVisitor} for visiting fields via generated getter supplier.
  *
  * @author Grig Alex
  * @version 0.2.0
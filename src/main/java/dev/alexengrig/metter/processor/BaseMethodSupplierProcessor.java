@@ -19,18 +19,29 @@ package dev.alexengrig.metter.processor;
 import dev.alexengrig.metter.element.descriptor.FieldDescriptor;
 import dev.alexengrig.metter.element.descriptor.TypeDescriptor;
 import dev.alexengrig.metter.exception.MetterException;
+import dev.alexengrig.metter.generator.FieldMethod;
 import dev.alexengrig.metter.generator.MethodSupplierSourceGenerator;
+import dev.alexengrig.metter.util.Utf8CountingWriter;
 
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.tools.JavaFileObject;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -43,6 +54,13 @@ import java.util.stream.Stream;
  * @since 0.1.0
  */
 public abstract class BaseMethodSupplierProcessor<A extends Annotation> extends BaseProcessor<A, TypeElement> {
+    /**
+     * Option of deterministic generation, {@code true} to generate sources without generated date.
+     *
+     * @since 0.2.0
+     */
+    public static final String DETERMINISTIC_OPTION = "metter.deterministic";
+
     /**
      * Source generator.
      *
@@ -70,19 +88,108 @@ public abstract class BaseMethodSupplierProcessor<A extends Annotation> extends
     protected abstract MethodSupplierSourceGenerator getSourceGenerator();
 
     /**
-     * Process a type element.
+     * {@inheritDoc}
+     * <p>
+     * Omits generated date of sources in deterministic generation.
+     *
+     * @see #DETERMINISTIC_OPTION
+     * @since 0.2.0
+     */
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        sourceGenerator.setWithGeneratedDate(!isDeterministic(processingEnv.getOptions()));
+    }
+
+    /**
+     * Checks if generation is deterministic by options.
+     *
+     * @param options options of processor
+     * @return if {@link #DETERMINISTIC_OPTION} is {@code true} in {@code options}
+     * @since 0.2.0
+     */
+    protected boolean isDeterministic(Map<String, String> options) {
+        return Boolean.parseBoolean(options.get(DETERMINISTIC_OPTION));
+    }
+
+    /**
+     * Returns a set with options of statistics and deterministic generation.
+     *
+     * @return set with options of statistics and {@link #DETERMINISTIC_OPTION}
+     * @since 0.2.0
+     */
+    @Override
+    public Set<String> getSupportedOptions() {
+        Set<String> options = new LinkedHashSet<>(super.getSupportedOptions());
+        options.add(DETERMINISTIC_OPTION);
+        return options;
+    }
+
+    /**
+     * Process a type element, with statistics of stages if they are enabled.
      *
      * @param typeElement type element
      * @since 0.1.0
      */
     @Override
     protected void process(TypeElement typeElement) {
-        TypeDescriptor type = new TypeDescriptor(typeElement);
+        long modelStart = System.nanoTime();
+        TypeDescriptor type = getTypeDescriptor(typeElement);
+        int superTypeDepth = getAllSuperTypes(type).size();
+        long fileStart = System.nanoTime();
         String sourceClassName = createSourceClassName(type);
-        JavaFileObject sourceFile = createSourceFile(sourceClassName);
-        Map<String, String> field2Method = createField2MethodMap(type);
-        String source = createSource(type, field2Method, sourceClassName);
-        writeSourceFile(sourceFile, source);
+        JavaFileObject sourceFile = createSourceFile(sourceClassName, typeElement);
+        long fieldsStart = System.nanoTime();
+        List<FieldMethod> fieldMethods = createFieldMethods(type);
+        long generationStart = System.nanoTime();
+        long numberOfBytes = writeSource(sourceFile, type, fieldMethods, sourceClassName);
+        long end = System.nanoTime();
+        if (statistics.isEnabled()) {
+            statistics.add(new TypeStatistics(type.getQualifiedName(), annotationClass.getSimpleName(),
+                    sourceClassName, fieldMethods.size(), superTypeDepth, numberOfBytes,
+                    fileStart - modelStart, generationStart - fieldsStart, end - generationStart,
+                    fieldsStart - fileStart));
+        }
+    }
+
+    /**
+     * Prepares a source of a type element: builds a model and fields with methods on the compiler thread.
+     * The returned rendering of the source does not use the model of the compiler, so it can be called
+     * by any thread; it returns writing of the source, with statistics if they are enabled,
+     * which must be run on the compiler thread.
+     *
+     * @param typeElement type element
+     * @return rendering of source of {@code typeElement}, which returns writing of the source
+     * @see #process(TypeElement)
+     * @since 0.2.0
+     */
+    protected Callable<Runnable> prepareSource(TypeElement typeElement) {
+        long modelStart = System.nanoTime();
+        TypeDescriptor type = getTypeDescriptor(typeElement);
+        int superTypeDepth = getAllSuperTypes(type).size();
+        String typeName = type.getQualifiedName();
+        String sourceClassName = createSourceClassName(type);
+        boolean switchDispatch = isSwitchDispatch(type);
+        long fieldsStart = System.nanoTime();
+        List<FieldMethod> fieldMethods = createFieldMethods(type);
+        long fieldsEnd = System.nanoTime();
+        return () -> {
+            long generationStart = System.nanoTime();
+            StringBuilder source = new StringBuilder();
+            sourceGenerator.generate(source, sourceClassName, typeName, fieldMethods, switchDispatch);
+            long generationEnd = System.nanoTime();
+            return () -> {
+                long writingStart = System.nanoTime();
+                long numberOfBytes = writeSource(createSourceFile(sourceClassName, typeElement), source);
+                long end = System.nanoTime();
+                if (statistics.isEnabled()) {
+                    statistics.add(new TypeStatistics(typeName, annotationClass.getSimpleName(),
+                            sourceClassName, fieldMethods.size(), superTypeDepth, numberOfBytes,
+                            fieldsStart - modelStart, fieldsEnd - fieldsStart, generationEnd - generationStart,
+                            end - writingStart));
+                }
+            };
+        };
     }
 
     /**
@@ -153,40 +260,113 @@ public abstract class BaseMethodSupplierProcessor<A extends Annotation> extends
     }
 
     /**
-     * Creates a source file for a class name.
+     * Creates a source file for a class name with originating elements.
+     * <p>
+     * An annotated type is the only originating element of its source file,
+     * as required by isolating incremental processing of Gradle;
+     * its super types are tracked by Gradle as dependencies of the annotated type.
      *
-     * @param className class name
+     * @param className           class name
+     * @param originatingElements elements causally associated with the source file
      * @return source file for {@code className}
+     * @see javax.annotation.processing.Filer#createSourceFile(CharSequence, Element...)
      * @since 0.1.0
      */
-    protected JavaFileObject createSourceFile(String className) {
+    protected JavaFileObject createSourceFile(String className, Element... originatingElements) {
         try {
-            return processingEnv.getFiler().createSourceFile(className);
+            return processingEnv.getFiler().createSourceFile(className, originatingElements);
         } catch (IOException e) {
             throw new MetterException("Exception of source file creation for: " + className, e);
         }
     }
 
+    /**
+     * Creates fields with methods from a type descriptor.
+     * A field hidden by a field with the same name of the type or a nearer super class is skipped,
+     * even if the hiding field is private or has no method.
+     *
+     * @param type descriptor
+     * @return fields with methods from {@code type}
+     * @since 0.2.0
+     */
+    protected List<FieldMethod> createFieldMethods(TypeDescriptor type) {
+        Map<String, FieldMethod> field2Method = new LinkedHashMap<>();
+        Set<String> fieldNames = new HashSet<>();
+        Set<FieldDescriptor> fields = getFields(type);
+        boolean fieldAccess = isFieldAccess(type);
+        for (FieldDescriptor field : fields) {
+            if (!fieldNames.add(field.getName())) {
+                continue;
+            }
+            if (fieldAccess && isAccessibleField(type, field)) {
+                field2Method.putIfAbsent(field.getName(), createFieldAccess(field));
+            } else if (isTargetField(field)) {
+                field2Method.putIfAbsent(field.getName(), createFieldMethod(field));
+            }
+        }
+        return new ArrayList<>(field2Method.values());
+    }
+
+    /**
+     * Checks if a field descriptor is accessible directly from a source of a type descriptor:
+     * the field is not private and not static, and it is public or declared in the package of the type.
+     *
+     * @param type  descriptor of annotated type, the source is in its package
+     * @param field descriptor of field of {@code type} or its super class
+     * @return if {@code field} is accessible directly from a source of {@code type}
+     * @since 0.2.0
+     */
+    protected boolean isAccessibleField(TypeDescriptor type, FieldDescriptor field) {
+        if (field.hasModifier(Modifier.PRIVATE) || field.hasModifier(Modifier.STATIC)) {
+            return false;
+        }
+        return field.hasModifier(Modifier.PUBLIC) || type.getPackageName().equals(field.getPackageName());
+    }
+
+    /**
+     * Creates a field with a direct access from a field descriptor.
+     *
+     * @param field descriptor
+     * @return field with direct access from {@code field}
+     * @since 0.2.0
+     */
+    protected FieldMethod createFieldAccess(FieldDescriptor field) {
+        return new FieldMethod(field.getName(), field.getTypeName(), getFieldAccessMethod(field),
+                getFieldAccessInvocation(field));
+    }
+
     /**
      * Creates a map of field to method from a type descriptor.
      *
      * @param type descriptor
      * @return map of field to method from {@code type}
+     * @see #createFieldMethods(TypeDescriptor)
      * @since 0.1.0
+     * @deprecated since 0.2.0, use {@link #createFieldMethods(TypeDescriptor)} with field types and invocations
      */
+    @Deprecated
     protected Map<String, String> createField2MethodMap(TypeDescriptor type) {
-        Map<String, String> field2Method = new HashMap<>();
-        Set<FieldDescriptor> fields = getFields(type);
-        for (FieldDescriptor field : fields) {
-            if (isTargetField(field)) {
-                field2Method.put(field.getName(), getMethod(field));
-            }
+        Map<String, String> field2Method = new LinkedHashMap<>();
+        for (FieldMethod fieldMethod : createFieldMethods(type)) {
+            field2Method.put(fieldMethod.getName(), fieldMethod.getMethod());
         }
         return field2Method;
     }
 
     /**
-     * Returns fields from a type descriptor with fields of super classes.
+     * Creates a field with a method from a field descriptor.
+     *
+     * @param field descriptor
+     * @return field with method from {@code field}
+     * @since 0.2.0
+     */
+    protected FieldMethod createFieldMethod(FieldDescriptor field) {
+        return new FieldMethod(field.getName(), field.getTypeName(), getMethod(field), getInvocation(field));
+    }
+
+    /**
+     * Returns fields from a type descriptor with fields of super classes,
+     * in order of declaration from the type to the farthest super class.
      *
      * @param type descriptor
      * @return fields from {@code type} with fields of super classes
@@ -196,16 +376,18 @@ public abstract class BaseMethodSupplierProcessor<A extends Annotation> extends
         Set<TypeDescriptor> superTypes = getAllSuperTypes(type);
         Set<FieldDescriptor> fields = Stream.concat(Stream.of(type), superTypes.stream())
                 .flatMap(descriptor -> descriptor.getFields().stream())
-                .collect(Collectors.toSet());
+                .collect(Collectors.toCollection(LinkedHashSet::new));
         Set<String> includedFields = getIncludedFields(type);
         Set<String> excludedFields = getExcludedFields(type);
         if (includedFields.isEmpty() && excludedFields.isEmpty()) {
             return fields;
         }
         if (!includedFields.isEmpty()) {
-            return fields.stream().filter(f -> includedFields.contains(f.getName())).collect(Collectors.toSet());
+            return fields.stream().filter(f -> includedFields.contains(f.getName()))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
         } else {
-            return fields.stream().filter(f -> !excludedFields.contains(f.getName())).collect(Collectors.toSet());
+            return fields.stream().filter(f -> !excludedFields.contains(f.getName()))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
         }
     }
 
@@ -227,6 +409,30 @@ public abstract class BaseMethodSupplierProcessor<A extends Annotation> extends
      */
     protected abstract Set<String> getExcludedFields(TypeDescriptor type);
 
+    /**
+     * Checks if map values of a type descriptor dispatch by {@code switch}; {@code false} by default.
+     *
+     * @param type descriptor
+     * @return if map values of {@code type} dispatch by {@code switch}
+     * @since 0.2.0
+     */
+    protected boolean isSwitchDispatch(TypeDescriptor type) {
+        return false;
+    }
+
+    /**
+     * Checks if accessible fields of a type descriptor are accessed directly instead of methods;
+     * {@code false} by default.
+     *
+     * @param type descriptor
+     * @return if accessible fields of {@code type} are accessed directly
+     * @see #isAccessibleField(TypeDescriptor, FieldDescriptor)
+     * @since 0.2.0
+     */
+    protected boolean isFieldAccess(TypeDescriptor type) {
+        return false;
+    }
+
     /**
      * Checks if a field descriptor is target field.
      *
@@ -246,16 +452,132 @@ public abstract class BaseMethodSupplierProcessor<A extends Annotation> extends
     protected abstract String getMethod(FieldDescriptor field);
 
     /**
-     * Creates a source from a type descriptor, a map of field to method and a source class name.
+     * Returns an invocation for a field descriptor; {@code null} by default,
+     * the field is an {@link java.lang.Object} field, a method of that is invoked by the source generator.
+     *
+     * @param field descriptor
+     * @return invocation for {@code field} - template with an instance name and a value name (for setter),
+     * or {@code null}
+     * @see dev.alexengrig.metter.generator.FieldMethod#getInvocation(String, String)
+     * @see dev.alexengrig.metter.generator.MethodSupplierSourceGenerator#resolveFieldMethods(String, List)
+     * @since 0.2.0
+     */
+    protected String getInvocation(FieldDescriptor field) {
+        return null;
+    }
+
+    /**
+     * Returns a method with a direct access for a field descriptor; the method by default.
+     *
+     * @param field descriptor
+     * @return method with direct access for {@code field}
+     * @see #getMethod(FieldDescriptor)
+     * @since 0.2.0
+     */
+    protected String getFieldAccessMethod(FieldDescriptor field) {
+        return getMethod(field);
+    }
+
+    /**
+     * Returns an invocation with a direct access for a field descriptor; the invocation by default.
+     *
+     * @param field descriptor
+     * @return invocation with direct access for {@code field} - template with an instance name
+     * and a value name (for setter), or {@code null}
+     * @see dev.alexengrig.metter.generator.FieldMethod#getInvocation(String, String)
+     * @see #getInvocation(FieldDescriptor)
+     * @since 0.2.0
+     */
+    protected String getFieldAccessInvocation(FieldDescriptor field) {
+        return getInvocation(field);
+    }
+
+    /**
+     * Creates a source from a type descriptor, fields with methods and a source class name.
      *
      * @param type            descriptor
-     * @param field2Method    map of filed to method
+     * @param fieldMethods    fields with methods
+     * @param sourceClassName source class name
+     * @return source from {@code type}, {@code fieldMethods} and {@code sourceClassName}
+     * @since 0.1.0
+     */
+    protected String createSource(TypeDescriptor type, List<FieldMethod> fieldMethods, String sourceClassName) {
+        return sourceGenerator.generate(sourceClassName, type.getQualifiedName(), fieldMethods,
+                isSwitchDispatch(type));
+    }
+
+    /**
+     * Creates a source from a type descriptor, a map of field to method and a source class name;
+     * types and invocations of fields are resolved by fields of the type descriptor.
+     *
+     * @param type            descriptor
+     * @param field2Method    map of field to method
      * @param sourceClassName source class name
      * @return source from {@code type}, {@code field2Method} and {@code sourceClassName}
+     * @throws dev.alexengrig.metter.exception.MetterException if {@code type} has no field of {@code field2Method}
+     * @see #createSource(TypeDescriptor, java.util.List, String)
      * @since 0.1.0
+     * @deprecated since 0.2.0, use {@link #createSource(TypeDescriptor, java.util.List, String)}
+     * with field types and invocations
      */
+    @Deprecated
     protected String createSource(TypeDescriptor type, Map<String, String> field2Method, String sourceClassName) {
-        return sourceGenerator.generate(sourceClassName, type.getQualifiedName(), field2Method);
+        Map<String, FieldDescriptor> fieldByName = new LinkedHashMap<>();
+        for (FieldDescriptor field : getFields(type)) {
+            fieldByName.putIfAbsent(field.getName(), field);
+        }
+        List<FieldMethod> fieldMethods = new ArrayList<>(field2Method.size());
+        for (Map.Entry<String, String> entry : field2Method.entrySet()) {
+            FieldDescriptor field = Optional.ofNullable(fieldByName.get(entry.getKey()))
+                    .orElseThrow(() -> new MetterException("Type " + type + " has no field " + entry.getKey()));
+            fieldMethods.add(new FieldMethod(field.getName(), field.getTypeName(), entry.getValue(),
+                    getInvocation(field)));
+        }
+        return createSource(type, fieldMethods, sourceClassName);
+    }
+
+    /**
+     * Writes a source from a type descriptor, fields with methods and a source class name to a source file,
+     * streamed by the source generator without the whole source in memory.
+     *
+     * @param sourceFile      source file
+     * @param type            descriptor
+     * @param fieldMethods    fields with methods
+     * @param sourceClassName source class name
+     * @return number of written bytes in UTF-8
+     * @see dev.alexengrig.metter.generator.MethodSupplierSourceGenerator#generate(Appendable, String, String, List, boolean)
+     * @since 0.2.0
+     */
+    protected long writeSource(JavaFileObject sourceFile, TypeDescriptor type, List<FieldMethod> fieldMethods,
+                               String sourceClassName) {
+        try (Utf8CountingWriter writer = new Utf8CountingWriter(sourceFile.openWriter())) {
+            sourceGenerator.generate(writer, sourceClassName, type.getQualifiedName(), fieldMethods,
+                    isSwitchDispatch(type));
+            writer.flush();
+            return writer.getNumberOfBytes();
+        } catch (IOException | UncheckedIOException e) {
+            error("Exception of source file writing", e);
+            return 0;
+        }
+    }
+
+    /**
+     * Writes a rendered source to a source file.
+     *
+     * @param sourceFile source file
+     * @param source     source
+     * @return number of written bytes in UTF-8
+     * @since 0.2.0
+     */
+    protected long writeSource(JavaFileObject sourceFile, CharSequence source) {
+        try (Utf8CountingWriter writer = new Utf8CountingWriter(sourceFile.openWriter())) {
+            writer.append(source);
+            writer.flush();
+            return writer.getNumberOfBytes();
+        } catch (IOException e) {
+            error("Exception of source file writing", e);
+            return 0;
+        }
     }
 
     /**
@@ -20,6 +20,7 @@ import dev.alexengrig.metter.element.descriptor.TypeDescriptor;
 import dev.alexengrig.metter.util.Exceptions;
 
 import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
@@ -28,11 +29,19 @@ import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.tools.Diagnostic;
+import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -60,6 +69,27 @@ public abstract class BaseProcessor<A extends Annotation, E extends Element> ext
      * @since 0.1.0
      */
     protected final Class<? extends A> annotationClass;
+    /**
+     * Type descriptors by type element, cached during a round.
+     *
+     * @see #useTypeDescriptorsOf(BaseProcessor)
+     * @since 0.2.0
+     */
+    protected Map<TypeElement, TypeDescriptor> typeDescriptorByElement;
+    /**
+     * All super type descriptors by type element, cached during a round.
+     *
+     * @see #useTypeDescriptorsOf(BaseProcessor)
+     * @since 0.2.0
+     */
+    protected Map<TypeElement, Set<TypeDescriptor>> allSuperTypesByElement;
+    /**
+     * Statistics of processing, reported at the end of processing.
+     *
+     * @see #useStatisticsOf(BaseProcessor)
+     * @since 0.2.0
+     */
+    protected ProcessorStatistics statistics;
 
     /**
      * Constructs with an annotation class.
@@ -69,25 +99,71 @@ public abstract class BaseProcessor<A extends Annotation, E extends Element> ext
      */
     public BaseProcessor(Class<? extends A> annotationClass) {
         this.annotationClass = annotationClass;
+        this.typeDescriptorByElement = new HashMap<>();
+        this.allSuperTypesByElement = new HashMap<>();
+        this.statistics = new ProcessorStatistics();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Configures statistics by options.
+     *
+     * @see dev.alexengrig.metter.processor.ProcessorStatistics#configure(Map)
+     * @since 0.2.0
+     */
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        statistics.configure(processingEnv.getOptions());
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Caches of type descriptors are cleared at the start of a round,
+     * elements of a previous round are not reused.
+     * Statistics are reported at the end of processing.
      *
      * @see #process(Element)
      * @since 0.1.0
      */
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        typeDescriptorByElement.clear();
+        allSuperTypesByElement.clear();
         if (roundEnv.processingOver()) {
+            reportStatistics();
             return false;
         }
-        for (Element annotatedElement : roundEnv.getElementsAnnotatedWith(annotationClass)) {
+        process(getAnnotatedElements(roundEnv));
+        return true;
+    }
+
+    /**
+     * Processes annotated elements of a round one by one.
+     *
+     * @param annotatedElements annotated elements
+     * @see #process(Element)
+     * @since 0.2.0
+     */
+    protected void process(Set<? extends Element> annotatedElements) {
+        for (Element annotatedElement : annotatedElements) {
             @SuppressWarnings("unchecked")
             E element = (E) annotatedElement;
             process(element);
         }
-        return true;
+    }
+
+    /**
+     * Returns annotated elements of a round.
+     *
+     * @param roundEnv environment of round
+     * @return elements annotated with {@link #annotationClass} of {@code roundEnv}
+     * @since 0.2.0
+     */
+    protected Set<? extends Element> getAnnotatedElements(RoundEnvironment roundEnv) {
+        return roundEnv.getElementsAnnotatedWith(annotationClass);
     }
 
     /**
@@ -108,6 +184,16 @@ public abstract class BaseProcessor<A extends Annotation, E extends Element> ext
         processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message);
     }
 
+    /**
+     * Prints a warning message.
+     *
+     * @param message message text
+     * @since 0.2.0
+     */
+    protected void warning(String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message);
+    }
+
     /**
      * Prints an error message.
      *
@@ -121,44 +207,126 @@ public abstract class BaseProcessor<A extends Annotation, E extends Element> ext
     }
 
     /**
-     * Returns all super type descriptors for a type descriptor.
+     * Uses caches of type descriptors of another processor,
+     * which processes rounds and clears its caches instead of this.
+     *
+     * @param processor processor - owner of caches
+     * @since 0.2.0
+     */
+    protected void useTypeDescriptorsOf(BaseProcessor<?, ?> processor) {
+        this.typeDescriptorByElement = processor.typeDescriptorByElement;
+        this.allSuperTypesByElement = processor.allSuperTypesByElement;
+    }
+
+    /**
+     * Uses statistics of another processor, which reports them instead of this.
+     *
+     * @param processor processor - owner of statistics
+     * @since 0.2.0
+     */
+    protected void useStatisticsOf(BaseProcessor<?, ?> processor) {
+        this.statistics = processor.statistics;
+    }
+
+    /**
+     * Reports enabled statistics: prints a summary and writes a statistics file, if it is set, then clears them.
+     *
+     * @since 0.2.0
+     */
+    protected void reportStatistics() {
+        if (!statistics.isEnabled()) {
+            return;
+        }
+        note(statistics.toSummary());
+        statistics.getFile().ifPresent(file -> {
+            try {
+                Path path = Paths.get(file);
+                Path parent = path.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                Files.write(path, statistics.toJson().getBytes(StandardCharsets.UTF_8));
+            } catch (IOException | InvalidPathException e) {
+                warning("Exception of statistics file writing: " + file + ", " + e);
+            }
+        });
+        statistics.clear();
+    }
+
+    /**
+     * Returns a type descriptor for a type element, cached during a round.
+     *
+     * @param typeElement type element
+     * @return type descriptor for {@code typeElement}
+     * @since 0.2.0
+     */
+    protected TypeDescriptor getTypeDescriptor(TypeElement typeElement) {
+        return typeDescriptorByElement.computeIfAbsent(typeElement, TypeDescriptor::new);
+    }
+
+    /**
+     * Returns all super type descriptors for a type descriptor, from the nearest one.
      *
      * @param typeDescriptor type descriptor
      * @return all super type descriptors for {@code typeDescriptor}
      * @since 0.2.0
      */
     protected Set<TypeDescriptor> getAllSuperTypes(TypeDescriptor typeDescriptor) {
-        Set<TypeDescriptor> target = new HashSet<>();
-        Queue<TypeElement> queue = new LinkedList<>();
-        queue.add(typeDescriptor.getElement());
-        while (!queue.isEmpty()) {
-            TypeElement type = queue.remove();
-            Set<TypeElement> superTypes = processingEnv.getTypeUtils().directSupertypes(type.asType())
-                    .stream()
-                    .filter(typeMirror -> typeMirror.getKind() == TypeKind.DECLARED)
-                    .map(DeclaredType.class::cast)
-                    .map(DeclaredType::asElement)
-                    .filter(element -> element.getKind() == ElementKind.CLASS)
-                    .filter(element -> !JAVA_LANG_OBJECT_CLASS_NAME.equals(element.toString()))
-                    .map(TypeElement.class::cast)
-                    .collect(Collectors.toSet());
-            if (!superTypes.isEmpty()) {
-                target.addAll(superTypes.stream().map(TypeDescriptor::new).collect(Collectors.toSet()));
-                queue.addAll(superTypes);
+        return getAllSuperTypes(typeDescriptor.getElement());
+    }
+
+    /**
+     * Returns all super type descriptors for a type element, from the nearest one,
+     * cached during a round with all super type descriptors for super types.
+     *
+     * @param typeElement type element
+     * @return all super type descriptors for {@code typeElement}
+     * @since 0.2.0
+     */
+    protected Set<TypeDescriptor> getAllSuperTypes(TypeElement typeElement) {
+        Set<TypeDescriptor> allSuperTypes = allSuperTypesByElement.get(typeElement);
+        if (allSuperTypes == null) {
+            Set<TypeDescriptor> target = new LinkedHashSet<>();
+            for (TypeElement superType : getDirectSuperClasses(typeElement)) {
+                target.add(getTypeDescriptor(superType));
+                target.addAll(getAllSuperTypes(superType));
             }
+            allSuperTypes = Collections.unmodifiableSet(target);
+            allSuperTypesByElement.put(typeElement, allSuperTypes);
         }
-        return target;
+        return allSuperTypes;
+    }
+
+    /**
+     * Returns direct super classes, except {@link java.lang.Object}, for a type element.
+     *
+     * @param typeElement type element
+     * @return direct super classes for {@code typeElement}
+     * @since 0.2.0
+     */
+    protected List<TypeElement> getDirectSuperClasses(TypeElement typeElement) {
+        return processingEnv.getTypeUtils().directSupertypes(typeElement.asType())
+                .stream()
+                .filter(typeMirror -> typeMirror.getKind() == TypeKind.DECLARED)
+                .map(DeclaredType.class::cast)
+                .map(DeclaredType::asElement)
+                .filter(element -> element.getKind() == ElementKind.CLASS)
+                .filter(element -> !JAVA_LANG_OBJECT_CLASS_NAME.equals(element.toString()))
+                .map(TypeElement.class::cast)
+                .collect(Collectors.toList());
     }
 
     /**
-     * Returns an empty set.
+     * Returns a set with options of statistics.
      *
-     * @return empty set
+     * @return set with {@link ProcessorStatistics#STATS_OPTION} and {@link ProcessorStatistics#STATS_FILE_OPTION}
      * @since 0.1.0
      */
     @Override
     public Set<String> getSupportedOptions() {
-        return Collections.emptySet();
+        return new LinkedHashSet<>(Arrays.asList(
+                ProcessorStatistics.STATS_OPTION,
+                ProcessorStatistics.STATS_FILE_OPTION));
     }
 
     /**
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.processor;
+
+import dev.alexengrig.metter.annotation.DiffSupplier;
+import dev.alexengrig.metter.element.descriptor.FieldDescriptor;
+import dev.alexengrig.metter.element.descriptor.TypeDescriptor;
+import dev.alexengrig.metter.exception.MetterException;
+import dev.alexengrig.metter.generator.DiffSupplierSourceGenerator;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Processor of diff supplier, fields are resolved as by {@link dev.alexengrig.metter.processor.GetterSupplierProcessor}.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @see dev.alexengrig.metter.annotation.DiffSupplier
+ * @since 0.2.0
+ */
+public class DiffSupplierProcessor extends BaseMethodSupplierProcessor<DiffSupplier> {
+    /**
+     * Getter supplier processor - resolver of fields with getters.
+     *
+     * @since 0.2.0
+     */
+    protected final GetterSupplierProcessor getterSupplierProcessor;
+
+    /**
+     * Constructs.
+     *
+     * @since 0.2.0
+     */
+    public DiffSupplierProcessor() {
+        super(DiffSupplier.class);
+        this.getterSupplierProcessor = new GetterSupplierProcessor();
+    }
+
+    /**
+     * Returns a generator source of diff supplier.
+     *
+     * @return generator source of diff supplier
+     * @since 0.2.0
+     */
+    @Override
+    protected DiffSupplierSourceGenerator getSourceGenerator() {
+        return new DiffSupplierSourceGenerator();
+    }
+
+    /**
+     * Returns a custom class name from {@link dev.alexengrig.metter.annotation.DiffSupplier#value()}.
+     *
+     * @param type descriptor
+     * @return custom class name from {@link dev.alexengrig.metter.annotation.DiffSupplier#value()}
+     * @since 0.2.0
+     */
+    @Override
+    protected String getCustomClassName(TypeDescriptor type) {
+        return type.getAnnotation(annotationClass)
+                .map(DiffSupplier::value)
+                .orElseThrow(() -> new MetterException("Type has no annotation: " + type + ", " + annotationClass));
+    }
+
+    /**
+     * Returns included fields from {@link dev.alexengrig.metter.annotation.DiffSupplier#includedFields()}.
+     *
+     * @param type descriptor
+     * @return included fields from {@link dev.alexengrig.metter.annotation.DiffSupplier#includedFields()}
+     * @since 0.2.0
+     */
+    @Override
+    protected Set<String> getIncludedFields(TypeDescriptor type) {
+        return type.getAnnotation(annotationClass)
+                .map(DiffSupplier::includedFields)
+                .map(Arrays::asList)
+                .map(HashSet::new)
+                .orElseThrow(() -> new MetterException("Type " + type + " has no annotation: " + annotationClass));
+    }
+
+    /**
+     * Returns excluded fields from {@link dev.alexengrig.metter.annotation.DiffSupplier#excludedFields()}.
+     *
+     * @param type descriptor
+     * @return excluded fields from {@link dev.alexengrig.metter.annotation.DiffSupplier#excludedFields()}
+     * @since 0.2.0
+     */
+    @Override
+    protected Set<String> getExcludedFields(TypeDescriptor type) {
+        return type.getAnnotation(annotationClass)
+                .map(DiffSupplier::excludedFields)
+                .map(Arrays::asList)
+                .map(HashSet::new)
+                .orElseThrow(() -> new MetterException("Type " + type + " has no annotation: " + annotationClass));
+    }
+
+    /**
+     * Returns a mark of switch dispatch from {@link dev.alexengrig.metter.annotation.DiffSupplier#switchDispatch()}.
+     *
+     * @param type descriptor
+     * @return mark of switch dispatch from {@link dev.alexengrig.metter.annotation.DiffSupplier#switchDispatch()}
+     * @since 0.2.0
+     */
+    @Override
+    protected boolean isSwitchDispatch(TypeDescriptor type) {
+        return type.getAnnotation(annotationClass)
+                .map(DiffSupplier::switchDispatch)
+                .orElseThrow(() -> new MetterException("Type " + type + " has no annotation: " + annotationClass));
+    }
+
+    /**
+     * Returns a mark of field access from {@link dev.alexengrig.metter.annotation.DiffSupplier#fieldAccess()}.
+     *
+     * @param type descriptor
+     * @return mark of field access from {@link dev.alexengrig.metter.annotation.DiffSupplier#fieldAccess()}
+     * @since 0.2.0
+     */
+    @Override
+    protected boolean isFieldAccess(TypeDescriptor type) {
+        return type.getAnnotation(annotationClass)
+                .map(DiffSupplier::fieldAccess)
+                .orElseThrow(() -> new MetterException("Type " + type + " has no annotation: " + annotationClass));
+    }
+
+    /**
+     * Checks if a field descriptor has a getter.
+     *
+     * @param field descriptor
+     * @return if {@code field} has a getter
+     * @see dev.alexengrig.metter.processor.GetterSupplierProcessor#isTargetField(FieldDescriptor)
+     * @since 0.2.0
+     */
+    @Override
+    protected boolean isTargetField(FieldDescriptor field) {
+        return getterSupplierProcessor.isTargetField(field);
+    }
+
+    /**
+     * Returns a getter for a field descriptor.
+     *
+     * @param field descriptor
+     * @return getter for {@code field}
+     * @since 0.2.0
+     */
+    @Override
+    protected String getMethod(FieldDescriptor field) {
+        return getterSupplierProcessor.getMethod(field);
+    }
+
+    /**
+     * Returns an invocation of getter for a field descriptor.
+     *
+     * @param field descriptor
+     * @return invocation of getter for {@code field}
+     * @since 0.2.0
+     */
+    @Override
+    protected String getInvocation(FieldDescriptor field) {
+        return getterSupplierProcessor.getInvocation(field);
+    }
+
+    /**
+     * Returns a lambda reading a field descriptor directly.
+     *
+     * @param field descriptor
+     * @return lambda reading {@code field} directly
+     * @see dev.alexengrig.metter.processor.GetterSupplierProcessor#getFieldAccessMethod(FieldDescriptor)
+     * @since 0.2.0
+     */
+    @Override
+    protected String getFieldAccessMethod(FieldDescriptor field) {
+        return getterSupplierProcessor.getFieldAccessMethod(field);
+    }
+
+    /**
+     * Returns an invocation reading a field descriptor directly.
+     *
+     * @param field descriptor
+     * @return invocation reading {@code field} directly
+     * @see dev.alexengrig.metter.processor.GetterSupplierProcessor#getFieldAccessInvocation(FieldDescriptor)
+     * @since 0.2.0
+     */
+    @Override
+    protected String getFieldAccessInvocation(FieldDescriptor field) {
+        return getterSupplierProcessor.getFieldAccessInvocation(field);
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.processor;
+
+import dev.alexengrig.metter.annotation.Fields;
+import dev.alexengrig.metter.element.descriptor.FieldDescriptor;
+import dev.alexengrig.metter.element.descriptor.TypeDescriptor;
+import dev.alexengrig.metter.exception.MetterException;
+import dev.alexengrig.metter.generator.FieldsSourceGenerator;
+import dev.alexengrig.metter.generator.TypedFieldMethod;
+
+import javax.lang.model.element.Modifier;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Processor of fields - typed fields with getters, fields are resolved as by
+ * {@link dev.alexengrig.metter.processor.GetterSupplierProcessor},
+ * setters are resolved as by {@link dev.alexengrig.metter.processor.SetterSupplierProcessor}.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @see dev.alexengrig.metter.annotation.Fields
+ * @since 0.2.0
+ */
+public class FieldsProcessor extends BaseMethodSupplierProcessor<Fields> {
+    /**
+     * Getter supplier processor - resolver of fields with getters.
+     *
+     * @since 0.2.0
+     */
+    protected final GetterSupplierProcessor getterSupplierProcessor;
+    /**
+     * Setter supplier processor - resolver of fields with setters.
+     *
+     * @since 0.2.0
+     */
+    protected final SetterSupplierProcessor setterSupplierProcessor;
+
+    /**
+     * Constructs.
+     *
+     * @since 0.2.0
+     */
+    public FieldsProcessor() {
+        super(Fields.class);
+        this.getterSupplierProcessor = new GetterSupplierProcessor();
+        this.setterSupplierProcessor = new SetterSupplierProcessor();
+    }
+
+    /**
+     * Returns a generator source of fields.
+     *
+     * @return generator source of fields
+     * @since 0.2.0
+     */
+    @Override
+    protected FieldsSourceGenerator getSourceGenerator() {
+        return new FieldsSourceGenerator();
+    }
+
+    /**
+     * Returns a custom class name from {@link dev.alexengrig.metter.annotation.Fields#value()}.
+     *
+     * @param type descriptor
+     * @return custom class name from {@link dev.alexengrig.metter.annotation.Fields#value()}
+     * @since 0.2.0
+     */
+    @Override
+    protected String getCustomClassName(TypeDescriptor type) {
+        return type.getAnnotation(annotationClass)
+                .map(Fields::value)
+                .orElseThrow(() -> new MetterException("Type has no annotation: " + type + ", " + annotationClass));
+    }
+
+    /**
+     * Returns included fields from {@link dev.alexengrig.metter.annotation.Fields#includedFields()}.
+     *
+     * @param type descriptor
+     * @return included fields from {@link dev.alexengrig.metter.annotation.Fields#includedFields()}
+     * @since 0.2.0
+     */
+    @Override
+    protected Set<String> getIncludedFields(TypeDescriptor type) {
+        return type.getAnnotation(annotationClass)
+                .map(Fields::includedFields)
+                .map(Arrays::asList)
+                .map(HashSet::new)
+                .orElseThrow(() -> new MetterException("Type " + type + " has no annotation: " + annotationClass));
+    }
+
+    /**
+     * Returns excluded fields from {@link dev.alexengrig.metter.annotation.Fields#excludedFields()}.
+     *
+     * @param type descriptor
+     * @return excluded fields from {@link dev.alexengrig.metter.annotation.Fields#excludedFields()}
+     * @since 0.2.0
+     */
+    @Override
+    protected Set<String> getExcludedFields(TypeDescriptor type) {
+        return type.getAnnotation(annotationClass)
+                .map(Fields::excludedFields)
+                .map(Arrays::asList)
+                .map(HashSet::new)
+                .orElseThrow(() -> new MetterException("Type " + type + " has no annotation: " + annotationClass));
+    }
+
+    /**
+     * Returns {@code false}, constants of typed fields are map values.
+     *
+     * @param type descriptor
+     * @return {@code false}
+     * @since 0.2.0
+     */
+    @Override
+    protected boolean isSwitchDispatch(TypeDescriptor type) {
+        return false;
+    }
+
+    /**
+     * Creates a field with a getter, and a setter if a field descriptor is not final and has it.
+     *
+     * @param field descriptor
+     * @return field with a getter, and a setter if {@code field} is not final and has it
+     * @since 0.2.0
+     */
+    @Override
+    protected TypedFieldMethod createFieldMethod(FieldDescriptor field) {
+        boolean isFinal = field.getElement().getModifiers().contains(Modifier.FINAL);
+        String setterInvocation = !isFinal && setterSupplierProcessor.isTargetField(field)
+                ? setterSupplierProcessor.getInvocation(field)
+                : null;
+        return new TypedFieldMethod(field.getName(), field.getTypeName(), getMethod(field), getInvocation(field),
+                setterInvocation);
+    }
+
+    /**
+     * Returns a mark of field access from {@link dev.alexengrig.metter.annotation.Fields#fieldAccess()}.
+     *
+     * @param type descriptor
+     * @return mark of field access from {@link dev.alexengrig.metter.annotation.Fields#fieldAccess()}
+     * @since 0.2.0
+     */
+    @Override
+    protected boolean isFieldAccess(TypeDescriptor type) {
+        return type.getAnnotation(annotationClass)
+                .map(Fields::fieldAccess)
+                .orElseThrow(() -> new MetterException("Type " + type + " has no annotation: " + annotationClass));
+    }
+
+    /**
+     * Creates a field with a direct read, and a direct write if a field descriptor is not final.
+     *
+     * @param field descriptor
+     * @return field with a direct read, and a direct write if {@code field} is not final
+     * @since 0.2.0
+     */
+    @Override
+    protected TypedFieldMethod createFieldAccess(FieldDescriptor field) {
+        String setterInvocation = !field.hasModifier(Modifier.FINAL)
+                ? setterSupplierProcessor.getFieldAccessInvocation(field)
+                : null;
+        return new TypedFieldMethod(field.getName(), field.getTypeName(), getFieldAccessMethod(field),
+                getFieldAccessInvocation(field), setterInvocation);
+    }
+
+    /**
+     * Checks if a field descriptor has a getter.
+     *
+     * @param field descriptor
+     * @return if {@code field} has a getter
+     * @see dev.alexengrig.metter.processor.GetterSupplierProcessor#isTargetField(FieldDescriptor)
+     * @since 0.2.0
+     */
+    @Override
+    protected boolean isTargetField(FieldDescriptor field) {
+        return getterSupplierProcessor.isTargetField(field);
+    }
+
+    /**
+     * Returns a getter for a field descriptor.
+     *
+     * @param field descriptor
+     * @return getter for {@code field}
+     * @since 0.2.0
+     */
+    @Override
+    protected String getMethod(FieldDescriptor field) {
+        return getterSupplierProcessor.getMethod(field);
+    }
+
+    /**
+     * Returns an invocation of getter for a field descriptor.
+     *
+     * @param field descriptor
+     * @return invocation of getter for {@code field}
+     * @since 0.2.0
+     */
+    @Override
+    protected String getInvocation(FieldDescriptor field) {
+        return getterSupplierProcessor.getInvocation(field);
+    }
+
+    /**
+     * Returns a lambda reading a field descriptor directly.
+     *
+     * @param field descriptor
+     * @return lambda reading {@code field} directly
+     * @see dev.alexengrig.metter.processor.GetterSupplierProcessor#getFieldAccessMethod(FieldDescriptor)
+     * @since 0.2.0
+     */
+    @Override
+    protected String getFieldAccessMethod(FieldDescriptor field) {
+        return getterSupplierProcessor.getFieldAccessMethod(field);
+    }
+
+    /**
+     * Returns an invocation reading a field descriptor directly.
+     *
+     * @param field descriptor
+     * @return invocation reading {@code field} directly
+     * @see dev.alexengrig.metter.processor.GetterSupplierProcessor#getFieldAccessInvocation(FieldDescriptor)
+     * @since 0.2.0
+     */
+    @Override
+    protected String getFieldAccessInvocation(FieldDescriptor field) {
+        return getterSupplierProcessor.getFieldAccessInvocation(field);
+    }
+}
@@ -16,7 +16,6 @@
 
 package dev.alexengrig.metter.processor;
 
-import com.google.auto.service.AutoService;
 import dev.alexengrig.metter.annotation.GetterSupplier;
 import dev.alexengrig.metter.element.descriptor.FieldDescriptor;
 import dev.alexengrig.metter.element.descriptor.MethodDescriptor;
@@ -28,7 +27,6 @@ import lombok.AccessLevel;
 import lombok.Data;
 import lombok.Getter;
 
-import javax.annotation.processing.Processor;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
@@ -37,11 +35,10 @@ import java.util.Set;
  * Processor of getter supplier.
  *
  * @author Grig Alex
- * @version 0.1.1
+ * @version 0.2.0
  * @see dev.alexengrig.metter.annotation.GetterSupplier
  * @since 0.1.0
  */
-@AutoService(Processor.class)
 public class GetterSupplierProcessor extends BaseMethodSupplierProcessor<GetterSupplier> {
     /**
      * Constructs.
@@ -109,6 +106,34 @@ public class GetterSupplierProcessor extends BaseMethodSupplierProcessor<GetterS
                 .orElseThrow(() -> new MetterException("Type " + type + " has no annotation: " + annotationClass));
     }
 
+    /**
+     * Returns a mark of switch dispatch from {@link dev.alexengrig.metter.annotation.GetterSupplier#switchDispatch()}.
+     *
+     * @param type descriptor
+     * @return mark of switch dispatch from {@link dev.alexengrig.metter.annotation.GetterSupplier#switchDispatch()}
+     * @since 0.2.0
+     */
+    @Override
+    protected boolean isSwitchDispatch(TypeDescriptor type) {
+        return type.getAnnotation(annotationClass)
+                .map(GetterSupplier::switchDispatch)
+                .orElseThrow(() -> new MetterException("Type " + type + " has no annotation: " + annotationClass));
+    }
+
+    /**
+     * Returns a mark of field access from {@link dev.alexengrig.metter.annotation.GetterSupplier#fieldAccess()}.
+     *
+     * @param type descriptor
+     * @return mark of field access from {@link dev.alexengrig.metter.annotation.GetterSupplier#fieldAccess()}
+     * @since 0.2.0
+     */
+    @Override
+    protected boolean isFieldAccess(TypeDescriptor type) {
+        return type.getAnnotation(annotationClass)
+                .map(GetterSupplier::fieldAccess)
+                .orElseThrow(() -> new MetterException("Type " + type + " has no annotation: " + annotationClass));
+    }
+
     /**
      * Checks if a field descriptor has {@link lombok.Getter} (not private) annotation
      * or a type descriptor of field descriptor has {@link lombok.Getter} (not private) annotation
@@ -182,4 +207,40 @@ public class GetterSupplierProcessor extends BaseMethodSupplierProcessor<GetterS
     protected String getMethod(FieldDescriptor field) {
         return field.getParent().getQualifiedName() + "::" + getGetterMethod(field);
     }
+
+    /**
+     * Returns an invocation of getter for a field descriptor.
+     *
+     * @param field descriptor
+     * @return invocation of getter for {@code field}
+     * @since 0.2.0
+     */
+    @Override
+    protected String getInvocation(FieldDescriptor field) {
+        return "%1$s." + getGetterMethod(field) + "()";
+    }
+
+    /**
+     * Returns a lambda reading a field descriptor directly.
+     *
+     * @param field descriptor
+     * @return lambda reading {@code field} directly
+     * @since 0.2.0
+     */
+    @Override
+    protected String getFieldAccessMethod(FieldDescriptor field) {
+        return "instance -> instance." + field.getName();
+    }
+
+    /**
+     * Returns an invocation reading a field descriptor directly.
+     *
+     * @param field descriptor
+     * @return invocation reading {@code field} directly
+     * @since 0.2.0
+     */
+    @Override
+    protected String getFieldAccessInvocation(FieldDescriptor field) {
+        return "%1$s." + field.getName();
+    }
 }
@@ -0,0 +1,604 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.processor;
+
+import dev.alexengrig.metter.annotation.Hydrator;
+import dev.alexengrig.metter.element.descriptor.FieldDescriptor;
+import dev.alexengrig.metter.element.descriptor.MethodDescriptor;
+import dev.alexengrig.metter.element.descriptor.TypeDescriptor;
+import dev.alexengrig.metter.exception.MetterException;
+import dev.alexengrig.metter.generator.FieldMethod;
+import dev.alexengrig.metter.generator.HydratorFieldMethod;
+import dev.alexengrig.metter.generator.HydratorSourceGenerator;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.util.Elements;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Processor of hydrator - a creator of instances by a constructor and setters.
+ * <p>
+ * The constructor with the most parameters is selected, every parameter of it must be a field by name and type;
+ * {@link lombok.AllArgsConstructor} and {@link lombok.Value} are constructors with all not static fields
+ * of the type in order of declaration, except initialized final fields,
+ * {@link lombok.RequiredArgsConstructor} and {@link lombok.Data} (without explicit constructors)
+ * are constructors with not initialized final and {@link lombok.NonNull} fields,
+ * {@link lombok.NoArgsConstructor} is a constructor without parameters.
+ * Other fields are resolved as by {@link dev.alexengrig.metter.processor.SetterSupplierProcessor}.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @see dev.alexengrig.metter.annotation.Hydrator
+ * @since 0.2.0
+ */
+public class HydratorProcessor extends BaseMethodSupplierProcessor<Hydrator> {
+    /**
+     * Setter supplier processor - resolver of fields with setters.
+     *
+     * @since 0.2.0
+     */
+    protected final SetterSupplierProcessor setterSupplierProcessor;
+
+    /**
+     * Constructs.
+     *
+     * @since 0.2.0
+     */
+    public HydratorProcessor() {
+        super(Hydrator.class);
+        this.setterSupplierProcessor = new SetterSupplierProcessor();
+    }
+
+    /**
+     * Returns a generator source of hydrator.
+     *
+     * @return generator source of hydrator
+     * @since 0.2.0
+     */
+    @Override
+    protected HydratorSourceGenerator getSourceGenerator() {
+        return new HydratorSourceGenerator();
+    }
+
+    /**
+     * Returns a custom class name from {@link dev.alexengrig.metter.annotation.Hydrator#value()}.
+     *
+     * @param type descriptor
+     * @return custom class name from {@link dev.alexengrig.metter.annotation.Hydrator#value()}
+     * @since 0.2.0
+     */
+    @Override
+    protected String getCustomClassName(TypeDescriptor type) {
+        return type.getAnnotation(annotationClass)
+                .map(Hydrator::value)
+                .orElseThrow(() -> new MetterException("Type " + type + " has no annotation: " + annotationClass));
+    }
+
+    /**
+     * Returns included fields from {@link dev.alexengrig.metter.annotation.Hydrator#includedFields()}.
+     *
+     * @param type descriptor
+     * @return included fields from {@link dev.alexengrig.metter.annotation.Hydrator#includedFields()}
+     * @since 0.2.0
+     */
+    @Override
+    protected Set<String> getIncludedFields(TypeDescriptor type) {
+        return type.getAnnotation(annotationClass)
+                .map(Hydrator::includedFields)
+                .map(Arrays::asList)
+                .map(HashSet::new)
+                .orElseThrow(() -> new MetterException("Type " + type + " has no annotation: " + annotationClass));
+    }
+
+    /**
+     * Returns excluded fields from {@link dev.alexengrig.metter.annotation.Hydrator#excludedFields()}.
+     *
+     * @param type descriptor
+     * @return excluded fields from {@link dev.alexengrig.metter.annotation.Hydrator#excludedFields()}
+     * @since 0.2.0
+     */
+    @Override
+    protected Set<String> getExcludedFields(TypeDescriptor type) {
+        return type.getAnnotation(annotationClass)
+                .map(Hydrator::excludedFields)
+                .map(Arrays::asList)
+                .map(HashSet::new)
+                .orElseThrow(() -> new MetterException("Type " + type + " has no annotation: " + annotationClass));
+    }
+
+    /**
+     * Returns {@code false}, class literals of field types are map values.
+     *
+     * @param type descriptor
+     * @return {@code false}
+     * @since 0.2.0
+     */
+    @Override
+    protected boolean isSwitchDispatch(TypeDescriptor type) {
+        return false;
+    }
+
+    /**
+     * Returns a mark of field access from {@link dev.alexengrig.metter.annotation.Hydrator#fieldAccess()}.
+     *
+     * @param type descriptor
+     * @return mark of field access from {@link dev.alexengrig.metter.annotation.Hydrator#fieldAccess()}
+     * @since 0.2.0
+     */
+    @Override
+    protected boolean isFieldAccess(TypeDescriptor type) {
+        return type.getAnnotation(annotationClass)
+                .map(Hydrator::fieldAccess)
+                .orElseThrow(() -> new MetterException("Type " + type + " has no annotation: " + annotationClass));
+    }
+
+    /**
+     * Creates fields with parameters of the selected constructor, and fields with setters in order of fields.
+     * Static fields and fields without parameter and setter are skipped,
+     * a field hidden by a field with the same name is skipped.
+     *
+     * @param type descriptor
+     * @return fields with parameters of constructor or setters from {@code type}
+     * @throws dev.alexengrig.metter.exception.MetterException if {@code type} has no constructor
+     *                                                         with parameters of fields
+     * @see #getConstructorParameters(TypeDescriptor, Map)
+     * @since 0.2.0
+     */
+    @Override
+    protected List<FieldMethod> createFieldMethods(TypeDescriptor type) {
+        Map<String, FieldDescriptor> fieldByName = new LinkedHashMap<>();
+        for (FieldDescriptor field : getFields(type)) {
+            if (!field.hasModifier(Modifier.STATIC)) {
+                fieldByName.putIfAbsent(field.getName(), field);
+            }
+        }
+        List<FieldDescriptor> parameters = getConstructorParameters(type, fieldByName);
+        boolean fieldAccess = isFieldAccess(type);
+        List<FieldMethod> fieldMethods = new ArrayList<>(fieldByName.size());
+        for (FieldDescriptor field : fieldByName.values()) {
+            int parameterIndex = parameters.indexOf(field);
+            if (parameterIndex >= 0) {
+                fieldMethods.add(new HydratorFieldMethod(field.getName(), field.getTypeName(), null, parameterIndex));
+            } else if (fieldAccess && isAccessibleField(type, field)) {
+                fieldMethods.add(createFieldAccess(field));
+            } else if (isTargetField(field)) {
+                fieldMethods.add(createFieldMethod(field));
+            }
+        }
+        return fieldMethods;
+    }
+
+    /**
+     * Returns fields - parameters of the constructor with the most parameters,
+     * every parameter of that is a field by name and type.
+     *
+     * @param type        descriptor
+     * @param fieldByName not static fields of {@code type} with fields of super classes by name
+     * @return fields - parameters of the selected constructor of {@code type}, empty for constructor without parameters
+     * @throws dev.alexengrig.metter.exception.MetterException if {@code type} has no constructor
+     *                                                         with parameters of fields
+     * @since 0.2.0
+     */
+    protected List<FieldDescriptor> getConstructorParameters(TypeDescriptor type,
+                                                             Map<String, FieldDescriptor> fieldByName) {
+        List<List<FieldDescriptor>> candidates = new ArrayList<>();
+        for (MethodDescriptor constructor : type.getConstructors()) {
+            if (constructor.isNotPrivate()) {
+                getConstructorParameters(constructor, fieldByName).ifPresent(candidates::add);
+            }
+        }
+        List<List<FieldDescriptor>> lombokCandidates = new ArrayList<>(2);
+        getLombokConstructorParameters(type, fieldByName).ifPresent(lombokCandidates::add);
+        getLombokRequiredConstructorParameters(type, fieldByName).ifPresent(lombokCandidates::add);
+        for (List<FieldDescriptor> lombokParameters : lombokCandidates) {
+            if (candidates.stream().noneMatch(parameters -> isLombokConstructor(type, parameters, lombokParameters))) {
+                candidates.add(lombokParameters);
+            }
+        }
+        if (hasLombokNoArgsConstructor(type)) {
+            candidates.add(Collections.emptyList());
+        }
+        return candidates.stream()
+                .max(Comparator.<List<FieldDescriptor>>comparingInt(List::size)
+                        .thenComparing(parameters -> parameters.stream()
+                                .map(FieldDescriptor::getName)
+                                .collect(Collectors.joining(","))))
+                .orElseThrow(() -> new MetterException("Type " + type
+                        + " has no accessible constructor with parameters of fields"));
+    }
+
+    /**
+     * Returns fields - parameters of a constructor, if every parameter is a field by name and type.
+     *
+     * @param constructor descriptor
+     * @param fieldByName fields by name
+     * @return {@link java.util.Optional} with fields - parameters of {@code constructor},
+     * or empty if some parameter is not a field
+     * @since 0.2.0
+     */
+    protected Optional<List<FieldDescriptor>> getConstructorParameters(MethodDescriptor constructor,
+                                                                       Map<String, FieldDescriptor> fieldByName) {
+        List<String> parameterNames = constructor.getParameterNames();
+        List<String> parameterTypeNames = constructor.getParameterTypeNames();
+        List<FieldDescriptor> parameters = new ArrayList<>(parameterNames.size());
+        for (int i = 0; i < parameterNames.size(); i++) {
+            FieldDescriptor field = fieldByName.get(parameterNames.get(i));
+            if (field == null || !field.getTypeName().equals(parameterTypeNames.get(i))) {
+                return Optional.empty();
+            }
+            parameters.add(field);
+        }
+        return Optional.of(parameters);
+    }
+
+    /**
+     * Returns fields - parameters of a constructor of {@link lombok.AllArgsConstructor} (not private)
+     * or {@link lombok.Value} of a type descriptor: all not static fields of the type in order of declaration,
+     * except initialized final fields.
+     *
+     * @param type        descriptor
+     * @param fieldByName fields by name
+     * @return {@link java.util.Optional} with fields - parameters of constructor of Lombok,
+     * or empty if {@code type} has no that constructor or some field of it is not in {@code fieldByName}
+     * @since 0.2.0
+     */
+    protected Optional<List<FieldDescriptor>> getLombokConstructorParameters(TypeDescriptor type,
+                                                                             Map<String, FieldDescriptor> fieldByName) {
+        if (!hasLombokAllArgsConstructor(type)) {
+            return Optional.empty();
+        }
+        boolean finalByValue = type.hasAnnotation(Value.class);
+        return getLombokConstructorParameters(type, fieldByName,
+                field -> !((finalByValue || field.hasModifier(Modifier.FINAL)) && isInitializedField(field)));
+    }
+
+    /**
+     * Returns fields - parameters of a constructor of {@link lombok.RequiredArgsConstructor} (not private)
+     * or {@link lombok.Data} of a type descriptor: not static fields of the type in order of declaration,
+     * that are final or {@link lombok.NonNull}, except initialized ones.
+     *
+     * @param type        descriptor
+     * @param fieldByName fields by name
+     * @return {@link java.util.Optional} with fields - parameters of required constructor of Lombok,
+     * or empty if {@code type} has no that constructor or some field of it is not in {@code fieldByName}
+     * @since 0.2.0
+     */
+    protected Optional<List<FieldDescriptor>> getLombokRequiredConstructorParameters(
+            TypeDescriptor type, Map<String, FieldDescriptor> fieldByName) {
+        if (!hasLombokRequiredArgsConstructor(type)) {
+            return Optional.empty();
+        }
+        boolean finalByValue = type.hasAnnotation(Value.class);
+        return getLombokConstructorParameters(type, fieldByName,
+                field -> (finalByValue || field.hasModifier(Modifier.FINAL) || field.hasAnnotation(NonNull.class))
+                        && !isInitializedField(field));
+    }
+
+    /**
+     * Returns fields - parameters of a constructor of Lombok of a type descriptor:
+     * not static fields of the type in order of declaration, that are parameters by a filter.
+     *
+     * @param type        descriptor
+     * @param fieldByName fields by name
+     * @param isParameter filter of parameters
+     * @return {@link java.util.Optional} with fields - parameters of constructor of Lombok,
+     * or empty if some field of it is not in {@code fieldByName}
+     * @since 0.2.0
+     */
+    protected Optional<List<FieldDescriptor>> getLombokConstructorParameters(TypeDescriptor type,
+                                                                             Map<String, FieldDescriptor> fieldByName,
+                                                                             Predicate<FieldDescriptor> isParameter) {
+        List<FieldDescriptor> parameters = new ArrayList<>();
+        for (FieldDescriptor field : type.getFields()) {
+            if (!field.hasModifier(Modifier.STATIC) && isParameter.test(field)) {
+                if (fieldByName.get(field.getName()) != field) {
+                    return Optional.empty();
+                }
+                parameters.add(field);
+            }
+        }
+        return Optional.of(parameters);
+    }
+
+    /**
+     * Checks if a field descriptor is initialized: has a constant value or an initializer.
+     *
+     * @param field descriptor
+     * @return if {@code field} has a constant value or an initializer
+     * @see #hasInitializer(FieldDescriptor)
+     * @since 0.2.0
+     */
+    protected boolean isInitializedField(FieldDescriptor field) {
+        return field.hasConstantValue() || hasInitializer(field).orElse(false);
+    }
+
+    /**
+     * Checks if a field descriptor has an initializer by the tree API of javac ({@code com.sun.source}),
+     * that is used by reflection, so other compilers are supported too.
+     *
+     * @param field descriptor
+     * @return {@link java.util.Optional} with mark of initializer of {@code field},
+     * or empty if the tree API is not available
+     * @since 0.2.0
+     */
+    protected Optional<Boolean> hasInitializer(FieldDescriptor field) {
+        try {
+            Class<?> treesClass = Class.forName("com.sun.source.util.Trees");
+            Class<?> variableTreeClass = Class.forName("com.sun.source.tree.VariableTree");
+            Object trees = treesClass.getMethod("instance", ProcessingEnvironment.class).invoke(null, processingEnv);
+            Object tree = treesClass.getMethod("getTree", Element.class).invoke(trees, field.getElement());
+            if (variableTreeClass.isInstance(tree)) {
+                return Optional.of(variableTreeClass.getMethod("getInitializer").invoke(tree) != null);
+            }
+        } catch (ReflectiveOperationException | LinkageError ignored) {
+            // not javac or a wrapped processing environment
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Checks if a constructor is the constructor of Lombok, generated before this processor:
+     * parameters of it are fields of the constructor of Lombok, except some final fields - initialized ones.
+     *
+     * @param type             descriptor
+     * @param parameters       fields - parameters of a visible constructor of {@code type}
+     * @param lombokParameters fields - parameters of the constructor of Lombok of {@code type}
+     * @return if {@code parameters} are not empty and are {@code lombokParameters} without some final fields
+     * @since 0.2.0
+     */
+    protected boolean isLombokConstructor(TypeDescriptor type, List<FieldDescriptor> parameters,
+                                          List<FieldDescriptor> lombokParameters) {
+        if (parameters.isEmpty()) {
+            return false;
+        }
+        boolean finalByValue = type.hasAnnotation(Value.class);
+        int index = 0;
+        for (FieldDescriptor field : lombokParameters) {
+            if (index < parameters.size() && parameters.get(index) == field) {
+                index++;
+            } else if (!finalByValue && !field.hasModifier(Modifier.FINAL)) {
+                return false;
+            }
+        }
+        return index == parameters.size();
+    }
+
+    /**
+     * Checks if a type descriptor has {@link lombok.AllArgsConstructor} annotation (not private, without static name)
+     * or {@link lombok.Value} annotation (without static constructor).
+     *
+     * @param type descriptor
+     * @return if {@code type} has a constructor with all fields by Lombok
+     * @since 0.2.0
+     */
+    protected boolean hasLombokAllArgsConstructor(TypeDescriptor type) {
+        if (type.hasAnnotation(AllArgsConstructor.class)) {
+            return type.getAnnotation(AllArgsConstructor.class)
+                    .filter(annotation -> annotation.access() != AccessLevel.PRIVATE)
+                    .filter(annotation -> annotation.staticName().isEmpty())
+                    .isPresent();
+        }
+        return type.getAnnotation(Value.class)
+                .filter(annotation -> annotation.staticConstructor().isEmpty())
+                .isPresent();
+    }
+
+    /**
+     * Checks if a type descriptor has {@link lombok.RequiredArgsConstructor} annotation
+     * (not private, without static name), or {@link lombok.Data} annotation (without static constructor)
+     * without annotations of other constructors of Lombok and without explicit constructors.
+     *
+     * @param type descriptor
+     * @return if {@code type} has a constructor with required fields by Lombok
+     * @see #hasExplicitConstructor(TypeDescriptor)
+     * @since 0.2.0
+     */
+    protected boolean hasLombokRequiredArgsConstructor(TypeDescriptor type) {
+        if (type.hasAnnotation(RequiredArgsConstructor.class)) {
+            return type.getAnnotation(RequiredArgsConstructor.class)
+                    .filter(annotation -> annotation.access() != AccessLevel.PRIVATE)
+                    .filter(annotation -> annotation.staticName().isEmpty())
+                    .isPresent();
+        }
+        if (type.hasAnnotation(AllArgsConstructor.class) || type.hasAnnotation(NoArgsConstructor.class)) {
+            return false;
+        }
+        return type.getAnnotation(Data.class)
+                .filter(annotation -> annotation.staticConstructor().isEmpty())
+                .isPresent() && !hasExplicitConstructor(type);
+    }
+
+    /**
+     * Checks if a type descriptor has an explicit constructor, not the default one;
+     * a constructor of Lombok, generated before this processor, is explicit too.
+     *
+     * @param type descriptor
+     * @return if {@code type} has a constructor that is not the default one,
+     * a constructor without parameters is the default one if it is unknown
+     * @see #isDefaultConstructor(MethodDescriptor)
+     * @since 0.2.0
+     */
+    protected boolean hasExplicitConstructor(TypeDescriptor type) {
+        return type.getConstructors().stream()
+                .anyMatch(constructor -> !isDefaultConstructor(constructor).orElseGet(constructor::hasNoParameters));
+    }
+
+    /**
+     * Checks if a constructor is the default one, added by the compiler, by {@code Elements#getOrigin(Element)}
+     * of Java 9+, or by flags of symbol of javac of Java 8; both are used by reflection.
+     *
+     * @param constructor descriptor
+     * @return {@link java.util.Optional} with mark of default {@code constructor},
+     * or empty if the origin is not available
+     * @since 0.2.0
+     */
+    protected Optional<Boolean> isDefaultConstructor(MethodDescriptor constructor) {
+        Element element = constructor.getElement();
+        try {
+            Object origin = Elements.class.getMethod("getOrigin", Element.class)
+                    .invoke(processingEnv.getElementUtils(), element);
+            return Optional.of("MANDATED".equals(String.valueOf(origin)));
+        } catch (ReflectiveOperationException | LinkageError ignored) {
+            // Java 8
+        }
+        try {
+            // com.sun.tools.javac.code.Flags.GENERATEDCONSTR
+            long flags = (long) element.getClass().getMethod("flags").invoke(element);
+            return Optional.of((flags & 1L << 36) != 0);
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException ignored) {
+            // not javac
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Checks if a type descriptor has {@link lombok.NoArgsConstructor} annotation (not private, without static name).
+     *
+     * @param type descriptor
+     * @return if {@code type} has a constructor without parameters by Lombok
+     * @since 0.2.0
+     */
+    protected boolean hasLombokNoArgsConstructor(TypeDescriptor type) {
+        return type.getAnnotation(NoArgsConstructor.class)
+                .filter(annotation -> annotation.access() != AccessLevel.PRIVATE)
+                .filter(annotation -> annotation.staticName().isEmpty())
+                .isPresent();
+    }
+
+    /**
+     * Checks if a field descriptor is accessible directly and is not final.
+     *
+     * @param type  descriptor of annotated type, the source is in its package
+     * @param field descriptor of field of {@code type} or its super class
+     * @return if {@code field} is accessible directly from a source of {@code type} and is not final
+     * @see dev.alexengrig.metter.processor.SetterSupplierProcessor#isAccessibleField(TypeDescriptor, FieldDescriptor)
+     * @since 0.2.0
+     */
+    @Override
+    protected boolean isAccessibleField(TypeDescriptor type, FieldDescriptor field) {
+        return setterSupplierProcessor.isAccessibleField(type, field);
+    }
+
+    /**
+     * Checks if a field descriptor is not final and has a setter.
+     *
+     * @param field descriptor
+     * @return if {@code field} is not final and has a setter
+     * @see dev.alexengrig.metter.processor.SetterSupplierProcessor#isTargetField(FieldDescriptor)
+     * @since 0.2.0
+     */
+    @Override
+    protected boolean isTargetField(FieldDescriptor field) {
+        return !field.hasModifier(Modifier.FINAL) && setterSupplierProcessor.isTargetField(field);
+    }
+
+    /**
+     * Creates a field with a setter.
+     *
+     * @param field descriptor
+     * @return field with a setter
+     * @since 0.2.0
+     */
+    @Override
+    protected HydratorFieldMethod createFieldMethod(FieldDescriptor field) {
+        return new HydratorFieldMethod(field.getName(), field.getTypeName(), getInvocation(field), -1);
+    }
+
+    /**
+     * Creates a field with a direct write.
+     *
+     * @param field descriptor
+     * @return field with a direct write
+     * @since 0.2.0
+     */
+    @Override
+    protected HydratorFieldMethod createFieldAccess(FieldDescriptor field) {
+        return new HydratorFieldMethod(field.getName(), field.getTypeName(), getFieldAccessInvocation(field), -1);
+    }
+
+    /**
+     * Returns a setter for a field descriptor.
+     *
+     * @param field descriptor
+     * @return setter for {@code field}
+     * @see dev.alexengrig.metter.processor.SetterSupplierProcessor#getMethod(FieldDescriptor)
+     * @since 0.2.0
+     */
+    @Override
+    protected String getMethod(FieldDescriptor field) {
+        return setterSupplierProcessor.getMethod(field);
+    }
+
+    /**
+     * Returns an invocation of setter for a field descriptor.
+     *
+     * @param field descriptor
+     * @return invocation of setter for {@code field}
+     * @see dev.alexengrig.metter.processor.SetterSupplierProcessor#getInvocation(FieldDescriptor)
+     * @since 0.2.0
+     */
+    @Override
+    protected String getInvocation(FieldDescriptor field) {
+        return setterSupplierProcessor.getInvocation(field);
+    }
+
+    /**
+     * Returns a lambda writing a field descriptor directly.
+     *
+     * @param field descriptor
+     * @return lambda writing {@code field} directly
+     * @see dev.alexengrig.metter.processor.SetterSupplierProcessor#getFieldAccessMethod(FieldDescriptor)
+     * @since 0.2.0
+     */
+    @Override
+    protected String getFieldAccessMethod(FieldDescriptor field) {
+        return setterSupplierProcessor.getFieldAccessMethod(field);
+    }
+
+    /**
+     * Returns an invocation writing a field descriptor directly.
+     *
+     * @param field descriptor
+     * @return invocation writing {@code field} directly
+     * @see dev.alexengrig.metter.processor.SetterSupplierProcessor#getFieldAccessInvocation(FieldDescriptor)
+     * @since 0.2.0
+     */
+    @Override
+    protected String getFieldAccessInvocation(FieldDescriptor field) {
+        return setterSupplierProcessor.getFieldAccessInvocation(field);
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.processor;
+
+import com.google.auto.service.AutoService;
+import dev.alexengrig.metter.element.descriptor.TypeDescriptor;
+import dev.alexengrig.metter.exception.MetterException;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import java.lang.annotation.Annotation;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Processor of all annotations of metter in a single pass:
+ * a type descriptor with super types of an annotated type is built once
+ * and used by processors of the type annotations, which generate their sources as by themselves;
+ * statistics of the processors are reported by this once.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @see dev.alexengrig.metter.processor.GetterSupplierProcessor
+ * @see dev.alexengrig.metter.processor.SetterSupplierProcessor
+ * @see dev.alexengrig.metter.processor.DiffSupplierProcessor
+ * @see dev.alexengrig.metter.processor.FieldsProcessor
+ * @see dev.alexengrig.metter.processor.HydratorProcessor
+ * @since 0.2.0
+ */
+@AutoService(Processor.class)
+public class MetterProcessor extends BaseProcessor<Annotation, TypeElement> {
+    /**
+     * Option of number of workers, which render sources of a round concurrently, {@code 1} by default.
+     *
+     * @since 0.2.0
+     */
+    public static final String WORKERS_OPTION = "metter.workers";
+
+    /**
+     * Processors of annotations.
+     *
+     * @since 0.2.0
+     */
+    protected final List<BaseMethodSupplierProcessor<?>> processors;
+    /**
+     * Number of workers, which render sources of a round concurrently.
+     *
+     * @see #WORKERS_OPTION
+     * @since 0.2.0
+     */
+    protected int workers;
+
+    /**
+     * Constructs.
+     *
+     * @since 0.2.0
+     */
+    public MetterProcessor() {
+        super(Annotation.class);
+        this.processors = createProcessors();
+        this.workers = 1;
+        for (BaseMethodSupplierProcessor<?> processor : processors) {
+            processor.useTypeDescriptorsOf(this);
+            processor.useStatisticsOf(this);
+        }
+    }
+
+    /**
+     * Creates processors of annotations.
+     *
+     * @return processors of annotations
+     * @since 0.2.0
+     */
+    protected List<BaseMethodSupplierProcessor<?>> createProcessors() {
+        return Collections.unmodifiableList(Arrays.asList(
+                new GetterSupplierProcessor(),
+                new SetterSupplierProcessor(),
+                new DiffSupplierProcessor(),
+                new FieldsProcessor(),
+                new HydratorProcessor()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Initializes processors of annotations and configures a number of workers by options.
+     *
+     * @see #WORKERS_OPTION
+     * @since 0.2.0
+     */
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        for (BaseMethodSupplierProcessor<?> processor : processors) {
+            processor.init(processingEnv);
+        }
+        workers = getWorkers(processingEnv.getOptions());
+    }
+
+    /**
+     * Returns a number of workers by options.
+     *
+     * @param options options of processor
+     * @return number of workers of {@link #WORKERS_OPTION}, or {@code 1} if it is not set or invalid
+     * @since 0.2.0
+     */
+    protected int getWorkers(Map<String, String> options) {
+        String value = options.get(WORKERS_OPTION);
+        if (value == null) {
+            return 1;
+        }
+        try {
+            int number = Integer.parseInt(value.trim());
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException ignored) {
+            // warning below
+        }
+        warning("Invalid number of workers: " + WORKERS_OPTION + "=" + value + ", 1 is used");
+        return 1;
+    }
+
+    /**
+     * Returns elements annotated with annotations of processors, in order of processors.
+     *
+     * @param roundEnv environment of round
+     * @return elements annotated with annotations of processors
+     * @since 0.2.0
+     */
+    @Override
+    protected Set<? extends Element> getAnnotatedElements(RoundEnvironment roundEnv) {
+        Set<Element> annotatedElements = new LinkedHashSet<>();
+        for (BaseMethodSupplierProcessor<?> processor : processors) {
+            annotatedElements.addAll(roundEnv.getElementsAnnotatedWith(processor.annotationClass));
+        }
+        return annotatedElements;
+    }
+
+    /**
+     * Processes annotated elements one by one, or by workers if there are more than one.
+     * <p>
+     * With workers, models of types are built on the compiler thread, sources are rendered concurrently,
+     * and written to source files on the compiler thread in order of elements,
+     * while a limited number of rendered sources wait for writing.
+     *
+     * @param annotatedElements annotated elements
+     * @see BaseMethodSupplierProcessor#prepareSource(TypeElement)
+     * @since 0.2.0
+     */
+    @Override
+    protected void process(Set<? extends Element> annotatedElements) {
+        if (workers == 1) {
+            super.process(annotatedElements);
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "metter-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Deque<Future<Runnable>> writings = new ArrayDeque<>();
+            for (Element annotatedElement : annotatedElements) {
+                TypeElement typeElement = (TypeElement) annotatedElement;
+                TypeDescriptor type = getTypeDescriptor(typeElement);
+                for (BaseMethodSupplierProcessor<?> processor : processors) {
+                    if (type.hasAnnotation(processor.annotationClass)) {
+                        writings.add(executor.submit(processor.prepareSource(typeElement)));
+                        if (writings.size() > 2 * workers) {
+                            write(writings.poll());
+                        }
+                    }
+                }
+            }
+            while (!writings.isEmpty()) {
+                write(writings.poll());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits for rendering of a source and writes the source.
+     *
+     * @param writing future writing of source
+     * @since 0.2.0
+     */
+    protected void write(Future<Runnable> writing) {
+        try {
+            writing.get().run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MetterException("Interrupted while waiting for rendering of source", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new MetterException("Exception of source rendering", cause);
+        }
+    }
+
+    /**
+     * Processes a type element by processors of its annotations with a shared type descriptor.
+     *
+     * @param typeElement type element
+     * @since 0.2.0
+     */
+    @Override
+    protected void process(TypeElement typeElement) {
+        TypeDescriptor type = getTypeDescriptor(typeElement);
+        for (BaseMethodSupplierProcessor<?> processor : processors) {
+            if (type.hasAnnotation(processor.annotationClass)) {
+                processor.process(typeElement);
+            }
+        }
+    }
+
+    /**
+     * Returns options of processors and {@link #WORKERS_OPTION}.
+     *
+     * @return options of processors and {@link #WORKERS_OPTION}
+     * @since 0.2.0
+     */
+    @Override
+    public Set<String> getSupportedOptions() {
+        Set<String> options = new LinkedHashSet<>();
+        for (BaseMethodSupplierProcessor<?> processor : processors) {
+            options.addAll(processor.getSupportedOptions());
+        }
+        options.add(WORKERS_OPTION);
+        return options;
+    }
+
+    /**
+     * Returns annotation class names of processors.
+     *
+     * @return annotation class names of processors
+     * @since 0.2.0
+     */
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        Set<String> annotationTypes = new LinkedHashSet<>();
+        for (BaseMethodSupplierProcessor<?> processor : processors) {
+            annotationTypes.addAll(processor.getSupportedAnnotationTypes());
+        }
+        return annotationTypes;
+    }
+}
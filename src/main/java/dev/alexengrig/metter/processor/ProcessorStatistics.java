@@ -0,0 +1,251 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+/**
+ * Statistics of processing, enabled by options:
+ * {@code -Ametter.stats=true} - a summary by {@link javax.annotation.processing.Messager},
+ * {@code -Ametter.stats.file=<path>} - a summary and statistics of types to a JSON file.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @see dev.alexengrig.metter.processor.TypeStatistics
+ * @since 0.2.0
+ */
+public class ProcessorStatistics {
+    /**
+     * Option of statistics enabling.
+     *
+     * @since 0.2.0
+     */
+    public static final String STATS_OPTION = "metter.stats";
+    /**
+     * Option of statistics file path.
+     *
+     * @since 0.2.0
+     */
+    public static final String STATS_FILE_OPTION = "metter.stats.file";
+
+    /**
+     * Statistics of types, in order of processing.
+     *
+     * @since 0.2.0
+     */
+    protected final List<TypeStatistics> types;
+    /**
+     * Mark of enabled statistics.
+     *
+     * @since 0.2.0
+     */
+    protected boolean enabled;
+    /**
+     * Path of statistics file, may be {@code null}.
+     *
+     * @since 0.2.0
+     */
+    protected String file;
+
+    /**
+     * Constructs disabled.
+     *
+     * @since 0.2.0
+     */
+    public ProcessorStatistics() {
+        this.types = new ArrayList<>();
+    }
+
+    /**
+     * Configures by options of processor,
+     * statistics are enabled by {@link #STATS_OPTION} with {@code true} or by {@link #STATS_FILE_OPTION}.
+     *
+     * @param options options of processor
+     * @since 0.2.0
+     */
+    public void configure(Map<String, String> options) {
+        file = options.get(STATS_FILE_OPTION);
+        if (file != null && file.trim().isEmpty()) {
+            file = null;
+        }
+        enabled = Boolean.parseBoolean(options.get(STATS_OPTION)) || file != null;
+    }
+
+    /**
+     * Checks if statistics are enabled.
+     *
+     * @return if statistics are enabled
+     * @since 0.2.0
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns a path of statistics file.
+     *
+     * @return {@link java.util.Optional} with path of statistics file, or empty
+     * @since 0.2.0
+     */
+    public Optional<String> getFile() {
+        return Optional.ofNullable(file);
+    }
+
+    /**
+     * Adds statistics of a type.
+     *
+     * @param type statistics of type
+     * @since 0.2.0
+     */
+    public void add(TypeStatistics type) {
+        types.add(type);
+    }
+
+    /**
+     * Returns statistics of types, in order of processing.
+     *
+     * @return statistics of types
+     * @since 0.2.0
+     */
+    public List<TypeStatistics> getTypes() {
+        return Collections.unmodifiableList(types);
+    }
+
+    /**
+     * Clears statistics of types.
+     *
+     * @since 0.2.0
+     */
+    public void clear() {
+        types.clear();
+    }
+
+    /**
+     * Returns a summary: numbers of types, fields and bytes, milliseconds of stages and the slowest type.
+     *
+     * @return summary
+     * @since 0.2.0
+     */
+    public String toSummary() {
+        StringBuilder builder = new StringBuilder("Metter statistics: ")
+                .append(types.size()).append(" types, ")
+                .append(sum(TypeStatistics::getNumberOfFields)).append(" fields, ")
+                .append(sum(TypeStatistics::getNumberOfBytes)).append(" bytes, ")
+                .append(millis(sum(TypeStatistics::getTotalNanos))).append(" ms (model ")
+                .append(millis(sum(TypeStatistics::getModelNanos))).append(" ms, fields ")
+                .append(millis(sum(TypeStatistics::getFieldsNanos))).append(" ms, generation ")
+                .append(millis(sum(TypeStatistics::getGenerationNanos))).append(" ms, writing ")
+                .append(millis(sum(TypeStatistics::getWritingNanos))).append(" ms)");
+        types.stream().max(Comparator.comparingLong(TypeStatistics::getTotalNanos))
+                .ifPresent(slowest -> builder.append(", slowest: ").append(slowest.getTypeName())
+                        .append(" by ").append(slowest.getAnnotationName()).append(' ')
+                        .append(millis(slowest.getTotalNanos())).append(" ms"));
+        return builder.toString();
+    }
+
+    /**
+     * Returns JSON with a summary and statistics of types.
+     *
+     * @return JSON with summary and statistics of types
+     * @since 0.2.0
+     */
+    public String toJson() {
+        StringBuilder builder = new StringBuilder("{\n")
+                .append("  \"summary\": {")
+                .append("\"types\": ").append(types.size())
+                .append(", \"fields\": ").append(sum(TypeStatistics::getNumberOfFields))
+                .append(", \"bytes\": ").append(sum(TypeStatistics::getNumberOfBytes))
+                .append(", \"modelNanos\": ").append(sum(TypeStatistics::getModelNanos))
+                .append(", \"fieldsNanos\": ").append(sum(TypeStatistics::getFieldsNanos))
+                .append(", \"generationNanos\": ").append(sum(TypeStatistics::getGenerationNanos))
+                .append(", \"writingNanos\": ").append(sum(TypeStatistics::getWritingNanos))
+                .append(", \"totalNanos\": ").append(sum(TypeStatistics::getTotalNanos))
+                .append("},\n")
+                .append("  \"types\": [");
+        for (int i = 0; i < types.size(); i++) {
+            TypeStatistics type = types.get(i);
+            builder.append(i > 0 ? ",\n    {" : "\n    {")
+                    .append("\"type\": ").append(quote(type.getTypeName()))
+                    .append(", \"annotation\": ").append(quote(type.getAnnotationName()))
+                    .append(", \"class\": ").append(quote(type.getClassName()))
+                    .append(", \"fields\": ").append(type.getNumberOfFields())
+                    .append(", \"superTypeDepth\": ").append(type.getSuperTypeDepth())
+                    .append(", \"bytes\": ").append(type.getNumberOfBytes())
+                    .append(", \"modelNanos\": ").append(type.getModelNanos())
+                    .append(", \"fieldsNanos\": ").append(type.getFieldsNanos())
+                    .append(", \"generationNanos\": ").append(type.getGenerationNanos())
+                    .append(", \"writingNanos\": ").append(type.getWritingNanos())
+                    .append(", \"totalNanos\": ").append(type.getTotalNanos())
+                    .append('}');
+        }
+        return builder.append(types.isEmpty() ? "]\n}\n" : "\n  ]\n}\n").toString();
+    }
+
+    /**
+     * Sums a number of statistics of types.
+     *
+     * @param number function of number of statistics of type
+     * @return sum of {@code number} of statistics of types
+     * @since 0.2.0
+     */
+    protected long sum(ToLongFunction<TypeStatistics> number) {
+        return types.stream().mapToLong(number).sum();
+    }
+
+    /**
+     * Formats nanoseconds as milliseconds with one fractional digit.
+     *
+     * @param nanos nanoseconds
+     * @return milliseconds of {@code nanos}
+     * @since 0.2.0
+     */
+    protected String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Quotes a string for JSON.
+     *
+     * @param string string
+     * @return JSON string of {@code string}, or {@code null}
+     * @since 0.2.0
+     */
+    protected String quote(String string) {
+        if (string == null) {
+            return "null";
+        }
+        StringBuilder builder = new StringBuilder(string.length() + 2).append('"');
+        for (int i = 0; i < string.length(); i++) {
+            char character = string.charAt(i);
+            if (character == '"' || character == '\\') {
+                builder.append('\\').append(character);
+            } else if (character < 0x20) {
+                builder.append(String.format("\\u%04x", (int) character));
+            } else {
+                builder.append(character);
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
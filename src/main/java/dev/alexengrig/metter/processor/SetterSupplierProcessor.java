@@ -16,7 +16,6 @@
 
 package dev.alexengrig.metter.processor;
 
-import com.google.auto.service.AutoService;
 import dev.alexengrig.metter.annotation.SetterSupplier;
 import dev.alexengrig.metter.element.descriptor.FieldDescriptor;
 import dev.alexengrig.metter.element.descriptor.MethodDescriptor;
@@ -28,7 +27,7 @@ import lombok.AccessLevel;
 import lombok.Data;
 import lombok.Setter;
 
-import javax.annotation.processing.Processor;
+import javax.lang.model.element.Modifier;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
@@ -37,11 +36,10 @@ import java.util.Set;
  * Processor of setter supplier.
  *
  * @author Grig Alex
- * @version 0.1.0
+ * @version 0.2.0
  * @see dev.alexengrig.metter.annotation.SetterSupplier
  * @since 0.1.0
  */
-@AutoService(Processor.class)
 public class SetterSupplierProcessor extends BaseMethodSupplierProcessor<SetterSupplier> {
     /**
      * Constructs.
@@ -109,6 +107,47 @@ public class SetterSupplierProcessor extends BaseMethodSupplierProcessor<SetterS
                 .orElseThrow(() -> new MetterException("Type " + type + " has no annotation: " + annotationClass));
     }
 
+    /**
+     * Returns a mark of switch dispatch from {@link dev.alexengrig.metter.annotation.SetterSupplier#switchDispatch()}.
+     *
+     * @param type descriptor
+     * @return mark of switch dispatch from {@link dev.alexengrig.metter.annotation.SetterSupplier#switchDispatch()}
+     * @since 0.2.0
+     */
+    @Override
+    protected boolean isSwitchDispatch(TypeDescriptor type) {
+        return type.getAnnotation(annotationClass)
+                .map(SetterSupplier::switchDispatch)
+                .orElseThrow(() -> new MetterException("Type " + type + " has no annotation: " + annotationClass));
+    }
+
+    /**
+     * Returns a mark of field access from {@link dev.alexengrig.metter.annotation.SetterSupplier#fieldAccess()}.
+     *
+     * @param type descriptor
+     * @return mark of field access from {@link dev.alexengrig.metter.annotation.SetterSupplier#fieldAccess()}
+     * @since 0.2.0
+     */
+    @Override
+    protected boolean isFieldAccess(TypeDescriptor type) {
+        return type.getAnnotation(annotationClass)
+                .map(SetterSupplier::fieldAccess)
+                .orElseThrow(() -> new MetterException("Type " + type + " has no annotation: " + annotationClass));
+    }
+
+    /**
+     * Checks if a field descriptor is accessible directly and is not final.
+     *
+     * @param type  descriptor of annotated type, the source is in its package
+     * @param field descriptor of field of {@code type} or its super class
+     * @return if {@code field} is accessible directly from a source of {@code type} and is not final
+     * @since 0.2.0
+     */
+    @Override
+    protected boolean isAccessibleField(TypeDescriptor type, FieldDescriptor field) {
+        return super.isAccessibleField(type, field) && !field.hasModifier(Modifier.FINAL);
+    }
+
     /**
      * Checks if a field descriptor has {@link lombok.Setter} annotation (not private)
      * or a type descriptor of field descriptor has {@link lombok.Setter} annotation (not private)
@@ -181,4 +220,40 @@ public class SetterSupplierProcessor extends BaseMethodSupplierProcessor<SetterS
     protected String getMethod(FieldDescriptor field) {
         return "(instance, value) -> instance." + getSetterMethod(field) + "((" + field.getTypeName() + ") value)";
     }
+
+    /**
+     * Returns an invocation of setter for a field descriptor.
+     *
+     * @param field descriptor
+     * @return invocation of setter for {@code field}
+     * @since 0.2.0
+     */
+    @Override
+    protected String getInvocation(FieldDescriptor field) {
+        return "%1$s." + getSetterMethod(field) + "(%2$s)";
+    }
+
+    /**
+     * Returns a lambda writing a field descriptor directly.
+     *
+     * @param field descriptor
+     * @return lambda writing {@code field} directly
+     * @since 0.2.0
+     */
+    @Override
+    protected String getFieldAccessMethod(FieldDescriptor field) {
+        return "(instance, value) -> instance." + field.getName() + " = (" + field.getTypeName() + ") value";
+    }
+
+    /**
+     * Returns an invocation writing a field descriptor directly.
+     *
+     * @param field descriptor
+     * @return invocation writing {@code field} directly
+     * @since 0.2.0
+     */
+    @Override
+    protected String getFieldAccessInvocation(FieldDescriptor field) {
+        return "%1$s." + field.getName() + " = %2$s";
+    }
 }
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.processor;
+
+/**
+ * Statistics of processing of a type by an annotation.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @see dev.alexengrig.metter.processor.ProcessorStatistics
+ * @since 0.2.0
+ */
+public class TypeStatistics {
+    /**
+     * Type name.
+     *
+     * @since 0.2.0
+     */
+    protected final String typeName;
+    /**
+     * Annotation name.
+     *
+     * @since 0.2.0
+     */
+    protected final String annotationName;
+    /**
+     * Generated class name.
+     *
+     * @since 0.2.0
+     */
+    protected final String className;
+    /**
+     * Number of fields.
+     *
+     * @since 0.2.0
+     */
+    protected final int numberOfFields;
+    /**
+     * Depth of super types - number of super classes, except {@link java.lang.Object}.
+     *
+     * @since 0.2.0
+     */
+    protected final int superTypeDepth;
+    /**
+     * Number of generated bytes in UTF-8.
+     *
+     * @since 0.2.0
+     */
+    protected final long numberOfBytes;
+    /**
+     * Nanoseconds of model building - type descriptor with super types.
+     *
+     * @since 0.2.0
+     */
+    protected final long modelNanos;
+    /**
+     * Nanoseconds of field resolution.
+     *
+     * @since 0.2.0
+     */
+    protected final long fieldsNanos;
+    /**
+     * Nanoseconds of source generation, streamed to a source file.
+     *
+     * @since 0.2.0
+     */
+    protected final long generationNanos;
+    /**
+     * Nanoseconds of source file creation.
+     *
+     * @since 0.2.0
+     */
+    protected final long writingNanos;
+
+    /**
+     * Constructs with names, counts and nanoseconds of stages.
+     *
+     * @param typeName        type name
+     * @param annotationName  annotation name
+     * @param className       generated class name
+     * @param numberOfFields  number of fields
+     * @param superTypeDepth  depth of super types
+     * @param numberOfBytes   number of generated bytes in UTF-8
+     * @param modelNanos      nanoseconds of model building
+     * @param fieldsNanos     nanoseconds of field resolution
+     * @param generationNanos nanoseconds of source generation, streamed to a source file
+     * @param writingNanos    nanoseconds of source file creation
+     * @since 0.2.0
+     */
+    public TypeStatistics(String typeName, String annotationName, String className,
+                          int numberOfFields, int superTypeDepth, long numberOfBytes,
+                          long modelNanos, long fieldsNanos, long generationNanos, long writingNanos) {
+        this.typeName = typeName;
+        this.annotationName = annotationName;
+        this.className = className;
+        this.numberOfFields = numberOfFields;
+        this.superTypeDepth = superTypeDepth;
+        this.numberOfBytes = numberOfBytes;
+        this.modelNanos = modelNanos;
+        this.fieldsNanos = fieldsNanos;
+        this.generationNanos = generationNanos;
+        this.writingNanos = writingNanos;
+    }
+
+    /**
+     * Returns a type name.
+     *
+     * @return type name
+     * @since 0.2.0
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * Returns an annotation name.
+     *
+     * @return annotation name
+     * @since 0.2.0
+     */
+    public String getAnnotationName() {
+        return annotationName;
+    }
+
+    /**
+     * Returns a generated class name.
+     *
+     * @return generated class name
+     * @since 0.2.0
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * Returns a number of fields.
+     *
+     * @return number of fields
+     * @since 0.2.0
+     */
+    public int getNumberOfFields() {
+        return numberOfFields;
+    }
+
+    /**
+     * Returns a depth of super types.
+     *
+     * @return depth of super types
+     * @since 0.2.0
+     */
+    public int getSuperTypeDepth() {
+        return superTypeDepth;
+    }
+
+    /**
+     * Returns a number of generated bytes in UTF-8.
+     *
+     * @return number of generated bytes in UTF-8
+     * @since 0.2.0
+     */
+    public long getNumberOfBytes() {
+        return numberOfBytes;
+    }
+
+    /**
+     * Returns nanoseconds of model building.
+     *
+     * @return nanoseconds of model building
+     * @since 0.2.0
+     */
+    public long getModelNanos() {
+        return modelNanos;
+    }
+
+    /**
+     * Returns nanoseconds of field resolution.
+     *
+     * @return nanoseconds of field resolution
+     * @since 0.2.0
+     */
+    public long getFieldsNanos() {
+        return fieldsNanos;
+    }
+
+    /**
+     * Returns nanoseconds of source generation, streamed to a source file.
+     *
+     * @return nanoseconds of source generation, streamed to a source file
+     * @since 0.2.0
+     */
+    public long getGenerationNanos() {
+        return generationNanos;
+    }
+
+    /**
+     * Returns nanoseconds of source file creation.
+     *
+     * @return nanoseconds of source file creation
+     * @since 0.2.0
+     */
+    public long getWritingNanos() {
+        return writingNanos;
+    }
+
+    /**
+     * Returns nanoseconds of all stages.
+     *
+     * @return nanoseconds of all stages
+     * @since 0.2.0
+     */
+    public long getTotalNanos() {
+        return modelNanos + fieldsNanos + generationNanos + writingNanos;
+    }
+}
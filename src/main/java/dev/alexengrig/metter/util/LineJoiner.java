@@ -16,17 +16,22 @@
 
 package dev.alexengrig.metter.util;
 
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.Map;
 import java.util.function.BiFunction;
 
 /**
- * An useful wrapper over {@link java.lang.StringBuilder}.
+ * An useful wrapper over {@link java.lang.StringBuilder},
+ * or a buffer of lines streamed to an {@link java.lang.Appendable}.
  *
  * @author Grig Alex
- * @version 0.1.0
+ * @version 0.2.0
  * @since 0.1.0
  */
-public class LineJoiner {
+public class LineJoiner implements Flushable {
     /**
      * New line.
      *
@@ -34,11 +39,50 @@ public class LineJoiner {
      */
     protected static final String NL = "\n";
     /**
-     * Builder.
+     * Size of buffer, which is flushed to output on excess.
+     *
+     * @since 0.2.0
+     */
+    protected static final int BUFFER_SIZE = 8192;
+    /**
+     * Builder - result or buffer of output.
      *
      * @since 0.1.0
      */
-    protected final StringBuilder builder = new StringBuilder();
+    protected final StringBuilder builder;
+    /**
+     * Output, {@code null} if builder is result.
+     *
+     * @since 0.2.0
+     */
+    protected final Appendable out;
+    /**
+     * Buffer of characters for output of {@link java.io.Writer}.
+     *
+     * @since 0.2.0
+     */
+    protected char[] chars;
+
+    /**
+     * Constructs with a builder as result.
+     *
+     * @since 0.1.0
+     */
+    public LineJoiner() {
+        this.builder = new StringBuilder();
+        this.out = null;
+    }
+
+    /**
+     * Constructs with an output, which gets lines by {@link #BUFFER_SIZE} and on {@link #flush()}.
+     *
+     * @param out output
+     * @since 0.2.0
+     */
+    public LineJoiner(Appendable out) {
+        this.builder = new StringBuilder(BUFFER_SIZE + BUFFER_SIZE / 2);
+        this.out = out;
+    }
 
     /**
      * Appends a new line.
@@ -48,6 +92,9 @@ public class LineJoiner {
      */
     public LineJoiner ln() {
         builder.append(NL);
+        if (out != null && builder.length() >= BUFFER_SIZE) {
+            flush();
+        }
         return this;
     }
 
@@ -67,12 +114,13 @@ public class LineJoiner {
      * Appends a formatted text and a new line.
      *
      * @param line text
-     * @param args arguments for {@link java.lang.String#format(String, Object...)}
+     * @param args arguments for {@link dev.alexengrig.metter.util.Strings#format(String, Object...)}
      * @return this
      * @since 0.1.0
      */
     public LineJoiner ft(String line, Object... args) {
-        return ln(String.format(line, args));
+        Strings.appendFormat(builder, line, args);
+        return ln();
     }
 
     /**
@@ -80,19 +128,19 @@ public class LineJoiner {
      *
      * @param condition appends or not appends
      * @param line      text
-     * @param args      arguments for {@link java.lang.String#format(String, Object...)}
+     * @param args      arguments for {@link dev.alexengrig.metter.util.Strings#format(String, Object...)}
      * @return this
      * @since 0.1.0
      */
     public LineJoiner ftIf(boolean condition, String line, Object... args) {
-        return condition ? ln(String.format(line, args)) : this;
+        return condition ? ft(line, args) : this;
     }
 
     /**
      * Appends a map via function and {@link #ft(String, Object...)}.
      *
      * @param template template for formatting
-     * @param mapper   function for getting arguments for {@link java.lang.String#format(String, Object...)}
+     * @param mapper   function for getting arguments for {@link dev.alexengrig.metter.util.Strings#format(String, Object...)}
      * @param map      map with values
      * @param <K>      type of map key
      * @param <V>      type of map value
@@ -107,13 +155,41 @@ public class LineJoiner {
     }
 
     /**
-     * Returns a result string.
+     * Flushes buffered lines to an output, if it is.
+     *
+     * @throws UncheckedIOException if output throws {@link java.io.IOException}
+     * @since 0.2.0
+     */
+    @Override
+    public void flush() {
+        if (out == null || builder.length() == 0) {
+            return;
+        }
+        try {
+            if (out instanceof Writer) {
+                int length = builder.length();
+                if (chars == null || chars.length < length) {
+                    chars = new char[Math.max(length, BUFFER_SIZE + BUFFER_SIZE / 2)];
+                }
+                builder.getChars(0, length, chars, 0);
+                ((Writer) out).write(chars, 0, length);
+            } else {
+                out.append(builder);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Exception of lines flushing", e);
+        }
+        builder.setLength(0);
+    }
+
+    /**
+     * Returns a result string, or an output string with buffered lines.
      *
      * @return result string
      * @since 0.1.0
      */
     @Override
     public String toString() {
-        return builder.toString();
+        return out == null ? builder.toString() : out.toString() + builder;
     }
 }
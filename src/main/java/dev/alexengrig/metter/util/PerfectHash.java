@@ -0,0 +1,240 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Minimal perfect hash of strings, built by the hash and displace method.
+ * <p>
+ * Keys are split into buckets by {@code mix(hash, 0)},
+ * each bucket has a seed that puts its keys into free slots by {@code mix(hash, seed)},
+ * each slot has an index of key:
+ * <pre>{@code
+ * int hash = key.hashCode();
+ * int seed = seeds[PerfectHash.range(PerfectHash.mix(hash, 0), seeds.length)];
+ * int index = indices[PerfectHash.range(PerfectHash.mix(hash, seed), indices.length)];
+ * }</pre>
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @since 0.2.0
+ */
+public class PerfectHash {
+    /**
+     * Maximum seed of bucket.
+     *
+     * @since 0.2.0
+     */
+    protected static final int MAX_SEED = 1 << 16;
+
+    /**
+     * Seeds by bucket.
+     *
+     * @since 0.2.0
+     */
+    protected final int[] seeds;
+    /**
+     * Indices of key by slot.
+     *
+     * @since 0.2.0
+     */
+    protected final int[] indices;
+
+    /**
+     * Constructs with seeds and indices.
+     *
+     * @param seeds   seeds by bucket
+     * @param indices indices of key by slot
+     * @since 0.2.0
+     */
+    protected PerfectHash(int[] seeds, int[] indices) {
+        this.seeds = seeds;
+        this.indices = indices;
+    }
+
+    /**
+     * Creates a perfect hash of keys.
+     *
+     * @param keys keys
+     * @return {@link java.util.Optional} with perfect hash of {@code keys},
+     * or empty if {@code keys} is empty or has equal hash codes
+     * @since 0.2.0
+     */
+    public static Optional<PerfectHash> of(List<String> keys) {
+        int[] hashes = keys.stream().mapToInt(String::hashCode).toArray();
+        if (hashes.length == 0 || Arrays.stream(hashes).distinct().count() != hashes.length) {
+            return Optional.empty();
+        }
+        for (int numberOfBuckets = (hashes.length + 1) / 2; ; numberOfBuckets = numberOfBuckets * 2) {
+            Optional<PerfectHash> perfectHash = build(hashes, Math.min(numberOfBuckets, hashes.length));
+            if (perfectHash.isPresent() || numberOfBuckets >= hashes.length) {
+                return perfectHash;
+            }
+        }
+    }
+
+    /**
+     * Builds a perfect hash of hashes with a number of buckets.
+     *
+     * @param hashes          hashes of keys
+     * @param numberOfBuckets number of buckets
+     * @return {@link java.util.Optional} with perfect hash of {@code hashes},
+     * or empty if some bucket has no seed
+     * @since 0.2.0
+     */
+    protected static Optional<PerfectHash> build(int[] hashes, int numberOfBuckets) {
+        List<List<Integer>> buckets = IntStream.range(0, numberOfBuckets)
+                .mapToObj(i -> new ArrayList<Integer>())
+                .collect(Collectors.toList());
+        for (int i = 0; i < hashes.length; i++) {
+            buckets.get(range(mix(hashes[i], 0), numberOfBuckets)).add(i);
+        }
+        List<Integer> bucketOrder = IntStream.range(0, numberOfBuckets).boxed()
+                .sorted(Comparator.comparingInt(bucket -> -buckets.get(bucket).size()))
+                .collect(Collectors.toList());
+        int[] seeds = new int[numberOfBuckets];
+        int[] indices = new int[hashes.length];
+        Arrays.fill(indices, -1);
+        int[] slots = new int[hashes.length];
+        for (int bucket : bucketOrder) {
+            List<Integer> keys = buckets.get(bucket);
+            if (keys.isEmpty()) {
+                break;
+            }
+            int seed = findSeed(hashes, keys, indices, slots);
+            if (seed < 0) {
+                return Optional.empty();
+            }
+            seeds[bucket] = seed;
+            for (int i = 0; i < keys.size(); i++) {
+                indices[slots[i]] = keys.get(i);
+            }
+        }
+        return Optional.of(new PerfectHash(seeds, indices));
+    }
+
+    /**
+     * Finds a seed that puts keys of bucket into free slots.
+     *
+     * @param hashes  hashes of keys
+     * @param keys    indices of keys of bucket
+     * @param indices indices of key by slot, {@code -1} for free slot
+     * @param slots   buffer for slots of keys
+     * @return seed, or {@code -1} if not found
+     * @since 0.2.0
+     */
+    protected static int findSeed(int[] hashes, List<Integer> keys, int[] indices, int[] slots) {
+        for (int seed = 1; seed < MAX_SEED; seed++) {
+            if (hasFreeSlots(hashes, keys, indices, slots, seed)) {
+                return seed;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if keys of bucket have free and distinct slots with a seed.
+     *
+     * @param hashes  hashes of keys
+     * @param keys    indices of keys of bucket
+     * @param indices indices of key by slot, {@code -1} for free slot
+     * @param slots   buffer for slots of keys
+     * @param seed    seed
+     * @return if keys of bucket have free and distinct slots with {@code seed}
+     * @since 0.2.0
+     */
+    protected static boolean hasFreeSlots(int[] hashes, List<Integer> keys, int[] indices, int[] slots, int seed) {
+        for (int i = 0; i < keys.size(); i++) {
+            int slot = range(mix(hashes[keys.get(i)], seed), indices.length);
+            if (indices[slot] >= 0) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (slots[j] == slot) {
+                    return false;
+                }
+            }
+            slots[i] = slot;
+        }
+        return true;
+    }
+
+    /**
+     * Mixes a hash with a seed.
+     *
+     * @param hash hash
+     * @param seed seed
+     * @return mixed hash
+     * @since 0.2.0
+     */
+    public static int mix(int hash, int seed) {
+        int h = (hash ^ seed) * 0x9E3779B9;
+        return h ^ h >>> 15;
+    }
+
+    /**
+     * Reduces a hash to a range from {@code 0} (inclusive) to a size (exclusive).
+     *
+     * @param hash hash
+     * @param size size of range
+     * @return number from {@code 0} (inclusive) to {@code size} (exclusive)
+     * @since 0.2.0
+     */
+    public static int range(int hash, int size) {
+        return (int) ((hash & 0xFFFFFFFFL) * size >>> 32);
+    }
+
+    /**
+     * Returns seeds by bucket.
+     *
+     * @return seeds by bucket
+     * @since 0.2.0
+     */
+    public int[] getSeeds() {
+        return seeds.clone();
+    }
+
+    /**
+     * Returns indices of key by slot.
+     *
+     * @return indices of key by slot
+     * @since 0.2.0
+     */
+    public int[] getIndices() {
+        return indices.clone();
+    }
+
+    /**
+     * Returns an index of a key, the key must be one of keys of this.
+     *
+     * @param key key
+     * @return index of {@code key}
+     * @since 0.2.0
+     */
+    public int indexOf(String key) {
+        int hash = key.hashCode();
+        int seed = seeds[range(mix(hash, 0), seeds.length)];
+        return indices[range(mix(hash, seed), indices.length)];
+    }
+}
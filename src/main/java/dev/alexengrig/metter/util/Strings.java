@@ -20,7 +20,7 @@ package dev.alexengrig.metter.util;
  * Utility class for {@link java.lang.String}.
  *
  * @author Grig Alex
- * @version 0.1.1
+ * @version 0.2.0
  * @since 0.1.1
  */
 public final class Strings {
@@ -49,4 +49,97 @@ public final class Strings {
         }
         return string.substring(0, 1).toUpperCase() + string.substring(1);
     }
+
+    /**
+     * Converts a camel case string to a constant case string.
+     *
+     * @param string camel case string
+     * @return constant case {@code string}
+     * @since 0.2.0
+     */
+    public static String toConstantCase(String string) {
+        if (string == null) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder(string.length() + 4);
+        for (int i = 0; i < string.length(); i++) {
+            char character = string.charAt(i);
+            if (i > 0 && Character.isUpperCase(character)) {
+                char previous = string.charAt(i - 1);
+                if (Character.isLowerCase(previous) || Character.isDigit(previous)) {
+                    builder.append('_');
+                }
+            }
+            builder.append(Character.toUpperCase(character));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Formats a template with arguments, as {@link java.lang.String#format(String, Object...)}
+     * with conversions {@code %s}, {@code %d}, {@code %b}, {@code %%} and explicit indices ({@code %1$s}),
+     * without flags, widths and locale.
+     *
+     * @param template template
+     * @param args     arguments
+     * @return formatted {@code template}
+     * @throws IllegalArgumentException if {@code template} has an unsupported specifier or a missing argument
+     * @since 0.2.0
+     */
+    public static String format(String template, Object... args) {
+        StringBuilder builder = new StringBuilder(template.length() + 16 * args.length);
+        appendFormat(builder, template, args);
+        return builder.toString();
+    }
+
+    /**
+     * Appends a template formatted with arguments to a builder, as {@link #format(String, Object...)}.
+     *
+     * @param builder  builder
+     * @param template template
+     * @param args     arguments
+     * @throws IllegalArgumentException if {@code template} has an unsupported specifier or a missing argument
+     * @since 0.2.0
+     */
+    public static void appendFormat(StringBuilder builder, String template, Object... args) {
+        int ordinaryIndex = 0;
+        int start = 0;
+        int length = template.length();
+        for (int i = template.indexOf('%'); i >= 0; i = template.indexOf('%', start)) {
+            builder.append(template, start, i);
+            int position = i + 1;
+            int argIndex = -1;
+            int digits = position;
+            while (digits < length && Character.isDigit(template.charAt(digits))) {
+                digits++;
+            }
+            if (digits > position && digits < length && template.charAt(digits) == '$') {
+                argIndex = Integer.parseInt(template.substring(position, digits)) - 1;
+                position = digits + 1;
+            }
+            if (position >= length) {
+                throw new IllegalArgumentException("Unsupported format specifier at " + i + ": " + template);
+            }
+            char conversion = template.charAt(position);
+            if (conversion == '%' && argIndex < 0) {
+                builder.append('%');
+            } else if (conversion == 's' || conversion == 'd' || conversion == 'b') {
+                int index = argIndex >= 0 ? argIndex : ordinaryIndex++;
+                if (index < 0 || index >= args.length) {
+                    throw new IllegalArgumentException("Missing argument for format specifier at " + i + ": "
+                            + template);
+                }
+                Object arg = args[index];
+                if (conversion == 'b') {
+                    builder.append(arg instanceof Boolean ? (boolean) (Boolean) arg : arg != null);
+                } else {
+                    builder.append(arg);
+                }
+            } else {
+                throw new IllegalArgumentException("Unsupported format specifier at " + i + ": " + template);
+            }
+            start = position + 1;
+        }
+        builder.append(template, start, length);
+    }
 }
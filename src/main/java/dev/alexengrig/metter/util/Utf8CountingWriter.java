@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.util;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A writer that counts written characters as bytes in UTF-8.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @since 0.2.0
+ */
+public class Utf8CountingWriter extends FilterWriter {
+    /**
+     * Number of written bytes in UTF-8.
+     *
+     * @since 0.2.0
+     */
+    protected long numberOfBytes;
+
+    /**
+     * Constructs with a writer.
+     *
+     * @param out writer
+     * @since 0.2.0
+     */
+    public Utf8CountingWriter(Writer out) {
+        super(out);
+    }
+
+    /**
+     * Returns a number of bytes in UTF-8 of a character,
+     * a surrogate is a half of 4-byte sequence.
+     *
+     * @param character character
+     * @return number of bytes in UTF-8 of {@code character}
+     * @since 0.2.0
+     */
+    protected static int getNumberOfBytes(char character) {
+        if (character < 0x80) {
+            return 1;
+        } else if (character < 0x800 || Character.isSurrogate(character)) {
+            return 2;
+        }
+        return 3;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        super.write(c);
+        numberOfBytes += getNumberOfBytes((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        super.write(cbuf, off, len);
+        for (int i = off; i < off + len; i++) {
+            numberOfBytes += getNumberOfBytes(cbuf[i]);
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        super.write(str, off, len);
+        for (int i = off; i < off + len; i++) {
+            numberOfBytes += getNumberOfBytes(str.charAt(i));
+        }
+    }
+
+    /**
+     * Returns a number of written bytes in UTF-8.
+     *
+     * @return number of written bytes in UTF-8
+     * @since 0.2.0
+     */
+    public long getNumberOfBytes() {
+        return numberOfBytes;
+    }
+}
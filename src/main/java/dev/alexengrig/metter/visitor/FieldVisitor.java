@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.visitor;
+
+/**
+ * A visitor of field values, a method by field type is called without boxing of primitive value.
+ * <p>
+ * {@code byte}, {@code short} and {@code char} values are visited as {@code int} values
+ * and {@code float} values are visited as {@code double} values by default.
+ *
+ * @author Grig Alex
+ * @version 0.2.0
+ * @since 0.2.0
+ */
+public interface FieldVisitor {
+    /**
+     * Visits a {@code byte} value of field.
+     *
+     * @param field field name
+     * @param value field value
+     * @since 0.2.0
+     */
+    default void visitByte(String field, byte value) {
+        visitInt(field, value);
+    }
+
+    /**
+     * Visits a {@code short} value of field.
+     *
+     * @param field field name
+     * @param value field value
+     * @since 0.2.0
+     */
+    default void visitShort(String field, short value) {
+        visitInt(field, value);
+    }
+
+    /**
+     * Visits a {@code char} value of field.
+     *
+     * @param field field name
+     * @param value field value
+     * @since 0.2.0
+     */
+    default void visitChar(String field, char value) {
+        visitInt(field, value);
+    }
+
+    /**
+     * Visits an {@code int} value of field.
+     *
+     * @param field field name
+     * @param value field value
+     * @since 0.2.0
+     */
+    void visitInt(String field, int value);
+
+    /**
+     * Visits a {@code long} value of field.
+     *
+     * @param field field name
+     * @param value field value
+     * @since 0.2.0
+     */
+    void visitLong(String field, long value);
+
+    /**
+     * Visits a {@code float} value of field.
+     *
+     * @param field field name
+     * @param value field value
+     * @since 0.2.0
+     */
+    default void visitFloat(String field, float value) {
+        visitDouble(field, value);
+    }
+
+    /**
+     * Visits a {@code double} value of field.
+     *
+     * @param field field name
+     * @param value field value
+     * @since 0.2.0
+     */
+    void visitDouble(String field, double value);
+
+    /**
+     * Visits a {@code boolean} value of field.
+     *
+     * @param field field name
+     * @param value field value
+     * @since 0.2.0
+     */
+    void visitBoolean(String field, boolean value);
+
+    /**
+     * Visits an object value of field.
+     *
+     * @param field field name
+     * @param value field value
+     * @since 0.2.0
+     */
+    void visitObject(String field, Object value);
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.visitor;
+
+/**
+ * An operation that accepts an object and a {@code boolean} value,
+ * a specialization of {@link java.util.function.BiConsumer} like {@link java.util.function.ObjIntConsumer}.
+ *
+ * @param <T> type of object
+ * @author Grig Alex
+ * @version 0.2.0
+ * @since 0.2.0
+ */
+@FunctionalInterface
+public interface ObjBooleanConsumer<T> {
+    /**
+     * Performs this operation on an object and a value.
+     *
+     * @param t     object
+     * @param value {@code boolean} value
+     * @since 0.2.0
+     */
+    void accept(T t, boolean value);
+}
@@ -28,6 +28,7 @@ import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVisitor;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
 import java.util.Collections;
@@ -231,6 +232,8 @@ public final class ElementMocks {
     public static <T> TypeMirror typeMirrorMock(Class<? extends T> type) {
         TypeMirror mock = mock(TypeMirror.class);
         when(mock.toString()).thenReturn(type.getName());
+        when(mock.accept(any(), any())).thenAnswer(invocation -> invocation.<TypeVisitor<?, ?>>getArgument(0)
+                .visitUnknown(mock, null));
         return mock;
     }
 
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.alexengrig.metter.batch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ForkJoinBatchTest {
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 100, 1000})
+    void should_apply_allIndicesOnce(int size) {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ForkJoinBatch batch = new ForkJoinBatch(pool, 8);
+            AtomicIntegerArray counts = new AtomicIntegerArray(size);
+            batch.run(size, (from, to) -> {
+                assertTrue(to - from <= 8, "Range is greater than threshold: " + from + ".." + to);
+                for (int i = from; i < to; i++) {
+                    counts.incrementAndGet(i);
+                }
+            });
+            for (int i = 0; i < size; i++) {
+                assertEquals(1, counts.get(i), "Number of applications is incorrect: " + i);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void should_apply_inCallingThread_ifNotGreaterThanThreshold() {
+        Thread thread = Thread.currentThread();
+        new ForkJoinBatch(ForkJoinPool.commonPool(), 10)
+                .run(10, (from, to) -> assertSame(thread, Thread.currentThread(), "Thread is not calling"));
+    }
+
+    @Test
+    void should_rethrow_exceptionOfAction() {
+        ForkJoinBatch batch = new ForkJoinBatch(ForkJoinPool.commonPool(), 1);
+        assertThrows(IllegalStateException.class, () -> batch.run(4, (from, to) -> {
+            throw new IllegalStateException("From: " + from);
+        }));
+    }
+
+    @Test
+    void should_create_commonBatch() {
+        ForkJoinBatch batch = ForkJoinBatch.common();
+        assertSame(ForkJoinPool.commonPool(), batch.getPool(), "Pool is not common");
+        assertEquals(ForkJoinBatch.DEFAULT_THRESHOLD, batch.getThreshold(), "Threshold is not default");
+    }
+
+    @Test
+    void should_throw_ifThresholdIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ForkJoinBatch(ForkJoinPool.commonPool(), 0));
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.element;
+
+import org.junit.jupiter.api.Test;
+
+import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.NoType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.TypeVisitor;
+import javax.lang.model.type.WildcardType;
+import java.util.Arrays;
+import java.util.List;
+
+import static dev.alexengrig.metter.ElementMocks.nameMock;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TypeNameVisitorTest {
+    static <T extends TypeMirror> T visitableMock(Class<T> typeClass, TypeKind kind) {
+        T type = mock(typeClass);
+        when(type.getKind()).thenReturn(kind);
+        when(type.accept(any(), any())).thenAnswer(invocation -> {
+            TypeVisitor<?, Object> visitor = invocation.getArgument(0);
+            Object parameter = invocation.getArgument(1);
+            if (type instanceof PrimitiveType) {
+                return visitor.visitPrimitive((PrimitiveType) type, parameter);
+            } else if (type instanceof NoType) {
+                return visitor.visitNoType((NoType) type, parameter);
+            } else if (type instanceof ArrayType) {
+                return visitor.visitArray((ArrayType) type, parameter);
+            } else if (type instanceof DeclaredType) {
+                return visitor.visitDeclared((DeclaredType) type, parameter);
+            } else if (type instanceof TypeVariable) {
+                return visitor.visitTypeVariable((TypeVariable) type, parameter);
+            } else if (type instanceof WildcardType) {
+                return visitor.visitWildcard((WildcardType) type, parameter);
+            }
+            return visitor.visitUnknown(type, parameter);
+        });
+        return type;
+    }
+
+    static PrimitiveType primitiveMock(TypeKind kind) {
+        return visitableMock(PrimitiveType.class, kind);
+    }
+
+    static DeclaredType nestedMock(String qualifiedName, TypeMirror enclosingType, TypeMirror... typeArguments) {
+        DeclaredType type = visitableMock(DeclaredType.class, TypeKind.DECLARED);
+        TypeElement element = mock(TypeElement.class);
+        Name name = nameMock(qualifiedName);
+        when(element.getQualifiedName()).thenReturn(name);
+        Name simpleName = nameMock(qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1));
+        when(element.getSimpleName()).thenReturn(simpleName);
+        when(type.asElement()).thenReturn(element);
+        when(type.getEnclosingType()).thenReturn(enclosingType);
+        List<TypeMirror> arguments = Arrays.asList(typeArguments);
+        when(type.getTypeArguments()).thenAnswer(invocation -> arguments);
+        return type;
+    }
+
+    static DeclaredType declaredMock(String qualifiedName, TypeMirror... typeArguments) {
+        return nestedMock(qualifiedName, visitableMock(NoType.class, TypeKind.NONE), typeArguments);
+    }
+
+    static TypeVariable typeVariableMock(String name) {
+        TypeVariable type = visitableMock(TypeVariable.class, TypeKind.TYPEVAR);
+        TypeParameterElement element = mock(TypeParameterElement.class);
+        Name simpleName = nameMock(name);
+        when(element.getSimpleName()).thenReturn(simpleName);
+        when(type.asElement()).thenReturn(element);
+        return type;
+    }
+
+    final TypeNameVisitor visitor = new TypeNameVisitor();
+
+    @Test
+    void should_return_name_ofPrimitiveType() {
+        assertEquals("int", TypeNameVisitor.getName(primitiveMock(TypeKind.INT)), "Name of int is incorrect");
+        assertEquals("boolean", visitor.visit(primitiveMock(TypeKind.BOOLEAN)), "Name of boolean is incorrect");
+    }
+
+    @Test
+    void should_return_name_ofNoType() {
+        NoType none = visitableMock(NoType.class, TypeKind.NONE);
+        when(none.toString()).thenReturn("none");
+        assertEquals("void", visitor.visit(visitableMock(NoType.class, TypeKind.VOID)), "Name of void is incorrect");
+        assertEquals("none", visitor.visit(none), "Name of none is incorrect");
+    }
+
+    @Test
+    void should_return_name_ofArrayType() {
+        ArrayType array = visitableMock(ArrayType.class, TypeKind.ARRAY);
+        PrimitiveType component = primitiveMock(TypeKind.LONG);
+        when(array.getComponentType()).thenAnswer(invocation -> component);
+        assertEquals("long[]", visitor.visit(array), "Name of array is incorrect");
+    }
+
+    @Test
+    void should_return_name_ofDeclaredType() {
+        DeclaredType string = declaredMock("java.lang.String");
+        DeclaredType list = declaredMock("java.util.List", string);
+        DeclaredType map = declaredMock("java.util.Map", string, list);
+        assertEquals("java.lang.String", visitor.visit(string), "Name of class is incorrect");
+        assertEquals("java.util.Map<java.lang.String,java.util.List<java.lang.String>>", visitor.visit(map),
+                "Name of parameterized class is incorrect");
+    }
+
+    @Test
+    void should_return_name_ofNestedType_ofParameterizedType() {
+        DeclaredType outer = declaredMock("my.Outer", typeVariableMock("T"));
+        DeclaredType inner = nestedMock("my.Outer.Inner", outer);
+        DeclaredType nested = nestedMock("my.Plain.Nested", declaredMock("my.Plain"));
+        assertEquals("my.Outer<T>.Inner", visitor.visit(inner), "Name of inner class is incorrect");
+        assertEquals("my.Plain.Nested", visitor.visit(nested), "Name of nested class is incorrect");
+    }
+
+    @Test
+    void should_return_name_ofWildcardType() {
+        DeclaredType number = declaredMock("java.lang.Number");
+        WildcardType extendsBound = visitableMock(WildcardType.class, TypeKind.WILDCARD);
+        when(extendsBound.getExtendsBound()).thenAnswer(invocation -> number);
+        WildcardType superBound = visitableMock(WildcardType.class, TypeKind.WILDCARD);
+        when(superBound.getSuperBound()).thenAnswer(invocation -> number);
+        assertEquals("? extends java.lang.Number", visitor.visit(extendsBound), "Name of extends is incorrect");
+        assertEquals("? super java.lang.Number", visitor.visit(superBound), "Name of super is incorrect");
+        assertEquals("?", visitor.visit(visitableMock(WildcardType.class, TypeKind.WILDCARD)),
+                "Name of wildcard is incorrect");
+    }
+
+    @Test
+    void should_return_toString_ofUnknownType() {
+        TypeMirror unknown = visitableMock(TypeMirror.class, TypeKind.OTHER);
+        when(unknown.toString()).thenReturn("Unknown");
+        assertEquals("Unknown", visitor.visit(unknown), "Name of unknown type is incorrect");
+    }
+}
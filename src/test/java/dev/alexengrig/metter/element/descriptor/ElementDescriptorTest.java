@@ -20,10 +20,21 @@ import dev.alexengrig.metter.ElementMocks;
 import org.junit.jupiter.api.Test;
 
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import java.util.Collections;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class ElementDescriptorTest {
     @Test
@@ -47,4 +58,30 @@ class ElementDescriptorTest {
         ElementDescriptor<Element> descriptor = new ElementDescriptor<>(element);
         assertTrue(descriptor.hasAnnotation(Deprecated.class), "Annotation is not present");
     }
+
+    @Test
+    void should_check_hasModifier() {
+        Element element = mock(Element.class);
+        when(element.getModifiers()).thenReturn(Collections.singleton(Modifier.PUBLIC));
+        ElementDescriptor<Element> descriptor = new ElementDescriptor<>(element);
+        assertTrue(descriptor.hasModifier(Modifier.PUBLIC), "Modifier is not present");
+        assertFalse(descriptor.hasModifier(Modifier.STATIC), "Modifier is present");
+    }
+
+    @Test
+    void should_return_packageName() {
+        Name packageName = mock(Name.class);
+        when(packageName.toString()).thenReturn("dev.alexengrig.domain");
+        PackageElement packageElement = mock(PackageElement.class);
+        when(packageElement.getKind()).thenReturn(ElementKind.PACKAGE);
+        when(packageElement.getQualifiedName()).thenReturn(packageName);
+        TypeElement typeElement = mock(TypeElement.class);
+        when(typeElement.getKind()).thenReturn(ElementKind.CLASS);
+        when(typeElement.getEnclosingElement()).thenReturn(packageElement);
+        VariableElement variableElement = mock(VariableElement.class);
+        when(variableElement.getKind()).thenReturn(ElementKind.FIELD);
+        when(variableElement.getEnclosingElement()).thenReturn(typeElement);
+        ElementDescriptor<Element> descriptor = new ElementDescriptor<>(variableElement);
+        assertEquals("dev.alexengrig.domain", descriptor.getPackageName(), "Package name is incorrect");
+    }
 }
\ No newline at end of file
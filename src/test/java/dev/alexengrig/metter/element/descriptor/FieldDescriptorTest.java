@@ -26,6 +26,7 @@ import java.util.Arrays;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -97,4 +98,13 @@ class FieldDescriptorTest {
         assertTrue(descriptor.hasAnnotation(SuppressWarnings.class),
                 "Field has no 'java.lang.SuppressWarnings' annotation");
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_check_hasConstantValue() {
+        VariableElement field = ElementMocks.fieldMock();
+        FieldDescriptor descriptor = new FieldDescriptor(field);
+        assertFalse(descriptor.hasConstantValue(), "Field has constant value");
+        when(field.getConstantValue()).thenReturn(1);
+        assertTrue(descriptor.hasConstantValue(), "Field has no constant value");
+    }
+}
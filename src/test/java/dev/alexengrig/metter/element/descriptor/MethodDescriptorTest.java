@@ -30,6 +30,7 @@ import static dev.alexengrig.metter.ElementMocks.notPrivateMethodMock;
 import static dev.alexengrig.metter.ElementMocks.parameterizedMethodMock;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -46,6 +47,13 @@ class MethodDescriptorTest {
         assertEquals(3, descriptors.size(), "Number of descriptors is incorrect");
     }
 
+    @Test
+    void should_return_element() {
+        ExecutableElement executableElement = executableElementMock("method");
+        MethodDescriptor descriptor = new MethodDescriptor(executableElement);
+        assertSame(executableElement, descriptor.getElement(), "Element is incorrect");
+    }
+
     @Test
     void should_return_name() {
         ExecutableElement executableElement = executableElementMock("getText");
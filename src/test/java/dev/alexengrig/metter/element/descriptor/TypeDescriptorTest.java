@@ -27,6 +27,7 @@ import static dev.alexengrig.metter.ElementMocks.typeElementMock;
 import static dev.alexengrig.metter.ElementMocks.variableElementMock;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 
@@ -94,4 +95,18 @@ class TypeDescriptorTest {
         assertFalse(descriptor.hasMethod("getThree"), "Class has 'getThree' method");
         verify(typeElement).getEnclosedElements();
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_return_field_by_name_withThisParent() {
+        TypeElement typeElement = typeElementMock(Arrays.asList(
+                fieldMock("field1"),
+                fieldMock("field2"),
+                executableElementMock("method")));
+        TypeDescriptor descriptor = new TypeDescriptor(typeElement);
+        FieldDescriptor field = descriptor.getField("field2").orElseThrow(AssertionError::new);
+        assertEquals("field2", field.getName(), "Field name is incorrect");
+        assertSame(descriptor, field.getParent(), "Field parent is not this");
+        assertFalse(descriptor.getField("method").isPresent(), "Class has 'method' field");
+        verify(typeElement).getEnclosedElements();
+    }
+}
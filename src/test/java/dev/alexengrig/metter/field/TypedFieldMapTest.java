@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.field;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TypedFieldMapTest {
+    static final TypedField<Object, Object> FIRST = field("first", 0);
+    static final TypedField<Object, Object> SECOND = field("second", 1);
+    static final TypedField<Object, Object> THIRD = field("third", 2);
+    static final List<TypedField<Object, ?>> FIELDS = Arrays.asList(FIRST, SECOND, THIRD);
+
+    static TypedField<Object, Object> field(String name, int ordinal) {
+        return new TypedField<Object, Object>(name, ordinal, Object.class, false) {
+            @Override
+            public Object get(Object instance) {
+                return null;
+            }
+        };
+    }
+
+    @Test
+    void should_put_getAndRemove_byField() {
+        TypedFieldMap<Object, String> map = new TypedFieldMap<>(FIELDS);
+        assertTrue(map.isEmpty(), "Map is not empty");
+        assertNull(map.put(THIRD, "3"), "Previous value is not null");
+        assertNull(map.put(FIRST, null), "Previous value is not null");
+        assertEquals("3", map.put(THIRD, "three"), "Previous value is incorrect");
+        assertEquals(2, map.size(), "Size is incorrect");
+        assertTrue(map.containsKey(FIRST), "Map has no null value");
+        assertFalse(map.containsKey(SECOND), "Map has value of second");
+        assertTrue(map.containsValue(null), "Map has no null value");
+        assertEquals("three", map.get(THIRD), "Value is incorrect");
+        assertEquals("three", map.remove(THIRD), "Removed value is incorrect");
+        assertEquals(1, map.size(), "Size is incorrect");
+        map.clear();
+        assertTrue(map.isEmpty(), "Map is not empty");
+    }
+
+    @Test
+    void should_iterate_inOrderOfOrdinals() {
+        TypedFieldMap<Object, Integer> map = new TypedFieldMap<>(FIELDS);
+        map.put(THIRD, 3);
+        map.put(FIRST, 1);
+        assertEquals(Arrays.asList(FIRST, THIRD), new ArrayList<>(map.keySet()), "Keys are incorrect");
+        Iterator<Map.Entry<TypedField<Object, ?>, Integer>> iterator = map.entrySet().iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(Collections.singletonMap(THIRD, 3), map, "Map is incorrect");
+    }
+
+    @Test
+    void should_not_contain_otherField_withSameOrdinal() {
+        TypedFieldMap<Object, String> map = new TypedFieldMap<>(FIELDS);
+        TypedField<Object, Object> other = field("first", 0);
+        map.put(FIRST, "1");
+        assertNull(map.get(other), "Map has value of other field");
+        assertNull(map.get("first"), "Map has value of name");
+        assertThrows(IllegalArgumentException.class, () -> map.put(other, "1"));
+    }
+
+    @Test
+    void should_throw_illegalArgumentException_ofFieldsNotInOrderOfOrdinals() {
+        assertThrows(IllegalArgumentException.class, () -> new TypedFieldMap<>(Arrays.asList(SECOND, FIRST)));
+    }
+}
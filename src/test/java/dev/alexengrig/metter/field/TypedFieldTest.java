@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.field;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TypedFieldTest {
+    static final TypedField<StringBuilder, Integer> LENGTH
+            = new TypedField<StringBuilder, Integer>("length", 0, int.class, false) {
+        @Override
+        public Integer get(StringBuilder instance) {
+            return instance.length();
+        }
+
+        @Override
+        public int getInt(StringBuilder instance) {
+            return instance.length();
+        }
+    };
+
+    @Test
+    void should_return_descriptor() {
+        assertEquals("length", LENGTH.getName(), "Name is incorrect");
+        assertEquals(0, LENGTH.getOrdinal(), "Ordinal is incorrect");
+        assertSame(int.class, LENGTH.getType(), "Type is incorrect");
+        assertFalse(LENGTH.isSettable(), "Field is settable");
+        assertEquals("length", LENGTH.toString(), "String is incorrect");
+    }
+
+    @Test
+    void should_return_value() {
+        StringBuilder instance = new StringBuilder("metter");
+        assertEquals(6, LENGTH.get(instance), "Value is incorrect");
+        assertEquals(6, LENGTH.getInt(instance), "Int value is incorrect");
+    }
+
+    @Test
+    void should_throw_unsupportedOperationException_ofNotOverriddenAccessors() {
+        StringBuilder instance = new StringBuilder();
+        UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                () -> LENGTH.getLong(instance));
+        assertEquals("Field has no long getter: length", exception.getMessage(), "Message is incorrect");
+        assertThrows(UnsupportedOperationException.class, () -> LENGTH.getDouble(instance));
+        assertThrows(UnsupportedOperationException.class, () -> LENGTH.getBoolean(instance));
+        assertThrows(UnsupportedOperationException.class, () -> LENGTH.set(instance, 1));
+        assertThrows(UnsupportedOperationException.class, () -> LENGTH.setInt(instance, 1));
+        assertThrows(UnsupportedOperationException.class, () -> LENGTH.setLong(instance, 1L));
+        assertThrows(UnsupportedOperationException.class, () -> LENGTH.setDouble(instance, 1.0));
+        assertThrows(UnsupportedOperationException.class, () -> LENGTH.setBoolean(instance, true));
+    }
+
+    @Test
+    void should_throw_illegalArgumentException_ofNegativeOrdinal() {
+        assertThrows(IllegalArgumentException.class, () -> new TypedField<Object, Object>("field", -1, Object.class, false) {
+            @Override
+            public Object get(Object instance) {
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,938 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FieldsSourceGeneratorTest {
+    static final String SNAPSHOT_OF_SOURCE_WITHOUT_PACKAGE;
+    static final String SNAPSHOT_OF_SOURCE_WITH_PACKAGE;
+
+    static {
+        SNAPSHOT_OF_SOURCE_WITHOUT_PACKAGE = "" +
+                "/**\n" +
+                " * Fields supplier of {@link MyDomain}.\n" +
+                " */\n" +
+                "@javax.annotation.Generated(\n" +
+                "        value = \"dev.alexengrig.metter.generator.FieldsSourceGenerator\")\n" +
+                "public class MyClass implements\n" +
+                "        java.util.function.Supplier<\n" +
+                "                java.util.Map<\n" +
+                "                        java.lang.String,\n" +
+                "                        dev.alexengrig.metter.field.TypedField<MyDomain, ?>\n" +
+                "                        >> {\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Field names.\n" +
+                "     */\n" +
+                "    private static final java.lang.String[] FIELD_NAMES = {\n" +
+                "            \"booleanField\",\n" +
+                "            \"intField\",\n" +
+                "            \"stringField\"};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash seeds by bucket, empty for linear search.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_SEEDS = {5, 1};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash indices of field name by slot.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_INDICES = {1, 0, 2};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Field {@code booleanField}, ordinal is {@code 0}.\n" +
+                "     */\n" +
+                "    public static final dev.alexengrig.metter.field.TypedField<MyDomain, java.lang.Boolean> BOOLEAN_FIELD\n" +
+                "            = new dev.alexengrig.metter.field.TypedField<MyDomain, java.lang.Boolean>(\"booleanField\", 0, boolean.class, true) {\n" +
+                "        @Override\n" +
+                "        public java.lang.Boolean get(MyDomain instance) {\n" +
+                "            return instance.isBooleanField();\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public boolean getBoolean(MyDomain instance) {\n" +
+                "            return instance.isBooleanField();\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void set(MyDomain instance, java.lang.Boolean value) {\n" +
+                "            instance.setBooleanField(value);\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void setBoolean(MyDomain instance, boolean value) {\n" +
+                "            instance.setBooleanField(value);\n" +
+                "        }\n" +
+                "    };\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Field {@code intField}, ordinal is {@code 1}.\n" +
+                "     */\n" +
+                "    public static final dev.alexengrig.metter.field.TypedField<MyDomain, java.lang.Integer> INT_FIELD\n" +
+                "            = new dev.alexengrig.metter.field.TypedField<MyDomain, java.lang.Integer>(\"intField\", 1, int.class, true) {\n" +
+                "        @Override\n" +
+                "        public java.lang.Integer get(MyDomain instance) {\n" +
+                "            return instance.getIntField();\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public int getInt(MyDomain instance) {\n" +
+                "            return instance.getIntField();\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void set(MyDomain instance, java.lang.Integer value) {\n" +
+                "            instance.setIntField(value);\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void setInt(MyDomain instance, int value) {\n" +
+                "            instance.setIntField(value);\n" +
+                "        }\n" +
+                "    };\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Field {@code stringField}, ordinal is {@code 2}.\n" +
+                "     */\n" +
+                "    public static final dev.alexengrig.metter.field.TypedField<MyDomain, java.lang.String> STRING_FIELD\n" +
+                "            = new dev.alexengrig.metter.field.TypedField<MyDomain, java.lang.String>(\"stringField\", 2, java.lang.String.class, false) {\n" +
+                "        @Override\n" +
+                "        public java.lang.String get(MyDomain instance) {\n" +
+                "            return instance.getStringField();\n" +
+                "        }\n" +
+                "    };\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Map, typed field function by field name.\n" +
+                "     */\n" +
+                "    protected final java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            dev.alexengrig.metter.field.TypedField<MyDomain, ?>\n" +
+                "            > fieldByName;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Constructs this.\n" +
+                "     */\n" +
+                "    public MyClass() {\n" +
+                "        this.fieldByName = createMap();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns a shared instance, created lazily once per class loader.\n" +
+                "     *\n" +
+                "     * @return shared instance\n" +
+                "     */\n" +
+                "    public static MyClass fields() {\n" +
+                "        return InstanceHolder.INSTANCE;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Creates map, typed field function by field name.\n" +
+                "     *\n" +
+                "     * @return map, typed field function by field name\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            dev.alexengrig.metter.field.TypedField<MyDomain, ?>\n" +
+                "            > createMap() {\n" +
+                "        @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+                "        dev.alexengrig.metter.field.TypedField<MyDomain, ?>[] values\n" +
+                "                = new dev.alexengrig.metter.field.TypedField[3];\n" +
+                "        values[0] = BOOLEAN_FIELD;\n" +
+                "        values[1] = INT_FIELD;\n" +
+                "        values[2] = STRING_FIELD;\n" +
+                "        return new FieldMap<>(values);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, typed field function by field name.\n" +
+                "     *\n" +
+                "     * @return map, typed field function by field name\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            dev.alexengrig.metter.field.TypedField<MyDomain, ?>\n" +
+                "            > get() {\n" +
+                "        return fieldByName;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.String field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].equals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(field.hashCode());\n" +
+                "        return FIELD_NAMES[index].equals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name, without creating a string.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.CharSequence field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].contentEquals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = 0; i < field.length(); i++) {\n" +
+                "            hash = 31 * hash + field.charAt(i);\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return FIELD_NAMES[index].contentEquals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name in UTF-8 bytes, without creating a string.\n" +
+                "     *\n" +
+                "     * @param bytes  bytes with field name\n" +
+                "     * @param offset offset of field name in {@code bytes}\n" +
+                "     * @param length length of field name in {@code bytes}\n" +
+                "     * @return ordinal of field, or {@code -1} if no field\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if range is out of {@code bytes}\n" +
+                "     */\n" +
+                "    public static int indexOf(byte[] bytes, int offset, int length) {\n" +
+                "        if (offset < 0 || length < 0 || offset > bytes.length - length) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\n" +
+                "                    \"Range \" + offset + \"..\" + (offset + length) + \" is out of bytes: \" + bytes.length);\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = offset; i < offset + length; i++) {\n" +
+                "            if (bytes[i] < 0) {\n" +
+                "                return -1;\n" +
+                "            }\n" +
+                "            hash = 31 * hash + bytes[i];\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (equalsAscii(FIELD_NAMES[i], bytes, offset, length)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return equalsAscii(FIELD_NAMES[index], bytes, offset, length) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static boolean equalsAscii(java.lang.String field, byte[] bytes, int offset, int length) {\n" +
+                "        if (field.length() != length) {\n" +
+                "            return false;\n" +
+                "        }\n" +
+                "        for (int i = 0; i < length; i++) {\n" +
+                "            if (field.charAt(i) != bytes[offset + i]) {\n" +
+                "                return false;\n" +
+                "            }\n" +
+                "        }\n" +
+                "        return true;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int indexOfHash(int hash) {\n" +
+                "        int seed = HASH_SEEDS[range(mix(hash, 0), HASH_SEEDS.length)];\n" +
+                "        return HASH_INDICES[range(mix(hash, seed), HASH_INDICES.length)];\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int mix(int hash, int seed) {\n" +
+                "        int h = (hash ^ seed) * 0x9E3779B9;\n" +
+                "        return h ^ h >>> 15;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int range(int hash, int size) {\n" +
+                "        return (int) ((hash & 0xFFFFFFFFL) * size >>> 32);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns a typed field by ordinal.\n" +
+                "     *\n" +
+                "     * @param ordinal ordinal of field\n" +
+                "     * @return typed field by {@code ordinal}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     */\n" +
+                "    public static dev.alexengrig.metter.field.TypedField<MyDomain, ?> valueOf(int ordinal) {\n" +
+                "        switch (ordinal) {\n" +
+                "            case 0:\n" +
+                "                return BOOLEAN_FIELD;\n" +
+                "            case 1:\n" +
+                "                return INT_FIELD;\n" +
+                "            case 2:\n" +
+                "                return STRING_FIELD;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns a new list of typed fields in order of ordinals.\n" +
+                "     *\n" +
+                "     * @return new list of typed fields in order of ordinals\n" +
+                "     */\n" +
+                "    public static java.util.List<dev.alexengrig.metter.field.TypedField<MyDomain, ?>> values() {\n" +
+                "        return new java.util.ArrayList<>(fields().get().values());\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns a new empty map by typed field, backed by an array by ordinal.\n" +
+                "     *\n" +
+                "     * @param <V> type of value\n" +
+                "     * @return new empty map by typed field\n" +
+                "     */\n" +
+                "    public static <V> dev.alexengrig.metter.field.TypedFieldMap<MyDomain, V> newMap() {\n" +
+                "        return new dev.alexengrig.metter.field.TypedFieldMap<>(values());\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Lazy holder of shared instance.\n" +
+                "     */\n" +
+                "    private static final class InstanceHolder {\n" +
+                "        private static final MyClass INSTANCE = new MyClass();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Immutable map by field name, backed by arrays in order of field names,\n" +
+                "     * {@code null} value is no field.\n" +
+                "     *\n" +
+                "     * @param <V> type of value\n" +
+                "     */\n" +
+                "    protected static final class FieldMap<V> extends java.util.AbstractMap<java.lang.String, V> {\n" +
+                "        private final V[] values;\n" +
+                "        private final int size;\n" +
+                "\n" +
+                "        protected FieldMap(V[] values) {\n" +
+                "            this.values = values;\n" +
+                "            int size = 0;\n" +
+                "            for (V value : values) {\n" +
+                "                if (value != null) {\n" +
+                "                    size++;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            this.size = size;\n" +
+                "        }\n" +
+                "\n" +
+                "        private static int indexOf(java.lang.Object key) {\n" +
+                "            return key instanceof java.lang.String\n" +
+                "                    ? MyClass.indexOf((java.lang.String) key)\n" +
+                "                    : -1;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public int size() {\n" +
+                "            return size;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public boolean containsKey(java.lang.Object key) {\n" +
+                "            return get(key) != null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public V get(java.lang.Object key) {\n" +
+                "            int index = indexOf(key);\n" +
+                "            return index >= 0 ? values[index] : null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Collection<V> values() {\n" +
+                "            if (size == values.length) {\n" +
+                "                return java.util.Collections.unmodifiableList(java.util.Arrays.asList(values));\n" +
+                "            }\n" +
+                "            return super.values();\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void forEach(java.util.function.BiConsumer<? super java.lang.String, ? super V> action) {\n" +
+                "            for (int i = 0; i < values.length; i++) {\n" +
+                "                if (values[i] != null) {\n" +
+                "                    action.accept(FIELD_NAMES[i], values[i]);\n" +
+                "                }\n" +
+                "            }\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Set<java.util.Map.Entry<java.lang.String, V>> entrySet() {\n" +
+                "            return new java.util.AbstractSet<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                @Override\n" +
+                "                public java.util.Iterator<java.util.Map.Entry<java.lang.String, V>> iterator() {\n" +
+                "                    return new java.util.Iterator<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                        private int index = skip(0);\n" +
+                "\n" +
+                "                        private int skip(int index) {\n" +
+                "                            while (index < values.length && values[index] == null) {\n" +
+                "                                index++;\n" +
+                "                            }\n" +
+                "                            return index;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public boolean hasNext() {\n" +
+                "                            return index < values.length;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public java.util.Map.Entry<java.lang.String, V> next() {\n" +
+                "                            if (index >= values.length) {\n" +
+                "                                throw new java.util.NoSuchElementException();\n" +
+                "                            }\n" +
+                "                            int i = index;\n" +
+                "                            index = skip(i + 1);\n" +
+                "                            return new java.util.AbstractMap.SimpleImmutableEntry<>(FIELD_NAMES[i], values[i]);\n" +
+                "                        }\n" +
+                "                    };\n" +
+                "                }\n" +
+                "\n" +
+                "                @Override\n" +
+                "                public int size() {\n" +
+                "                    return size;\n" +
+                "                }\n" +
+                "            };\n" +
+                "        }\n" +
+                "    }\n" +
+                "}\n";
+        SNAPSHOT_OF_SOURCE_WITH_PACKAGE = "" +
+                "package my.company;\n" +
+                "\n" +
+                "/**\n" +
+                " * Fields supplier of {@link my.company.MyDomain}.\n" +
+                " */\n" +
+                "@javax.annotation.Generated(\n" +
+                "        value = \"dev.alexengrig.metter.generator.FieldsSourceGenerator\")\n" +
+                "public class MyClass implements\n" +
+                "        java.util.function.Supplier<\n" +
+                "                java.util.Map<\n" +
+                "                        java.lang.String,\n" +
+                "                        dev.alexengrig.metter.field.TypedField<my.company.MyDomain, ?>\n" +
+                "                        >> {\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Field names.\n" +
+                "     */\n" +
+                "    private static final java.lang.String[] FIELD_NAMES = {\n" +
+                "            \"booleanField\",\n" +
+                "            \"intField\",\n" +
+                "            \"stringField\"};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash seeds by bucket, empty for linear search.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_SEEDS = {5, 1};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash indices of field name by slot.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_INDICES = {1, 0, 2};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Field {@code booleanField}, ordinal is {@code 0}.\n" +
+                "     */\n" +
+                "    public static final dev.alexengrig.metter.field.TypedField<my.company.MyDomain, java.lang.Boolean> BOOLEAN_FIELD\n" +
+                "            = new dev.alexengrig.metter.field.TypedField<my.company.MyDomain, java.lang.Boolean>(\"booleanField\", 0, boolean.class, true) {\n" +
+                "        @Override\n" +
+                "        public java.lang.Boolean get(my.company.MyDomain instance) {\n" +
+                "            return instance.isBooleanField();\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public boolean getBoolean(my.company.MyDomain instance) {\n" +
+                "            return instance.isBooleanField();\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void set(my.company.MyDomain instance, java.lang.Boolean value) {\n" +
+                "            instance.setBooleanField(value);\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void setBoolean(my.company.MyDomain instance, boolean value) {\n" +
+                "            instance.setBooleanField(value);\n" +
+                "        }\n" +
+                "    };\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Field {@code intField}, ordinal is {@code 1}.\n" +
+                "     */\n" +
+                "    public static final dev.alexengrig.metter.field.TypedField<my.company.MyDomain, java.lang.Integer> INT_FIELD\n" +
+                "            = new dev.alexengrig.metter.field.TypedField<my.company.MyDomain, java.lang.Integer>(\"intField\", 1, int.class, true) {\n" +
+                "        @Override\n" +
+                "        public java.lang.Integer get(my.company.MyDomain instance) {\n" +
+                "            return instance.getIntField();\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public int getInt(my.company.MyDomain instance) {\n" +
+                "            return instance.getIntField();\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void set(my.company.MyDomain instance, java.lang.Integer value) {\n" +
+                "            instance.setIntField(value);\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void setInt(my.company.MyDomain instance, int value) {\n" +
+                "            instance.setIntField(value);\n" +
+                "        }\n" +
+                "    };\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Field {@code stringField}, ordinal is {@code 2}.\n" +
+                "     */\n" +
+                "    public static final dev.alexengrig.metter.field.TypedField<my.company.MyDomain, java.lang.String> STRING_FIELD\n" +
+                "            = new dev.alexengrig.metter.field.TypedField<my.company.MyDomain, java.lang.String>(\"stringField\", 2, java.lang.String.class, false) {\n" +
+                "        @Override\n" +
+                "        public java.lang.String get(my.company.MyDomain instance) {\n" +
+                "            return instance.getStringField();\n" +
+                "        }\n" +
+                "    };\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Map, typed field function by field name.\n" +
+                "     */\n" +
+                "    protected final java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            dev.alexengrig.metter.field.TypedField<my.company.MyDomain, ?>\n" +
+                "            > fieldByName;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Constructs this.\n" +
+                "     */\n" +
+                "    public MyClass() {\n" +
+                "        this.fieldByName = createMap();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns a shared instance, created lazily once per class loader.\n" +
+                "     *\n" +
+                "     * @return shared instance\n" +
+                "     */\n" +
+                "    public static MyClass fields() {\n" +
+                "        return InstanceHolder.INSTANCE;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Creates map, typed field function by field name.\n" +
+                "     *\n" +
+                "     * @return map, typed field function by field name\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            dev.alexengrig.metter.field.TypedField<my.company.MyDomain, ?>\n" +
+                "            > createMap() {\n" +
+                "        @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+                "        dev.alexengrig.metter.field.TypedField<my.company.MyDomain, ?>[] values\n" +
+                "                = new dev.alexengrig.metter.field.TypedField[3];\n" +
+                "        values[0] = BOOLEAN_FIELD;\n" +
+                "        values[1] = INT_FIELD;\n" +
+                "        values[2] = STRING_FIELD;\n" +
+                "        return new FieldMap<>(values);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, typed field function by field name.\n" +
+                "     *\n" +
+                "     * @return map, typed field function by field name\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            dev.alexengrig.metter.field.TypedField<my.company.MyDomain, ?>\n" +
+                "            > get() {\n" +
+                "        return fieldByName;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.String field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].equals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(field.hashCode());\n" +
+                "        return FIELD_NAMES[index].equals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name, without creating a string.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.CharSequence field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].contentEquals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = 0; i < field.length(); i++) {\n" +
+                "            hash = 31 * hash + field.charAt(i);\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return FIELD_NAMES[index].contentEquals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name in UTF-8 bytes, without creating a string.\n" +
+                "     *\n" +
+                "     * @param bytes  bytes with field name\n" +
+                "     * @param offset offset of field name in {@code bytes}\n" +
+                "     * @param length length of field name in {@code bytes}\n" +
+                "     * @return ordinal of field, or {@code -1} if no field\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if range is out of {@code bytes}\n" +
+                "     */\n" +
+                "    public static int indexOf(byte[] bytes, int offset, int length) {\n" +
+                "        if (offset < 0 || length < 0 || offset > bytes.length - length) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\n" +
+                "                    \"Range \" + offset + \"..\" + (offset + length) + \" is out of bytes: \" + bytes.length);\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = offset; i < offset + length; i++) {\n" +
+                "            if (bytes[i] < 0) {\n" +
+                "                return -1;\n" +
+                "            }\n" +
+                "            hash = 31 * hash + bytes[i];\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (equalsAscii(FIELD_NAMES[i], bytes, offset, length)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return equalsAscii(FIELD_NAMES[index], bytes, offset, length) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static boolean equalsAscii(java.lang.String field, byte[] bytes, int offset, int length) {\n" +
+                "        if (field.length() != length) {\n" +
+                "            return false;\n" +
+                "        }\n" +
+                "        for (int i = 0; i < length; i++) {\n" +
+                "            if (field.charAt(i) != bytes[offset + i]) {\n" +
+                "                return false;\n" +
+                "            }\n" +
+                "        }\n" +
+                "        return true;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int indexOfHash(int hash) {\n" +
+                "        int seed = HASH_SEEDS[range(mix(hash, 0), HASH_SEEDS.length)];\n" +
+                "        return HASH_INDICES[range(mix(hash, seed), HASH_INDICES.length)];\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int mix(int hash, int seed) {\n" +
+                "        int h = (hash ^ seed) * 0x9E3779B9;\n" +
+                "        return h ^ h >>> 15;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int range(int hash, int size) {\n" +
+                "        return (int) ((hash & 0xFFFFFFFFL) * size >>> 32);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns a typed field by ordinal.\n" +
+                "     *\n" +
+                "     * @param ordinal ordinal of field\n" +
+                "     * @return typed field by {@code ordinal}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     */\n" +
+                "    public static dev.alexengrig.metter.field.TypedField<my.company.MyDomain, ?> valueOf(int ordinal) {\n" +
+                "        switch (ordinal) {\n" +
+                "            case 0:\n" +
+                "                return BOOLEAN_FIELD;\n" +
+                "            case 1:\n" +
+                "                return INT_FIELD;\n" +
+                "            case 2:\n" +
+                "                return STRING_FIELD;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns a new list of typed fields in order of ordinals.\n" +
+                "     *\n" +
+                "     * @return new list of typed fields in order of ordinals\n" +
+                "     */\n" +
+                "    public static java.util.List<dev.alexengrig.metter.field.TypedField<my.company.MyDomain, ?>> values() {\n" +
+                "        return new java.util.ArrayList<>(fields().get().values());\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns a new empty map by typed field, backed by an array by ordinal.\n" +
+                "     *\n" +
+                "     * @param <V> type of value\n" +
+                "     * @return new empty map by typed field\n" +
+                "     */\n" +
+                "    public static <V> dev.alexengrig.metter.field.TypedFieldMap<my.company.MyDomain, V> newMap() {\n" +
+                "        return new dev.alexengrig.metter.field.TypedFieldMap<>(values());\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Lazy holder of shared instance.\n" +
+                "     */\n" +
+                "    private static final class InstanceHolder {\n" +
+                "        private static final MyClass INSTANCE = new MyClass();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Immutable map by field name, backed by arrays in order of field names,\n" +
+                "     * {@code null} value is no field.\n" +
+                "     *\n" +
+                "     * @param <V> type of value\n" +
+                "     */\n" +
+                "    protected static final class FieldMap<V> extends java.util.AbstractMap<java.lang.String, V> {\n" +
+                "        private final V[] values;\n" +
+                "        private final int size;\n" +
+                "\n" +
+                "        protected FieldMap(V[] values) {\n" +
+                "            this.values = values;\n" +
+                "            int size = 0;\n" +
+                "            for (V value : values) {\n" +
+                "                if (value != null) {\n" +
+                "                    size++;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            this.size = size;\n" +
+                "        }\n" +
+                "\n" +
+                "        private static int indexOf(java.lang.Object key) {\n" +
+                "            return key instanceof java.lang.String\n" +
+                "                    ? MyClass.indexOf((java.lang.String) key)\n" +
+                "                    : -1;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public int size() {\n" +
+                "            return size;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public boolean containsKey(java.lang.Object key) {\n" +
+                "            return get(key) != null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public V get(java.lang.Object key) {\n" +
+                "            int index = indexOf(key);\n" +
+                "            return index >= 0 ? values[index] : null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Collection<V> values() {\n" +
+                "            if (size == values.length) {\n" +
+                "                return java.util.Collections.unmodifiableList(java.util.Arrays.asList(values));\n" +
+                "            }\n" +
+                "            return super.values();\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void forEach(java.util.function.BiConsumer<? super java.lang.String, ? super V> action) {\n" +
+                "            for (int i = 0; i < values.length; i++) {\n" +
+                "                if (values[i] != null) {\n" +
+                "                    action.accept(FIELD_NAMES[i], values[i]);\n" +
+                "                }\n" +
+                "            }\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Set<java.util.Map.Entry<java.lang.String, V>> entrySet() {\n" +
+                "            return new java.util.AbstractSet<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                @Override\n" +
+                "                public java.util.Iterator<java.util.Map.Entry<java.lang.String, V>> iterator() {\n" +
+                "                    return new java.util.Iterator<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                        private int index = skip(0);\n" +
+                "\n" +
+                "                        private int skip(int index) {\n" +
+                "                            while (index < values.length && values[index] == null) {\n" +
+                "                                index++;\n" +
+                "                            }\n" +
+                "                            return index;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public boolean hasNext() {\n" +
+                "                            return index < values.length;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public java.util.Map.Entry<java.lang.String, V> next() {\n" +
+                "                            if (index >= values.length) {\n" +
+                "                                throw new java.util.NoSuchElementException();\n" +
+                "                            }\n" +
+                "                            int i = index;\n" +
+                "                            index = skip(i + 1);\n" +
+                "                            return new java.util.AbstractMap.SimpleImmutableEntry<>(FIELD_NAMES[i], values[i]);\n" +
+                "                        }\n" +
+                "                    };\n" +
+                "                }\n" +
+                "\n" +
+                "                @Override\n" +
+                "                public int size() {\n" +
+                "                    return size;\n" +
+                "                }\n" +
+                "            };\n" +
+                "        }\n" +
+                "    }\n" +
+                "}\n";
+    }
+
+    final FieldsSourceGenerator generator = new FieldsSourceGenerator(false);
+
+    @Test
+    void should_create_instance() {
+        // coverage
+        FieldsSourceGenerator generator = new FieldsSourceGenerator();
+        assertNotNull(generator);
+    }
+
+    @Test
+    void should_generate_sourceWithoutPackage() {
+        String className = "MyClass";
+        String domainClassName = "MyDomain";
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new TypedFieldMethod("booleanField", "boolean", "MyDomain::isBooleanField",
+                        "%1$s.isBooleanField()", "%1$s.setBooleanField(%2$s)"),
+                new TypedFieldMethod("intField", "int", "MyDomain::getIntField",
+                        "%1$s.getIntField()", "%1$s.setIntField(%2$s)"),
+                new TypedFieldMethod("stringField", "java.lang.String", "MyDomain::getStringField",
+                        "%1$s.getStringField()", null));
+        String source = generator.generate(className, domainClassName, fieldMethods);
+        assertEquals(SNAPSHOT_OF_SOURCE_WITHOUT_PACKAGE, source, "Source is invalid");
+    }
+
+    @Test
+    void should_generate_sourceWithPackage() {
+        String className = "my.company.MyClass";
+        String domainClassName = "my.company.MyDomain";
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new TypedFieldMethod("booleanField", "boolean", "my.company.MyDomain::isBooleanField",
+                        "%1$s.isBooleanField()", "%1$s.setBooleanField(%2$s)"),
+                new TypedFieldMethod("intField", "int", "my.company.MyDomain::getIntField",
+                        "%1$s.getIntField()", "%1$s.setIntField(%2$s)"),
+                new TypedFieldMethod("stringField", "java.lang.String", "my.company.MyDomain::getStringField",
+                        "%1$s.getStringField()", null));
+        String source = generator.generate(className, domainClassName, fieldMethods);
+        assertEquals(SNAPSHOT_OF_SOURCE_WITH_PACKAGE, source, "Source is invalid");
+    }
+
+    @Test
+    void should_generate_source_withTypedFieldConstants_ifFieldsHaveNamesOfGeneratedConstants() {
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new TypedFieldMethod("chunkSize", "int", "MyDomain::getChunkSize",
+                        "%1$s.getChunkSize()", "%1$s.setChunkSize(%2$s)"),
+                new TypedFieldMethod("instance", "MyDomain", "MyDomain::getInstance",
+                        "%1$s.getInstance()", null));
+        String source = generator.generate("MyClass", "MyDomain", fieldMethods);
+        assertTrue(source.contains("    public static final dev.alexengrig.metter.field.TypedField<MyDomain, java.lang.Integer> CHUNK_SIZE_0\n"),
+                "Typed field of chunkSize is invalid");
+        assertTrue(source.contains("    public static final dev.alexengrig.metter.field.TypedField<MyDomain, MyDomain> INSTANCE_1\n"),
+                "Typed field of instance is invalid");
+        assertTrue(source.contains("            case 1:\n                return INSTANCE_1;\n"),
+                "Typed field by ordinal is invalid");
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void should_generate_source_byMapOfFieldToMethod() {
+        Map<String, String> field2Method = new LinkedHashMap<>();
+        field2Method.put("intField", "MyDomain::getIntField");
+        String source = generator.generate("MyClass", "MyDomain", field2Method);
+        assertTrue(source.contains("" +
+                        "    public static final dev.alexengrig.metter.field.TypedField<MyDomain, java.lang.Object> INT_FIELD\n" +
+                        "            = new dev.alexengrig.metter.field.TypedField<MyDomain, java.lang.Object>(\"intField\", 0, java.lang.Object.class, false) {\n" +
+                        "        @Override\n" +
+                        "        public java.lang.Object get(MyDomain instance) {\n" +
+                        "            return ((java.util.function.Function<MyDomain, java.lang.Object>) MyDomain::getIntField).apply(instance);\n" +
+                        "        }\n"),
+                "Source has no invocation of method of map");
+    }
+
+    @Test
+    void should_return_primitiveGetterType() {
+        assertEquals("int", generator.getPrimitiveGetterType("char"), "Getter type of char is incorrect");
+        assertEquals("long", generator.getPrimitiveGetterType("long"), "Getter type of long is incorrect");
+        assertEquals("double", generator.getPrimitiveGetterType("float"), "Getter type of float is incorrect");
+        assertEquals("boolean", generator.getPrimitiveGetterType("boolean"), "Getter type of boolean is incorrect");
+        assertNull(generator.getPrimitiveGetterType("java.lang.Integer"), "Wrapper has getter type");
+    }
+
+    @Test
+    void should_check_primitiveSetterType() {
+        assertTrue(generator.isPrimitiveSetterType("long"), "Long has no setter type");
+        assertFalse(generator.isPrimitiveSetterType("short"), "Short has setter type");
+    }
+
+    @Test
+    void should_return_erasedType() {
+        assertEquals("java.util.Map", generator.getErasedType("java.util.Map<java.lang.String, java.util.List<?>>"),
+                "Erased type of map is incorrect");
+        assertEquals("java.util.List[]", generator.getErasedType("java.util.List<java.lang.String>[]"),
+                "Erased type of array is incorrect");
+    }
+}
@@ -16,13 +16,20 @@
 
 package dev.alexengrig.metter.generator;
 
+import dev.alexengrig.metter.util.LineJoiner;
 import org.junit.jupiter.api.Test;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class GetterSupplierSourceGeneratorTest {
     static final String SNAPSHOT_OF_SOURCE_WITHOUT_PACKAGE;
@@ -43,118 +50,1872 @@ class GetterSupplierSourceGeneratorTest {
                 "                        >> {\n" +
                 "\n" +
                 "    /**\n" +
+                "     * Field names.\n" +
+                "     */\n" +
+                "    private static final java.lang.String[] FIELD_NAMES = {\n" +
+                "            \"booleanField\",\n" +
+                "            \"intField\",\n" +
+                "            \"stringField\"};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash seeds by bucket, empty for linear search.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_SEEDS = {5, 1};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash indices of field name by slot.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_INDICES = {1, 0, 2};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code booleanField}.\n" +
+                "     */\n" +
+                "    public static final int BOOLEAN_FIELD = 0;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code intField}.\n" +
+                "     */\n" +
+                "    public static final int INT_FIELD = 1;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code stringField}.\n" +
+                "     */\n" +
+                "    public static final int STRING_FIELD = 2;\n" +
+                "\n" +
+                "    /**\n" +
                 "     * Map, getter function by field name.\n" +
                 "     */\n" +
-                "    protected final java.util.Map<\n" +
-                "            java.lang.String,\n" +
-                "            java.util.function.Function<MyDomain, java.lang.Object>\n" +
-                "            > getterByField;\n" +
+                "    protected final java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.Function<MyDomain, java.lang.Object>\n" +
+                "            > getterByField;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Constructs this.\n" +
+                "     */\n" +
+                "    public MyClass() {\n" +
+                "        this.getterByField = createMap();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns a shared instance, created lazily once per class loader.\n" +
+                "     *\n" +
+                "     * @return shared instance\n" +
+                "     */\n" +
+                "    public static MyClass getters() {\n" +
+                "        return InstanceHolder.INSTANCE;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Creates map, getter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, getter function by field name\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.Function<MyDomain, java.lang.Object>\n" +
+                "            > createMap() {\n" +
+                "        @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+                "        java.util.function.Function<MyDomain, java.lang.Object>[] values\n" +
+                "                = new java.util.function.Function[3];\n" +
+                "        values[0] = MyDomain::isBooleanField;\n" +
+                "        values[1] = MyDomain::getIntField;\n" +
+                "        values[2] = MyDomain::getStringField;\n" +
+                "        return new FieldMap<>(values);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, getter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, getter function by field name\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.Function<MyDomain, java.lang.Object>\n" +
+                "            > get() {\n" +
+                "        return getterByField;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.String field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].equals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(field.hashCode());\n" +
+                "        return FIELD_NAMES[index].equals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name, without creating a string.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.CharSequence field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].contentEquals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = 0; i < field.length(); i++) {\n" +
+                "            hash = 31 * hash + field.charAt(i);\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return FIELD_NAMES[index].contentEquals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name in UTF-8 bytes, without creating a string.\n" +
+                "     *\n" +
+                "     * @param bytes  bytes with field name\n" +
+                "     * @param offset offset of field name in {@code bytes}\n" +
+                "     * @param length length of field name in {@code bytes}\n" +
+                "     * @return ordinal of field, or {@code -1} if no field\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if range is out of {@code bytes}\n" +
+                "     */\n" +
+                "    public static int indexOf(byte[] bytes, int offset, int length) {\n" +
+                "        if (offset < 0 || length < 0 || offset > bytes.length - length) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\n" +
+                "                    \"Range \" + offset + \"..\" + (offset + length) + \" is out of bytes: \" + bytes.length);\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = offset; i < offset + length; i++) {\n" +
+                "            if (bytes[i] < 0) {\n" +
+                "                return -1;\n" +
+                "            }\n" +
+                "            hash = 31 * hash + bytes[i];\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (equalsAscii(FIELD_NAMES[i], bytes, offset, length)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return equalsAscii(FIELD_NAMES[index], bytes, offset, length) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static boolean equalsAscii(java.lang.String field, byte[] bytes, int offset, int length) {\n" +
+                "        if (field.length() != length) {\n" +
+                "            return false;\n" +
+                "        }\n" +
+                "        for (int i = 0; i < length; i++) {\n" +
+                "            if (field.charAt(i) != bytes[offset + i]) {\n" +
+                "                return false;\n" +
+                "            }\n" +
+                "        }\n" +
+                "        return true;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int indexOfHash(int hash) {\n" +
+                "        int seed = HASH_SEEDS[range(mix(hash, 0), HASH_SEEDS.length)];\n" +
+                "        return HASH_INDICES[range(mix(hash, seed), HASH_INDICES.length)];\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int mix(int hash, int seed) {\n" +
+                "        int h = (hash ^ seed) * 0x9E3779B9;\n" +
+                "        return h ^ h >>> 15;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int range(int hash, int size) {\n" +
+                "        return (int) ((hash & 0xFFFFFFFFL) * size >>> 32);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns a value of field by ordinal.\n" +
+                "     *\n" +
+                "     * @param instance instance of {@link MyDomain}\n" +
+                "     * @param ordinal  ordinal of field\n" +
+                "     * @return value of field by {@code ordinal}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     */\n" +
+                "    public java.lang.Object get(MyDomain instance, int ordinal) {\n" +
+                "        switch (ordinal) {\n" +
+                "            case 0:\n" +
+                "                return instance.isBooleanField();\n" +
+                "            case 1:\n" +
+                "                return instance.getIntField();\n" +
+                "            case 2:\n" +
+                "                return instance.getStringField();\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of all fields into an array by ordinal, other elements are not changed.\n" +
+                "     *\n" +
+                "     * @param instance instance of {@link MyDomain}\n" +
+                "     * @param target   array of values by ordinal\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IllegalArgumentException if length of {@code target} is less than 3\n" +
+                "     */\n" +
+                "    public java.lang.Object[] snapshot(MyDomain instance, java.lang.Object[] target) {\n" +
+                "        if (target.length < 3) {\n" +
+                "            throw new java.lang.IllegalArgumentException(\n" +
+                "                    \"Target length must be at least 3, not \" + target.length);\n" +
+                "        }\n" +
+                "        target[0] = instance.isBooleanField();\n" +
+                "        target[1] = instance.getIntField();\n" +
+                "        target[2] = instance.getStringField();\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of integral fields into an array by ordinal, other elements are not changed.\n" +
+                "     *\n" +
+                "     * @param instance instance of {@link MyDomain}\n" +
+                "     * @param target   array of values by ordinal\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IllegalArgumentException if length of {@code target} is less than 2\n" +
+                "     */\n" +
+                "    public long[] snapshot(MyDomain instance, long[] target) {\n" +
+                "        if (target.length < 2) {\n" +
+                "            throw new java.lang.IllegalArgumentException(\n" +
+                "                    \"Target length must be at least 2, not \" + target.length);\n" +
+                "        }\n" +
+                "        target[1] = instance.getIntField();\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Visits values of all fields in order of ordinals.\n" +
+                "     *\n" +
+                "     * @param instance instance of {@link MyDomain}\n" +
+                "     * @param visitor  visitor of field values\n" +
+                "     */\n" +
+                "    public void forEach(MyDomain instance, dev.alexengrig.metter.visitor.FieldVisitor visitor) {\n" +
+                "        visitor.visitBoolean(\"booleanField\", instance.isBooleanField());\n" +
+                "        visitor.visitInt(\"intField\", instance.getIntField());\n" +
+                "        visitor.visitObject(\"stringField\", instance.getStringField());\n" +
+                "    }\n" +
+                "\n" +
+                "    private static void checkRange(int from, int to, int numberOfInstances, int length) {\n" +
+                "        if (from < 0 || from > to || to > numberOfInstances) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\n" +
+                "                    \"Range \" + from + \"..\" + to + \" is out of instances: \" + numberOfInstances);\n" +
+                "        }\n" +
+                "        if (length < to) {\n" +
+                "            throw new java.lang.IllegalArgumentException(\n" +
+                "                    \"Target length must be at least \" + to + \", not \" + length);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code int} field of instances into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public int[] column(java.util.List<MyDomain> instances, int ordinal, int[] target) {\n" +
+                "        return column(instances, ordinal, target, 0, instances.size());\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code int} field of instances into an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public int[] column(java.util.List<MyDomain> instances, int ordinal, int[] target,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.size(), instances.size(), target.length);\n" +
+                "        batch.run(instances.size(), (from, to) -> column(instances, ordinal, target, from, to));\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code int} field of instances in a range into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code target} is less than {@code to}\n" +
+                "     */\n" +
+                "    public int[] column(java.util.List<MyDomain> instances, int ordinal, int[] target, int from, int to) {\n" +
+                "        checkRange(from, to, instances.size(), target.length);\n" +
+                "        int index = from;\n" +
+                "        switch (ordinal) {\n" +
+                "            case 1:\n" +
+                "                for (MyDomain instance : instances.subList(from, to)) {\n" +
+                "                    target[index++] = instance.getIntField();\n" +
+                "                }\n" +
+                "                return target;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No int field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code boolean} field of instances into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public boolean[] column(java.util.List<MyDomain> instances, int ordinal, boolean[] target) {\n" +
+                "        return column(instances, ordinal, target, 0, instances.size());\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code boolean} field of instances into an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public boolean[] column(java.util.List<MyDomain> instances, int ordinal, boolean[] target,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.size(), instances.size(), target.length);\n" +
+                "        batch.run(instances.size(), (from, to) -> column(instances, ordinal, target, from, to));\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code boolean} field of instances in a range into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code target} is less than {@code to}\n" +
+                "     */\n" +
+                "    public boolean[] column(java.util.List<MyDomain> instances, int ordinal, boolean[] target, int from, int to) {\n" +
+                "        checkRange(from, to, instances.size(), target.length);\n" +
+                "        int index = from;\n" +
+                "        switch (ordinal) {\n" +
+                "            case 0:\n" +
+                "                for (MyDomain instance : instances.subList(from, to)) {\n" +
+                "                    target[index++] = instance.isBooleanField();\n" +
+                "                }\n" +
+                "                return target;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No boolean field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of field of instances into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public java.lang.Object[] column(java.util.List<MyDomain> instances, int ordinal, java.lang.Object[] target) {\n" +
+                "        return column(instances, ordinal, target, 0, instances.size());\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of field of instances into an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public java.lang.Object[] column(java.util.List<MyDomain> instances, int ordinal, java.lang.Object[] target,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.size(), instances.size(), target.length);\n" +
+                "        batch.run(instances.size(), (from, to) -> column(instances, ordinal, target, from, to));\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of field of instances in a range into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal} or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code target} is less than {@code to}\n" +
+                "     */\n" +
+                "    public java.lang.Object[] column(java.util.List<MyDomain> instances, int ordinal, java.lang.Object[] target, int from, int to) {\n" +
+                "        checkRange(from, to, instances.size(), target.length);\n" +
+                "        if (ordinal < 0 || ordinal >= 3) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "        int index = from;\n" +
+                "        for (MyDomain instance : instances.subList(from, to)) {\n" +
+                "            target[index++] = get(instance, ordinal);\n" +
+                "        }\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of all fields of instances into arrays by ordinal, by index of instance,\n" +
+                "     * in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param targets   arrays of values by ordinal, by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code targets}\n" +
+                "     * @throws java.lang.IllegalArgumentException if {@code targets} is shorter than instances\n" +
+                "     *                                            or some target is shorter than fields\n" +
+                "     */\n" +
+                "    public java.lang.Object[][] snapshot(java.util.List<MyDomain> instances, java.lang.Object[][] targets,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.size(), instances.size(), targets.length);\n" +
+                "        batch.run(instances.size(), (from, to) -> {\n" +
+                "            int index = from;\n" +
+                "            for (MyDomain instance : instances.subList(from, to)) {\n" +
+                "                snapshot(instance, targets[index++]);\n" +
+                "            }\n" +
+                "        });\n" +
+                "        return targets;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of integral fields of instances into arrays by ordinal, by index of instance,\n" +
+                "     * in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param targets   arrays of values by ordinal, by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code targets}\n" +
+                "     * @throws java.lang.IllegalArgumentException if {@code targets} is shorter than instances\n" +
+                "     *                                            or some target is shorter than fields\n" +
+                "     */\n" +
+                "    public long[][] snapshot(java.util.List<MyDomain> instances, long[][] targets,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.size(), instances.size(), targets.length);\n" +
+                "        batch.run(instances.size(), (from, to) -> {\n" +
+                "            int index = from;\n" +
+                "            for (MyDomain instance : instances.subList(from, to)) {\n" +
+                "                snapshot(instance, targets[index++]);\n" +
+                "            }\n" +
+                "        });\n" +
+                "        return targets;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code int} field of instances into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public int[] column(MyDomain[] instances, int ordinal, int[] target) {\n" +
+                "        return column(instances, ordinal, target, 0, instances.length);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code int} field of instances into an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public int[] column(MyDomain[] instances, int ordinal, int[] target,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.length, instances.length, target.length);\n" +
+                "        batch.run(instances.length, (from, to) -> column(instances, ordinal, target, from, to));\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code int} field of instances in a range into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code target} is less than {@code to}\n" +
+                "     */\n" +
+                "    public int[] column(MyDomain[] instances, int ordinal, int[] target, int from, int to) {\n" +
+                "        checkRange(from, to, instances.length, target.length);\n" +
+                "        switch (ordinal) {\n" +
+                "            case 1:\n" +
+                "                for (int index = from; index < to; index++) {\n" +
+                "                    target[index] = instances[index].getIntField();\n" +
+                "                }\n" +
+                "                return target;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No int field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code boolean} field of instances into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public boolean[] column(MyDomain[] instances, int ordinal, boolean[] target) {\n" +
+                "        return column(instances, ordinal, target, 0, instances.length);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code boolean} field of instances into an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public boolean[] column(MyDomain[] instances, int ordinal, boolean[] target,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.length, instances.length, target.length);\n" +
+                "        batch.run(instances.length, (from, to) -> column(instances, ordinal, target, from, to));\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code boolean} field of instances in a range into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code target} is less than {@code to}\n" +
+                "     */\n" +
+                "    public boolean[] column(MyDomain[] instances, int ordinal, boolean[] target, int from, int to) {\n" +
+                "        checkRange(from, to, instances.length, target.length);\n" +
+                "        switch (ordinal) {\n" +
+                "            case 0:\n" +
+                "                for (int index = from; index < to; index++) {\n" +
+                "                    target[index] = instances[index].isBooleanField();\n" +
+                "                }\n" +
+                "                return target;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No boolean field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of field of instances into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public java.lang.Object[] column(MyDomain[] instances, int ordinal, java.lang.Object[] target) {\n" +
+                "        return column(instances, ordinal, target, 0, instances.length);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of field of instances into an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public java.lang.Object[] column(MyDomain[] instances, int ordinal, java.lang.Object[] target,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.length, instances.length, target.length);\n" +
+                "        batch.run(instances.length, (from, to) -> column(instances, ordinal, target, from, to));\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of field of instances in a range into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal} or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code target} is less than {@code to}\n" +
+                "     */\n" +
+                "    public java.lang.Object[] column(MyDomain[] instances, int ordinal, java.lang.Object[] target, int from, int to) {\n" +
+                "        checkRange(from, to, instances.length, target.length);\n" +
+                "        if (ordinal < 0 || ordinal >= 3) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "        for (int index = from; index < to; index++) {\n" +
+                "            target[index] = get(instances[index], ordinal);\n" +
+                "        }\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of all fields of instances into arrays by ordinal, by index of instance,\n" +
+                "     * in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param targets   arrays of values by ordinal, by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code targets}\n" +
+                "     * @throws java.lang.IllegalArgumentException if {@code targets} is shorter than instances\n" +
+                "     *                                            or some target is shorter than fields\n" +
+                "     */\n" +
+                "    public java.lang.Object[][] snapshot(MyDomain[] instances, java.lang.Object[][] targets,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.length, instances.length, targets.length);\n" +
+                "        batch.run(instances.length, (from, to) -> {\n" +
+                "            for (int index = from; index < to; index++) {\n" +
+                "                snapshot(instances[index], targets[index]);\n" +
+                "            }\n" +
+                "        });\n" +
+                "        return targets;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of integral fields of instances into arrays by ordinal, by index of instance,\n" +
+                "     * in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param targets   arrays of values by ordinal, by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code targets}\n" +
+                "     * @throws java.lang.IllegalArgumentException if {@code targets} is shorter than instances\n" +
+                "     *                                            or some target is shorter than fields\n" +
+                "     */\n" +
+                "    public long[][] snapshot(MyDomain[] instances, long[][] targets,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.length, instances.length, targets.length);\n" +
+                "        batch.run(instances.length, (from, to) -> {\n" +
+                "            for (int index = from; index < to; index++) {\n" +
+                "                snapshot(instances[index], targets[index]);\n" +
+                "            }\n" +
+                "        });\n" +
+                "        return targets;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Map, int getter function by field name; created on the first getting.\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ToIntFunction<MyDomain>\n" +
+                "            > intGetterByField;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Creates map, int getter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, int getter function by field name\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ToIntFunction<MyDomain>\n" +
+                "            > createIntMap() {\n" +
+                "        @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+                "        java.util.function.ToIntFunction<MyDomain>[] values\n" +
+                "                = new java.util.function.ToIntFunction[3];\n" +
+                "        values[1] = MyDomain::getIntField;\n" +
+                "        return new FieldMap<>(values);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, int getter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, int getter function by field name\n" +
+                "     */\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ToIntFunction<MyDomain>\n" +
+                "            > getIntGetters() {\n" +
+                "        java.util.Map<\n" +
+                "                java.lang.String,\n" +
+                "                java.util.function.ToIntFunction<MyDomain>\n" +
+                "                > map = intGetterByField;\n" +
+                "        if (map == null) {\n" +
+                "            intGetterByField = map = createIntMap();\n" +
+                "        }\n" +
+                "        return map;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, long getter function by field name; empty, no fields.\n" +
+                "     *\n" +
+                "     * @return empty map, long getter function by field name\n" +
+                "     */\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ToLongFunction<MyDomain>\n" +
+                "            > getLongGetters() {\n" +
+                "        return java.util.Collections.emptyMap();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, double getter function by field name; empty, no fields.\n" +
+                "     *\n" +
+                "     * @return empty map, double getter function by field name\n" +
+                "     */\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ToDoubleFunction<MyDomain>\n" +
+                "            > getDoubleGetters() {\n" +
+                "        return java.util.Collections.emptyMap();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Map, boolean getter function by field name; created on the first getting.\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.Predicate<MyDomain>\n" +
+                "            > booleanGetterByField;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Creates map, boolean getter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, boolean getter function by field name\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.Predicate<MyDomain>\n" +
+                "            > createBooleanMap() {\n" +
+                "        @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+                "        java.util.function.Predicate<MyDomain>[] values\n" +
+                "                = new java.util.function.Predicate[3];\n" +
+                "        values[0] = MyDomain::isBooleanField;\n" +
+                "        return new FieldMap<>(values);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, boolean getter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, boolean getter function by field name\n" +
+                "     */\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.Predicate<MyDomain>\n" +
+                "            > getBooleanGetters() {\n" +
+                "        java.util.Map<\n" +
+                "                java.lang.String,\n" +
+                "                java.util.function.Predicate<MyDomain>\n" +
+                "                > map = booleanGetterByField;\n" +
+                "        if (map == null) {\n" +
+                "            booleanGetterByField = map = createBooleanMap();\n" +
+                "        }\n" +
+                "        return map;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Lazy holder of shared instance.\n" +
+                "     */\n" +
+                "    private static final class InstanceHolder {\n" +
+                "        private static final MyClass INSTANCE = new MyClass();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Immutable map by field name, backed by arrays in order of field names,\n" +
+                "     * {@code null} value is no field.\n" +
+                "     *\n" +
+                "     * @param <V> type of value\n" +
+                "     */\n" +
+                "    protected static final class FieldMap<V> extends java.util.AbstractMap<java.lang.String, V> {\n" +
+                "        private final V[] values;\n" +
+                "        private final int size;\n" +
+                "\n" +
+                "        protected FieldMap(V[] values) {\n" +
+                "            this.values = values;\n" +
+                "            int size = 0;\n" +
+                "            for (V value : values) {\n" +
+                "                if (value != null) {\n" +
+                "                    size++;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            this.size = size;\n" +
+                "        }\n" +
+                "\n" +
+                "        private static int indexOf(java.lang.Object key) {\n" +
+                "            return key instanceof java.lang.String\n" +
+                "                    ? MyClass.indexOf((java.lang.String) key)\n" +
+                "                    : -1;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public int size() {\n" +
+                "            return size;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public boolean containsKey(java.lang.Object key) {\n" +
+                "            return get(key) != null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public V get(java.lang.Object key) {\n" +
+                "            int index = indexOf(key);\n" +
+                "            return index >= 0 ? values[index] : null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Collection<V> values() {\n" +
+                "            if (size == values.length) {\n" +
+                "                return java.util.Collections.unmodifiableList(java.util.Arrays.asList(values));\n" +
+                "            }\n" +
+                "            return super.values();\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void forEach(java.util.function.BiConsumer<? super java.lang.String, ? super V> action) {\n" +
+                "            for (int i = 0; i < values.length; i++) {\n" +
+                "                if (values[i] != null) {\n" +
+                "                    action.accept(FIELD_NAMES[i], values[i]);\n" +
+                "                }\n" +
+                "            }\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Set<java.util.Map.Entry<java.lang.String, V>> entrySet() {\n" +
+                "            return new java.util.AbstractSet<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                @Override\n" +
+                "                public java.util.Iterator<java.util.Map.Entry<java.lang.String, V>> iterator() {\n" +
+                "                    return new java.util.Iterator<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                        private int index = skip(0);\n" +
+                "\n" +
+                "                        private int skip(int index) {\n" +
+                "                            while (index < values.length && values[index] == null) {\n" +
+                "                                index++;\n" +
+                "                            }\n" +
+                "                            return index;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public boolean hasNext() {\n" +
+                "                            return index < values.length;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public java.util.Map.Entry<java.lang.String, V> next() {\n" +
+                "                            if (index >= values.length) {\n" +
+                "                                throw new java.util.NoSuchElementException();\n" +
+                "                            }\n" +
+                "                            int i = index;\n" +
+                "                            index = skip(i + 1);\n" +
+                "                            return new java.util.AbstractMap.SimpleImmutableEntry<>(FIELD_NAMES[i], values[i]);\n" +
+                "                        }\n" +
+                "                    };\n" +
+                "                }\n" +
+                "\n" +
+                "                @Override\n" +
+                "                public int size() {\n" +
+                "                    return size;\n" +
+                "                }\n" +
+                "            };\n" +
+                "        }\n" +
+                "    }\n" +
+                "}\n";
+        SNAPSHOT_OF_SOURCE_WITH_PACKAGE = "" +
+                "package my.company;\n" +
+                "\n" +
+                "/**\n" +
+                " * Getters supplier of {@link my.company.MyDomain}.\n" +
+                " */\n" +
+                "@javax.annotation.Generated(\n" +
+                "        value = \"dev.alexengrig.metter.generator.GetterSupplierSourceGenerator\")\n" +
+                "public class MyClass implements\n" +
+                "        java.util.function.Supplier<\n" +
+                "                java.util.Map<\n" +
+                "                        java.lang.String,\n" +
+                "                        java.util.function.Function<my.company.MyDomain, java.lang.Object>\n" +
+                "                        >> {\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Field names.\n" +
+                "     */\n" +
+                "    private static final java.lang.String[] FIELD_NAMES = {\n" +
+                "            \"booleanField\",\n" +
+                "            \"intField\",\n" +
+                "            \"stringField\"};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash seeds by bucket, empty for linear search.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_SEEDS = {5, 1};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash indices of field name by slot.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_INDICES = {1, 0, 2};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code booleanField}.\n" +
+                "     */\n" +
+                "    public static final int BOOLEAN_FIELD = 0;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code intField}.\n" +
+                "     */\n" +
+                "    public static final int INT_FIELD = 1;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code stringField}.\n" +
+                "     */\n" +
+                "    public static final int STRING_FIELD = 2;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Map, getter function by field name.\n" +
+                "     */\n" +
+                "    protected final java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.Function<my.company.MyDomain, java.lang.Object>\n" +
+                "            > getterByField;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Constructs this.\n" +
+                "     */\n" +
+                "    public MyClass() {\n" +
+                "        this.getterByField = createMap();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns a shared instance, created lazily once per class loader.\n" +
+                "     *\n" +
+                "     * @return shared instance\n" +
+                "     */\n" +
+                "    public static MyClass getters() {\n" +
+                "        return InstanceHolder.INSTANCE;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Creates map, getter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, getter function by field name\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.Function<my.company.MyDomain, java.lang.Object>\n" +
+                "            > createMap() {\n" +
+                "        @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+                "        java.util.function.Function<my.company.MyDomain, java.lang.Object>[] values\n" +
+                "                = new java.util.function.Function[3];\n" +
+                "        values[0] = my.company.MyDomain::isBooleanField;\n" +
+                "        values[1] = MyDomain::getIntField;\n" +
+                "        values[2] = my.company.MyDomain::getStringField;\n" +
+                "        return new FieldMap<>(values);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, getter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, getter function by field name\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.Function<my.company.MyDomain, java.lang.Object>\n" +
+                "            > get() {\n" +
+                "        return getterByField;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.String field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].equals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(field.hashCode());\n" +
+                "        return FIELD_NAMES[index].equals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name, without creating a string.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.CharSequence field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].contentEquals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = 0; i < field.length(); i++) {\n" +
+                "            hash = 31 * hash + field.charAt(i);\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return FIELD_NAMES[index].contentEquals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name in UTF-8 bytes, without creating a string.\n" +
+                "     *\n" +
+                "     * @param bytes  bytes with field name\n" +
+                "     * @param offset offset of field name in {@code bytes}\n" +
+                "     * @param length length of field name in {@code bytes}\n" +
+                "     * @return ordinal of field, or {@code -1} if no field\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if range is out of {@code bytes}\n" +
+                "     */\n" +
+                "    public static int indexOf(byte[] bytes, int offset, int length) {\n" +
+                "        if (offset < 0 || length < 0 || offset > bytes.length - length) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\n" +
+                "                    \"Range \" + offset + \"..\" + (offset + length) + \" is out of bytes: \" + bytes.length);\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = offset; i < offset + length; i++) {\n" +
+                "            if (bytes[i] < 0) {\n" +
+                "                return -1;\n" +
+                "            }\n" +
+                "            hash = 31 * hash + bytes[i];\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (equalsAscii(FIELD_NAMES[i], bytes, offset, length)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return equalsAscii(FIELD_NAMES[index], bytes, offset, length) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static boolean equalsAscii(java.lang.String field, byte[] bytes, int offset, int length) {\n" +
+                "        if (field.length() != length) {\n" +
+                "            return false;\n" +
+                "        }\n" +
+                "        for (int i = 0; i < length; i++) {\n" +
+                "            if (field.charAt(i) != bytes[offset + i]) {\n" +
+                "                return false;\n" +
+                "            }\n" +
+                "        }\n" +
+                "        return true;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int indexOfHash(int hash) {\n" +
+                "        int seed = HASH_SEEDS[range(mix(hash, 0), HASH_SEEDS.length)];\n" +
+                "        return HASH_INDICES[range(mix(hash, seed), HASH_INDICES.length)];\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int mix(int hash, int seed) {\n" +
+                "        int h = (hash ^ seed) * 0x9E3779B9;\n" +
+                "        return h ^ h >>> 15;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int range(int hash, int size) {\n" +
+                "        return (int) ((hash & 0xFFFFFFFFL) * size >>> 32);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns a value of field by ordinal.\n" +
+                "     *\n" +
+                "     * @param instance instance of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal  ordinal of field\n" +
+                "     * @return value of field by {@code ordinal}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     */\n" +
+                "    public java.lang.Object get(my.company.MyDomain instance, int ordinal) {\n" +
+                "        switch (ordinal) {\n" +
+                "            case 0:\n" +
+                "                return instance.isBooleanField();\n" +
+                "            case 1:\n" +
+                "                return instance.getIntField();\n" +
+                "            case 2:\n" +
+                "                return instance.getStringField();\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of all fields into an array by ordinal, other elements are not changed.\n" +
+                "     *\n" +
+                "     * @param instance instance of {@link my.company.MyDomain}\n" +
+                "     * @param target   array of values by ordinal\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IllegalArgumentException if length of {@code target} is less than 3\n" +
+                "     */\n" +
+                "    public java.lang.Object[] snapshot(my.company.MyDomain instance, java.lang.Object[] target) {\n" +
+                "        if (target.length < 3) {\n" +
+                "            throw new java.lang.IllegalArgumentException(\n" +
+                "                    \"Target length must be at least 3, not \" + target.length);\n" +
+                "        }\n" +
+                "        target[0] = instance.isBooleanField();\n" +
+                "        target[1] = instance.getIntField();\n" +
+                "        target[2] = instance.getStringField();\n" +
+                "        return target;\n" +
+                "    }\n" +
                 "\n" +
                 "    /**\n" +
-                "     * Constructs this.\n" +
+                "     * Reads values of integral fields into an array by ordinal, other elements are not changed.\n" +
+                "     *\n" +
+                "     * @param instance instance of {@link my.company.MyDomain}\n" +
+                "     * @param target   array of values by ordinal\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IllegalArgumentException if length of {@code target} is less than 2\n" +
                 "     */\n" +
-                "    public MyClass() {\n" +
-                "        this.getterByField = createMap();\n" +
+                "    public long[] snapshot(my.company.MyDomain instance, long[] target) {\n" +
+                "        if (target.length < 2) {\n" +
+                "            throw new java.lang.IllegalArgumentException(\n" +
+                "                    \"Target length must be at least 2, not \" + target.length);\n" +
+                "        }\n" +
+                "        target[1] = instance.getIntField();\n" +
+                "        return target;\n" +
                 "    }\n" +
                 "\n" +
                 "    /**\n" +
-                "     * Creates map, getter function by field name.\n" +
+                "     * Visits values of all fields in order of ordinals.\n" +
                 "     *\n" +
-                "     * @return map, getter function by field name\n" +
+                "     * @param instance instance of {@link my.company.MyDomain}\n" +
+                "     * @param visitor  visitor of field values\n" +
+                "     */\n" +
+                "    public void forEach(my.company.MyDomain instance, dev.alexengrig.metter.visitor.FieldVisitor visitor) {\n" +
+                "        visitor.visitBoolean(\"booleanField\", instance.isBooleanField());\n" +
+                "        visitor.visitInt(\"intField\", instance.getIntField());\n" +
+                "        visitor.visitObject(\"stringField\", instance.getStringField());\n" +
+                "    }\n" +
+                "\n" +
+                "    private static void checkRange(int from, int to, int numberOfInstances, int length) {\n" +
+                "        if (from < 0 || from > to || to > numberOfInstances) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\n" +
+                "                    \"Range \" + from + \"..\" + to + \" is out of instances: \" + numberOfInstances);\n" +
+                "        }\n" +
+                "        if (length < to) {\n" +
+                "            throw new java.lang.IllegalArgumentException(\n" +
+                "                    \"Target length must be at least \" + to + \", not \" + length);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code int} field of instances into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public int[] column(java.util.List<my.company.MyDomain> instances, int ordinal, int[] target) {\n" +
+                "        return column(instances, ordinal, target, 0, instances.size());\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code int} field of instances into an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public int[] column(java.util.List<my.company.MyDomain> instances, int ordinal, int[] target,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.size(), instances.size(), target.length);\n" +
+                "        batch.run(instances.size(), (from, to) -> column(instances, ordinal, target, from, to));\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code int} field of instances in a range into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code target} is less than {@code to}\n" +
+                "     */\n" +
+                "    public int[] column(java.util.List<my.company.MyDomain> instances, int ordinal, int[] target, int from, int to) {\n" +
+                "        checkRange(from, to, instances.size(), target.length);\n" +
+                "        int index = from;\n" +
+                "        switch (ordinal) {\n" +
+                "            case 1:\n" +
+                "                for (my.company.MyDomain instance : instances.subList(from, to)) {\n" +
+                "                    target[index++] = instance.getIntField();\n" +
+                "                }\n" +
+                "                return target;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No int field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code boolean} field of instances into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public boolean[] column(java.util.List<my.company.MyDomain> instances, int ordinal, boolean[] target) {\n" +
+                "        return column(instances, ordinal, target, 0, instances.size());\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code boolean} field of instances into an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public boolean[] column(java.util.List<my.company.MyDomain> instances, int ordinal, boolean[] target,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.size(), instances.size(), target.length);\n" +
+                "        batch.run(instances.size(), (from, to) -> column(instances, ordinal, target, from, to));\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code boolean} field of instances in a range into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code target} is less than {@code to}\n" +
+                "     */\n" +
+                "    public boolean[] column(java.util.List<my.company.MyDomain> instances, int ordinal, boolean[] target, int from, int to) {\n" +
+                "        checkRange(from, to, instances.size(), target.length);\n" +
+                "        int index = from;\n" +
+                "        switch (ordinal) {\n" +
+                "            case 0:\n" +
+                "                for (my.company.MyDomain instance : instances.subList(from, to)) {\n" +
+                "                    target[index++] = instance.isBooleanField();\n" +
+                "                }\n" +
+                "                return target;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No boolean field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of field of instances into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public java.lang.Object[] column(java.util.List<my.company.MyDomain> instances, int ordinal, java.lang.Object[] target) {\n" +
+                "        return column(instances, ordinal, target, 0, instances.size());\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of field of instances into an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public java.lang.Object[] column(java.util.List<my.company.MyDomain> instances, int ordinal, java.lang.Object[] target,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.size(), instances.size(), target.length);\n" +
+                "        batch.run(instances.size(), (from, to) -> column(instances, ordinal, target, from, to));\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of field of instances in a range into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal} or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code target} is less than {@code to}\n" +
+                "     */\n" +
+                "    public java.lang.Object[] column(java.util.List<my.company.MyDomain> instances, int ordinal, java.lang.Object[] target, int from, int to) {\n" +
+                "        checkRange(from, to, instances.size(), target.length);\n" +
+                "        if (ordinal < 0 || ordinal >= 3) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "        int index = from;\n" +
+                "        for (my.company.MyDomain instance : instances.subList(from, to)) {\n" +
+                "            target[index++] = get(instance, ordinal);\n" +
+                "        }\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of all fields of instances into arrays by ordinal, by index of instance,\n" +
+                "     * in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param targets   arrays of values by ordinal, by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code targets}\n" +
+                "     * @throws java.lang.IllegalArgumentException if {@code targets} is shorter than instances\n" +
+                "     *                                            or some target is shorter than fields\n" +
+                "     */\n" +
+                "    public java.lang.Object[][] snapshot(java.util.List<my.company.MyDomain> instances, java.lang.Object[][] targets,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.size(), instances.size(), targets.length);\n" +
+                "        batch.run(instances.size(), (from, to) -> {\n" +
+                "            int index = from;\n" +
+                "            for (my.company.MyDomain instance : instances.subList(from, to)) {\n" +
+                "                snapshot(instance, targets[index++]);\n" +
+                "            }\n" +
+                "        });\n" +
+                "        return targets;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of integral fields of instances into arrays by ordinal, by index of instance,\n" +
+                "     * in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param targets   arrays of values by ordinal, by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code targets}\n" +
+                "     * @throws java.lang.IllegalArgumentException if {@code targets} is shorter than instances\n" +
+                "     *                                            or some target is shorter than fields\n" +
+                "     */\n" +
+                "    public long[][] snapshot(java.util.List<my.company.MyDomain> instances, long[][] targets,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.size(), instances.size(), targets.length);\n" +
+                "        batch.run(instances.size(), (from, to) -> {\n" +
+                "            int index = from;\n" +
+                "            for (my.company.MyDomain instance : instances.subList(from, to)) {\n" +
+                "                snapshot(instance, targets[index++]);\n" +
+                "            }\n" +
+                "        });\n" +
+                "        return targets;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code int} field of instances into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public int[] column(my.company.MyDomain[] instances, int ordinal, int[] target) {\n" +
+                "        return column(instances, ordinal, target, 0, instances.length);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code int} field of instances into an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public int[] column(my.company.MyDomain[] instances, int ordinal, int[] target,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.length, instances.length, target.length);\n" +
+                "        batch.run(instances.length, (from, to) -> column(instances, ordinal, target, from, to));\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code int} field of instances in a range into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code target} is less than {@code to}\n" +
+                "     */\n" +
+                "    public int[] column(my.company.MyDomain[] instances, int ordinal, int[] target, int from, int to) {\n" +
+                "        checkRange(from, to, instances.length, target.length);\n" +
+                "        switch (ordinal) {\n" +
+                "            case 1:\n" +
+                "                for (int index = from; index < to; index++) {\n" +
+                "                    target[index] = instances[index].getIntField();\n" +
+                "                }\n" +
+                "                return target;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No int field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code boolean} field of instances into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public boolean[] column(my.company.MyDomain[] instances, int ordinal, boolean[] target) {\n" +
+                "        return column(instances, ordinal, target, 0, instances.length);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code boolean} field of instances into an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public boolean[] column(my.company.MyDomain[] instances, int ordinal, boolean[] target,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.length, instances.length, target.length);\n" +
+                "        batch.run(instances.length, (from, to) -> column(instances, ordinal, target, from, to));\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code boolean} field of instances in a range into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code target} is less than {@code to}\n" +
+                "     */\n" +
+                "    public boolean[] column(my.company.MyDomain[] instances, int ordinal, boolean[] target, int from, int to) {\n" +
+                "        checkRange(from, to, instances.length, target.length);\n" +
+                "        switch (ordinal) {\n" +
+                "            case 0:\n" +
+                "                for (int index = from; index < to; index++) {\n" +
+                "                    target[index] = instances[index].isBooleanField();\n" +
+                "                }\n" +
+                "                return target;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No boolean field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of field of instances into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public java.lang.Object[] column(my.company.MyDomain[] instances, int ordinal, java.lang.Object[] target) {\n" +
+                "        return column(instances, ordinal, target, 0, instances.length);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of field of instances into an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public java.lang.Object[] column(my.company.MyDomain[] instances, int ordinal, java.lang.Object[] target,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.length, instances.length, target.length);\n" +
+                "        batch.run(instances.length, (from, to) -> column(instances, ordinal, target, from, to));\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of field of instances in a range into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal} or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code target} is less than {@code to}\n" +
+                "     */\n" +
+                "    public java.lang.Object[] column(my.company.MyDomain[] instances, int ordinal, java.lang.Object[] target, int from, int to) {\n" +
+                "        checkRange(from, to, instances.length, target.length);\n" +
+                "        if (ordinal < 0 || ordinal >= 3) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "        for (int index = from; index < to; index++) {\n" +
+                "            target[index] = get(instances[index], ordinal);\n" +
+                "        }\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of all fields of instances into arrays by ordinal, by index of instance,\n" +
+                "     * in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param targets   arrays of values by ordinal, by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code targets}\n" +
+                "     * @throws java.lang.IllegalArgumentException if {@code targets} is shorter than instances\n" +
+                "     *                                            or some target is shorter than fields\n" +
+                "     */\n" +
+                "    public java.lang.Object[][] snapshot(my.company.MyDomain[] instances, java.lang.Object[][] targets,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.length, instances.length, targets.length);\n" +
+                "        batch.run(instances.length, (from, to) -> {\n" +
+                "            for (int index = from; index < to; index++) {\n" +
+                "                snapshot(instances[index], targets[index]);\n" +
+                "            }\n" +
+                "        });\n" +
+                "        return targets;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of integral fields of instances into arrays by ordinal, by index of instance,\n" +
+                "     * in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param targets   arrays of values by ordinal, by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code targets}\n" +
+                "     * @throws java.lang.IllegalArgumentException if {@code targets} is shorter than instances\n" +
+                "     *                                            or some target is shorter than fields\n" +
+                "     */\n" +
+                "    public long[][] snapshot(my.company.MyDomain[] instances, long[][] targets,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.length, instances.length, targets.length);\n" +
+                "        batch.run(instances.length, (from, to) -> {\n" +
+                "            for (int index = from; index < to; index++) {\n" +
+                "                snapshot(instances[index], targets[index]);\n" +
+                "            }\n" +
+                "        });\n" +
+                "        return targets;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Map, int getter function by field name; created on the first getting.\n" +
                 "     */\n" +
                 "    protected java.util.Map<\n" +
                 "            java.lang.String,\n" +
-                "            java.util.function.Function<MyDomain, java.lang.Object>\n" +
-                "            > createMap() {\n" +
-                "        java.util.HashMap<\n" +
+                "            java.util.function.ToIntFunction<my.company.MyDomain>\n" +
+                "            > intGetterByField;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Creates map, int getter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, int getter function by field name\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ToIntFunction<my.company.MyDomain>\n" +
+                "            > createIntMap() {\n" +
+                "        @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+                "        java.util.function.ToIntFunction<my.company.MyDomain>[] values\n" +
+                "                = new java.util.function.ToIntFunction[3];\n" +
+                "        values[1] = MyDomain::getIntField;\n" +
+                "        return new FieldMap<>(values);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, int getter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, int getter function by field name\n" +
+                "     */\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ToIntFunction<my.company.MyDomain>\n" +
+                "            > getIntGetters() {\n" +
+                "        java.util.Map<\n" +
                 "                java.lang.String,\n" +
-                "                java.util.function.Function<MyDomain, java.lang.Object>\n" +
-                "                > map = new java.util.HashMap<>(3);\n" +
-                "        map.put(\"booleanField\",\n" +
-                "                MyDomain::isBooleanField);\n" +
-                "        map.put(\"intField\",\n" +
-                "                MyDomain::getIntField);\n" +
-                "        map.put(\"stringField\",\n" +
-                "                MyDomain::getStringField);\n" +
+                "                java.util.function.ToIntFunction<my.company.MyDomain>\n" +
+                "                > map = intGetterByField;\n" +
+                "        if (map == null) {\n" +
+                "            intGetterByField = map = createIntMap();\n" +
+                "        }\n" +
                 "        return map;\n" +
                 "    }\n" +
                 "\n" +
                 "    /**\n" +
-                "     * Returns map, getter function by field name.\n" +
+                "     * Returns map, long getter function by field name; empty, no fields.\n" +
                 "     *\n" +
-                "     * @return map, getter function by field name\n" +
+                "     * @return empty map, long getter function by field name\n" +
                 "     */\n" +
-                "    @Override\n" +
                 "    public java.util.Map<\n" +
                 "            java.lang.String,\n" +
-                "            java.util.function.Function<MyDomain, java.lang.Object>\n" +
-                "            > get() {\n" +
-                "        return getterByField;\n" +
+                "            java.util.function.ToLongFunction<my.company.MyDomain>\n" +
+                "            > getLongGetters() {\n" +
+                "        return java.util.Collections.emptyMap();\n" +
                 "    }\n" +
-                "}\n";
-        SNAPSHOT_OF_SOURCE_WITH_PACKAGE = "" +
-                "package my.company;\n" +
                 "\n" +
-                "/**\n" +
-                " * Getters supplier of {@link my.company.MyDomain}.\n" +
-                " */\n" +
-                "@javax.annotation.Generated(\n" +
-                "        value = \"dev.alexengrig.metter.generator.GetterSupplierSourceGenerator\")\n" +
-                "public class MyClass implements\n" +
-                "        java.util.function.Supplier<\n" +
-                "                java.util.Map<\n" +
-                "                        java.lang.String,\n" +
-                "                        java.util.function.Function<my.company.MyDomain, java.lang.Object>\n" +
-                "                        >> {\n" +
+                "    /**\n" +
+                "     * Returns map, double getter function by field name; empty, no fields.\n" +
+                "     *\n" +
+                "     * @return empty map, double getter function by field name\n" +
+                "     */\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ToDoubleFunction<my.company.MyDomain>\n" +
+                "            > getDoubleGetters() {\n" +
+                "        return java.util.Collections.emptyMap();\n" +
+                "    }\n" +
                 "\n" +
                 "    /**\n" +
-                "     * Map, getter function by field name.\n" +
+                "     * Map, boolean getter function by field name; created on the first getting.\n" +
                 "     */\n" +
-                "    protected final java.util.Map<\n" +
+                "    protected java.util.Map<\n" +
                 "            java.lang.String,\n" +
-                "            java.util.function.Function<my.company.MyDomain, java.lang.Object>\n" +
-                "            > getterByField;\n" +
+                "            java.util.function.Predicate<my.company.MyDomain>\n" +
+                "            > booleanGetterByField;\n" +
                 "\n" +
                 "    /**\n" +
-                "     * Constructs this.\n" +
+                "     * Creates map, boolean getter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, boolean getter function by field name\n" +
                 "     */\n" +
-                "    public MyClass() {\n" +
-                "        this.getterByField = createMap();\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.Predicate<my.company.MyDomain>\n" +
+                "            > createBooleanMap() {\n" +
+                "        @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+                "        java.util.function.Predicate<my.company.MyDomain>[] values\n" +
+                "                = new java.util.function.Predicate[3];\n" +
+                "        values[0] = my.company.MyDomain::isBooleanField;\n" +
+                "        return new FieldMap<>(values);\n" +
                 "    }\n" +
                 "\n" +
                 "    /**\n" +
-                "     * Creates map, getter function by field name.\n" +
+                "     * Returns map, boolean getter function by field name.\n" +
                 "     *\n" +
-                "     * @return map, getter function by field name\n" +
+                "     * @return map, boolean getter function by field name\n" +
                 "     */\n" +
-                "    protected java.util.Map<\n" +
+                "    public java.util.Map<\n" +
                 "            java.lang.String,\n" +
-                "            java.util.function.Function<my.company.MyDomain, java.lang.Object>\n" +
-                "            > createMap() {\n" +
-                "        java.util.HashMap<\n" +
+                "            java.util.function.Predicate<my.company.MyDomain>\n" +
+                "            > getBooleanGetters() {\n" +
+                "        java.util.Map<\n" +
                 "                java.lang.String,\n" +
-                "                java.util.function.Function<my.company.MyDomain, java.lang.Object>\n" +
-                "                > map = new java.util.HashMap<>(3);\n" +
-                "        map.put(\"booleanField\",\n" +
-                "                my.company.MyDomain::isBooleanField);\n" +
-                "        map.put(\"intField\",\n" +
-                "                MyDomain::getIntField);\n" +
-                "        map.put(\"stringField\",\n" +
-                "                my.company.MyDomain::getStringField);\n" +
+                "                java.util.function.Predicate<my.company.MyDomain>\n" +
+                "                > map = booleanGetterByField;\n" +
+                "        if (map == null) {\n" +
+                "            booleanGetterByField = map = createBooleanMap();\n" +
+                "        }\n" +
                 "        return map;\n" +
                 "    }\n" +
                 "\n" +
                 "    /**\n" +
-                "     * Returns map, getter function by field name.\n" +
+                "     * Lazy holder of shared instance.\n" +
+                "     */\n" +
+                "    private static final class InstanceHolder {\n" +
+                "        private static final MyClass INSTANCE = new MyClass();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Immutable map by field name, backed by arrays in order of field names,\n" +
+                "     * {@code null} value is no field.\n" +
                 "     *\n" +
-                "     * @return map, getter function by field name\n" +
+                "     * @param <V> type of value\n" +
                 "     */\n" +
-                "    @Override\n" +
-                "    public java.util.Map<\n" +
-                "            java.lang.String,\n" +
-                "            java.util.function.Function<my.company.MyDomain, java.lang.Object>\n" +
-                "            > get() {\n" +
-                "        return getterByField;\n" +
+                "    protected static final class FieldMap<V> extends java.util.AbstractMap<java.lang.String, V> {\n" +
+                "        private final V[] values;\n" +
+                "        private final int size;\n" +
+                "\n" +
+                "        protected FieldMap(V[] values) {\n" +
+                "            this.values = values;\n" +
+                "            int size = 0;\n" +
+                "            for (V value : values) {\n" +
+                "                if (value != null) {\n" +
+                "                    size++;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            this.size = size;\n" +
+                "        }\n" +
+                "\n" +
+                "        private static int indexOf(java.lang.Object key) {\n" +
+                "            return key instanceof java.lang.String\n" +
+                "                    ? MyClass.indexOf((java.lang.String) key)\n" +
+                "                    : -1;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public int size() {\n" +
+                "            return size;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public boolean containsKey(java.lang.Object key) {\n" +
+                "            return get(key) != null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public V get(java.lang.Object key) {\n" +
+                "            int index = indexOf(key);\n" +
+                "            return index >= 0 ? values[index] : null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Collection<V> values() {\n" +
+                "            if (size == values.length) {\n" +
+                "                return java.util.Collections.unmodifiableList(java.util.Arrays.asList(values));\n" +
+                "            }\n" +
+                "            return super.values();\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void forEach(java.util.function.BiConsumer<? super java.lang.String, ? super V> action) {\n" +
+                "            for (int i = 0; i < values.length; i++) {\n" +
+                "                if (values[i] != null) {\n" +
+                "                    action.accept(FIELD_NAMES[i], values[i]);\n" +
+                "                }\n" +
+                "            }\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Set<java.util.Map.Entry<java.lang.String, V>> entrySet() {\n" +
+                "            return new java.util.AbstractSet<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                @Override\n" +
+                "                public java.util.Iterator<java.util.Map.Entry<java.lang.String, V>> iterator() {\n" +
+                "                    return new java.util.Iterator<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                        private int index = skip(0);\n" +
+                "\n" +
+                "                        private int skip(int index) {\n" +
+                "                            while (index < values.length && values[index] == null) {\n" +
+                "                                index++;\n" +
+                "                            }\n" +
+                "                            return index;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public boolean hasNext() {\n" +
+                "                            return index < values.length;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public java.util.Map.Entry<java.lang.String, V> next() {\n" +
+                "                            if (index >= values.length) {\n" +
+                "                                throw new java.util.NoSuchElementException();\n" +
+                "                            }\n" +
+                "                            int i = index;\n" +
+                "                            index = skip(i + 1);\n" +
+                "                            return new java.util.AbstractMap.SimpleImmutableEntry<>(FIELD_NAMES[i], values[i]);\n" +
+                "                        }\n" +
+                "                    };\n" +
+                "                }\n" +
+                "\n" +
+                "                @Override\n" +
+                "                public int size() {\n" +
+                "                    return size;\n" +
+                "                }\n" +
+                "            };\n" +
+                "        }\n" +
                 "    }\n" +
                 "}\n";
     }
@@ -172,12 +1933,11 @@ class GetterSupplierSourceGeneratorTest {
     void should_generate_sourceWithoutPackage() {
         String className = "MyClass";
         String domainClassName = "MyDomain";
-        Map<String, String> field2Getter = new HashMap<String, String>() {{
-            put("intField", "MyDomain::getIntField");
-            put("booleanField", "MyDomain::isBooleanField");
-            put("stringField", "MyDomain::getStringField");
-        }};
-        String source = generator.generate(className, domainClassName, field2Getter);
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new FieldMethod("booleanField", "boolean", "MyDomain::isBooleanField", "%1$s.isBooleanField()"),
+                new FieldMethod("intField", "int", "MyDomain::getIntField", "%1$s.getIntField()"),
+                new FieldMethod("stringField", "java.lang.String", "MyDomain::getStringField", "%1$s.getStringField()"));
+        String source = generator.generate(className, domainClassName, fieldMethods);
         assertEquals(SNAPSHOT_OF_SOURCE_WITHOUT_PACKAGE, source, "Source is invalid");
     }
 
@@ -185,12 +1945,227 @@ class GetterSupplierSourceGeneratorTest {
     void should_generate_sourceWithPackage() {
         String className = "my.company.MyClass";
         String domainClassName = "my.company.MyDomain";
-        Map<String, String> field2Getter = new HashMap<String, String>() {{
-            put("intField", "MyDomain::getIntField");
-            put("booleanField", "my.company.MyDomain::isBooleanField");
-            put("stringField", "my.company.MyDomain::getStringField");
-        }};
-        String source = generator.generate(className, domainClassName, field2Getter);
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new FieldMethod("booleanField", "boolean", "my.company.MyDomain::isBooleanField", "%1$s.isBooleanField()"),
+                new FieldMethod("intField", "int", "MyDomain::getIntField", "%1$s.getIntField()"),
+                new FieldMethod("stringField", "java.lang.String", "my.company.MyDomain::getStringField", "%1$s.getStringField()"));
+        String source = generator.generate(className, domainClassName, fieldMethods);
         assertEquals(SNAPSHOT_OF_SOURCE_WITH_PACKAGE, source, "Source is invalid");
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void should_generate_source_byMapOfFieldToMethod() {
+        Map<String, String> field2Method = new LinkedHashMap<>();
+        field2Method.put("intField", "MyDomain::getIntField");
+        field2Method.put("stringField", "MyDomain::getStringField");
+        String source = generator.generate("MyClass", "MyDomain", field2Method);
+        assertTrue(source.contains("        values[0] = MyDomain::getIntField;\n"),
+                "Source has no method of map");
+        assertTrue(source.contains("" +
+                        "            case 1:\n" +
+                        "                return getterByField.get(\"stringField\").apply(instance);\n"),
+                "Source has no invocation of method of map");
+    }
+
+    @Test
+    void should_generate_source_withChunks_ifWide() {
+        List<FieldMethod> fieldMethods = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            fieldMethods.add(new FieldMethod("field" + i, "int", "MyDomain::getField" + i, "%1$s.getField" + i + "()"));
+        }
+        String source = generator.generate("MyClass", "MyDomain", fieldMethods, true);
+        assertTrue(source.contains("" +
+                "    public java.lang.Object get(MyDomain instance, int ordinal) {\n" +
+                "        switch (ordinal / 128) {\n" +
+                "            case 0:\n" +
+                "                return getChunk0(instance, ordinal);\n" +
+                "            case 1:\n" +
+                "                return getChunk1(instance, ordinal);\n"), "Getter is not dispatched by chunks");
+        assertTrue(source.contains("" +
+                "    private java.lang.Object getChunk1(MyDomain instance, int ordinal) {\n" +
+                "        switch (ordinal) {\n" +
+                "            case 128:\n" +
+                "                return instance.getField128();\n"), "Chunk of getter is invalid");
+        assertTrue(source.contains("" +
+                "    private int[] columnIntChunk1(java.util.List<MyDomain> instances, int ordinal,"
+                + " int[] target, int from, int to) {\n" +
+                "        int index = from;\n" +
+                "        switch (ordinal) {\n"), "Chunk of column is invalid");
+        assertTrue(source.contains("                return applyAsIntChunk1(instance, ordinal);\n"),
+                "Field accessor is not dispatched by chunks");
+        assertTrue(source.contains("    private int applyAsIntChunk1(MyDomain instance, int ordinal) {\n"),
+                "Chunk of field accessor is invalid");
+        assertTrue(source.contains("        snapshotLongChunk1(instance, target);\n"), "Snapshot is not chunked");
+        assertTrue(source.contains("        forEachChunk1(instance, visitor);\n"), "Visiting is not chunked");
+    }
+
+    @Test
+    void should_return_visitMethod() {
+        assertEquals("visitInt", generator.getVisitMethod("int"), "Visit method of 'int' is incorrect");
+        assertEquals("visitChar", generator.getVisitMethod("char"), "Visit method of 'char' is incorrect");
+        assertEquals("visitBoolean", generator.getVisitMethod("boolean"), "Visit method of 'boolean' is incorrect");
+        assertEquals("visitObject", generator.getVisitMethod("java.lang.Integer"),
+                "Visit method of 'java.lang.Integer' is incorrect");
+        assertEquals("visitObject", generator.getVisitMethod("int[]"), "Visit method of 'int[]' is incorrect");
+    }
+
+    @Test
+    void should_join_fieldAccessor() {
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new FieldMethod("booleanField", "boolean", "new FieldAccessor(0)", "%1$s.isBooleanField()"),
+                new FieldMethod("intField", "int", "new FieldAccessor(1)", "%1$s.getIntField()"),
+                new FieldMethod("stringField", "java.lang.String", "new FieldAccessor(2)", "%1$s.getStringField()"));
+        LineJoiner joiner = new LineJoiner();
+        generator.joinFieldAccessor(joiner, "MyDomain", fieldMethods);
+        assertEquals("" +
+                "    /**\n" +
+                "     * Getter function of field by ordinal, dispatching by {@code switch}.\n" +
+                "     */\n" +
+                "    protected class FieldAccessor implements\n" +
+                "            java.util.function.Function<MyDomain, java.lang.Object>,\n" +
+                "            java.util.function.ToIntFunction<MyDomain>,\n" +
+                "            java.util.function.Predicate<MyDomain> {\n" +
+                "        private final int ordinal;\n" +
+                "\n" +
+                "        protected FieldAccessor(int ordinal) {\n" +
+                "            this.ordinal = ordinal;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.lang.Object apply(MyDomain instance) {\n" +
+                "            return get(instance, ordinal);\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public int applyAsInt(MyDomain instance) {\n" +
+                "            switch (ordinal) {\n" +
+                "                case 1:\n" +
+                "                    return instance.getIntField();\n" +
+                "                default:\n" +
+                "                    throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "            }\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public boolean test(MyDomain instance) {\n" +
+                "            switch (ordinal) {\n" +
+                "                case 0:\n" +
+                "                    return instance.isBooleanField();\n" +
+                "                default:\n" +
+                "                    throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "            }\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n", joiner.toString(), "Field accessor is invalid");
+    }
+
+    @Test
+    void should_join_column() {
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new FieldMethod("charField", "char", "MyDomain::getCharField", "%1$s.getCharField()"),
+                new FieldMethod("longField", "long", "MyDomain::getLongField", "%1$s.getLongField()"),
+                new FieldMethod("intField", "int", "MyDomain::getIntField", "%1$s.getIntField()"));
+        LineJoiner joiner = new LineJoiner();
+        generator.joinColumn(joiner, "MyDomain", "MyDomain[]", fieldMethods,
+                "int", new HashSet<>(Arrays.asList("char", "int")));
+        assertEquals("" +
+                "    /**\n" +
+                "     * Reads values of {@code int} field of instances into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public int[] column(MyDomain[] instances, int ordinal, int[] target) {\n" +
+                "        return column(instances, ordinal, target, 0, instances.length);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code int} field of instances into an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code target} is shorter than instances\n" +
+                "     */\n" +
+                "    public int[] column(MyDomain[] instances, int ordinal, int[] target,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.length, instances.length, target.length);\n" +
+                "        batch.run(instances.length, (from, to) -> column(instances, ordinal, target, from, to));\n" +
+                "        return target;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Reads values of {@code int} field of instances in a range into an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param target    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @return {@code target}\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code target} is less than {@code to}\n" +
+                "     */\n" +
+                "    public int[] column(MyDomain[] instances, int ordinal, int[] target, int from, int to) {\n" +
+                "        checkRange(from, to, instances.length, target.length);\n" +
+                "        switch (ordinal) {\n" +
+                "            case 0:\n" +
+                "                for (int index = from; index < to; index++) {\n" +
+                "                    target[index] = instances[index].getCharField();\n" +
+                "                }\n" +
+                "                return target;\n" +
+                "            case 2:\n" +
+                "                for (int index = from; index < to; index++) {\n" +
+                "                    target[index] = instances[index].getIntField();\n" +
+                "                }\n" +
+                "                return target;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No int field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n", joiner.toString());
+    }
+
+    @Test
+    void should_not_join_primitiveMembers_withoutFieldsOfTypes() {
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new FieldMethod("intField", "int", "MyDomain::getIntField", "%1$s.getIntField()"),
+                new FieldMethod("stringField", "java.lang.String", "MyDomain::getStringField",
+                        "%1$s.getStringField()"));
+        LineJoiner joiner = new LineJoiner();
+        generator.joinColumn(joiner, "MyDomain", "MyDomain[]", fieldMethods,
+                "boolean", GetterSupplierSourceGenerator.BOOLEAN_TYPE_NAMES);
+        assertEquals("", joiner.toString());
+        generator.joinSpecializedMap(joiner, fieldMethods, "double", "java.util.function.ToDoubleFunction<MyDomain>",
+                GetterSupplierSourceGenerator.DOUBLE_TYPE_NAMES, FieldMethod::getMethod);
+        assertEquals("" +
+                "    /**\n" +
+                "     * Returns map, double getter function by field name; empty, no fields.\n" +
+                "     *\n" +
+                "     * @return empty map, double getter function by field name\n" +
+                "     */\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ToDoubleFunction<MyDomain>\n" +
+                "            > getDoubleGetters() {\n" +
+                "        return java.util.Collections.emptyMap();\n" +
+                "    }\n" +
+                "\n", joiner.toString());
+        String source = generator.generate("MyDomainGetterSupplier", "MyDomain", fieldMethods);
+        assertTrue(source.contains("public long[] snapshot(MyDomain instance, long[] target)"), "No long snapshot");
+        assertTrue(source.contains("createIntMap()"), "No map of int getters");
+        assertFalse(source.contains("double[]"), "Double snapshot or column is generated");
+        assertFalse(source.contains("boolean[]"), "Boolean column is generated");
+        assertFalse(source.contains("createDoubleMap()"), "Map of double getters is generated");
+        assertFalse(source.contains("createBooleanMap()"), "Map of boolean getters is generated");
+    }
+}
@@ -0,0 +1,551 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.generator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.lang.model.SourceVersion;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HydratorSourceGeneratorTest {
+    static final String SNAPSHOT_OF_SOURCE_WITH_PACKAGE;
+
+    static {
+        SNAPSHOT_OF_SOURCE_WITH_PACKAGE = "" +
+                "package my.company;\n" +
+                "\n" +
+                "/**\n" +
+                " * Hydrator and types supplier of {@link my.company.MyDomain}.\n" +
+                " */\n" +
+                "@javax.annotation.Generated(\n" +
+                "        value = \"dev.alexengrig.metter.generator.HydratorSourceGenerator\")\n" +
+                "public class MyClass implements\n" +
+                "        java.util.function.Supplier<\n" +
+                "                java.util.Map<\n" +
+                "                        java.lang.String,\n" +
+                "                        java.lang.Class<?>\n" +
+                "                        >> {\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Field names.\n" +
+                "     */\n" +
+                "    private static final java.lang.String[] FIELD_NAMES = {\n" +
+                "            \"intField\",\n" +
+                "            \"listField\",\n" +
+                "            \"stringField\"};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash seeds by bucket, empty for linear search.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_SEEDS = {1, 3};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash indices of field name by slot.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_INDICES = {2, 0, 1};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code intField}.\n" +
+                "     */\n" +
+                "    public static final int INT_FIELD = 0;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code listField}.\n" +
+                "     */\n" +
+                "    public static final int LIST_FIELD = 1;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code stringField}.\n" +
+                "     */\n" +
+                "    public static final int STRING_FIELD = 2;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Map, type function by field name.\n" +
+                "     */\n" +
+                "    protected final java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.lang.Class<?>\n" +
+                "            > typeByField;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Constructs this.\n" +
+                "     */\n" +
+                "    public MyClass() {\n" +
+                "        this.typeByField = createMap();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns a shared instance, created lazily once per class loader.\n" +
+                "     *\n" +
+                "     * @return shared instance\n" +
+                "     */\n" +
+                "    public static MyClass hydrator() {\n" +
+                "        return InstanceHolder.INSTANCE;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Creates map, type function by field name.\n" +
+                "     *\n" +
+                "     * @return map, type function by field name\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.lang.Class<?>\n" +
+                "            > createMap() {\n" +
+                "        @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+                "        java.lang.Class<?>[] values\n" +
+                "                = new java.lang.Class[3];\n" +
+                "        values[0] = int.class;\n" +
+                "        values[1] = java.util.List.class;\n" +
+                "        values[2] = java.lang.String.class;\n" +
+                "        return new FieldMap<>(values);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, type function by field name.\n" +
+                "     *\n" +
+                "     * @return map, type function by field name\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.lang.Class<?>\n" +
+                "            > get() {\n" +
+                "        return typeByField;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.String field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].equals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(field.hashCode());\n" +
+                "        return FIELD_NAMES[index].equals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name, without creating a string.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.CharSequence field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].contentEquals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = 0; i < field.length(); i++) {\n" +
+                "            hash = 31 * hash + field.charAt(i);\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return FIELD_NAMES[index].contentEquals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name in UTF-8 bytes, without creating a string.\n" +
+                "     *\n" +
+                "     * @param bytes  bytes with field name\n" +
+                "     * @param offset offset of field name in {@code bytes}\n" +
+                "     * @param length length of field name in {@code bytes}\n" +
+                "     * @return ordinal of field, or {@code -1} if no field\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if range is out of {@code bytes}\n" +
+                "     */\n" +
+                "    public static int indexOf(byte[] bytes, int offset, int length) {\n" +
+                "        if (offset < 0 || length < 0 || offset > bytes.length - length) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\n" +
+                "                    \"Range \" + offset + \"..\" + (offset + length) + \" is out of bytes: \" + bytes.length);\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = offset; i < offset + length; i++) {\n" +
+                "            if (bytes[i] < 0) {\n" +
+                "                return -1;\n" +
+                "            }\n" +
+                "            hash = 31 * hash + bytes[i];\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (equalsAscii(FIELD_NAMES[i], bytes, offset, length)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return equalsAscii(FIELD_NAMES[index], bytes, offset, length) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static boolean equalsAscii(java.lang.String field, byte[] bytes, int offset, int length) {\n" +
+                "        if (field.length() != length) {\n" +
+                "            return false;\n" +
+                "        }\n" +
+                "        for (int i = 0; i < length; i++) {\n" +
+                "            if (field.charAt(i) != bytes[offset + i]) {\n" +
+                "                return false;\n" +
+                "            }\n" +
+                "        }\n" +
+                "        return true;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int indexOfHash(int hash) {\n" +
+                "        int seed = HASH_SEEDS[range(mix(hash, 0), HASH_SEEDS.length)];\n" +
+                "        return HASH_INDICES[range(mix(hash, seed), HASH_INDICES.length)];\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int mix(int hash, int seed) {\n" +
+                "        int h = (hash ^ seed) * 0x9E3779B9;\n" +
+                "        return h ^ h >>> 15;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int range(int hash, int size) {\n" +
+                "        return (int) ((hash & 0xFFFFFFFFL) * size >>> 32);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Creates an instance from values of fields in order of ordinals,\n" +
+                "     * by constructor {@code MyDomain(java.lang.String, int)} and setters.\n" +
+                "     *\n" +
+                "     * @param values values of fields in order of ordinals\n" +
+                "     * @return new instance of {@link my.company.MyDomain} from {@code values}\n" +
+                "     * @throws java.lang.ClassCastException  if a value has an incorrect type\n" +
+                "     * @throws java.lang.NullPointerException if a value of primitive field is {@code null}\n" +
+                "     */\n" +
+                "    @SuppressWarnings(\"unchecked\")\n" +
+                "    public my.company.MyDomain fromArray(java.lang.Object[] values) {\n" +
+                "        my.company.MyDomain instance = new my.company.MyDomain(\n" +
+                "                (java.lang.String) values[2],\n" +
+                "                (int) values[0]);\n" +
+                "        instance.setListField((java.util.List<java.lang.String>) values[1]);\n" +
+                "        return instance;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Creates an instance from values of fields by field name,\n" +
+                "     * by constructor {@code MyDomain(java.lang.String, int)} and setters.\n" +
+                "     * A missing value of constructor parameter is {@code null},\n" +
+                "     * a setter of missing value is not called.\n" +
+                "     *\n" +
+                "     * @param values values of fields by field name\n" +
+                "     * @return new instance of {@link my.company.MyDomain} from {@code values}\n" +
+                "     * @throws java.lang.ClassCastException  if a value has an incorrect type\n" +
+                "     * @throws java.lang.NullPointerException if a value of primitive field is {@code null}\n" +
+                "     */\n" +
+                "    @SuppressWarnings(\"unchecked\")\n" +
+                "    public my.company.MyDomain fromMap(java.util.Map<java.lang.String, java.lang.Object> values) {\n" +
+                "        my.company.MyDomain instance = new my.company.MyDomain(\n" +
+                "                (java.lang.String) values.get(\"stringField\"),\n" +
+                "                (int) values.get(\"intField\"));\n" +
+                "        if (values.containsKey(\"listField\")) {\n" +
+                "            instance.setListField((java.util.List<java.lang.String>) values.get(\"listField\"));\n" +
+                "        }\n" +
+                "        return instance;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Lazy holder of shared instance.\n" +
+                "     */\n" +
+                "    private static final class InstanceHolder {\n" +
+                "        private static final MyClass INSTANCE = new MyClass();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Immutable map by field name, backed by arrays in order of field names,\n" +
+                "     * {@code null} value is no field.\n" +
+                "     *\n" +
+                "     * @param <V> type of value\n" +
+                "     */\n" +
+                "    protected static final class FieldMap<V> extends java.util.AbstractMap<java.lang.String, V> {\n" +
+                "        private final V[] values;\n" +
+                "        private final int size;\n" +
+                "\n" +
+                "        protected FieldMap(V[] values) {\n" +
+                "            this.values = values;\n" +
+                "            int size = 0;\n" +
+                "            for (V value : values) {\n" +
+                "                if (value != null) {\n" +
+                "                    size++;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            this.size = size;\n" +
+                "        }\n" +
+                "\n" +
+                "        private static int indexOf(java.lang.Object key) {\n" +
+                "            return key instanceof java.lang.String\n" +
+                "                    ? MyClass.indexOf((java.lang.String) key)\n" +
+                "                    : -1;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public int size() {\n" +
+                "            return size;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public boolean containsKey(java.lang.Object key) {\n" +
+                "            return get(key) != null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public V get(java.lang.Object key) {\n" +
+                "            int index = indexOf(key);\n" +
+                "            return index >= 0 ? values[index] : null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Collection<V> values() {\n" +
+                "            if (size == values.length) {\n" +
+                "                return java.util.Collections.unmodifiableList(java.util.Arrays.asList(values));\n" +
+                "            }\n" +
+                "            return super.values();\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void forEach(java.util.function.BiConsumer<? super java.lang.String, ? super V> action) {\n" +
+                "            for (int i = 0; i < values.length; i++) {\n" +
+                "                if (values[i] != null) {\n" +
+                "                    action.accept(FIELD_NAMES[i], values[i]);\n" +
+                "                }\n" +
+                "            }\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Set<java.util.Map.Entry<java.lang.String, V>> entrySet() {\n" +
+                "            return new java.util.AbstractSet<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                @Override\n" +
+                "                public java.util.Iterator<java.util.Map.Entry<java.lang.String, V>> iterator() {\n" +
+                "                    return new java.util.Iterator<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                        private int index = skip(0);\n" +
+                "\n" +
+                "                        private int skip(int index) {\n" +
+                "                            while (index < values.length && values[index] == null) {\n" +
+                "                                index++;\n" +
+                "                            }\n" +
+                "                            return index;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public boolean hasNext() {\n" +
+                "                            return index < values.length;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public java.util.Map.Entry<java.lang.String, V> next() {\n" +
+                "                            if (index >= values.length) {\n" +
+                "                                throw new java.util.NoSuchElementException();\n" +
+                "                            }\n" +
+                "                            int i = index;\n" +
+                "                            index = skip(i + 1);\n" +
+                "                            return new java.util.AbstractMap.SimpleImmutableEntry<>(FIELD_NAMES[i], values[i]);\n" +
+                "                        }\n" +
+                "                    };\n" +
+                "                }\n" +
+                "\n" +
+                "                @Override\n" +
+                "                public int size() {\n" +
+                "                    return size;\n" +
+                "                }\n" +
+                "            };\n" +
+                "        }\n" +
+                "    }\n" +
+                "}\n";
+    }
+
+    final HydratorSourceGenerator generator = new HydratorSourceGenerator(false);
+
+    @Test
+    void should_create_instance() {
+        // coverage
+        HydratorSourceGenerator generator = new HydratorSourceGenerator();
+        assertNotNull(generator);
+    }
+
+    @Test
+    void should_generate_sourceWithPackage() {
+        String className = "my.company.MyClass";
+        String domainClassName = "my.company.MyDomain";
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new HydratorFieldMethod("intField", "int", null, 1),
+                new HydratorFieldMethod("listField", "java.util.List<java.lang.String>",
+                        "%1$s.setListField(%2$s)", -1),
+                new HydratorFieldMethod("stringField", "java.lang.String", null, 0));
+        String source = generator.generate(className, domainClassName, fieldMethods);
+        assertEquals(SNAPSHOT_OF_SOURCE_WITH_PACKAGE, source, "Source is invalid");
+    }
+
+    @Test
+    void should_compile_source_withPrimitiveFields_withoutUncheckedWarnings(@TempDir Path directory) {
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new HydratorFieldMethod("count", "int", null, 1),
+                new HydratorFieldMethod("hidden", "boolean", "%1$s.hidden = %2$s", -1),
+                new HydratorFieldMethod("id", "long", "%1$s.setId(%2$s)", -1),
+                new HydratorFieldMethod("name", "java.lang.String", null, 0),
+                new HydratorFieldMethod("tags", "java.util.List<java.lang.String>", "%1$s.tags = %2$s", -1));
+        String source = generator.generate("my.company.MyHydrator", "my.company.MyDomain", fieldMethods);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> options = new ArrayList<>(Arrays.asList("-proc:none", "-Xlint:unchecked",
+                "-d", directory.toString()));
+        if (SourceVersion.latest().compareTo(SourceVersion.RELEASE_8) > 0) {
+            // javax.annotation.Generated of generated sources
+            options.addAll(Arrays.asList("--release", "8"));
+        }
+        List<JavaFileObject> sources = Arrays.asList(
+                source("my.company.MyDomain", "package my.company;\n"
+                        + "public class MyDomain {\n"
+                        + "    private final String name;\n"
+                        + "    private final int count;\n"
+                        + "    boolean hidden;\n"
+                        + "    private long id;\n"
+                        + "    java.util.List<String> tags;\n"
+                        + "    public MyDomain(String name, int count) { this.name = name; this.count = count; }\n"
+                        + "    public void setId(long id) { this.id = id; }\n"
+                        + "}\n"),
+                source("my.company.MyHydrator", source));
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, sources);
+        assertTrue(task.call(), "Compilation failed");
+        assertTrue(diagnostics.getDiagnostics().stream()
+                        .noneMatch(diagnostic -> diagnostic.getMessage(Locale.ROOT).contains("unchecked")),
+                "Compilation has unchecked warnings");
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void should_not_generate_source_byMapOfFieldToMethod() {
+        Map<String, String> field2Method = Collections.singletonMap("stringField",
+                "(instance, value) -> instance.setStringField((java.lang.String) value)");
+        assertThrows(UnsupportedOperationException.class,
+                () -> generator.generate("MyClass", "MyDomain", field2Method), "Source is generated");
+    }
+
+    @Test
+    void should_generate_source_withConstructorWithoutParameters() {
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new HydratorFieldMethod("intField", "int", "%1$s.setIntField(%2$s)", -1),
+                new HydratorFieldMethod("stringField", "java.lang.String", "%1$s.stringField = %2$s", -1));
+        String source = generator.generate("MyClass", "MyDomain", fieldMethods);
+        assertTrue(source.contains("" +
+                        "    public MyDomain fromArray(java.lang.Object[] values) {\n" +
+                        "        MyDomain instance = new MyDomain();\n" +
+                        "        instance.setIntField((int) values[0]);\n" +
+                        "        instance.stringField = (java.lang.String) values[1];\n" +
+                        "        return instance;\n" +
+                        "    }\n"),
+                "Source has no creation by constructor without parameters");
+        assertTrue(source.contains(" * by constructor {@code MyDomain()} and setters."),
+                "Source has no JavaDoc of constructor without parameters");
+        assertFalse(source.contains("@SuppressWarnings(\"unchecked\")\n    public"),
+                "Source suppresses warnings without types with type arguments");
+    }
+
+    @Test
+    void should_generate_source_withChunks_ifWide() {
+        List<FieldMethod> fieldMethods = new ArrayList<>();
+        fieldMethods.add(new HydratorFieldMethod("id", "long", null, 0));
+        for (int i = 1; i < 200; i++) {
+            fieldMethods.add(new HydratorFieldMethod("field" + i, "int", "%1$s.setField" + i + "(%2$s)", -1));
+        }
+        String source = generator.generate("MyClass", "MyDomain", fieldMethods);
+        assertTrue(source.contains("" +
+                        "        MyDomain instance = new MyDomain(\n" +
+                        "                (long) values[0]);\n" +
+                        "        fromArrayChunk0(instance, values);\n" +
+                        "        fromArrayChunk1(instance, values);\n" +
+                        "        return instance;\n"),
+                "Source has no calls of chunks from array");
+        assertTrue(source.contains("        fromMapChunk1(instance, values);\n"),
+                "Source has no calls of chunks from map");
+        assertTrue(source.contains("    private void fromArrayChunk1(MyDomain instance, java.lang.Object[] values) {\n"),
+                "Source has no chunk from array");
+        assertTrue(source.contains("    private void fromMapChunk0(MyDomain instance, "
+                        + "java.util.Map<java.lang.String, java.lang.Object> values) {\n"),
+                "Source has no chunk from map");
+        assertTrue(source.contains("" +
+                        "        if (values.containsKey(\"field199\")) {\n" +
+                        "            instance.setField199((int) values.get(\"field199\"));\n" +
+                        "        }\n"),
+                "Source has no setter from map by presence of value");
+        assertFalse(source.contains("fromArrayChunk2"), "Source has extra chunk");
+    }
+
+    @Test
+    void should_generate_source_withSuppressedUncheckedCasts_inChunks() {
+        List<FieldMethod> fieldMethods = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            fieldMethods.add(new HydratorFieldMethod("field" + i, "java.util.List<java.lang.String>",
+                    "%1$s.setField" + i + "(%2$s)", -1));
+        }
+        String source = generator.generate("MyClass", "MyDomain", fieldMethods);
+        assertTrue(source.contains("" +
+                        "    @SuppressWarnings(\"unchecked\")\n" +
+                        "    private void fromArrayChunk1(MyDomain instance, java.lang.Object[] values) {\n"),
+                "Chunk from array has no suppressed unchecked casts");
+        assertTrue(source.contains("" +
+                        "    @SuppressWarnings(\"unchecked\")\n" +
+                        "    private void fromMapChunk0(MyDomain instance, "
+                        + "java.util.Map<java.lang.String, java.lang.Object> values) {\n"),
+                "Chunk from map has no suppressed unchecked casts");
+    }
+
+    private static JavaFileObject source(String className, String content) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+}
@@ -16,14 +16,26 @@
 
 package dev.alexengrig.metter.generator;
 
+import dev.alexengrig.metter.util.LineJoiner;
 import org.junit.jupiter.api.Test;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MethodSupplierSourceGeneratorTest {
     static final String SNAPSHOT_OF_SOURCE_WITHOUT_PACKAGE;
@@ -44,6 +56,27 @@ class MethodSupplierSourceGeneratorTest {
                 "                        >> {\n" +
                 "\n" +
                 "    /**\n" +
+                "     * Field names.\n" +
+                "     */\n" +
+                "    private static final java.lang.String[] FIELD_NAMES = {\n" +
+                "            \"nullField\"};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash seeds by bucket, empty for linear search.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_SEEDS = {1};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash indices of field name by slot.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_INDICES = {0};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code nullField}.\n" +
+                "     */\n" +
+                "    public static final int NULL_FIELD = 0;\n" +
+                "\n" +
+                "    /**\n" +
                 "     * Map, type function by field name.\n" +
                 "     */\n" +
                 "    protected final java.util.Map<\n" +
@@ -59,6 +92,15 @@ class MethodSupplierSourceGeneratorTest {
                 "    }\n" +
                 "\n" +
                 "    /**\n" +
+                "     * Returns a shared instance, created lazily once per class loader.\n" +
+                "     *\n" +
+                "     * @return shared instance\n" +
+                "     */\n" +
+                "    public static MyClass types() {\n" +
+                "        return InstanceHolder.INSTANCE;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
                 "     * Creates map, type function by field name.\n" +
                 "     *\n" +
                 "     * @return map, type function by field name\n" +
@@ -67,13 +109,11 @@ class MethodSupplierSourceGeneratorTest {
                 "            java.lang.String,\n" +
                 "            Object\n" +
                 "            > createMap() {\n" +
-                "        java.util.HashMap<\n" +
-                "                java.lang.String,\n" +
-                "                Object\n" +
-                "                > map = new java.util.HashMap<>(1);\n" +
-                "        map.put(\"nullField\",\n" +
-                "                null);\n" +
-                "        return map;\n" +
+                "        @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+                "        Object[] values\n" +
+                "                = new Object[1];\n" +
+                "        values[0] = null;\n" +
+                "        return new FieldMap<>(values);\n" +
                 "    }\n" +
                 "\n" +
                 "    /**\n" +
@@ -88,6 +128,222 @@ class MethodSupplierSourceGeneratorTest {
                 "            > get() {\n" +
                 "        return typeByField;\n" +
                 "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.String field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].equals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(field.hashCode());\n" +
+                "        return FIELD_NAMES[index].equals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name, without creating a string.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.CharSequence field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].contentEquals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = 0; i < field.length(); i++) {\n" +
+                "            hash = 31 * hash + field.charAt(i);\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return FIELD_NAMES[index].contentEquals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name in UTF-8 bytes, without creating a string.\n" +
+                "     *\n" +
+                "     * @param bytes  bytes with field name\n" +
+                "     * @param offset offset of field name in {@code bytes}\n" +
+                "     * @param length length of field name in {@code bytes}\n" +
+                "     * @return ordinal of field, or {@code -1} if no field\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if range is out of {@code bytes}\n" +
+                "     */\n" +
+                "    public static int indexOf(byte[] bytes, int offset, int length) {\n" +
+                "        if (offset < 0 || length < 0 || offset > bytes.length - length) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\n" +
+                "                    \"Range \" + offset + \"..\" + (offset + length) + \" is out of bytes: \" + bytes.length);\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = offset; i < offset + length; i++) {\n" +
+                "            if (bytes[i] < 0) {\n" +
+                "                return -1;\n" +
+                "            }\n" +
+                "            hash = 31 * hash + bytes[i];\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (equalsAscii(FIELD_NAMES[i], bytes, offset, length)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return equalsAscii(FIELD_NAMES[index], bytes, offset, length) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static boolean equalsAscii(java.lang.String field, byte[] bytes, int offset, int length) {\n" +
+                "        if (field.length() != length) {\n" +
+                "            return false;\n" +
+                "        }\n" +
+                "        for (int i = 0; i < length; i++) {\n" +
+                "            if (field.charAt(i) != bytes[offset + i]) {\n" +
+                "                return false;\n" +
+                "            }\n" +
+                "        }\n" +
+                "        return true;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int indexOfHash(int hash) {\n" +
+                "        int seed = HASH_SEEDS[range(mix(hash, 0), HASH_SEEDS.length)];\n" +
+                "        return HASH_INDICES[range(mix(hash, seed), HASH_INDICES.length)];\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int mix(int hash, int seed) {\n" +
+                "        int h = (hash ^ seed) * 0x9E3779B9;\n" +
+                "        return h ^ h >>> 15;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int range(int hash, int size) {\n" +
+                "        return (int) ((hash & 0xFFFFFFFFL) * size >>> 32);\n" +
+                "    }\n" +
+                "\n" +
+                "    // 1 ordinals of MyDomain\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Lazy holder of shared instance.\n" +
+                "     */\n" +
+                "    private static final class InstanceHolder {\n" +
+                "        private static final MyClass INSTANCE = new MyClass();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Immutable map by field name, backed by arrays in order of field names,\n" +
+                "     * {@code null} value is no field.\n" +
+                "     *\n" +
+                "     * @param <V> type of value\n" +
+                "     */\n" +
+                "    protected static final class FieldMap<V> extends java.util.AbstractMap<java.lang.String, V> {\n" +
+                "        private final V[] values;\n" +
+                "        private final int size;\n" +
+                "\n" +
+                "        protected FieldMap(V[] values) {\n" +
+                "            this.values = values;\n" +
+                "            int size = 0;\n" +
+                "            for (V value : values) {\n" +
+                "                if (value != null) {\n" +
+                "                    size++;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            this.size = size;\n" +
+                "        }\n" +
+                "\n" +
+                "        private static int indexOf(java.lang.Object key) {\n" +
+                "            return key instanceof java.lang.String\n" +
+                "                    ? MyClass.indexOf((java.lang.String) key)\n" +
+                "                    : -1;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public int size() {\n" +
+                "            return size;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public boolean containsKey(java.lang.Object key) {\n" +
+                "            return get(key) != null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public V get(java.lang.Object key) {\n" +
+                "            int index = indexOf(key);\n" +
+                "            return index >= 0 ? values[index] : null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Collection<V> values() {\n" +
+                "            if (size == values.length) {\n" +
+                "                return java.util.Collections.unmodifiableList(java.util.Arrays.asList(values));\n" +
+                "            }\n" +
+                "            return super.values();\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void forEach(java.util.function.BiConsumer<? super java.lang.String, ? super V> action) {\n" +
+                "            for (int i = 0; i < values.length; i++) {\n" +
+                "                if (values[i] != null) {\n" +
+                "                    action.accept(FIELD_NAMES[i], values[i]);\n" +
+                "                }\n" +
+                "            }\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Set<java.util.Map.Entry<java.lang.String, V>> entrySet() {\n" +
+                "            return new java.util.AbstractSet<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                @Override\n" +
+                "                public java.util.Iterator<java.util.Map.Entry<java.lang.String, V>> iterator() {\n" +
+                "                    return new java.util.Iterator<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                        private int index = skip(0);\n" +
+                "\n" +
+                "                        private int skip(int index) {\n" +
+                "                            while (index < values.length && values[index] == null) {\n" +
+                "                                index++;\n" +
+                "                            }\n" +
+                "                            return index;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public boolean hasNext() {\n" +
+                "                            return index < values.length;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public java.util.Map.Entry<java.lang.String, V> next() {\n" +
+                "                            if (index >= values.length) {\n" +
+                "                                throw new java.util.NoSuchElementException();\n" +
+                "                            }\n" +
+                "                            int i = index;\n" +
+                "                            index = skip(i + 1);\n" +
+                "                            return new java.util.AbstractMap.SimpleImmutableEntry<>(FIELD_NAMES[i], values[i]);\n" +
+                "                        }\n" +
+                "                    };\n" +
+                "                }\n" +
+                "\n" +
+                "                @Override\n" +
+                "                public int size() {\n" +
+                "                    return size;\n" +
+                "                }\n" +
+                "            };\n" +
+                "        }\n" +
+                "    }\n" +
                 "}\n";
         SNAPSHOT_OF_SOURCE_WITH_PACKAGE = "" +
                 "package my.company;\n" +
@@ -105,6 +361,39 @@ class MethodSupplierSourceGeneratorTest {
                 "                        >> {\n" +
                 "\n" +
                 "    /**\n" +
+                "     * Field names.\n" +
+                "     */\n" +
+                "    private static final java.lang.String[] FIELD_NAMES = {\n" +
+                "            \"booleanField\",\n" +
+                "            \"intField\",\n" +
+                "            \"stringField\"};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash seeds by bucket, empty for linear search.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_SEEDS = {5, 1};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash indices of field name by slot.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_INDICES = {1, 0, 2};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code booleanField}.\n" +
+                "     */\n" +
+                "    public static final int BOOLEAN_FIELD = 0;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code intField}.\n" +
+                "     */\n" +
+                "    public static final int INT_FIELD = 1;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code stringField}.\n" +
+                "     */\n" +
+                "    public static final int STRING_FIELD = 2;\n" +
+                "\n" +
+                "    /**\n" +
                 "     * Map, type function by field name.\n" +
                 "     */\n" +
                 "    protected final java.util.Map<\n" +
@@ -120,6 +409,15 @@ class MethodSupplierSourceGeneratorTest {
                 "    }\n" +
                 "\n" +
                 "    /**\n" +
+                "     * Returns a shared instance, created lazily once per class loader.\n" +
+                "     *\n" +
+                "     * @return shared instance\n" +
+                "     */\n" +
+                "    public static MyClass types() {\n" +
+                "        return InstanceHolder.INSTANCE;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
                 "     * Creates map, type function by field name.\n" +
                 "     *\n" +
                 "     * @return map, type function by field name\n" +
@@ -128,17 +426,13 @@ class MethodSupplierSourceGeneratorTest {
                 "            java.lang.String,\n" +
                 "            Object\n" +
                 "            > createMap() {\n" +
-                "        java.util.HashMap<\n" +
-                "                java.lang.String,\n" +
-                "                Object\n" +
-                "                > map = new java.util.HashMap<>(3);\n" +
-                "        map.put(\"booleanField\",\n" +
-                "                my.company.MyDomain::isBooleanField);\n" +
-                "        map.put(\"intField\",\n" +
-                "                MyDomain::getIntField);\n" +
-                "        map.put(\"stringField\",\n" +
-                "                my.company.MyDomain::getStringField);\n" +
-                "        return map;\n" +
+                "        @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+                "        Object[] values\n" +
+                "                = new Object[3];\n" +
+                "        values[0] = my.company.MyDomain::isBooleanField;\n" +
+                "        values[1] = MyDomain::getIntField;\n" +
+                "        values[2] = my.company.MyDomain::getStringField;\n" +
+                "        return new FieldMap<>(values);\n" +
                 "    }\n" +
                 "\n" +
                 "    /**\n" +
@@ -153,6 +447,222 @@ class MethodSupplierSourceGeneratorTest {
                 "            > get() {\n" +
                 "        return typeByField;\n" +
                 "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.String field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].equals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(field.hashCode());\n" +
+                "        return FIELD_NAMES[index].equals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name, without creating a string.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.CharSequence field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].contentEquals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = 0; i < field.length(); i++) {\n" +
+                "            hash = 31 * hash + field.charAt(i);\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return FIELD_NAMES[index].contentEquals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name in UTF-8 bytes, without creating a string.\n" +
+                "     *\n" +
+                "     * @param bytes  bytes with field name\n" +
+                "     * @param offset offset of field name in {@code bytes}\n" +
+                "     * @param length length of field name in {@code bytes}\n" +
+                "     * @return ordinal of field, or {@code -1} if no field\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if range is out of {@code bytes}\n" +
+                "     */\n" +
+                "    public static int indexOf(byte[] bytes, int offset, int length) {\n" +
+                "        if (offset < 0 || length < 0 || offset > bytes.length - length) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\n" +
+                "                    \"Range \" + offset + \"..\" + (offset + length) + \" is out of bytes: \" + bytes.length);\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = offset; i < offset + length; i++) {\n" +
+                "            if (bytes[i] < 0) {\n" +
+                "                return -1;\n" +
+                "            }\n" +
+                "            hash = 31 * hash + bytes[i];\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (equalsAscii(FIELD_NAMES[i], bytes, offset, length)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return equalsAscii(FIELD_NAMES[index], bytes, offset, length) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static boolean equalsAscii(java.lang.String field, byte[] bytes, int offset, int length) {\n" +
+                "        if (field.length() != length) {\n" +
+                "            return false;\n" +
+                "        }\n" +
+                "        for (int i = 0; i < length; i++) {\n" +
+                "            if (field.charAt(i) != bytes[offset + i]) {\n" +
+                "                return false;\n" +
+                "            }\n" +
+                "        }\n" +
+                "        return true;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int indexOfHash(int hash) {\n" +
+                "        int seed = HASH_SEEDS[range(mix(hash, 0), HASH_SEEDS.length)];\n" +
+                "        return HASH_INDICES[range(mix(hash, seed), HASH_INDICES.length)];\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int mix(int hash, int seed) {\n" +
+                "        int h = (hash ^ seed) * 0x9E3779B9;\n" +
+                "        return h ^ h >>> 15;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int range(int hash, int size) {\n" +
+                "        return (int) ((hash & 0xFFFFFFFFL) * size >>> 32);\n" +
+                "    }\n" +
+                "\n" +
+                "    // 3 ordinals of my.company.MyDomain\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Lazy holder of shared instance.\n" +
+                "     */\n" +
+                "    private static final class InstanceHolder {\n" +
+                "        private static final MyClass INSTANCE = new MyClass();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Immutable map by field name, backed by arrays in order of field names,\n" +
+                "     * {@code null} value is no field.\n" +
+                "     *\n" +
+                "     * @param <V> type of value\n" +
+                "     */\n" +
+                "    protected static final class FieldMap<V> extends java.util.AbstractMap<java.lang.String, V> {\n" +
+                "        private final V[] values;\n" +
+                "        private final int size;\n" +
+                "\n" +
+                "        protected FieldMap(V[] values) {\n" +
+                "            this.values = values;\n" +
+                "            int size = 0;\n" +
+                "            for (V value : values) {\n" +
+                "                if (value != null) {\n" +
+                "                    size++;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            this.size = size;\n" +
+                "        }\n" +
+                "\n" +
+                "        private static int indexOf(java.lang.Object key) {\n" +
+                "            return key instanceof java.lang.String\n" +
+                "                    ? MyClass.indexOf((java.lang.String) key)\n" +
+                "                    : -1;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public int size() {\n" +
+                "            return size;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public boolean containsKey(java.lang.Object key) {\n" +
+                "            return get(key) != null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public V get(java.lang.Object key) {\n" +
+                "            int index = indexOf(key);\n" +
+                "            return index >= 0 ? values[index] : null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Collection<V> values() {\n" +
+                "            if (size == values.length) {\n" +
+                "                return java.util.Collections.unmodifiableList(java.util.Arrays.asList(values));\n" +
+                "            }\n" +
+                "            return super.values();\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void forEach(java.util.function.BiConsumer<? super java.lang.String, ? super V> action) {\n" +
+                "            for (int i = 0; i < values.length; i++) {\n" +
+                "                if (values[i] != null) {\n" +
+                "                    action.accept(FIELD_NAMES[i], values[i]);\n" +
+                "                }\n" +
+                "            }\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Set<java.util.Map.Entry<java.lang.String, V>> entrySet() {\n" +
+                "            return new java.util.AbstractSet<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                @Override\n" +
+                "                public java.util.Iterator<java.util.Map.Entry<java.lang.String, V>> iterator() {\n" +
+                "                    return new java.util.Iterator<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                        private int index = skip(0);\n" +
+                "\n" +
+                "                        private int skip(int index) {\n" +
+                "                            while (index < values.length && values[index] == null) {\n" +
+                "                                index++;\n" +
+                "                            }\n" +
+                "                            return index;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public boolean hasNext() {\n" +
+                "                            return index < values.length;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public java.util.Map.Entry<java.lang.String, V> next() {\n" +
+                "                            if (index >= values.length) {\n" +
+                "                                throw new java.util.NoSuchElementException();\n" +
+                "                            }\n" +
+                "                            int i = index;\n" +
+                "                            index = skip(i + 1);\n" +
+                "                            return new java.util.AbstractMap.SimpleImmutableEntry<>(FIELD_NAMES[i], values[i]);\n" +
+                "                        }\n" +
+                "                    };\n" +
+                "                }\n" +
+                "\n" +
+                "                @Override\n" +
+                "                public int size() {\n" +
+                "                    return size;\n" +
+                "                }\n" +
+                "            };\n" +
+                "        }\n" +
+                "    }\n" +
                 "}\n";
     }
 
@@ -162,6 +672,11 @@ class MethodSupplierSourceGeneratorTest {
             return "typeByField";
         }
 
+        @Override
+        protected String getInstanceAccessorName() {
+            return "types";
+        }
+
         @Override
         protected String getMapValueType(String domainClassName) {
             return "Object";
@@ -176,6 +691,20 @@ class MethodSupplierSourceGeneratorTest {
         protected String getJavaDocTypeName() {
             return "type";
         }
+
+        @Override
+        protected void joinOrdinalAccessor(LineJoiner joiner, String domainClassName,
+                                           List<FieldMethod> fieldMethods) {
+            joiner.ft("    // %d ordinals of %s", fieldMethods.size(), domainClassName)
+                    .ln();
+        }
+
+        @Override
+        protected void joinFieldAccessor(LineJoiner joiner, String domainClassName,
+                                         List<FieldMethod> fieldMethods) {
+            joiner.ft("    // %d accessors of %s", fieldMethods.size(), domainClassName)
+                    .ln();
+        }
     };
 
     @Test
@@ -183,36 +712,76 @@ class MethodSupplierSourceGeneratorTest {
         // coverage
         MethodSupplierSourceGenerator generator = new MethodSupplierSourceGenerator() {
             @Override
-            protected String getMapFieldName() {
+            protected String getMapValueType(String domainClassName) {
                 return null;
             }
+        };
+        assertNotNull(generator);
+    }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    void should_generate_source_byMapOfFieldToMethod_withDefaults() {
+        MethodSupplierSourceGenerator generator = new MethodSupplierSourceGenerator(false) {
             @Override
             protected String getMapValueType(String domainClassName) {
-                return null;
+                return "java.util.function.Function<" + domainClassName + ", java.lang.Object>";
             }
+        };
+        String source = generator.generate("MyClass", "MyDomain",
+                Collections.singletonMap("stringField", "MyDomain::getStringField"));
+        assertTrue(source.startsWith("" +
+                "/**\n" +
+                " * Method supplier of {@link MyDomain}.\n" +
+                " */\n"), "Source has no JavaDoc of class by default");
+        assertTrue(source.contains("" +
+                "    /**\n" +
+                "     * Map, method function by field name.\n" +
+                "     */\n" +
+                "    protected final java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.Function<MyDomain, java.lang.Object>\n" +
+                "            > methodByField;\n"), "Source has no map field by default");
+        assertTrue(source.contains("    public static MyClass methods() {\n"),
+                "Source has no instance accessor by default");
+        assertTrue(source.contains("        values[0] = MyDomain::getStringField;\n"),
+                "Source has no method of map");
+        assertFalse(source.contains("ordinal)"), "Source has ordinal accessor by default");
+    }
 
+    @Test
+    void should_resolve_fieldMethods_withoutInvocations() {
+        MethodSupplierSourceGenerator generator = new MethodSupplierSourceGenerator() {
             @Override
-            protected String getJavaDocTypeNameForClass() {
+            protected String getMapValueType(String domainClassName) {
                 return null;
             }
 
             @Override
-            protected String getJavaDocTypeName() {
-                return null;
+            protected String getMapValueInvocation(String domainClassName, String field, String method) {
+                return domainClassName + "." + field + "(" + method + ", %1$s)";
             }
         };
-        assertNotNull(generator);
+        FieldMethod invocable = new FieldMethod("intField", "int", "MyDomain::getIntField", "%1$s.getIntField()");
+        List<FieldMethod> fieldMethods = generator.resolveFieldMethods("MyDomain", Arrays.asList(invocable,
+                new FieldMethod("stringField", "java.lang.String", "MyDomain::getStringField", null)));
+        assertEquals(2, fieldMethods.size(), "Number of fields is incorrect");
+        assertEquals(invocable, fieldMethods.get(0), "Field with invocation is resolved");
+        FieldMethod resolved = fieldMethods.get(1);
+        assertEquals("stringField", resolved.getName(), "Name is incorrect");
+        assertEquals("java.lang.Object", resolved.getTypeName(), "Type is not object");
+        assertEquals("MyDomain::getStringField", resolved.getMethod(), "Method is incorrect");
+        assertEquals("MyDomain.stringField(MyDomain::getStringField, instance)",
+                resolved.getInvocation("instance", null), "Invocation is not of map value");
     }
 
     @Test
     void should_generate_source_withoutPackage() {
         String className = "MyClass";
         String domainClassName = "MyDomain";
-        Map<String, String> field2Method = new HashMap<String, String>() {{
-            put("nullField", "null");
-        }};
-        String source = generator.generate(className, domainClassName, field2Method);
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new FieldMethod("nullField", "java.lang.Object", "null", "null"));
+        String source = generator.generate(className, domainClassName, fieldMethods);
         assertEquals(SNAPSHOT_OF_SOURCE_WITHOUT_PACKAGE, source, "Source is invalid");
     }
 
@@ -220,15 +789,187 @@ class MethodSupplierSourceGeneratorTest {
     void should_generate_sourceWithPackage() {
         String className = "my.company.MyClass";
         String domainClassName = "my.company.MyDomain";
-        Map<String, String> field2Method = new HashMap<String, String>() {{
-            put("intField", "MyDomain::getIntField");
-            put("booleanField", "my.company.MyDomain::isBooleanField");
-            put("stringField", "my.company.MyDomain::getStringField");
-        }};
-        String source = generator.generate(className, domainClassName, field2Method);
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new FieldMethod("booleanField", "boolean", "my.company.MyDomain::isBooleanField", "%1$s.isBooleanField()"),
+                new FieldMethod("intField", "int", "MyDomain::getIntField", "%1$s.getIntField()"),
+                new FieldMethod("stringField", "java.lang.String", "my.company.MyDomain::getStringField", "%1$s.getStringField()"));
+        String source = generator.generate(className, domainClassName, fieldMethods);
         assertEquals(SNAPSHOT_OF_SOURCE_WITH_PACKAGE, source, "Source is invalid");
     }
 
+    @Test
+    void should_generate_source_toWriter() throws IOException {
+        String className = "my.company.MyClass";
+        String domainClassName = "my.company.MyDomain";
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new FieldMethod("booleanField", "boolean", "my.company.MyDomain::isBooleanField", "%1$s.isBooleanField()"),
+                new FieldMethod("intField", "int", "MyDomain::getIntField", "%1$s.getIntField()"),
+                new FieldMethod("stringField", "java.lang.String", "my.company.MyDomain::getStringField", "%1$s.getStringField()"));
+        StringWriter writer = new StringWriter();
+        generator.generate(writer, className, domainClassName, fieldMethods, false);
+        assertEquals(SNAPSHOT_OF_SOURCE_WITH_PACKAGE, writer.toString(), "Source is invalid");
+    }
+
+    @Test
+    void should_generate_source_withGeneratedDate_ifSet() {
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new FieldMethod("nullField", "java.lang.Object", "null", "null"));
+        generator.setWithGeneratedDate(true);
+        assertTrue(generator.generate("MyClass", "MyDomain", fieldMethods).contains("        date = \""),
+                "Source has no generated date");
+        generator.setWithGeneratedDate(false);
+        assertEquals(SNAPSHOT_OF_SOURCE_WITHOUT_PACKAGE, generator.generate("MyClass", "MyDomain", fieldMethods),
+                "Source is invalid");
+    }
+
+    @Test
+    void should_generate_source_withSwitchDispatch() {
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new FieldMethod("booleanField", "boolean", "MyDomain::isBooleanField", "%1$s.isBooleanField()"),
+                new FieldMethod("intField", "int", "MyDomain::getIntField", "%1$s.getIntField()"));
+        String source = generator.generate("MyClass", "MyDomain", fieldMethods, true);
+        assertTrue(source.contains("        values[0] = new FieldAccessor(0);\n        values[1] = new FieldAccessor(1);\n"),
+                "Map values are not field accessors");
+        assertFalse(source.contains("MyDomain::"), "Source has method references");
+        assertTrue(source.contains("    // 2 accessors of MyDomain\n"), "Source has no field accessor");
+    }
+
+    @Test
+    void should_generate_source_withChunks_ifWide() {
+        List<FieldMethod> fieldMethods = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            fieldMethods.add(new FieldMethod("field" + i, "int", "MyDomain::getField" + i, "%1$s.getField" + i + "()"));
+        }
+        String source = generator.generate("MyClass", "MyDomain", fieldMethods);
+        assertTrue(source.contains("    private static final java.lang.String[] FIELD_NAMES = new java.lang.String[300];\n"),
+                "Field names are not allocated");
+        assertTrue(source.contains("    static {\n        fieldNamesChunk0();\n        fieldNamesChunk1();\n"
+                + "        fieldNamesChunk2();\n"), "Field names are not filled by chunks");
+        assertTrue(source.contains("    private static void fieldNamesChunk2() {\n        FIELD_NAMES[256] = \"field256\";\n"),
+                "Chunk of field names is invalid");
+        assertTrue(source.contains("        createMapChunk0(values);\n        createMapChunk1(values);\n"
+                + "        createMapChunk2(values);\n        return new FieldMap<>(values);\n"), "Map is not created by chunks");
+        assertTrue(source.contains("     * Statements of ordinals from 128 to 255.\n     */\n"
+                + "    private void createMapChunk1(Object[] values) {\n        values[128] = MyDomain::getField128;\n"),
+                "Chunk of map is invalid");
+        assertFalse(source.contains("values[299] = MyDomain::getField299;\n        return"), "Map is not chunked");
+    }
+
+    @Test
+    void should_generate_source_withOrdinalConstants_ifFieldsHaveNamesOfGeneratedConstants() {
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new FieldMethod("chunkSize", "int", "MyDomain::getChunkSize", "%1$s.getChunkSize()"),
+                new FieldMethod("instance", "MyDomain", "MyDomain::getInstance", "%1$s.getInstance()"),
+                new FieldMethod("fieldNames", "java.lang.String[]", "MyDomain::getFieldNames", "%1$s.getFieldNames()"),
+                new FieldMethod("hashSeeds", "int[]", "MyDomain::getHashSeeds", "%1$s.getHashSeeds()"));
+        String source = generator.generate("MyClass", "MyDomain", fieldMethods);
+        assertTrue(source.contains("    /**\n     * Ordinal of field {@code chunkSize}.\n     */\n"
+                + "    public static final int CHUNK_SIZE_0 = 0;\n\n"
+                + "    /**\n     * Ordinal of field {@code instance}.\n     */\n"
+                + "    public static final int INSTANCE_1 = 1;\n\n"
+                + "    /**\n     * Ordinal of field {@code fieldNames}.\n     */\n"
+                + "    public static final int FIELD_NAMES_2 = 2;\n\n"
+                + "    /**\n     * Ordinal of field {@code hashSeeds}.\n     */\n"
+                + "    public static final int HASH_SEEDS_3 = 3;\n"), "Ordinal constants are invalid");
+        List<String> ordinalNames = Arrays.asList("CHUNK_SIZE_0", "INSTANCE_1", "FIELD_NAMES_2", "HASH_SEEDS_3");
+        Matcher matcher = Pattern.compile("static final \\S+ ([A-Z][A-Z0-9_]*)\\b").matcher(source);
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            assertTrue(MethodSupplierSourceGenerator.GENERATED_CONSTANT_NAMES.contains(name)
+                    || ordinalNames.contains(name), "Generated constant is not reserved: " + name);
+        }
+    }
+
+    @Test
+    void should_return_chunks() {
+        List<Integer> narrow = IntStream.range(0, MethodSupplierSourceGenerator.CHUNK_SIZE).boxed()
+                .collect(Collectors.toList());
+        assertTrue(generator.getChunks(narrow).isEmpty(), "Narrow ordinals are chunked");
+        List<Integer> wide = Arrays.asList(0, 1, 127, 200, 300, 301);
+        assertTrue(generator.getChunks(wide).isEmpty(), "Few ordinals are chunked");
+        List<Integer> ordinals = IntStream.range(0, 300).filter(i -> i % 2 == 0 || i > 256).boxed()
+                .collect(Collectors.toList());
+        Map<Integer, List<Integer>> chunks = generator.getChunks(ordinals);
+        assertEquals(Arrays.asList(0, 1, 2), new ArrayList<>(chunks.keySet()), "Chunk numbers are incorrect");
+        assertEquals(64, chunks.get(1).size(), "Size of chunk is incorrect");
+        assertEquals(Arrays.asList(256, 257, 258), chunks.get(2).subList(0, 3), "Chunk is incorrect");
+    }
+
+    @Test
+    void should_join_ordinalSwitch_byChunks() {
+        List<Integer> ordinals = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+        LineJoiner joiner = new LineJoiner();
+        generator.joinOrdinalSwitch(joiner, "    ", ordinals, (indent, i) -> joiner.ft("%sreturn %d;", indent, i),
+                "return -1;", "return chunk%d(ordinal);");
+        assertEquals("" +
+                "    switch (ordinal / 128) {\n" +
+                "        case 0:\n" +
+                "            return chunk0(ordinal);\n" +
+                "        case 1:\n" +
+                "            return chunk1(ordinal);\n" +
+                "        default:\n" +
+                "            return -1;\n" +
+                "    }\n", joiner.toString(), "Switch is invalid");
+        LineJoiner chunkJoiner = new LineJoiner();
+        generator.joinOrdinalSwitchChunks(chunkJoiner, "    ", "private int chunk%d(int ordinal)", ordinals,
+                (indent, i) -> chunkJoiner.ft("%sreturn %d;", indent, i), "return -1;");
+        String chunks = chunkJoiner.toString();
+        assertTrue(chunks.contains("" +
+                "    /**\n" +
+                "     * Cases of ordinals from 128 to 199.\n" +
+                "     */\n" +
+                "    private int chunk1(int ordinal) {\n" +
+                "        switch (ordinal) {\n" +
+                "            case 128:\n" +
+                "                return 128;\n"), "Chunk is invalid");
+        assertTrue(chunks.endsWith("" +
+                "            case 199:\n" +
+                "                return 199;\n" +
+                "            default:\n" +
+                "                return -1;\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n"), "End of chunk is invalid");
+    }
+
+    @Test
+    void should_join_indexOf_withUtf8_onlyForNonAsciiFields() {
+        LineJoiner asciiJoiner = new LineJoiner();
+        generator.joinIndexOf(asciiJoiner, Arrays.asList("intField", "stringField"));
+        assertFalse(asciiJoiner.toString().contains("indexOfUtf8"), "Source has UTF-8 search for ASCII fields");
+        assertTrue(asciiJoiner.toString().contains("                return -1;\n            }\n            hash = 31 * hash"),
+                "Source does not reject non-ASCII bytes");
+        LineJoiner nonAsciiJoiner = new LineJoiner();
+        generator.joinIndexOf(nonAsciiJoiner, Arrays.asList("intField", "na\u00EFveField"));
+        assertTrue(nonAsciiJoiner.toString().contains("                return indexOfUtf8(bytes, offset, length);\n"),
+                "Source has no UTF-8 search for non-ASCII fields");
+        assertTrue(nonAsciiJoiner.toString().contains("    private static boolean equalsUtf8("),
+                "Source has no UTF-8 comparison for non-ASCII fields");
+    }
+
+    @Test
+    void should_return_fieldAccessors() {
+        List<FieldMethod> fieldAccessors = generator.toFieldAccessors(Arrays.asList(
+                new FieldMethod("booleanField", "boolean", "MyDomain::isBooleanField", "%1$s.isBooleanField()"),
+                new FieldMethod("intField", "int", "MyDomain::getIntField", "%1$s.getIntField()")));
+        assertEquals("new FieldAccessor(1)", fieldAccessors.get(1).getMethod(), "Method is not field accessor");
+        assertEquals("int", fieldAccessors.get(1).getTypeName(), "Type name is incorrect");
+        assertEquals("a.getIntField()", fieldAccessors.get(1).getInvocation("a", null), "Invocation is incorrect");
+    }
+
+    @Test
+    void should_return_ordinalNames() {
+        assertEquals(Arrays.asList("INT_FIELD", "FIELD_NAMES_1", "INT_FIELD_2", "HASH_SEEDS_3"),
+                generator.getOrdinalNames(Arrays.asList("intField", "fieldNames", "INT_FIELD", "hashSeeds")),
+                "Ordinal names are incorrect");
+        assertEquals(Arrays.asList("INSTANCE_0", "CHUNK_SIZE_1", "HASH_INDICES_2"),
+                generator.getOrdinalNames(Arrays.asList("instance", "chunkSize", "hashIndices")),
+                "Ordinal names of generated constants are incorrect");
+        assertEquals(Arrays.asList("A", "A_1", "A_1_2"),
+                generator.getOrdinalNames(Arrays.asList("a", "A", "A_1")),
+                "Suffixed ordinal names are not unique");
+    }
+
     @Test
     void should_return_packageName() {
         assertEquals("my.company", generator.getPackageName("my.company.MyClass"),
@@ -16,13 +16,34 @@
 
 package dev.alexengrig.metter.generator;
 
+import dev.alexengrig.metter.util.LineJoiner;
+import dev.alexengrig.metter.visitor.ObjBooleanConsumer;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
-import java.util.HashMap;
+import javax.lang.model.SourceVersion;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SetterSupplierSourceGeneratorTest {
     static final String SNAPSHOT_OF_SOURCE_WITHOUT_PACKAGE;
@@ -43,6 +64,39 @@ class SetterSupplierSourceGeneratorTest {
                 "                        >> {\n" +
                 "\n" +
                 "    /**\n" +
+                "     * Field names.\n" +
+                "     */\n" +
+                "    private static final java.lang.String[] FIELD_NAMES = {\n" +
+                "            \"booleanField\",\n" +
+                "            \"intField\",\n" +
+                "            \"stringField\"};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash seeds by bucket, empty for linear search.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_SEEDS = {5, 1};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash indices of field name by slot.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_INDICES = {1, 0, 2};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code booleanField}.\n" +
+                "     */\n" +
+                "    public static final int BOOLEAN_FIELD = 0;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code intField}.\n" +
+                "     */\n" +
+                "    public static final int INT_FIELD = 1;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code stringField}.\n" +
+                "     */\n" +
+                "    public static final int STRING_FIELD = 2;\n" +
+                "\n" +
+                "    /**\n" +
                 "     * Map, setter function by field name.\n" +
                 "     */\n" +
                 "    protected final java.util.Map<\n" +
@@ -58,6 +112,15 @@ class SetterSupplierSourceGeneratorTest {
                 "    }\n" +
                 "\n" +
                 "    /**\n" +
+                "     * Returns a shared instance, created lazily once per class loader.\n" +
+                "     *\n" +
+                "     * @return shared instance\n" +
+                "     */\n" +
+                "    public static MyClass setters() {\n" +
+                "        return InstanceHolder.INSTANCE;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
                 "     * Creates map, setter function by field name.\n" +
                 "     *\n" +
                 "     * @return map, setter function by field name\n" +
@@ -66,17 +129,13 @@ class SetterSupplierSourceGeneratorTest {
                 "            java.lang.String,\n" +
                 "            java.util.function.BiConsumer<MyDomain, java.lang.Object>\n" +
                 "            > createMap() {\n" +
-                "        java.util.HashMap<\n" +
-                "                java.lang.String,\n" +
-                "                java.util.function.BiConsumer<MyDomain, java.lang.Object>\n" +
-                "                > map = new java.util.HashMap<>(3);\n" +
-                "        map.put(\"booleanField\",\n" +
-                "                MyDomain::isBooleanField);\n" +
-                "        map.put(\"intField\",\n" +
-                "                MyDomain::getIntField);\n" +
-                "        map.put(\"stringField\",\n" +
-                "                MyDomain::getStringField);\n" +
-                "        return map;\n" +
+                "        @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+                "        java.util.function.BiConsumer<MyDomain, java.lang.Object>[] values\n" +
+                "                = new java.util.function.BiConsumer[3];\n" +
+                "        values[0] = MyDomain::isBooleanField;\n" +
+                "        values[1] = MyDomain::getIntField;\n" +
+                "        values[2] = MyDomain::getStringField;\n" +
+                "        return new FieldMap<>(values);\n" +
                 "    }\n" +
                 "\n" +
                 "    /**\n" +
@@ -91,6 +150,684 @@ class SetterSupplierSourceGeneratorTest {
                 "            > get() {\n" +
                 "        return setterByField;\n" +
                 "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.String field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].equals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(field.hashCode());\n" +
+                "        return FIELD_NAMES[index].equals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name, without creating a string.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.CharSequence field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].contentEquals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = 0; i < field.length(); i++) {\n" +
+                "            hash = 31 * hash + field.charAt(i);\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return FIELD_NAMES[index].contentEquals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name in UTF-8 bytes, without creating a string.\n" +
+                "     *\n" +
+                "     * @param bytes  bytes with field name\n" +
+                "     * @param offset offset of field name in {@code bytes}\n" +
+                "     * @param length length of field name in {@code bytes}\n" +
+                "     * @return ordinal of field, or {@code -1} if no field\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if range is out of {@code bytes}\n" +
+                "     */\n" +
+                "    public static int indexOf(byte[] bytes, int offset, int length) {\n" +
+                "        if (offset < 0 || length < 0 || offset > bytes.length - length) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\n" +
+                "                    \"Range \" + offset + \"..\" + (offset + length) + \" is out of bytes: \" + bytes.length);\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = offset; i < offset + length; i++) {\n" +
+                "            if (bytes[i] < 0) {\n" +
+                "                return -1;\n" +
+                "            }\n" +
+                "            hash = 31 * hash + bytes[i];\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (equalsAscii(FIELD_NAMES[i], bytes, offset, length)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return equalsAscii(FIELD_NAMES[index], bytes, offset, length) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static boolean equalsAscii(java.lang.String field, byte[] bytes, int offset, int length) {\n" +
+                "        if (field.length() != length) {\n" +
+                "            return false;\n" +
+                "        }\n" +
+                "        for (int i = 0; i < length; i++) {\n" +
+                "            if (field.charAt(i) != bytes[offset + i]) {\n" +
+                "                return false;\n" +
+                "            }\n" +
+                "        }\n" +
+                "        return true;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int indexOfHash(int hash) {\n" +
+                "        int seed = HASH_SEEDS[range(mix(hash, 0), HASH_SEEDS.length)];\n" +
+                "        return HASH_INDICES[range(mix(hash, seed), HASH_INDICES.length)];\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int mix(int hash, int seed) {\n" +
+                "        int h = (hash ^ seed) * 0x9E3779B9;\n" +
+                "        return h ^ h >>> 15;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int range(int hash, int size) {\n" +
+                "        return (int) ((hash & 0xFFFFFFFFL) * size >>> 32);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets a value of field by ordinal.\n" +
+                "     *\n" +
+                "     * @param instance instance of {@link MyDomain}\n" +
+                "     * @param ordinal  ordinal of field\n" +
+                "     * @param value    value of field\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     */\n" +
+                "    public void set(MyDomain instance, int ordinal, java.lang.Object value) {\n" +
+                "        switch (ordinal) {\n" +
+                "            case 0:\n" +
+                "                instance.setBooleanField((boolean) value);\n" +
+                "                break;\n" +
+                "            case 1:\n" +
+                "                instance.setIntField((int) value);\n" +
+                "                break;\n" +
+                "            case 2:\n" +
+                "                instance.setStringField((java.lang.String) value);\n" +
+                "                break;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    private static void checkRange(int from, int to, int numberOfInstances, int length) {\n" +
+                "        if (from < 0 || from > to || to > numberOfInstances) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\n" +
+                "                    \"Range \" + from + \"..\" + to + \" is out of instances: \" + numberOfInstances);\n" +
+                "        }\n" +
+                "        if (length < to) {\n" +
+                "            throw new java.lang.IllegalArgumentException(\n" +
+                "                    \"Column length must be at least \" + to + \", not \" + length);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code int} field of instances from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<MyDomain> instances, int ordinal, int[] column) {\n" +
+                "        hydrate(instances, ordinal, column, 0, instances.size());\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code int} field of instances from an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<MyDomain> instances, int ordinal, int[] column,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.size(), instances.size(), column.length);\n" +
+                "        batch.run(instances.size(), (from, to) -> hydrate(instances, ordinal, column, from, to));\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code int} field of instances in a range from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code column} is less than {@code to}\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<MyDomain> instances, int ordinal, int[] column, int from, int to) {\n" +
+                "        checkRange(from, to, instances.size(), column.length);\n" +
+                "        int index = from;\n" +
+                "        switch (ordinal) {\n" +
+                "            case 1:\n" +
+                "                for (MyDomain instance : instances.subList(from, to)) {\n" +
+                "                    instance.setIntField(column[index++]);\n" +
+                "                }\n" +
+                "                break;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No int field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code boolean} field of instances from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<MyDomain> instances, int ordinal, boolean[] column) {\n" +
+                "        hydrate(instances, ordinal, column, 0, instances.size());\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code boolean} field of instances from an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<MyDomain> instances, int ordinal, boolean[] column,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.size(), instances.size(), column.length);\n" +
+                "        batch.run(instances.size(), (from, to) -> hydrate(instances, ordinal, column, from, to));\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code boolean} field of instances in a range from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code column} is less than {@code to}\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<MyDomain> instances, int ordinal, boolean[] column, int from, int to) {\n" +
+                "        checkRange(from, to, instances.size(), column.length);\n" +
+                "        int index = from;\n" +
+                "        switch (ordinal) {\n" +
+                "            case 0:\n" +
+                "                for (MyDomain instance : instances.subList(from, to)) {\n" +
+                "                    instance.setBooleanField(column[index++]);\n" +
+                "                }\n" +
+                "                break;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No boolean field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of field of instances from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<MyDomain> instances, int ordinal, java.lang.Object[] column) {\n" +
+                "        hydrate(instances, ordinal, column, 0, instances.size());\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of field of instances from an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<MyDomain> instances, int ordinal, java.lang.Object[] column,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.size(), instances.size(), column.length);\n" +
+                "        batch.run(instances.size(), (from, to) -> hydrate(instances, ordinal, column, from, to));\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of field of instances in a range from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal} or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code column} is less than {@code to}\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<MyDomain> instances, int ordinal, java.lang.Object[] column, int from, int to) {\n" +
+                "        checkRange(from, to, instances.size(), column.length);\n" +
+                "        if (ordinal < 0 || ordinal >= 3) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "        int index = from;\n" +
+                "        for (MyDomain instance : instances.subList(from, to)) {\n" +
+                "            set(instance, ordinal, column[index++]);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code int} field of instances from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(MyDomain[] instances, int ordinal, int[] column) {\n" +
+                "        hydrate(instances, ordinal, column, 0, instances.length);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code int} field of instances from an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(MyDomain[] instances, int ordinal, int[] column,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.length, instances.length, column.length);\n" +
+                "        batch.run(instances.length, (from, to) -> hydrate(instances, ordinal, column, from, to));\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code int} field of instances in a range from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code column} is less than {@code to}\n" +
+                "     */\n" +
+                "    public void hydrate(MyDomain[] instances, int ordinal, int[] column, int from, int to) {\n" +
+                "        checkRange(from, to, instances.length, column.length);\n" +
+                "        switch (ordinal) {\n" +
+                "            case 1:\n" +
+                "                for (int index = from; index < to; index++) {\n" +
+                "                    instances[index].setIntField(column[index]);\n" +
+                "                }\n" +
+                "                break;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No int field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code boolean} field of instances from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(MyDomain[] instances, int ordinal, boolean[] column) {\n" +
+                "        hydrate(instances, ordinal, column, 0, instances.length);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code boolean} field of instances from an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(MyDomain[] instances, int ordinal, boolean[] column,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.length, instances.length, column.length);\n" +
+                "        batch.run(instances.length, (from, to) -> hydrate(instances, ordinal, column, from, to));\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code boolean} field of instances in a range from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code column} is less than {@code to}\n" +
+                "     */\n" +
+                "    public void hydrate(MyDomain[] instances, int ordinal, boolean[] column, int from, int to) {\n" +
+                "        checkRange(from, to, instances.length, column.length);\n" +
+                "        switch (ordinal) {\n" +
+                "            case 0:\n" +
+                "                for (int index = from; index < to; index++) {\n" +
+                "                    instances[index].setBooleanField(column[index]);\n" +
+                "                }\n" +
+                "                break;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No boolean field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of field of instances from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(MyDomain[] instances, int ordinal, java.lang.Object[] column) {\n" +
+                "        hydrate(instances, ordinal, column, 0, instances.length);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of field of instances from an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(MyDomain[] instances, int ordinal, java.lang.Object[] column,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.length, instances.length, column.length);\n" +
+                "        batch.run(instances.length, (from, to) -> hydrate(instances, ordinal, column, from, to));\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of field of instances in a range from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal} or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code column} is less than {@code to}\n" +
+                "     */\n" +
+                "    public void hydrate(MyDomain[] instances, int ordinal, java.lang.Object[] column, int from, int to) {\n" +
+                "        checkRange(from, to, instances.length, column.length);\n" +
+                "        if (ordinal < 0 || ordinal >= 3) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "        for (int index = from; index < to; index++) {\n" +
+                "            set(instances[index], ordinal, column[index]);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Map, int setter function by field name; created on the first getting.\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ObjIntConsumer<MyDomain>\n" +
+                "            > intSetterByField;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Creates map, int setter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, int setter function by field name\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ObjIntConsumer<MyDomain>\n" +
+                "            > createIntMap() {\n" +
+                "        @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+                "        java.util.function.ObjIntConsumer<MyDomain>[] values\n" +
+                "                = new java.util.function.ObjIntConsumer[3];\n" +
+                "        values[1] = (instance, value) -> instance.setIntField(value);\n" +
+                "        return new FieldMap<>(values);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, int setter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, int setter function by field name\n" +
+                "     */\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ObjIntConsumer<MyDomain>\n" +
+                "            > getIntSetters() {\n" +
+                "        java.util.Map<\n" +
+                "                java.lang.String,\n" +
+                "                java.util.function.ObjIntConsumer<MyDomain>\n" +
+                "                > map = intSetterByField;\n" +
+                "        if (map == null) {\n" +
+                "            intSetterByField = map = createIntMap();\n" +
+                "        }\n" +
+                "        return map;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, long setter function by field name; empty, no fields.\n" +
+                "     *\n" +
+                "     * @return empty map, long setter function by field name\n" +
+                "     */\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ObjLongConsumer<MyDomain>\n" +
+                "            > getLongSetters() {\n" +
+                "        return java.util.Collections.emptyMap();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, double setter function by field name; empty, no fields.\n" +
+                "     *\n" +
+                "     * @return empty map, double setter function by field name\n" +
+                "     */\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ObjDoubleConsumer<MyDomain>\n" +
+                "            > getDoubleSetters() {\n" +
+                "        return java.util.Collections.emptyMap();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Map, boolean setter function by field name; created on the first getting.\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            dev.alexengrig.metter.visitor.ObjBooleanConsumer<MyDomain>\n" +
+                "            > booleanSetterByField;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Creates map, boolean setter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, boolean setter function by field name\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            dev.alexengrig.metter.visitor.ObjBooleanConsumer<MyDomain>\n" +
+                "            > createBooleanMap() {\n" +
+                "        @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+                "        dev.alexengrig.metter.visitor.ObjBooleanConsumer<MyDomain>[] values\n" +
+                "                = new dev.alexengrig.metter.visitor.ObjBooleanConsumer[3];\n" +
+                "        values[0] = (instance, value) -> instance.setBooleanField(value);\n" +
+                "        return new FieldMap<>(values);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, boolean setter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, boolean setter function by field name\n" +
+                "     */\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            dev.alexengrig.metter.visitor.ObjBooleanConsumer<MyDomain>\n" +
+                "            > getBooleanSetters() {\n" +
+                "        java.util.Map<\n" +
+                "                java.lang.String,\n" +
+                "                dev.alexengrig.metter.visitor.ObjBooleanConsumer<MyDomain>\n" +
+                "                > map = booleanSetterByField;\n" +
+                "        if (map == null) {\n" +
+                "            booleanSetterByField = map = createBooleanMap();\n" +
+                "        }\n" +
+                "        return map;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Lazy holder of shared instance.\n" +
+                "     */\n" +
+                "    private static final class InstanceHolder {\n" +
+                "        private static final MyClass INSTANCE = new MyClass();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Immutable map by field name, backed by arrays in order of field names,\n" +
+                "     * {@code null} value is no field.\n" +
+                "     *\n" +
+                "     * @param <V> type of value\n" +
+                "     */\n" +
+                "    protected static final class FieldMap<V> extends java.util.AbstractMap<java.lang.String, V> {\n" +
+                "        private final V[] values;\n" +
+                "        private final int size;\n" +
+                "\n" +
+                "        protected FieldMap(V[] values) {\n" +
+                "            this.values = values;\n" +
+                "            int size = 0;\n" +
+                "            for (V value : values) {\n" +
+                "                if (value != null) {\n" +
+                "                    size++;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            this.size = size;\n" +
+                "        }\n" +
+                "\n" +
+                "        private static int indexOf(java.lang.Object key) {\n" +
+                "            return key instanceof java.lang.String\n" +
+                "                    ? MyClass.indexOf((java.lang.String) key)\n" +
+                "                    : -1;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public int size() {\n" +
+                "            return size;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public boolean containsKey(java.lang.Object key) {\n" +
+                "            return get(key) != null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public V get(java.lang.Object key) {\n" +
+                "            int index = indexOf(key);\n" +
+                "            return index >= 0 ? values[index] : null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Collection<V> values() {\n" +
+                "            if (size == values.length) {\n" +
+                "                return java.util.Collections.unmodifiableList(java.util.Arrays.asList(values));\n" +
+                "            }\n" +
+                "            return super.values();\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void forEach(java.util.function.BiConsumer<? super java.lang.String, ? super V> action) {\n" +
+                "            for (int i = 0; i < values.length; i++) {\n" +
+                "                if (values[i] != null) {\n" +
+                "                    action.accept(FIELD_NAMES[i], values[i]);\n" +
+                "                }\n" +
+                "            }\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Set<java.util.Map.Entry<java.lang.String, V>> entrySet() {\n" +
+                "            return new java.util.AbstractSet<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                @Override\n" +
+                "                public java.util.Iterator<java.util.Map.Entry<java.lang.String, V>> iterator() {\n" +
+                "                    return new java.util.Iterator<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                        private int index = skip(0);\n" +
+                "\n" +
+                "                        private int skip(int index) {\n" +
+                "                            while (index < values.length && values[index] == null) {\n" +
+                "                                index++;\n" +
+                "                            }\n" +
+                "                            return index;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public boolean hasNext() {\n" +
+                "                            return index < values.length;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public java.util.Map.Entry<java.lang.String, V> next() {\n" +
+                "                            if (index >= values.length) {\n" +
+                "                                throw new java.util.NoSuchElementException();\n" +
+                "                            }\n" +
+                "                            int i = index;\n" +
+                "                            index = skip(i + 1);\n" +
+                "                            return new java.util.AbstractMap.SimpleImmutableEntry<>(FIELD_NAMES[i], values[i]);\n" +
+                "                        }\n" +
+                "                    };\n" +
+                "                }\n" +
+                "\n" +
+                "                @Override\n" +
+                "                public int size() {\n" +
+                "                    return size;\n" +
+                "                }\n" +
+                "            };\n" +
+                "        }\n" +
+                "    }\n" +
                 "}\n";
         SNAPSHOT_OF_SOURCE_WITH_PACKAGE = "" +
                 "package my.company;\n" +
@@ -108,6 +845,39 @@ class SetterSupplierSourceGeneratorTest {
                 "                        >> {\n" +
                 "\n" +
                 "    /**\n" +
+                "     * Field names.\n" +
+                "     */\n" +
+                "    private static final java.lang.String[] FIELD_NAMES = {\n" +
+                "            \"booleanField\",\n" +
+                "            \"intField\",\n" +
+                "            \"stringField\"};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash seeds by bucket, empty for linear search.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_SEEDS = {5, 1};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Perfect hash indices of field name by slot.\n" +
+                "     */\n" +
+                "    private static final int[] HASH_INDICES = {1, 0, 2};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code booleanField}.\n" +
+                "     */\n" +
+                "    public static final int BOOLEAN_FIELD = 0;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code intField}.\n" +
+                "     */\n" +
+                "    public static final int INT_FIELD = 1;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Ordinal of field {@code stringField}.\n" +
+                "     */\n" +
+                "    public static final int STRING_FIELD = 2;\n" +
+                "\n" +
+                "    /**\n" +
                 "     * Map, setter function by field name.\n" +
                 "     */\n" +
                 "    protected final java.util.Map<\n" +
@@ -123,6 +893,15 @@ class SetterSupplierSourceGeneratorTest {
                 "    }\n" +
                 "\n" +
                 "    /**\n" +
+                "     * Returns a shared instance, created lazily once per class loader.\n" +
+                "     *\n" +
+                "     * @return shared instance\n" +
+                "     */\n" +
+                "    public static MyClass setters() {\n" +
+                "        return InstanceHolder.INSTANCE;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
                 "     * Creates map, setter function by field name.\n" +
                 "     *\n" +
                 "     * @return map, setter function by field name\n" +
@@ -131,17 +910,13 @@ class SetterSupplierSourceGeneratorTest {
                 "            java.lang.String,\n" +
                 "            java.util.function.BiConsumer<my.company.MyDomain, java.lang.Object>\n" +
                 "            > createMap() {\n" +
-                "        java.util.HashMap<\n" +
-                "                java.lang.String,\n" +
-                "                java.util.function.BiConsumer<my.company.MyDomain, java.lang.Object>\n" +
-                "                > map = new java.util.HashMap<>(3);\n" +
-                "        map.put(\"booleanField\",\n" +
-                "                my.company.MyDomain::isBooleanField);\n" +
-                "        map.put(\"intField\",\n" +
-                "                MyDomain::getIntField);\n" +
-                "        map.put(\"stringField\",\n" +
-                "                my.company.MyDomain::getStringField);\n" +
-                "        return map;\n" +
+                "        @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+                "        java.util.function.BiConsumer<my.company.MyDomain, java.lang.Object>[] values\n" +
+                "                = new java.util.function.BiConsumer[3];\n" +
+                "        values[0] = my.company.MyDomain::isBooleanField;\n" +
+                "        values[1] = MyDomain::getIntField;\n" +
+                "        values[2] = my.company.MyDomain::getStringField;\n" +
+                "        return new FieldMap<>(values);\n" +
                 "    }\n" +
                 "\n" +
                 "    /**\n" +
@@ -156,6 +931,684 @@ class SetterSupplierSourceGeneratorTest {
                 "            > get() {\n" +
                 "        return setterByField;\n" +
                 "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.String field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].equals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(field.hashCode());\n" +
+                "        return FIELD_NAMES[index].equals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name, without creating a string.\n" +
+                "     *\n" +
+                "     * @param field field name\n" +
+                "     * @return ordinal of {@code field}, or {@code -1} if no field\n" +
+                "     */\n" +
+                "    public static int indexOf(java.lang.CharSequence field) {\n" +
+                "        if (field == null) {\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (FIELD_NAMES[i].contentEquals(field)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = 0; i < field.length(); i++) {\n" +
+                "            hash = 31 * hash + field.charAt(i);\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return FIELD_NAMES[index].contentEquals(field) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns an ordinal of field by name in UTF-8 bytes, without creating a string.\n" +
+                "     *\n" +
+                "     * @param bytes  bytes with field name\n" +
+                "     * @param offset offset of field name in {@code bytes}\n" +
+                "     * @param length length of field name in {@code bytes}\n" +
+                "     * @return ordinal of field, or {@code -1} if no field\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if range is out of {@code bytes}\n" +
+                "     */\n" +
+                "    public static int indexOf(byte[] bytes, int offset, int length) {\n" +
+                "        if (offset < 0 || length < 0 || offset > bytes.length - length) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\n" +
+                "                    \"Range \" + offset + \"..\" + (offset + length) + \" is out of bytes: \" + bytes.length);\n" +
+                "        }\n" +
+                "        int hash = 0;\n" +
+                "        for (int i = offset; i < offset + length; i++) {\n" +
+                "            if (bytes[i] < 0) {\n" +
+                "                return -1;\n" +
+                "            }\n" +
+                "            hash = 31 * hash + bytes[i];\n" +
+                "        }\n" +
+                "        if (HASH_SEEDS.length == 0) {\n" +
+                "            for (int i = 0; i < FIELD_NAMES.length; i++) {\n" +
+                "                if (equalsAscii(FIELD_NAMES[i], bytes, offset, length)) {\n" +
+                "                    return i;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            return -1;\n" +
+                "        }\n" +
+                "        int index = indexOfHash(hash);\n" +
+                "        return equalsAscii(FIELD_NAMES[index], bytes, offset, length) ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static boolean equalsAscii(java.lang.String field, byte[] bytes, int offset, int length) {\n" +
+                "        if (field.length() != length) {\n" +
+                "            return false;\n" +
+                "        }\n" +
+                "        for (int i = 0; i < length; i++) {\n" +
+                "            if (field.charAt(i) != bytes[offset + i]) {\n" +
+                "                return false;\n" +
+                "            }\n" +
+                "        }\n" +
+                "        return true;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int indexOfHash(int hash) {\n" +
+                "        int seed = HASH_SEEDS[range(mix(hash, 0), HASH_SEEDS.length)];\n" +
+                "        return HASH_INDICES[range(mix(hash, seed), HASH_INDICES.length)];\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int mix(int hash, int seed) {\n" +
+                "        int h = (hash ^ seed) * 0x9E3779B9;\n" +
+                "        return h ^ h >>> 15;\n" +
+                "    }\n" +
+                "\n" +
+                "    private static int range(int hash, int size) {\n" +
+                "        return (int) ((hash & 0xFFFFFFFFL) * size >>> 32);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets a value of field by ordinal.\n" +
+                "     *\n" +
+                "     * @param instance instance of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal  ordinal of field\n" +
+                "     * @param value    value of field\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     */\n" +
+                "    public void set(my.company.MyDomain instance, int ordinal, java.lang.Object value) {\n" +
+                "        switch (ordinal) {\n" +
+                "            case 0:\n" +
+                "                instance.setBooleanField((boolean) value);\n" +
+                "                break;\n" +
+                "            case 1:\n" +
+                "                instance.setIntField((int) value);\n" +
+                "                break;\n" +
+                "            case 2:\n" +
+                "                instance.setStringField((java.lang.String) value);\n" +
+                "                break;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    private static void checkRange(int from, int to, int numberOfInstances, int length) {\n" +
+                "        if (from < 0 || from > to || to > numberOfInstances) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\n" +
+                "                    \"Range \" + from + \"..\" + to + \" is out of instances: \" + numberOfInstances);\n" +
+                "        }\n" +
+                "        if (length < to) {\n" +
+                "            throw new java.lang.IllegalArgumentException(\n" +
+                "                    \"Column length must be at least \" + to + \", not \" + length);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code int} field of instances from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<my.company.MyDomain> instances, int ordinal, int[] column) {\n" +
+                "        hydrate(instances, ordinal, column, 0, instances.size());\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code int} field of instances from an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<my.company.MyDomain> instances, int ordinal, int[] column,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.size(), instances.size(), column.length);\n" +
+                "        batch.run(instances.size(), (from, to) -> hydrate(instances, ordinal, column, from, to));\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code int} field of instances in a range from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code column} is less than {@code to}\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<my.company.MyDomain> instances, int ordinal, int[] column, int from, int to) {\n" +
+                "        checkRange(from, to, instances.size(), column.length);\n" +
+                "        int index = from;\n" +
+                "        switch (ordinal) {\n" +
+                "            case 1:\n" +
+                "                for (my.company.MyDomain instance : instances.subList(from, to)) {\n" +
+                "                    instance.setIntField(column[index++]);\n" +
+                "                }\n" +
+                "                break;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No int field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code boolean} field of instances from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<my.company.MyDomain> instances, int ordinal, boolean[] column) {\n" +
+                "        hydrate(instances, ordinal, column, 0, instances.size());\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code boolean} field of instances from an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<my.company.MyDomain> instances, int ordinal, boolean[] column,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.size(), instances.size(), column.length);\n" +
+                "        batch.run(instances.size(), (from, to) -> hydrate(instances, ordinal, column, from, to));\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code boolean} field of instances in a range from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code column} is less than {@code to}\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<my.company.MyDomain> instances, int ordinal, boolean[] column, int from, int to) {\n" +
+                "        checkRange(from, to, instances.size(), column.length);\n" +
+                "        int index = from;\n" +
+                "        switch (ordinal) {\n" +
+                "            case 0:\n" +
+                "                for (my.company.MyDomain instance : instances.subList(from, to)) {\n" +
+                "                    instance.setBooleanField(column[index++]);\n" +
+                "                }\n" +
+                "                break;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No boolean field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of field of instances from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<my.company.MyDomain> instances, int ordinal, java.lang.Object[] column) {\n" +
+                "        hydrate(instances, ordinal, column, 0, instances.size());\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of field of instances from an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<my.company.MyDomain> instances, int ordinal, java.lang.Object[] column,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.size(), instances.size(), column.length);\n" +
+                "        batch.run(instances.size(), (from, to) -> hydrate(instances, ordinal, column, from, to));\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of field of instances in a range from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal} or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code column} is less than {@code to}\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<my.company.MyDomain> instances, int ordinal, java.lang.Object[] column, int from, int to) {\n" +
+                "        checkRange(from, to, instances.size(), column.length);\n" +
+                "        if (ordinal < 0 || ordinal >= 3) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "        int index = from;\n" +
+                "        for (my.company.MyDomain instance : instances.subList(from, to)) {\n" +
+                "            set(instance, ordinal, column[index++]);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code int} field of instances from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(my.company.MyDomain[] instances, int ordinal, int[] column) {\n" +
+                "        hydrate(instances, ordinal, column, 0, instances.length);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code int} field of instances from an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(my.company.MyDomain[] instances, int ordinal, int[] column,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.length, instances.length, column.length);\n" +
+                "        batch.run(instances.length, (from, to) -> hydrate(instances, ordinal, column, from, to));\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code int} field of instances in a range from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code int} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code column} is less than {@code to}\n" +
+                "     */\n" +
+                "    public void hydrate(my.company.MyDomain[] instances, int ordinal, int[] column, int from, int to) {\n" +
+                "        checkRange(from, to, instances.length, column.length);\n" +
+                "        switch (ordinal) {\n" +
+                "            case 1:\n" +
+                "                for (int index = from; index < to; index++) {\n" +
+                "                    instances[index].setIntField(column[index]);\n" +
+                "                }\n" +
+                "                break;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No int field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code boolean} field of instances from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(my.company.MyDomain[] instances, int ordinal, boolean[] column) {\n" +
+                "        hydrate(instances, ordinal, column, 0, instances.length);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code boolean} field of instances from an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(my.company.MyDomain[] instances, int ordinal, boolean[] column,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.length, instances.length, column.length);\n" +
+                "        batch.run(instances.length, (from, to) -> hydrate(instances, ordinal, column, from, to));\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code boolean} field of instances in a range from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code boolean} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code column} is less than {@code to}\n" +
+                "     */\n" +
+                "    public void hydrate(my.company.MyDomain[] instances, int ordinal, boolean[] column, int from, int to) {\n" +
+                "        checkRange(from, to, instances.length, column.length);\n" +
+                "        switch (ordinal) {\n" +
+                "            case 0:\n" +
+                "                for (int index = from; index < to; index++) {\n" +
+                "                    instances[index].setBooleanField(column[index]);\n" +
+                "                }\n" +
+                "                break;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No boolean field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of field of instances from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(my.company.MyDomain[] instances, int ordinal, java.lang.Object[] column) {\n" +
+                "        hydrate(instances, ordinal, column, 0, instances.length);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of field of instances from an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(my.company.MyDomain[] instances, int ordinal, java.lang.Object[] column,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.length, instances.length, column.length);\n" +
+                "        batch.run(instances.length, (from, to) -> hydrate(instances, ordinal, column, from, to));\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of field of instances in a range from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link my.company.MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no field by {@code ordinal} or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code column} is less than {@code to}\n" +
+                "     */\n" +
+                "    public void hydrate(my.company.MyDomain[] instances, int ordinal, java.lang.Object[] column, int from, int to) {\n" +
+                "        checkRange(from, to, instances.length, column.length);\n" +
+                "        if (ordinal < 0 || ordinal >= 3) {\n" +
+                "            throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "        for (int index = from; index < to; index++) {\n" +
+                "            set(instances[index], ordinal, column[index]);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Map, int setter function by field name; created on the first getting.\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ObjIntConsumer<my.company.MyDomain>\n" +
+                "            > intSetterByField;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Creates map, int setter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, int setter function by field name\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ObjIntConsumer<my.company.MyDomain>\n" +
+                "            > createIntMap() {\n" +
+                "        @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+                "        java.util.function.ObjIntConsumer<my.company.MyDomain>[] values\n" +
+                "                = new java.util.function.ObjIntConsumer[3];\n" +
+                "        values[1] = (instance, value) -> instance.setIntField(value);\n" +
+                "        return new FieldMap<>(values);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, int setter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, int setter function by field name\n" +
+                "     */\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ObjIntConsumer<my.company.MyDomain>\n" +
+                "            > getIntSetters() {\n" +
+                "        java.util.Map<\n" +
+                "                java.lang.String,\n" +
+                "                java.util.function.ObjIntConsumer<my.company.MyDomain>\n" +
+                "                > map = intSetterByField;\n" +
+                "        if (map == null) {\n" +
+                "            intSetterByField = map = createIntMap();\n" +
+                "        }\n" +
+                "        return map;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, long setter function by field name; empty, no fields.\n" +
+                "     *\n" +
+                "     * @return empty map, long setter function by field name\n" +
+                "     */\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ObjLongConsumer<my.company.MyDomain>\n" +
+                "            > getLongSetters() {\n" +
+                "        return java.util.Collections.emptyMap();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, double setter function by field name; empty, no fields.\n" +
+                "     *\n" +
+                "     * @return empty map, double setter function by field name\n" +
+                "     */\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            java.util.function.ObjDoubleConsumer<my.company.MyDomain>\n" +
+                "            > getDoubleSetters() {\n" +
+                "        return java.util.Collections.emptyMap();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Map, boolean setter function by field name; created on the first getting.\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            dev.alexengrig.metter.visitor.ObjBooleanConsumer<my.company.MyDomain>\n" +
+                "            > booleanSetterByField;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Creates map, boolean setter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, boolean setter function by field name\n" +
+                "     */\n" +
+                "    protected java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            dev.alexengrig.metter.visitor.ObjBooleanConsumer<my.company.MyDomain>\n" +
+                "            > createBooleanMap() {\n" +
+                "        @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n" +
+                "        dev.alexengrig.metter.visitor.ObjBooleanConsumer<my.company.MyDomain>[] values\n" +
+                "                = new dev.alexengrig.metter.visitor.ObjBooleanConsumer[3];\n" +
+                "        values[0] = (instance, value) -> instance.setBooleanField(value);\n" +
+                "        return new FieldMap<>(values);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns map, boolean setter function by field name.\n" +
+                "     *\n" +
+                "     * @return map, boolean setter function by field name\n" +
+                "     */\n" +
+                "    public java.util.Map<\n" +
+                "            java.lang.String,\n" +
+                "            dev.alexengrig.metter.visitor.ObjBooleanConsumer<my.company.MyDomain>\n" +
+                "            > getBooleanSetters() {\n" +
+                "        java.util.Map<\n" +
+                "                java.lang.String,\n" +
+                "                dev.alexengrig.metter.visitor.ObjBooleanConsumer<my.company.MyDomain>\n" +
+                "                > map = booleanSetterByField;\n" +
+                "        if (map == null) {\n" +
+                "            booleanSetterByField = map = createBooleanMap();\n" +
+                "        }\n" +
+                "        return map;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Lazy holder of shared instance.\n" +
+                "     */\n" +
+                "    private static final class InstanceHolder {\n" +
+                "        private static final MyClass INSTANCE = new MyClass();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Immutable map by field name, backed by arrays in order of field names,\n" +
+                "     * {@code null} value is no field.\n" +
+                "     *\n" +
+                "     * @param <V> type of value\n" +
+                "     */\n" +
+                "    protected static final class FieldMap<V> extends java.util.AbstractMap<java.lang.String, V> {\n" +
+                "        private final V[] values;\n" +
+                "        private final int size;\n" +
+                "\n" +
+                "        protected FieldMap(V[] values) {\n" +
+                "            this.values = values;\n" +
+                "            int size = 0;\n" +
+                "            for (V value : values) {\n" +
+                "                if (value != null) {\n" +
+                "                    size++;\n" +
+                "                }\n" +
+                "            }\n" +
+                "            this.size = size;\n" +
+                "        }\n" +
+                "\n" +
+                "        private static int indexOf(java.lang.Object key) {\n" +
+                "            return key instanceof java.lang.String\n" +
+                "                    ? MyClass.indexOf((java.lang.String) key)\n" +
+                "                    : -1;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public int size() {\n" +
+                "            return size;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public boolean containsKey(java.lang.Object key) {\n" +
+                "            return get(key) != null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public V get(java.lang.Object key) {\n" +
+                "            int index = indexOf(key);\n" +
+                "            return index >= 0 ? values[index] : null;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Collection<V> values() {\n" +
+                "            if (size == values.length) {\n" +
+                "                return java.util.Collections.unmodifiableList(java.util.Arrays.asList(values));\n" +
+                "            }\n" +
+                "            return super.values();\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void forEach(java.util.function.BiConsumer<? super java.lang.String, ? super V> action) {\n" +
+                "            for (int i = 0; i < values.length; i++) {\n" +
+                "                if (values[i] != null) {\n" +
+                "                    action.accept(FIELD_NAMES[i], values[i]);\n" +
+                "                }\n" +
+                "            }\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public java.util.Set<java.util.Map.Entry<java.lang.String, V>> entrySet() {\n" +
+                "            return new java.util.AbstractSet<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                @Override\n" +
+                "                public java.util.Iterator<java.util.Map.Entry<java.lang.String, V>> iterator() {\n" +
+                "                    return new java.util.Iterator<java.util.Map.Entry<java.lang.String, V>>() {\n" +
+                "                        private int index = skip(0);\n" +
+                "\n" +
+                "                        private int skip(int index) {\n" +
+                "                            while (index < values.length && values[index] == null) {\n" +
+                "                                index++;\n" +
+                "                            }\n" +
+                "                            return index;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public boolean hasNext() {\n" +
+                "                            return index < values.length;\n" +
+                "                        }\n" +
+                "\n" +
+                "                        @Override\n" +
+                "                        public java.util.Map.Entry<java.lang.String, V> next() {\n" +
+                "                            if (index >= values.length) {\n" +
+                "                                throw new java.util.NoSuchElementException();\n" +
+                "                            }\n" +
+                "                            int i = index;\n" +
+                "                            index = skip(i + 1);\n" +
+                "                            return new java.util.AbstractMap.SimpleImmutableEntry<>(FIELD_NAMES[i], values[i]);\n" +
+                "                        }\n" +
+                "                    };\n" +
+                "                }\n" +
+                "\n" +
+                "                @Override\n" +
+                "                public int size() {\n" +
+                "                    return size;\n" +
+                "                }\n" +
+                "            };\n" +
+                "        }\n" +
+                "    }\n" +
                 "}\n";
     }
 
@@ -172,12 +1625,11 @@ class SetterSupplierSourceGeneratorTest {
     void should_generate_sourceWithoutPackage() {
         String className = "MyClass";
         String domainClassName = "MyDomain";
-        Map<String, String> field2Setter = new HashMap<String, String>() {{
-            put("intField", "MyDomain::getIntField");
-            put("booleanField", "MyDomain::isBooleanField");
-            put("stringField", "MyDomain::getStringField");
-        }};
-        String source = generator.generate(className, domainClassName, field2Setter);
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new FieldMethod("booleanField", "boolean", "MyDomain::isBooleanField", "%1$s.setBooleanField(%2$s)"),
+                new FieldMethod("intField", "int", "MyDomain::getIntField", "%1$s.setIntField(%2$s)"),
+                new FieldMethod("stringField", "java.lang.String", "MyDomain::getStringField", "%1$s.setStringField(%2$s)"));
+        String source = generator.generate(className, domainClassName, fieldMethods);
         assertEquals(SNAPSHOT_OF_SOURCE_WITHOUT_PACKAGE, source, "Source is invalid");
     }
 
@@ -185,12 +1637,220 @@ class SetterSupplierSourceGeneratorTest {
     void should_generate_sourceWithPackage() {
         String className = "my.company.MyClass";
         String domainClassName = "my.company.MyDomain";
-        Map<String, String> field2Setter = new HashMap<String, String>() {{
-            put("intField", "MyDomain::getIntField");
-            put("booleanField", "my.company.MyDomain::isBooleanField");
-            put("stringField", "my.company.MyDomain::getStringField");
-        }};
-        String source = generator.generate(className, domainClassName, field2Setter);
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new FieldMethod("booleanField", "boolean", "my.company.MyDomain::isBooleanField", "%1$s.setBooleanField(%2$s)"),
+                new FieldMethod("intField", "int", "MyDomain::getIntField", "%1$s.setIntField(%2$s)"),
+                new FieldMethod("stringField", "java.lang.String", "my.company.MyDomain::getStringField", "%1$s.setStringField(%2$s)"));
+        String source = generator.generate(className, domainClassName, fieldMethods);
         assertEquals(SNAPSHOT_OF_SOURCE_WITH_PACKAGE, source, "Source is invalid");
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void should_generate_source_byMapOfFieldToMethod() {
+        Map<String, String> field2Method = new LinkedHashMap<>();
+        field2Method.put("stringField", "(instance, value) -> instance.setStringField((java.lang.String) value)");
+        String source = generator.generate("MyClass", "MyDomain", field2Method);
+        assertTrue(source.contains("" +
+                        "            case 0:\n" +
+                        "                setterByField.get(\"stringField\").accept(instance, (java.lang.Object) value);\n"),
+                "Source has no invocation of method of map");
+    }
+
+    @Test
+    void should_join_fieldAccessor() {
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new FieldMethod("booleanField", "boolean", "new FieldAccessor(0)", "%1$s.setBooleanField(%2$s)"),
+                new FieldMethod("intField", "int", "new FieldAccessor(1)", "%1$s.setIntField(%2$s)"),
+                new FieldMethod("stringField", "java.lang.String", "new FieldAccessor(2)", "%1$s.setStringField(%2$s)"));
+        LineJoiner joiner = new LineJoiner();
+        generator.joinFieldAccessor(joiner, "MyDomain", fieldMethods);
+        assertEquals("" +
+                "    /**\n" +
+                "     * Setter function of field by ordinal, dispatching by {@code switch}.\n" +
+                "     */\n" +
+                "    protected class FieldAccessor implements\n" +
+                "            java.util.function.BiConsumer<MyDomain, java.lang.Object>,\n" +
+                "            java.util.function.ObjIntConsumer<MyDomain> {\n" +
+                "        private final int ordinal;\n" +
+                "\n" +
+                "        protected FieldAccessor(int ordinal) {\n" +
+                "            this.ordinal = ordinal;\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void accept(MyDomain instance, java.lang.Object value) {\n" +
+                "            set(instance, ordinal, value);\n" +
+                "        }\n" +
+                "\n" +
+                "        @Override\n" +
+                "        public void accept(MyDomain instance, int value) {\n" +
+                "            switch (ordinal) {\n" +
+                "                case 1:\n" +
+                "                    instance.setIntField(value);\n" +
+                "                    break;\n" +
+                "                default:\n" +
+                "                    throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "            }\n" +
+                "        }\n" +
+                "\n" +
+                "        public void accept(MyDomain instance, boolean value) {\n" +
+                "            switch (ordinal) {\n" +
+                "                case 0:\n" +
+                "                    instance.setBooleanField(value);\n" +
+                "                    break;\n" +
+                "                default:\n" +
+                "                    throw new java.lang.IndexOutOfBoundsException(\"No field by ordinal: \" + ordinal);\n" +
+                "            }\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n", joiner.toString(), "Field accessor is invalid");
+    }
+
+    @Test
+    void should_join_hydrate() {
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new FieldMethod("intField", "int", null, "%1$s.setIntField(%2$s)"),
+                new FieldMethod("longField", "long", null, "%1$s.setLongField(%2$s)"));
+        LineJoiner joiner = new LineJoiner();
+        generator.joinHydrate(joiner, "MyDomain", "java.util.List<MyDomain>", fieldMethods, "long");
+        assertEquals("" +
+                "    /**\n" +
+                "     * Sets values of {@code long} field of instances from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code long} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<MyDomain> instances, int ordinal, long[] column) {\n" +
+                "        hydrate(instances, ordinal, column, 0, instances.size());\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code long} field of instances from an array by index of instance, in parallel by ranges.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param batch     fork-join batch of ranges of instances\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code long} field by {@code ordinal}\n" +
+                "     * @throws java.lang.IllegalArgumentException  if {@code column} is shorter than instances\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<MyDomain> instances, int ordinal, long[] column,\n" +
+                "            dev.alexengrig.metter.batch.ForkJoinBatch batch) {\n" +
+                "        checkRange(0, instances.size(), instances.size(), column.length);\n" +
+                "        batch.run(instances.size(), (from, to) -> hydrate(instances, ordinal, column, from, to));\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Sets values of {@code long} field of instances in a range from an array by index of instance.\n" +
+                "     *\n" +
+                "     * @param instances instances of {@link MyDomain}\n" +
+                "     * @param ordinal   ordinal of field\n" +
+                "     * @param column    array of values by index of instance\n" +
+                "     * @param from      index of instance from (inclusive)\n" +
+                "     * @param to        index of instance to (exclusive)\n" +
+                "     * @throws java.lang.IndexOutOfBoundsException if no {@code long} field by {@code ordinal}\n" +
+                "     *                                             or range is out of instances\n" +
+                "     * @throws java.lang.IllegalArgumentException  if length of {@code column} is less than {@code to}\n" +
+                "     */\n" +
+                "    public void hydrate(java.util.List<MyDomain> instances, int ordinal, long[] column, int from, int to) {\n" +
+                "        checkRange(from, to, instances.size(), column.length);\n" +
+                "        int index = from;\n" +
+                "        switch (ordinal) {\n" +
+                "            case 1:\n" +
+                "                for (MyDomain instance : instances.subList(from, to)) {\n" +
+                "                    instance.setLongField(column[index++]);\n" +
+                "                }\n" +
+                "                break;\n" +
+                "            default:\n" +
+                "                throw new java.lang.IndexOutOfBoundsException(\"No long field by ordinal: \" + ordinal);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n", joiner.toString());
+    }
+
+    @Test
+    void should_not_join_hydrate_withoutFieldsOfType() {
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new FieldMethod("intField", "int", null, "%1$s.setIntField(%2$s)"),
+                new FieldMethod("longField", "long", null, "%1$s.setLongField(%2$s)"));
+        LineJoiner joiner = new LineJoiner();
+        generator.joinHydrate(joiner, "MyDomain", "java.util.List<MyDomain>", fieldMethods, "boolean");
+        assertEquals("", joiner.toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void should_load_source_withoutMetterOnClasspath(boolean switchDispatch, @TempDir Path directory)
+            throws Exception {
+        List<FieldMethod> fieldMethods = Arrays.asList(
+                new FieldMethod("active", "boolean", "MyDomain::setActive", "%1$s.setActive(%2$s)"),
+                new FieldMethod("count", "int", "MyDomain::setCount", "%1$s.setCount(%2$s)"),
+                new FieldMethod("name", "java.lang.String", "MyDomain::setName", "%1$s.setName(%2$s)"));
+        if (!switchDispatch) {
+            fieldMethods = Arrays.asList(
+                    new FieldMethod("active", "boolean", "(instance, value) -> instance.setActive((boolean) value)",
+                            "%1$s.setActive(%2$s)"),
+                    new FieldMethod("count", "int", "(instance, value) -> instance.setCount((int) value)",
+                            "%1$s.setCount(%2$s)"),
+                    new FieldMethod("name", "java.lang.String",
+                            "(instance, value) -> instance.setName((java.lang.String) value)", "%1$s.setName(%2$s)"));
+        }
+        String source = generator.generate("my.company.MySetterSupplier", "my.company.MyDomain", fieldMethods,
+                switchDispatch);
+        String metterClassPath = Paths.get(ObjBooleanConsumer.class.getProtectionDomain().getCodeSource()
+                .getLocation().toURI()).toString();
+        List<String> options = new ArrayList<>(Arrays.asList("-proc:none", "-d", directory.toString(),
+                "-classpath", metterClassPath));
+        if (SourceVersion.latest().compareTo(SourceVersion.RELEASE_8) > 0) {
+            // javax.annotation.Generated of generated sources
+            options.addAll(Arrays.asList("--release", "8"));
+        }
+        List<JavaFileObject> sources = Arrays.asList(
+                source("my.company.MyDomain", "package my.company;\n"
+                        + "public class MyDomain {\n"
+                        + "    private boolean active;\n"
+                        + "    private int count;\n"
+                        + "    private String name;\n"
+                        + "    public void setActive(boolean active) { this.active = active; }\n"
+                        + "    public void setCount(int count) { this.count = count; }\n"
+                        + "    public void setName(String name) { this.name = name; }\n"
+                        + "    public String toString() { return active + \" \" + count + \" \" + name; }\n"
+                        + "}\n"),
+                source("my.company.MySetterSupplier", source),
+                source("my.company.MyClient", "package my.company;\n"
+                        + "public class MyClient implements java.util.function.Supplier<String> {\n"
+                        + "    public String get() {\n"
+                        + "        MySetterSupplier setters = new MySetterSupplier();\n"
+                        + "        MyDomain domain = new MyDomain();\n"
+                        + "        setters.get().get(\"active\").accept(domain, true);\n"
+                        + "        setters.get().get(\"name\").accept(domain, \"text\");\n"
+                        + "        setters.getIntSetters().get(\"count\").accept(domain, 42);\n"
+                        + "        return domain.toString();\n"
+                        + "    }\n"
+                        + "}\n"));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertTrue(compiler.getTask(null, null, null, options, null, sources).call(), "Compilation failed");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, null)) {
+            assertThrows(ClassNotFoundException.class,
+                    () -> classLoader.loadClass(ObjBooleanConsumer.class.getName()), "Metter is on classpath");
+            @SuppressWarnings("unchecked")
+            Supplier<String> client = (Supplier<String>) classLoader.loadClass("my.company.MyClient")
+                    .getConstructor().newInstance();
+            assertEquals("true 42 text", client.get(), "Setters set wrong values");
+        }
+    }
+
+    private static JavaFileObject source(String className, String content) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+}
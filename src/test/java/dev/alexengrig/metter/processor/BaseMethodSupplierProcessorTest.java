@@ -19,10 +19,12 @@ package dev.alexengrig.metter.processor;
 import dev.alexengrig.metter.element.descriptor.FieldDescriptor;
 import dev.alexengrig.metter.element.descriptor.TypeDescriptor;
 import dev.alexengrig.metter.exception.MetterException;
+import dev.alexengrig.metter.generator.FieldMethod;
 import dev.alexengrig.metter.generator.MethodSupplierSourceGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import javax.annotation.processing.Filer;
@@ -30,6 +32,7 @@ import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.Name;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
@@ -41,9 +44,11 @@ import javax.tools.Diagnostic;
 import javax.tools.JavaFileObject;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -55,25 +60,25 @@ import static dev.alexengrig.metter.ElementMocks.typeElementMock;
 import static java.lang.System.lineSeparator;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.same;
-import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.mockito.Mockito.withSettings;
 
 class BaseMethodSupplierProcessorTest {
     static BaseMethodSupplierProcessor<Deprecated> getMock() {
-        @SuppressWarnings("unchecked")
-        BaseMethodSupplierProcessor<Deprecated> mock = mock(BaseMethodSupplierProcessor.class, withSettings()
-                .useConstructor(Deprecated.class)
-                .defaultAnswer(CALLS_REAL_METHODS));
-        return mock;
+        return spy(getMock(mock(MethodSupplierSourceGenerator.class)));
     }
 
     static BaseMethodSupplierProcessor<Deprecated> getMock(MethodSupplierSourceGenerator generator) {
@@ -94,12 +99,12 @@ class BaseMethodSupplierProcessorTest {
 
             @Override
             protected Set<String> getIncludedFields(TypeDescriptor type) {
-                return null;
+                return Collections.emptySet();
             }
 
             @Override
             protected Set<String> getExcludedFields(TypeDescriptor type) {
-                return null;
+                return Collections.emptySet();
             }
 
             @Override
@@ -115,6 +120,52 @@ class BaseMethodSupplierProcessorTest {
         return new Child();
     }
 
+    @Test
+    void should_return_defaults() {
+        BaseMethodSupplierProcessor<Deprecated> processor = getMock();
+        TypeDescriptor type = mock(TypeDescriptor.class);
+        FieldDescriptor field = mock(FieldDescriptor.class);
+        doReturn("method").when(processor).getMethod(field);
+        doReturn("%1$s.method()").when(processor).getInvocation(field);
+        assertFalse(processor.isSwitchDispatch(type), "Switch dispatch is default");
+        assertFalse(processor.isFieldAccess(type), "Field access is default");
+        assertEquals("method", processor.getFieldAccessMethod(field), "Field access method is not method");
+        assertEquals("%1$s.method()", processor.getFieldAccessInvocation(field),
+                "Field access invocation is not invocation");
+    }
+
+    @Test
+    void should_return_null_invocation_byDefault() {
+        assertNull(getMock().getInvocation(mock(FieldDescriptor.class)), "Invocation is not null");
+    }
+
+    @Test
+    void should_omit_generatedDate_inDeterministicMode() {
+        MethodSupplierSourceGenerator generator = mock(MethodSupplierSourceGenerator.class);
+        BaseMethodSupplierProcessor<Deprecated> processor = getMock(generator);
+        ProcessingEnvironment environment = mock(ProcessingEnvironment.class);
+        when(environment.getOptions()).thenReturn(Collections.singletonMap("metter.deterministic", "true"));
+        processor.init(environment);
+        verify(generator).setWithGeneratedDate(false);
+    }
+
+    @Test
+    void should_add_generatedDate_byDefault() {
+        MethodSupplierSourceGenerator generator = mock(MethodSupplierSourceGenerator.class);
+        BaseMethodSupplierProcessor<Deprecated> processor = getMock(generator);
+        ProcessingEnvironment environment = mock(ProcessingEnvironment.class);
+        when(environment.getOptions()).thenReturn(Collections.emptyMap());
+        processor.init(environment);
+        verify(generator).setWithGeneratedDate(true);
+    }
+
+    @Test
+    void should_return_supportedOptions() {
+        BaseMethodSupplierProcessor<Deprecated> processor = getMock();
+        assertEquals(Arrays.asList("metter.stats", "metter.stats.file", "metter.deterministic"),
+                Arrays.asList(processor.getSupportedOptions().toArray()), "Supported options are incorrect");
+    }
+
     @Test
     void should_create_customClassName() {
         BaseMethodSupplierProcessor<Deprecated> processor = getMock();
@@ -232,12 +283,12 @@ class BaseMethodSupplierProcessorTest {
     void should_create_source() {
         MethodSupplierSourceGenerator generator = mock(MethodSupplierSourceGenerator.class);
         BaseMethodSupplierProcessor<Deprecated> processor = getMock(generator);
-        when(generator.generate(any(), any(), anyMap())).thenReturn("generated source");
+        when(generator.generate(any(), any(), anyList(), anyBoolean())).thenReturn("generated source");
 
         TypeElement typeElement = typeElementMock(String.class);
         TypeDescriptor typeDescriptor = new TypeDescriptor(typeElement);
 
-        String source = processor.createSource(typeDescriptor, Collections.emptyMap(), "ignore");
+        String source = processor.createSource(typeDescriptor, Collections.emptyList(), "ignore");
 
         assertEquals("generated source", source, "Source is incorrect");
     }
@@ -270,6 +321,16 @@ class BaseMethodSupplierProcessorTest {
                 return Collections.emptySet();
             }
 
+            @Override
+            protected boolean isSwitchDispatch(TypeDescriptor type) {
+                return false;
+            }
+
+            @Override
+            protected boolean isFieldAccess(TypeDescriptor type) {
+                return false;
+            }
+
             @Override
             protected boolean isTargetField(FieldDescriptor field) {
                 return false;
@@ -279,16 +340,33 @@ class BaseMethodSupplierProcessorTest {
             protected String getMethod(FieldDescriptor field) {
                 return null;
             }
+
+            @Override
+            protected String getInvocation(FieldDescriptor field) {
+                return null;
+            }
+
+            @Override
+            protected String getFieldAccessMethod(FieldDescriptor field) {
+                return null;
+            }
+
+            @Override
+            protected String getFieldAccessInvocation(FieldDescriptor field) {
+                return null;
+            }
         }
         BaseMethodSupplierProcessor<Deprecated> processor = new Child();
-        when(generator.generate(any(), any(), anyMap())).thenReturn("generated source");
+        doAnswer(invocation -> invocation.getArgument(0, Appendable.class).append("generated source"))
+                .when(generator).generate(any(Appendable.class), any(), any(), anyList(), anyBoolean());
         StringWriter writer = new StringWriter();
         JavaFileObject file = mock(JavaFileObject.class);
         when(file.openWriter()).thenReturn(writer);
         Filer filer = mock(Filer.class);
-        when(filer.createSourceFile(any())).thenReturn(file);
+        when(filer.createSourceFile(any(), any())).thenReturn(file);
         ProcessingEnvironment environment = mock(ProcessingEnvironment.class);
         when(environment.getFiler()).thenReturn(filer);
+        when(environment.getOptions()).thenReturn(Collections.singletonMap(ProcessorStatistics.STATS_OPTION, "true"));
 
         TypeMirror typeMirror = mock(TypeMirror.class);
         Types types = mock(Types.class);
@@ -306,17 +384,27 @@ class BaseMethodSupplierProcessorTest {
 
         assertEquals("generated source", writer.getBuffer().toString(),
                 "Generated source does not equal to 'generated source'");
+        verify(filer).createSourceFile(any(), same(typeElement));
+        assertEquals(1, processor.statistics.getTypes().size(), "Number of type statistics is not 1");
+        TypeStatistics statistics = processor.statistics.getTypes().get(0);
+        assertEquals("java.lang.String", statistics.getTypeName(), "Type name is incorrect");
+        assertEquals("Deprecated", statistics.getAnnotationName(), "Annotation name is incorrect");
+        assertEquals("java.lang.StringDeprecated", statistics.getClassName(), "Class name is incorrect");
+        assertEquals(0, statistics.getNumberOfFields(), "Number of fields is not 0");
+        assertEquals(0, statistics.getSuperTypeDepth(), "Super type depth is not 0");
+        assertEquals(16, statistics.getNumberOfBytes(), "Number of bytes is not 16");
     }
 
     @Test
-    void should_create_field2MethodMap() {
+    void should_create_fieldMethods() {
         BaseMethodSupplierProcessor<Deprecated> processor = getMock();
         when(processor.isTargetField(any())).thenReturn(true);
         when(processor.getMethod(any())).thenReturn("method");
+        when(processor.getInvocation(any())).thenReturn("invocation");
 
         TypeElement typeElement = typeElementMock(Arrays.asList(
-                fieldMock("field1"),
-                fieldMock("field2")));
+                fieldMock("field1", int.class),
+                fieldMock("field2", String.class)));
         TypeDescriptor typeDescriptor = new TypeDescriptor(typeElement);
 
         TypeMirror typeMirror = mock(TypeMirror.class);
@@ -330,10 +418,53 @@ class BaseMethodSupplierProcessorTest {
 
         processor.init(environment);
 
-        Map<String, String> field2MethodMap = processor.createField2MethodMap(typeDescriptor);
-        assertEquals(2, field2MethodMap.size(), "Size of field-method map is incorrect");
-        assertTrue(field2MethodMap.containsKey("field1"), "Field-method map has no 'field1'");
-        assertTrue(field2MethodMap.containsKey("field2"), "Field-method map has no 'field2'");
+        List<FieldMethod> fieldMethods = processor.createFieldMethods(typeDescriptor);
+        assertEquals(2, fieldMethods.size(), "Number of field methods is incorrect");
+        assertEquals("field1", fieldMethods.get(0).getName(), "First field is incorrect");
+        assertEquals("field2", fieldMethods.get(1).getName(), "Second field is incorrect");
+        assertEquals("method", fieldMethods.get(0).getMethod(), "Method is incorrect");
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void should_create_field2MethodMap() {
+        BaseMethodSupplierProcessor<Deprecated> processor = getMock();
+        doReturn(Arrays.asList(
+                new FieldMethod("field1", "int", "method1", "invocation1"),
+                new FieldMethod("field2", "java.lang.String", "method2", "invocation2")))
+                .when(processor).createFieldMethods(any());
+
+        Map<String, String> field2Method = processor.createField2MethodMap(mock(TypeDescriptor.class));
+
+        assertEquals(Arrays.asList("field1", "field2"), new ArrayList<>(field2Method.keySet()),
+                "Fields are incorrect");
+        assertEquals(Arrays.asList("method1", "method2"), new ArrayList<>(field2Method.values()),
+                "Methods are incorrect");
+    }
+
+    @Test
+    @SuppressWarnings({"deprecation", "unchecked"})
+    void should_create_source_byField2MethodMap() {
+        MethodSupplierSourceGenerator generator = mock(MethodSupplierSourceGenerator.class);
+        BaseMethodSupplierProcessor<Deprecated> processor = spy(getMock(generator));
+        when(generator.generate(any(), any(), anyList(), anyBoolean())).thenReturn("generated source");
+        when(processor.getInvocation(any())).thenReturn("invocation");
+        TypeDescriptor typeDescriptor = new TypeDescriptor(typeElementMock(String.class));
+        FieldDescriptor field = new FieldDescriptor(fieldMock("field", int.class));
+        doReturn(new LinkedHashSet<>(Collections.singletonList(field))).when(processor).getFields(typeDescriptor);
+        Map<String, String> field2Method = Collections.singletonMap("field", "method");
+
+        String source = processor.createSource(typeDescriptor, field2Method, "ignore");
+
+        assertEquals("generated source", source, "Source is incorrect");
+        ArgumentCaptor<List<FieldMethod>> captor = ArgumentCaptor.forClass(List.class);
+        verify(generator).generate(any(), any(), captor.capture(), anyBoolean());
+        FieldMethod fieldMethod = captor.getValue().get(0);
+        assertEquals("int", fieldMethod.getTypeName(), "Type name is incorrect");
+        assertEquals("method", fieldMethod.getMethod(), "Method is incorrect");
+        assertEquals("invocation", fieldMethod.getInvocation("instance", "value"), "Invocation is incorrect");
+        assertThrows(MetterException.class, () -> processor.createSource(typeDescriptor,
+                Collections.singletonMap("unknownField", "method"), "ignore"));
     }
 
     @Test
@@ -456,4 +587,102 @@ class BaseMethodSupplierProcessorTest {
         assertEquals(1, fields.size(), "Number of fields does not equal to 1");
         assertEquals("field", fields.iterator().next().getName(), "Field name does not equal to 'field'");
     }
+
+    @Test
+    void should_check_isAccessibleField() {
+        BaseMethodSupplierProcessor<Deprecated> processor = getMock();
+        TypeDescriptor typeDescriptor = mock(TypeDescriptor.class);
+        when(typeDescriptor.getPackageName()).thenReturn("dev.alexengrig.domain");
+        assertTrue(processor.isAccessibleField(typeDescriptor,
+                        fieldDescriptorMock("dev.alexengrig.domain")),
+                "Package-private field of same package is not accessible");
+        assertTrue(processor.isAccessibleField(typeDescriptor,
+                        fieldDescriptorMock("dev.alexengrig.domain", Modifier.PROTECTED)),
+                "Protected field of same package is not accessible");
+        assertTrue(processor.isAccessibleField(typeDescriptor,
+                        fieldDescriptorMock("dev.alexengrig.base", Modifier.PUBLIC)),
+                "Public field of other package is not accessible");
+        assertFalse(processor.isAccessibleField(typeDescriptor,
+                        fieldDescriptorMock("dev.alexengrig.base")),
+                "Package-private field of other package is accessible");
+        assertFalse(processor.isAccessibleField(typeDescriptor,
+                        fieldDescriptorMock("dev.alexengrig.base", Modifier.PROTECTED)),
+                "Protected field of other package is accessible");
+        assertFalse(processor.isAccessibleField(typeDescriptor,
+                        fieldDescriptorMock("dev.alexengrig.domain", Modifier.PRIVATE)),
+                "Private field is accessible");
+        assertFalse(processor.isAccessibleField(typeDescriptor,
+                        fieldDescriptorMock("dev.alexengrig.domain", Modifier.PUBLIC, Modifier.STATIC)),
+                "Static field is accessible");
+    }
+
+    @Test
+    void should_create_fieldMethods_with_fieldAccess() {
+        BaseMethodSupplierProcessor<Deprecated> processor = getMock();
+        TypeDescriptor typeDescriptor = mock(TypeDescriptor.class);
+        when(typeDescriptor.getPackageName()).thenReturn("dev.alexengrig.domain");
+        FieldDescriptor accessibleField = fieldDescriptorMock("dev.alexengrig.domain");
+        when(accessibleField.getName()).thenReturn("accessible");
+        when(accessibleField.getTypeName()).thenReturn("int");
+        FieldDescriptor privateField = fieldDescriptorMock("dev.alexengrig.domain", Modifier.PRIVATE);
+        when(privateField.getName()).thenReturn("private");
+        when(privateField.getTypeName()).thenReturn("int");
+        doAnswer(invocation -> new HashSet<>(Arrays.asList(accessibleField, privateField)))
+                .when(processor).getFields(same(typeDescriptor));
+        when(processor.isFieldAccess(same(typeDescriptor))).thenReturn(true);
+        when(processor.isTargetField(same(privateField))).thenReturn(true);
+        when(processor.getFieldAccessMethod(same(accessibleField))).thenReturn("instance -> instance.accessible");
+        when(processor.getMethod(same(privateField))).thenReturn("Domain::getPrivate");
+
+        List<FieldMethod> fieldMethods = processor.createFieldMethods(typeDescriptor);
+
+        assertEquals(2, fieldMethods.size(), "Number of field methods is incorrect");
+        for (FieldMethod fieldMethod : fieldMethods) {
+            if ("accessible".equals(fieldMethod.getName())) {
+                assertEquals("instance -> instance.accessible", fieldMethod.getMethod(), "Method is incorrect");
+            } else {
+                assertEquals("Domain::getPrivate", fieldMethod.getMethod(), "Method is incorrect");
+            }
+        }
+    }
+
+    @Test
+    void should_create_fieldMethods_without_hiddenFields() {
+        BaseMethodSupplierProcessor<Deprecated> processor = getMock();
+        TypeDescriptor typeDescriptor = mock(TypeDescriptor.class);
+        when(typeDescriptor.getPackageName()).thenReturn("dev.alexengrig.domain");
+        FieldDescriptor hidingField = fieldDescriptorMock("dev.alexengrig.domain");
+        when(hidingField.getName()).thenReturn("name");
+        when(hidingField.getTypeName()).thenReturn("java.lang.String");
+        FieldDescriptor privateHidingField = fieldDescriptorMock("dev.alexengrig.domain", Modifier.PRIVATE);
+        when(privateHidingField.getName()).thenReturn("label");
+        FieldDescriptor hiddenField = fieldDescriptorMock("dev.alexengrig.base", Modifier.PRIVATE);
+        when(hiddenField.getName()).thenReturn("name");
+        when(hiddenField.getTypeName()).thenReturn("int");
+        FieldDescriptor hiddenPublicField = fieldDescriptorMock("dev.alexengrig.base", Modifier.PUBLIC);
+        when(hiddenPublicField.getName()).thenReturn("label");
+        when(hiddenPublicField.getTypeName()).thenReturn("java.lang.String");
+        doAnswer(invocation -> new LinkedHashSet<>(Arrays.asList(
+                hidingField, privateHidingField, hiddenField, hiddenPublicField)))
+                .when(processor).getFields(same(typeDescriptor));
+        when(processor.isFieldAccess(same(typeDescriptor))).thenReturn(true);
+        when(processor.isTargetField(same(hiddenField))).thenReturn(true);
+        when(processor.getFieldAccessMethod(same(hidingField))).thenReturn("instance -> instance.name");
+
+        List<FieldMethod> fieldMethods = processor.createFieldMethods(typeDescriptor);
+
+        assertEquals(1, fieldMethods.size(), "Number of field methods is incorrect");
+        assertEquals("name", fieldMethods.get(0).getName(), "Field is incorrect");
+        assertEquals("java.lang.String", fieldMethods.get(0).getTypeName(), "Field type is incorrect");
+        assertEquals("instance -> instance.name", fieldMethods.get(0).getMethod(), "Method is incorrect");
+    }
+
+    static FieldDescriptor fieldDescriptorMock(String packageName, Modifier... modifiers) {
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        when(fieldDescriptor.getPackageName()).thenReturn(packageName);
+        for (Modifier modifier : modifiers) {
+            when(fieldDescriptor.hasModifier(modifier)).thenReturn(true);
+        }
+        return fieldDescriptor;
+    }
 }
\ No newline at end of file
@@ -34,16 +34,25 @@ import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static dev.alexengrig.metter.ElementMocks.fieldMock;
 import static java.lang.System.lineSeparator;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -157,10 +166,88 @@ class BaseProcessorTest {
         assertSame(superTypeElement, superTypes.iterator().next().getElement(), "Super type element is incorrect");
     }
 
+    @Test
+    void should_cache_allSuperTypes_fromNearest() {
+        TypeMirror grandparentMirror = mock(TypeMirror.class);
+        TypeElement grandparentElement = superClassMock(grandparentMirror);
+        TypeMirror parentMirror = mock(TypeMirror.class);
+        TypeElement parentElement = superClassMock(parentMirror);
+        TypeMirror typeMirror = mock(TypeMirror.class);
+        TypeElement typeElement = mock(TypeElement.class);
+        when(typeElement.asType()).thenReturn(typeMirror);
+
+        DeclaredType parentType = declaredTypeMock(parentElement);
+        DeclaredType grandparentType = declaredTypeMock(grandparentElement);
+        Types types = mock(Types.class);
+        Mockito.<List<? extends TypeMirror>>when(types.directSupertypes(same(typeMirror)))
+                .thenReturn(Collections.singletonList(parentType));
+        Mockito.<List<? extends TypeMirror>>when(types.directSupertypes(same(parentMirror)))
+                .thenReturn(Collections.singletonList(grandparentType));
+        ProcessingEnvironment environment = mock(ProcessingEnvironment.class);
+        when(environment.getTypeUtils()).thenReturn(types);
+        BaseProcessor<Deprecated, Element> processor = getMock();
+        processor.init(environment);
+
+        TypeDescriptor parent = processor.getTypeDescriptor(parentElement);
+        Set<TypeDescriptor> superTypes = processor.getAllSuperTypes(processor.getTypeDescriptor(typeElement));
+        Set<TypeDescriptor> parentSuperTypes = processor.getAllSuperTypes(parent);
+
+        assertEquals(Arrays.asList(parent, processor.getTypeDescriptor(grandparentElement)),
+                new ArrayList<>(superTypes), "Super types are incorrect");
+        assertEquals(Collections.singleton(processor.getTypeDescriptor(grandparentElement)), parentSuperTypes,
+                "Super types of parent are incorrect");
+        assertSame(superTypes, processor.getAllSuperTypes(typeElement), "Super types are not cached");
+        verify(types).directSupertypes(same(parentMirror));
+
+        RoundEnvironment roundEnvironment = mock(RoundEnvironment.class);
+        when(roundEnvironment.processingOver()).thenReturn(true);
+        processor.process(Collections.emptySet(), roundEnvironment);
+        assertNotSame(parent, processor.getTypeDescriptor(parentElement), "Type descriptor is cached after round");
+    }
+
+    private static TypeElement superClassMock(TypeMirror typeMirror) {
+        TypeElement typeElement = mock(TypeElement.class);
+        when(typeElement.getKind()).thenReturn(ElementKind.CLASS);
+        when(typeElement.asType()).thenReturn(typeMirror);
+        return typeElement;
+    }
+
+    private static DeclaredType declaredTypeMock(TypeElement typeElement) {
+        DeclaredType declaredType = mock(DeclaredType.class);
+        when(declaredType.asElement()).thenReturn(typeElement);
+        when(declaredType.getKind()).thenReturn(TypeKind.DECLARED);
+        return declaredType;
+    }
+
     @Test
     void should_return_supportedOptions() {
         BaseProcessor<Deprecated, Element> processor = getMock();
-        assertTrue(processor.getSupportedOptions().isEmpty(), "Processor has supported options");
+        assertEquals(new HashSet<>(Arrays.asList("metter.stats", "metter.stats.file")),
+                processor.getSupportedOptions(), "Supported options are incorrect");
+    }
+
+    @Test
+    void should_report_statistics() throws IOException {
+        Path file = Files.createTempDirectory("metter-stats").resolve("stats").resolve("metter.json");
+        Map<String, String> options = new HashMap<>();
+        options.put("metter.stats.file", file.toString());
+        Messager messager = mock(Messager.class);
+        ProcessingEnvironment environment = mock(ProcessingEnvironment.class);
+        when(environment.getMessager()).thenReturn(messager);
+        when(environment.getOptions()).thenReturn(options);
+        RoundEnvironment roundEnvironment = mock(RoundEnvironment.class);
+        when(roundEnvironment.processingOver()).thenReturn(true);
+        BaseProcessor<Deprecated, Element> processor = getMock();
+        processor.init(environment);
+        processor.statistics.add(new TypeStatistics("my.Domain", "Deprecated", "my.DomainDeprecated",
+                2, 1, 100, 1_000_000, 2_000_000, 3_000_000, 4_000_000));
+        processor.process(Collections.emptySet(), roundEnvironment);
+        verify(messager).printMessage(Diagnostic.Kind.NOTE, "Metter statistics: 1 types, 2 fields, 100 bytes, "
+                + "10.0 ms (model 1.0 ms, fields 2.0 ms, generation 3.0 ms, writing 4.0 ms), "
+                + "slowest: my.Domain by Deprecated 10.0 ms");
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"type\": \"my.Domain\""), "Statistics file has no type");
+        assertTrue(processor.statistics.getTypes().isEmpty(), "Statistics are not cleared");
     }
 
     @Test
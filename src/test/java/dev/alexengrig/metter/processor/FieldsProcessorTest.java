@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.processor;
+
+import dev.alexengrig.metter.annotation.Fields;
+import dev.alexengrig.metter.element.descriptor.FieldDescriptor;
+import dev.alexengrig.metter.element.descriptor.TypeDescriptor;
+import dev.alexengrig.metter.generator.TypedFieldMethod;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Test;
+
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FieldsProcessorTest {
+    static final FieldsProcessor PROCESSOR = new FieldsProcessor();
+
+    @Test
+    void should_return_customClassName() {
+        Fields annotation = mock(Fields.class);
+        when(annotation.value()).thenReturn("MyCustomClassName");
+        TypeElement typeElement = mock(TypeElement.class);
+        when(typeElement.getAnnotation(Fields.class)).thenReturn(annotation);
+        TypeDescriptor typeDescriptor = new TypeDescriptor(typeElement);
+        assertEquals("MyCustomClassName", PROCESSOR.getCustomClassName(typeDescriptor),
+                "Custom class name does not equal to 'MyCustomClassName'");
+    }
+
+    @Test
+    void should_return_includedFields() {
+        Fields annotation = mock(Fields.class);
+        when(annotation.includedFields()).thenReturn(new String[]{"includedField1", "includedField2"});
+        when(annotation.excludedFields()).thenReturn(new String[0]);
+        TypeElement typeElement = mock(TypeElement.class);
+        when(typeElement.getAnnotation(Fields.class)).thenReturn(annotation);
+        TypeDescriptor typeDescriptor = new TypeDescriptor(typeElement);
+        HashSet<String> expected = new HashSet<>(Arrays.asList("includedField1", "includedField2"));
+        assertEquals(expected, PROCESSOR.getIncludedFields(typeDescriptor),
+                "Included fields not equal to 'includedField1' and 'includedField2'");
+    }
+
+    @Test
+    void should_return_excludedFields() {
+        Fields annotation = mock(Fields.class);
+        when(annotation.excludedFields()).thenReturn(new String[]{"excludedField1", "excludedField2"});
+        when(annotation.includedFields()).thenReturn(new String[0]);
+        TypeElement typeElement = mock(TypeElement.class);
+        when(typeElement.getAnnotation(Fields.class)).thenReturn(annotation);
+        TypeDescriptor typeDescriptor = new TypeDescriptor(typeElement);
+        HashSet<String> expected = new HashSet<>(Arrays.asList("excludedField1", "excludedField2"));
+        assertEquals(expected, PROCESSOR.getExcludedFields(typeDescriptor),
+                "Excluded fields not equal to 'excludedField1' and 'excludedField2'");
+    }
+
+    @Test
+    void should_return_method() {
+        TypeDescriptor typeDescriptor = mock(TypeDescriptor.class);
+        when(typeDescriptor.getQualifiedName()).thenReturn("java.lang.String");
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        when(fieldDescriptor.getTypeName()).thenReturn("boolean");
+        when(fieldDescriptor.getName()).thenReturn("field");
+        when(fieldDescriptor.getParent()).thenReturn(typeDescriptor);
+
+        String method = PROCESSOR.getMethod(fieldDescriptor);
+
+        assertEquals("java.lang.String::isField", method, "Method is incorrect");
+    }
+
+    @Test
+    void should_return_invocation() {
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        when(fieldDescriptor.getTypeName()).thenReturn("int");
+        when(fieldDescriptor.getName()).thenReturn("field");
+
+        String invocation = PROCESSOR.getInvocation(fieldDescriptor);
+
+        assertEquals("%1$s.getField()", invocation, "Invocation is incorrect");
+    }
+
+    @Test
+    void should_check_isTargetField_for_notPrivateLombokGetterOnField() {
+        Getter getter = mock(Getter.class);
+        when(getter.value()).thenReturn(AccessLevel.PUBLIC);
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        when(fieldDescriptor.hasAnnotation(Getter.class)).thenReturn(true);
+        when(fieldDescriptor.getAnnotation(Getter.class)).thenReturn(Optional.of(getter));
+
+        boolean isTargetField = PROCESSOR.isTargetField(fieldDescriptor);
+
+        assertTrue(isTargetField, "Field does not have not-private Lombok Getter annotation");
+    }
+
+    @Test
+    void should_create_fieldMethod_withSetter() {
+        TypeDescriptor typeDescriptor = mock(TypeDescriptor.class);
+        when(typeDescriptor.getQualifiedName()).thenReturn("my.Domain");
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        when(fieldDescriptor.getTypeName()).thenReturn("int");
+        when(fieldDescriptor.getName()).thenReturn("field");
+        when(fieldDescriptor.getParent()).thenReturn(typeDescriptor);
+        when(fieldDescriptor.getElement()).thenReturn(mock(VariableElement.class));
+        when(fieldDescriptor.hasAnnotation(Setter.class)).thenReturn(true);
+        when(fieldDescriptor.getAnnotation(Setter.class)).thenReturn(Optional.of(mock(Setter.class)));
+
+        TypedFieldMethod fieldMethod = PROCESSOR.createFieldMethod(fieldDescriptor);
+
+        assertEquals("my.Domain::getField", fieldMethod.getMethod(), "Method is incorrect");
+        assertEquals("instance.getField()", fieldMethod.getInvocation("instance", null), "Invocation is incorrect");
+        assertTrue(fieldMethod.hasSetter(), "Field has no setter");
+        assertEquals("instance.setField(value)", fieldMethod.getSetterInvocation("instance", "value"),
+                "Setter invocation is incorrect");
+    }
+
+    @Test
+    void should_create_fieldMethod_withoutSetter_forFinalField() {
+        TypeDescriptor typeDescriptor = mock(TypeDescriptor.class);
+        when(typeDescriptor.getQualifiedName()).thenReturn("my.Domain");
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        when(fieldDescriptor.getTypeName()).thenReturn("int");
+        when(fieldDescriptor.getName()).thenReturn("field");
+        when(fieldDescriptor.getParent()).thenReturn(typeDescriptor);
+        VariableElement variableElement = mock(VariableElement.class);
+        when(variableElement.getModifiers()).thenReturn(Collections.singleton(Modifier.FINAL));
+        when(fieldDescriptor.getElement()).thenReturn(variableElement);
+        when(fieldDescriptor.hasAnnotation(Setter.class)).thenReturn(true);
+        when(fieldDescriptor.getAnnotation(Setter.class)).thenReturn(Optional.of(mock(Setter.class)));
+
+        TypedFieldMethod fieldMethod = PROCESSOR.createFieldMethod(fieldDescriptor);
+
+        assertFalse(fieldMethod.hasSetter(), "Field has setter");
+        assertThrows(IllegalStateException.class, () -> fieldMethod.getSetterInvocation("instance", "value"));
+    }
+}
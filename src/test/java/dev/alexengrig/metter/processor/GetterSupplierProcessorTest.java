@@ -66,6 +66,16 @@ class GetterSupplierProcessorTest {
             public String[] excludedFields() {
                 return new String[0];
             }
+
+            @Override
+            public boolean switchDispatch() {
+                return false;
+            }
+
+            @Override
+            public boolean fieldAccess() {
+                return false;
+            }
         };
         when(typeElement.getAnnotation(GetterSupplier.class)).thenReturn(annotation);
         TypeDescriptor typeDescriptor = new TypeDescriptor(typeElement);
@@ -125,6 +135,37 @@ class GetterSupplierProcessorTest {
         assertEquals("java.lang.String::isField", method, "Method is incorrect");
     }
 
+    @Test
+    void should_return_invocation() {
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        when(fieldDescriptor.getTypeName()).thenReturn("int");
+        when(fieldDescriptor.getName()).thenReturn("field");
+
+        String invocation = PROCESSOR.getInvocation(fieldDescriptor);
+
+        assertEquals("%1$s.getField()", invocation, "Invocation is incorrect");
+    }
+
+    @Test
+    void should_return_fieldAccessMethod() {
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        when(fieldDescriptor.getName()).thenReturn("field");
+
+        String method = PROCESSOR.getFieldAccessMethod(fieldDescriptor);
+
+        assertEquals("instance -> instance.field", method, "Method is incorrect");
+    }
+
+    @Test
+    void should_return_fieldAccessInvocation() {
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        when(fieldDescriptor.getName()).thenReturn("field");
+
+        String invocation = PROCESSOR.getFieldAccessInvocation(fieldDescriptor);
+
+        assertEquals("%1$s.field", invocation, "Invocation is incorrect");
+    }
+
     @Test
     void should_check_hasGetterMethod() {
         MethodDescriptor methodDescriptor = mock(MethodDescriptor.class);
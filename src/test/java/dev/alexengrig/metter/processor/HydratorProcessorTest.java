@@ -0,0 +1,427 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.processor;
+
+import dev.alexengrig.metter.annotation.Hydrator;
+import dev.alexengrig.metter.element.descriptor.FieldDescriptor;
+import dev.alexengrig.metter.element.descriptor.MethodDescriptor;
+import dev.alexengrig.metter.element.descriptor.TypeDescriptor;
+import dev.alexengrig.metter.exception.MetterException;
+import dev.alexengrig.metter.generator.FieldMethod;
+import dev.alexengrig.metter.generator.HydratorFieldMethod;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.Value;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+class HydratorProcessorTest {
+    static final HydratorProcessor PROCESSOR = new HydratorProcessor();
+
+    static FieldDescriptor fieldMock(String name, String typeName, Modifier... modifiers) {
+        FieldDescriptor field = mock(FieldDescriptor.class);
+        when(field.getName()).thenReturn(name);
+        when(field.getTypeName()).thenReturn(typeName);
+        for (Modifier modifier : modifiers) {
+            when(field.hasModifier(modifier)).thenReturn(true);
+        }
+        return field;
+    }
+
+    static FieldDescriptor fieldWithSetterMock(String name, String typeName) {
+        FieldDescriptor field = fieldMock(name, typeName);
+        when(field.hasAnnotation(Setter.class)).thenReturn(true);
+        when(field.getAnnotation(Setter.class)).thenReturn(Optional.of(mock(Setter.class)));
+        return field;
+    }
+
+    static MethodDescriptor constructorMock(List<String> parameterNames, List<String> parameterTypeNames) {
+        MethodDescriptor constructor = mock(MethodDescriptor.class);
+        when(constructor.isNotPrivate()).thenReturn(true);
+        when(constructor.getParameterNames()).thenReturn(parameterNames);
+        when(constructor.getParameterTypeNames()).thenReturn(parameterTypeNames);
+        return constructor;
+    }
+
+    static HydratorProcessor processorMock(TypeDescriptor type, FieldDescriptor... fields) {
+        Hydrator annotation = mock(Hydrator.class);
+        when(type.getAnnotation(Hydrator.class)).thenReturn(Optional.of(annotation));
+        for (FieldDescriptor field : fields) {
+            when(field.getParent()).thenReturn(type);
+        }
+        HydratorProcessor processor = spy(new HydratorProcessor());
+        doReturn(new LinkedHashSet<>(Arrays.asList(fields))).when(processor).getFields(same(type));
+        return processor;
+    }
+
+    static HydratorFieldMethod getField(List<FieldMethod> fieldMethods, int ordinal) {
+        return (HydratorFieldMethod) fieldMethods.get(ordinal);
+    }
+
+    @Test
+    void should_return_customClassName() {
+        Hydrator annotation = mock(Hydrator.class);
+        when(annotation.value()).thenReturn("MyCustomClassName");
+        TypeElement typeElement = mock(TypeElement.class);
+        when(typeElement.getAnnotation(Hydrator.class)).thenReturn(annotation);
+        TypeDescriptor typeDescriptor = new TypeDescriptor(typeElement);
+        assertEquals("MyCustomClassName", PROCESSOR.getCustomClassName(typeDescriptor),
+                "Custom class name does not equal to 'MyCustomClassName'");
+    }
+
+    @Test
+    void should_return_includedAndExcludedFields() {
+        Hydrator annotation = mock(Hydrator.class);
+        when(annotation.includedFields()).thenReturn(new String[]{"includedField"});
+        when(annotation.excludedFields()).thenReturn(new String[]{"excludedField"});
+        TypeElement typeElement = mock(TypeElement.class);
+        when(typeElement.getAnnotation(Hydrator.class)).thenReturn(annotation);
+        TypeDescriptor typeDescriptor = new TypeDescriptor(typeElement);
+        assertEquals(new HashSet<>(Collections.singletonList("includedField")),
+                PROCESSOR.getIncludedFields(typeDescriptor), "Included fields are incorrect");
+        assertEquals(new HashSet<>(Collections.singletonList("excludedField")),
+                PROCESSOR.getExcludedFields(typeDescriptor), "Excluded fields are incorrect");
+    }
+
+    @Test
+    void should_return_fieldAccess() {
+        Hydrator annotation = mock(Hydrator.class);
+        when(annotation.fieldAccess()).thenReturn(true);
+        TypeElement typeElement = mock(TypeElement.class);
+        when(typeElement.getAnnotation(Hydrator.class)).thenReturn(annotation);
+        TypeDescriptor typeDescriptor = new TypeDescriptor(typeElement);
+        assertTrue(PROCESSOR.isFieldAccess(typeDescriptor), "Field access is not enabled");
+        assertFalse(PROCESSOR.isSwitchDispatch(typeDescriptor), "Switch dispatch is enabled");
+    }
+
+    @Test
+    void should_create_fieldMethods_byConstructorWithMostParameters() {
+        TypeDescriptor type = mock(TypeDescriptor.class);
+        FieldDescriptor code = fieldMock("code", "java.lang.String", Modifier.FINAL);
+        FieldDescriptor count = fieldMock("count", "int", Modifier.FINAL);
+        FieldDescriptor name = fieldWithSetterMock("name", "java.lang.String");
+        FieldDescriptor constant = fieldMock("CONSTANT", "int", Modifier.STATIC, Modifier.FINAL);
+        FieldDescriptor hidden = fieldMock("hidden", "int");
+        MethodDescriptor privateConstructor = constructorMock(Arrays.asList("count", "code", "name"),
+                Arrays.asList("int", "java.lang.String", "java.lang.String"));
+        when(privateConstructor.isNotPrivate()).thenReturn(false);
+        Set<MethodDescriptor> constructors = new HashSet<>(Arrays.asList(
+                constructorMock(Collections.singletonList("code"), Collections.singletonList("java.lang.String")),
+                constructorMock(Arrays.asList("count", "code"), Arrays.asList("int", "java.lang.String")),
+                constructorMock(Arrays.asList("count", "name"), Arrays.asList("long", "java.lang.String")),
+                privateConstructor));
+        when(type.getConstructors()).thenReturn(constructors);
+        HydratorProcessor processor = processorMock(type, code, count, name, constant, hidden);
+
+        List<FieldMethod> fieldMethods = processor.createFieldMethods(type);
+
+        assertEquals(3, fieldMethods.size(), "Number of fields is incorrect");
+        assertEquals(1, getField(fieldMethods, 0).getParameterIndex(), "Parameter index of code is incorrect");
+        assertEquals(0, getField(fieldMethods, 1).getParameterIndex(), "Parameter index of count is incorrect");
+        assertFalse(getField(fieldMethods, 2).isParameter(), "Name is parameter");
+        assertEquals("instance.setName(value)", getField(fieldMethods, 2).getInvocation("instance", "value"),
+                "Invocation of name is incorrect");
+    }
+
+    @Test
+    void should_create_fieldMethods_byLombokAllArgsConstructor() {
+        TypeDescriptor type = mock(TypeDescriptor.class);
+        FieldDescriptor name = fieldMock("name", "java.lang.String", Modifier.PRIVATE, Modifier.FINAL);
+        FieldDescriptor age = fieldMock("age", "int", Modifier.PRIVATE, Modifier.FINAL);
+        FieldDescriptor id = fieldWithSetterMock("id", "long");
+        AllArgsConstructor allArgsConstructor = mock(AllArgsConstructor.class);
+        when(allArgsConstructor.access()).thenReturn(AccessLevel.PUBLIC);
+        when(allArgsConstructor.staticName()).thenReturn("");
+        when(type.hasAnnotation(AllArgsConstructor.class)).thenReturn(true);
+        when(type.getAnnotation(AllArgsConstructor.class)).thenReturn(Optional.of(allArgsConstructor));
+        when(type.getFields()).thenReturn(new LinkedHashSet<>(Arrays.asList(name, age)));
+        when(type.getConstructors()).thenReturn(Collections.emptySet());
+        HydratorProcessor processor = processorMock(type, name, age, id);
+
+        List<FieldMethod> fieldMethods = processor.createFieldMethods(type);
+
+        assertEquals(3, fieldMethods.size(), "Number of fields is incorrect");
+        assertEquals(0, getField(fieldMethods, 0).getParameterIndex(), "Parameter index of name is incorrect");
+        assertEquals(1, getField(fieldMethods, 1).getParameterIndex(), "Parameter index of age is incorrect");
+        assertEquals("instance.setId(value)", getField(fieldMethods, 2).getInvocation("instance", "value"),
+                "Invocation of id is incorrect");
+    }
+
+    @Test
+    void should_create_fieldMethods_byLombokAllArgsConstructor_withoutInitializedFinalFields() {
+        TypeDescriptor type = mock(TypeDescriptor.class);
+        FieldDescriptor name = fieldMock("name", "java.lang.String", Modifier.PRIVATE, Modifier.FINAL);
+        FieldDescriptor version = fieldMock("version", "int", Modifier.PRIVATE, Modifier.FINAL);
+        when(version.hasConstantValue()).thenReturn(true);
+        FieldDescriptor tags = fieldMock("tags", "java.util.List<java.lang.String>");
+        FieldDescriptor age = fieldMock("age", "int", Modifier.PRIVATE, Modifier.FINAL);
+        Value value = mock(Value.class);
+        when(value.staticConstructor()).thenReturn("");
+        when(type.hasAnnotation(Value.class)).thenReturn(true);
+        when(type.getAnnotation(Value.class)).thenReturn(Optional.of(value));
+        when(type.getFields()).thenReturn(new LinkedHashSet<>(Arrays.asList(name, version, tags, age)));
+        when(type.getConstructors()).thenReturn(Collections.emptySet());
+        HydratorProcessor processor = processorMock(type, name, version, tags, age);
+        doReturn(Optional.of(true)).when(processor).hasInitializer(tags);
+
+        List<FieldMethod> fieldMethods = processor.createFieldMethods(type);
+
+        assertEquals(2, fieldMethods.size(), "Number of fields is incorrect");
+        assertEquals("name", fieldMethods.get(0).getName(), "First field is incorrect");
+        assertEquals(0, getField(fieldMethods, 0).getParameterIndex(), "Parameter index of name is incorrect");
+        assertEquals("age", fieldMethods.get(1).getName(), "Second field is incorrect");
+        assertEquals(1, getField(fieldMethods, 1).getParameterIndex(), "Parameter index of age is incorrect");
+    }
+
+    @Test
+    void should_check_isInitializedField() {
+        FieldDescriptor field = fieldMock("field", "int");
+        assertFalse(PROCESSOR.isInitializedField(field), "Field is initialized");
+        assertFalse(PROCESSOR.hasInitializer(field).isPresent(), "Initializer is checked without javac");
+        when(field.hasConstantValue()).thenReturn(true);
+        assertTrue(PROCESSOR.isInitializedField(field), "Field with constant value is not initialized");
+    }
+
+    @Test
+    void should_create_fieldMethods_byLombokAllArgsConstructor_generatedBefore() {
+        TypeDescriptor type = mock(TypeDescriptor.class);
+        FieldDescriptor name = fieldMock("name", "java.lang.String");
+        FieldDescriptor tags = fieldMock("tags", "java.util.List<java.lang.String>");
+        FieldDescriptor age = fieldMock("age", "int");
+        Value value = mock(Value.class);
+        when(value.staticConstructor()).thenReturn("");
+        when(type.hasAnnotation(Value.class)).thenReturn(true);
+        when(type.getAnnotation(Value.class)).thenReturn(Optional.of(value));
+        when(type.getFields()).thenReturn(new LinkedHashSet<>(Arrays.asList(name, tags, age)));
+        Set<MethodDescriptor> constructors = Collections.singleton(
+                constructorMock(Arrays.asList("name", "age"), Arrays.asList("java.lang.String", "int")));
+        when(type.getConstructors()).thenReturn(constructors);
+        HydratorProcessor processor = processorMock(type, name, tags, age);
+
+        List<FieldMethod> fieldMethods = processor.createFieldMethods(type);
+
+        assertEquals(2, fieldMethods.size(), "Number of fields is incorrect");
+        assertEquals(0, getField(fieldMethods, 0).getParameterIndex(), "Parameter index of name is incorrect");
+        assertEquals("age", fieldMethods.get(1).getName(), "Second field is incorrect");
+        assertEquals(1, getField(fieldMethods, 1).getParameterIndex(), "Parameter index of age is incorrect");
+    }
+
+    @Test
+    void should_check_isLombokConstructor() {
+        TypeDescriptor type = mock(TypeDescriptor.class);
+        FieldDescriptor name = fieldMock("name", "java.lang.String", Modifier.FINAL);
+        FieldDescriptor tags = fieldMock("tags", "java.util.List<java.lang.String>", Modifier.FINAL);
+        FieldDescriptor age = fieldMock("age", "int");
+        List<FieldDescriptor> lombokParameters = Arrays.asList(name, tags, age);
+        assertTrue(PROCESSOR.isLombokConstructor(type, Arrays.asList(name, age), lombokParameters),
+                "Constructor without final field is not Lombok");
+        assertFalse(PROCESSOR.isLombokConstructor(type, Arrays.asList(name, tags), lombokParameters),
+                "Constructor without not final field is Lombok");
+        assertFalse(PROCESSOR.isLombokConstructor(type, Arrays.asList(age, name), lombokParameters),
+                "Constructor with other order is Lombok");
+        assertFalse(PROCESSOR.isLombokConstructor(type, Collections.emptyList(), lombokParameters),
+                "Constructor without parameters is Lombok");
+    }
+
+    @Test
+    void should_check_lombokConstructors() {
+        TypeDescriptor type = mock(TypeDescriptor.class);
+        Value value = mock(Value.class);
+        when(value.staticConstructor()).thenReturn("");
+        when(type.getAnnotation(Value.class)).thenReturn(Optional.of(value));
+        assertTrue(PROCESSOR.hasLombokAllArgsConstructor(type), "Type has no Lombok constructor of Value");
+        when(value.staticConstructor()).thenReturn("of");
+        assertFalse(PROCESSOR.hasLombokAllArgsConstructor(type), "Type has Lombok constructor of static Value");
+        NoArgsConstructor noArgsConstructor = mock(NoArgsConstructor.class);
+        when(noArgsConstructor.access()).thenReturn(AccessLevel.PRIVATE);
+        when(noArgsConstructor.staticName()).thenReturn("");
+        when(type.getAnnotation(NoArgsConstructor.class)).thenReturn(Optional.of(noArgsConstructor));
+        assertFalse(PROCESSOR.hasLombokNoArgsConstructor(type), "Type has private Lombok constructor");
+        when(noArgsConstructor.access()).thenReturn(AccessLevel.PACKAGE);
+        assertTrue(PROCESSOR.hasLombokNoArgsConstructor(type), "Type has no Lombok constructor");
+    }
+
+    @Test
+    void should_create_fieldMethods_byLombokRequiredArgsConstructor() {
+        TypeDescriptor type = mock(TypeDescriptor.class);
+        FieldDescriptor name = fieldMock("name", "java.lang.String", Modifier.PRIVATE, Modifier.FINAL);
+        FieldDescriptor version = fieldMock("version", "int", Modifier.PRIVATE, Modifier.FINAL);
+        when(version.hasConstantValue()).thenReturn(true);
+        FieldDescriptor nickname = fieldWithSetterMock("nickname", "java.lang.String");
+        when(nickname.hasAnnotation(NonNull.class)).thenReturn(true);
+        FieldDescriptor age = fieldWithSetterMock("age", "int");
+        RequiredArgsConstructor requiredArgsConstructor = mock(RequiredArgsConstructor.class);
+        when(requiredArgsConstructor.access()).thenReturn(AccessLevel.PUBLIC);
+        when(requiredArgsConstructor.staticName()).thenReturn("");
+        when(type.hasAnnotation(RequiredArgsConstructor.class)).thenReturn(true);
+        when(type.getAnnotation(RequiredArgsConstructor.class)).thenReturn(Optional.of(requiredArgsConstructor));
+        when(type.getFields()).thenReturn(new LinkedHashSet<>(Arrays.asList(name, version, nickname, age)));
+        when(type.getConstructors()).thenReturn(Collections.emptySet());
+        HydratorProcessor processor = processorMock(type, name, version, nickname, age);
+
+        List<FieldMethod> fieldMethods = processor.createFieldMethods(type);
+
+        assertEquals(3, fieldMethods.size(), "Number of fields is incorrect");
+        assertEquals(0, getField(fieldMethods, 0).getParameterIndex(), "Parameter index of name is incorrect");
+        assertEquals(1, getField(fieldMethods, 1).getParameterIndex(), "Parameter index of nickname is incorrect");
+        assertEquals("instance.setAge(value)", getField(fieldMethods, 2).getInvocation("instance", "value"),
+                "Invocation of age is incorrect");
+    }
+
+    @Test
+    void should_create_fieldMethods_byLombokData_withoutExplicitConstructors() {
+        TypeDescriptor type = mock(TypeDescriptor.class);
+        FieldDescriptor name = fieldMock("name", "java.lang.String", Modifier.PRIVATE, Modifier.FINAL);
+        FieldDescriptor age = fieldWithSetterMock("age", "int");
+        Data data = mock(Data.class);
+        when(data.staticConstructor()).thenReturn("");
+        when(type.getAnnotation(Data.class)).thenReturn(Optional.of(data));
+        when(type.getFields()).thenReturn(new LinkedHashSet<>(Arrays.asList(name, age)));
+        Set<MethodDescriptor> constructors = Collections.singleton(
+                constructorMock(Collections.emptyList(), Collections.emptyList()));
+        when(type.getConstructors()).thenReturn(constructors);
+        HydratorProcessor processor = processorMock(type, name, age);
+        doReturn(false).when(processor).hasExplicitConstructor(type);
+
+        List<FieldMethod> fieldMethods = processor.createFieldMethods(type);
+
+        assertEquals(2, fieldMethods.size(), "Number of fields is incorrect");
+        assertEquals(0, getField(fieldMethods, 0).getParameterIndex(), "Parameter index of name is incorrect");
+        assertEquals("instance.setAge(value)", getField(fieldMethods, 1).getInvocation("instance", "value"),
+                "Invocation of age is incorrect");
+    }
+
+    @Test
+    void should_check_lombokRequiredArgsConstructors() {
+        TypeDescriptor type = mock(TypeDescriptor.class);
+        HydratorProcessor processor = spy(new HydratorProcessor());
+        doReturn(false).when(processor).hasExplicitConstructor(type);
+        Data data = mock(Data.class);
+        when(data.staticConstructor()).thenReturn("");
+        when(type.getAnnotation(Data.class)).thenReturn(Optional.of(data));
+        assertTrue(processor.hasLombokRequiredArgsConstructor(type), "Type has no Lombok constructor of Data");
+        when(data.staticConstructor()).thenReturn("of");
+        assertFalse(processor.hasLombokRequiredArgsConstructor(type), "Type has Lombok constructor of static Data");
+        when(data.staticConstructor()).thenReturn("");
+        doReturn(true).when(processor).hasExplicitConstructor(type);
+        assertFalse(processor.hasLombokRequiredArgsConstructor(type),
+                "Type has Lombok constructor of Data with explicit constructor");
+        doReturn(false).when(processor).hasExplicitConstructor(type);
+        when(type.hasAnnotation(NoArgsConstructor.class)).thenReturn(true);
+        assertFalse(processor.hasLombokRequiredArgsConstructor(type),
+                "Type has Lombok constructor of Data with other constructor of Lombok");
+        RequiredArgsConstructor requiredArgsConstructor = mock(RequiredArgsConstructor.class);
+        when(requiredArgsConstructor.access()).thenReturn(AccessLevel.PRIVATE);
+        when(requiredArgsConstructor.staticName()).thenReturn("");
+        when(type.hasAnnotation(RequiredArgsConstructor.class)).thenReturn(true);
+        when(type.getAnnotation(RequiredArgsConstructor.class)).thenReturn(Optional.of(requiredArgsConstructor));
+        assertFalse(processor.hasLombokRequiredArgsConstructor(type), "Type has private Lombok constructor");
+        when(requiredArgsConstructor.access()).thenReturn(AccessLevel.PROTECTED);
+        assertTrue(processor.hasLombokRequiredArgsConstructor(type), "Type has no Lombok constructor");
+    }
+
+    @Test
+    void should_check_hasExplicitConstructor() {
+        ExecutableElement defaultConstructor = mock(ExecutableElement.class);
+        ExecutableElement explicitConstructor = mock(ExecutableElement.class);
+        Elements elements = mock(Elements.class);
+        when(elements.getOrigin(defaultConstructor)).thenReturn(Elements.Origin.MANDATED);
+        when(elements.getOrigin(explicitConstructor)).thenReturn(Elements.Origin.EXPLICIT);
+        ProcessingEnvironment environment = mock(ProcessingEnvironment.class);
+        when(environment.getElementUtils()).thenReturn(elements);
+        when(environment.getOptions()).thenReturn(Collections.emptyMap());
+        HydratorProcessor processor = new HydratorProcessor();
+        processor.init(environment);
+        TypeDescriptor type = mock(TypeDescriptor.class);
+        when(type.getConstructors()).thenReturn(Collections.singleton(new MethodDescriptor(defaultConstructor)));
+        assertFalse(processor.hasExplicitConstructor(type), "Default constructor is explicit");
+        when(type.getConstructors()).thenReturn(new LinkedHashSet<>(Arrays.asList(
+                new MethodDescriptor(defaultConstructor), new MethodDescriptor(explicitConstructor))));
+        assertTrue(processor.hasExplicitConstructor(type), "Explicit constructor is not explicit");
+    }
+
+    @Test
+    void should_check_hasExplicitConstructor_withoutOrigin() {
+        TypeDescriptor type = mock(TypeDescriptor.class);
+        MethodDescriptor constructor = constructorMock(Collections.emptyList(), Collections.emptyList());
+        when(constructor.hasNoParameters()).thenReturn(true);
+        when(type.getConstructors()).thenReturn(Collections.singleton(constructor));
+        HydratorProcessor processor = spy(new HydratorProcessor());
+        doReturn(Optional.empty()).when(processor).isDefaultConstructor(constructor);
+        assertFalse(processor.hasExplicitConstructor(type), "Constructor without parameters is explicit");
+        when(constructor.hasNoParameters()).thenReturn(false);
+        assertTrue(processor.hasExplicitConstructor(type), "Constructor with parameters is not explicit");
+    }
+
+    @Test
+    void should_create_fieldMethods_withFieldAccess() {
+        TypeDescriptor type = mock(TypeDescriptor.class);
+        when(type.getPackageName()).thenReturn("my");
+        FieldDescriptor count = fieldMock("count", "int");
+        when(count.getPackageName()).thenReturn("my");
+        Set<MethodDescriptor> constructors = Collections.singleton(
+                constructorMock(Collections.emptyList(), Collections.emptyList()));
+        when(type.getConstructors()).thenReturn(constructors);
+        HydratorProcessor processor = processorMock(type, count);
+        when(type.getAnnotation(Hydrator.class).get().fieldAccess()).thenReturn(true);
+
+        List<FieldMethod> fieldMethods = processor.createFieldMethods(type);
+
+        assertEquals(1, fieldMethods.size(), "Number of fields is incorrect");
+        assertEquals("instance.count = value", getField(fieldMethods, 0).getInvocation("instance", "value"),
+                "Invocation of count is incorrect");
+    }
+
+    @Test
+    void should_throw_exception_ifNoConstructor() {
+        TypeDescriptor type = mock(TypeDescriptor.class);
+        FieldDescriptor code = fieldMock("code", "java.lang.String", Modifier.FINAL);
+        Set<MethodDescriptor> constructors = Collections.singleton(
+                constructorMock(Collections.singletonList("value"), Collections.singletonList("java.lang.String")));
+        when(type.getConstructors()).thenReturn(constructors);
+        HydratorProcessor processor = processorMock(type, code);
+
+        assertThrows(MetterException.class, () -> processor.createFieldMethods(type));
+    }
+}
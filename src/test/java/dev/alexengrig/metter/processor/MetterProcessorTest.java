@@ -0,0 +1,254 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.processor;
+
+import dev.alexengrig.metter.annotation.DiffSupplier;
+import dev.alexengrig.metter.annotation.Fields;
+import dev.alexengrig.metter.annotation.GetterSupplier;
+import dev.alexengrig.metter.annotation.Hydrator;
+import dev.alexengrig.metter.annotation.SetterSupplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MetterProcessorTest {
+    @Test
+    void should_return_supportedAnnotationTypes() {
+        MetterProcessor processor = new MetterProcessor();
+        Set<String> expected = new LinkedHashSet<>(Arrays.asList(
+                GetterSupplier.class.getName(),
+                SetterSupplier.class.getName(),
+                DiffSupplier.class.getName(),
+                Fields.class.getName(),
+                Hydrator.class.getName()));
+        assertEquals(expected, processor.getSupportedAnnotationTypes(), "Supported annotation types are incorrect");
+    }
+
+    @Test
+    void should_return_annotatedElements_once() {
+        TypeElement getterAndSetter = mock(TypeElement.class);
+        TypeElement fields = mock(TypeElement.class);
+        RoundEnvironment roundEnvironment = mock(RoundEnvironment.class);
+        Mockito.<Set<? extends Element>>when(roundEnvironment.getElementsAnnotatedWith(GetterSupplier.class))
+                .thenReturn(Collections.singleton(getterAndSetter));
+        Mockito.<Set<? extends Element>>when(roundEnvironment.getElementsAnnotatedWith(SetterSupplier.class))
+                .thenReturn(Collections.singleton(getterAndSetter));
+        Mockito.<Set<? extends Element>>when(roundEnvironment.getElementsAnnotatedWith(Fields.class))
+                .thenReturn(Collections.singleton(fields));
+        MetterProcessor processor = new MetterProcessor();
+        Set<? extends Element> annotatedElements = processor.getAnnotatedElements(roundEnvironment);
+        assertEquals(Arrays.asList(getterAndSetter, fields), Arrays.asList(annotatedElements.toArray()),
+                "Annotated elements are incorrect");
+    }
+
+    @Test
+    void should_share_typeDescriptors() {
+        MetterProcessor processor = new MetterProcessor();
+        assertEquals(5, processor.processors.size(), "Number of processors is not 5");
+        for (BaseMethodSupplierProcessor<?> delegate : processor.processors) {
+            assertSame(processor.typeDescriptorByElement, delegate.typeDescriptorByElement,
+                    "Type descriptors are not shared with " + delegate);
+            assertSame(processor.allSuperTypesByElement, delegate.allSuperTypesByElement,
+                    "Super types are not shared with " + delegate);
+        }
+    }
+
+    @Test
+    void should_process_byProcessorsOfAnnotations() {
+        TypeElement typeElement = mock(TypeElement.class);
+        when(typeElement.getAnnotation(GetterSupplier.class)).thenReturn(mock(GetterSupplier.class));
+        when(typeElement.getAnnotation(SetterSupplier.class)).thenReturn(mock(SetterSupplier.class));
+        GetterSupplierProcessor getterSupplierProcessor = spy(new GetterSupplierProcessor());
+        SetterSupplierProcessor setterSupplierProcessor = spy(new SetterSupplierProcessor());
+        FieldsProcessor fieldsProcessor = spy(new FieldsProcessor());
+        doNothing().when(getterSupplierProcessor).process(any(TypeElement.class));
+        doNothing().when(setterSupplierProcessor).process(any(TypeElement.class));
+        MetterProcessor processor = new MetterProcessor() {
+            @Override
+            protected List<BaseMethodSupplierProcessor<?>> createProcessors() {
+                return Arrays.asList(getterSupplierProcessor, setterSupplierProcessor, fieldsProcessor);
+            }
+        };
+        processor.process(typeElement);
+        verify(getterSupplierProcessor).process(typeElement);
+        verify(setterSupplierProcessor).process(typeElement);
+        verify(fieldsProcessor, never()).process(any(TypeElement.class));
+    }
+
+    @Test
+    void should_return_supportedOptions() {
+        MetterProcessor processor = new MetterProcessor();
+        assertEquals(new LinkedHashSet<>(Arrays.asList(
+                        "metter.stats", "metter.stats.file", "metter.deterministic", "metter.workers")),
+                processor.getSupportedOptions(), "Supported options are incorrect");
+    }
+
+    @Test
+    void should_generate_sameSources_inDeterministicMode(@TempDir Path directory) throws Exception {
+        Path first = directory.resolve("first");
+        Path second = directory.resolve("second");
+        compile(first, "-Ametter.deterministic=true");
+        compile(second, "-Ametter.deterministic=true");
+        Map<Path, byte[]> firstSources = readSources(first);
+        Map<Path, byte[]> secondSources = readSources(second);
+        assertEquals(5, firstSources.size(), "Number of generated sources is not 5");
+        assertEquals(firstSources.keySet(), secondSources.keySet(), "Generated sources are different");
+        for (Map.Entry<Path, byte[]> source : firstSources.entrySet()) {
+            assertArrayEquals(source.getValue(), secondSources.get(source.getKey()),
+                    "Generated source is different: " + source.getKey());
+        }
+        String getterSupplier = new String(firstSources.get(Paths.get("domain", "ManGetterSupplier.java")),
+                StandardCharsets.UTF_8);
+        assertFalse(getterSupplier.contains("date = "), "Generated source has date");
+        assertTrue(getterSupplier.indexOf("\"name\"") < getterSupplier.indexOf("\"age\"")
+                        && getterSupplier.indexOf("\"age\"") < getterSupplier.indexOf("\"id\""),
+                "Fields are not in order of declaration from the type to the super class");
+    }
+
+    @Test
+    void should_generate_sameSources_byWorkers(@TempDir Path directory) throws Exception {
+        Path sequential = directory.resolve("sequential");
+        Path concurrent = directory.resolve("concurrent");
+        compile(sequential, "-Ametter.deterministic=true");
+        compile(concurrent, "-Ametter.deterministic=true", "-Ametter.workers=4");
+        Map<Path, byte[]> sequentialSources = readSources(sequential);
+        Map<Path, byte[]> concurrentSources = readSources(concurrent);
+        assertEquals(sequentialSources.keySet(), concurrentSources.keySet(), "Generated sources are different");
+        for (Map.Entry<Path, byte[]> source : sequentialSources.entrySet()) {
+            assertArrayEquals(source.getValue(), concurrentSources.get(source.getKey()),
+                    "Generated source is different: " + source.getKey());
+        }
+    }
+
+    @Test
+    void should_configure_workers() {
+        MetterProcessor processor = new MetterProcessor();
+        assertEquals(1, processor.workers, "Default number of workers is not 1");
+        Messager messager = mock(Messager.class);
+        ProcessingEnvironment environment = mock(ProcessingEnvironment.class);
+        when(environment.getMessager()).thenReturn(messager);
+        when(environment.getOptions()).thenReturn(Collections.singletonMap("metter.workers", "4"));
+        processor.init(environment);
+        assertEquals(4, processor.workers, "Number of workers is not 4");
+        assertEquals(1, processor.getWorkers(Collections.singletonMap("metter.workers", "0")),
+                "Number of workers for invalid value is not 1");
+        assertEquals(1, processor.getWorkers(Collections.singletonMap("metter.workers", "many")),
+                "Number of workers for invalid value is not 1");
+        verify(messager, times(2)).printMessage(eq(Diagnostic.Kind.WARNING), any());
+    }
+
+    private static void compile(Path directory, String... options) throws IOException {
+        Files.createDirectories(directory);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        String classPath = Paths.get(GetterSupplier.class.getProtectionDomain().getCodeSource().getLocation().getPath())
+                .toString();
+        List<String> compilerOptions = new ArrayList<>(Arrays.asList(
+                "-proc:only", "-s", directory.toString(), "-classpath", classPath));
+        if (SourceVersion.latest().compareTo(SourceVersion.RELEASE_8) > 0) {
+            // javax.annotation.Generated of generated sources
+            compilerOptions.addAll(Arrays.asList("--release", "8"));
+        }
+        compilerOptions.addAll(Arrays.asList(options));
+        List<JavaFileObject> sources = Arrays.asList(
+                source("domain.Entity", "package domain;\n"
+                        + "public class Entity {\n"
+                        + "    private long id;\n"
+                        + "    public long getId() { return id; }\n"
+                        + "    public void setId(long id) { this.id = id; }\n"
+                        + "}\n"),
+                source("domain.Man", "package domain;\n"
+                        + "@dev.alexengrig.metter.annotation.GetterSupplier\n"
+                        + "@dev.alexengrig.metter.annotation.SetterSupplier\n"
+                        + "@dev.alexengrig.metter.annotation.DiffSupplier\n"
+                        + "@dev.alexengrig.metter.annotation.Fields\n"
+                        + "@dev.alexengrig.metter.annotation.Hydrator\n"
+                        + "public class Man extends Entity {\n"
+                        + "    private String name;\n"
+                        + "    private int age;\n"
+                        + "    public String getName() { return name; }\n"
+                        + "    public void setName(String name) { this.name = name; }\n"
+                        + "    public int getAge() { return age; }\n"
+                        + "    public void setAge(int age) { this.age = age; }\n"
+                        + "}\n"));
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, compilerOptions, null, sources);
+        task.setProcessors(Collections.singletonList(new MetterProcessor()));
+        assertTrue(task.call(), "Compilation failed");
+    }
+
+    private static JavaFileObject source(String className, String content) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+
+    private static Map<Path, byte[]> readSources(Path directory) throws IOException {
+        Map<Path, byte[]> sources = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                sources.put(directory.relativize(path), Files.readAllBytes(path));
+            }
+        }
+        return sources;
+    }
+}
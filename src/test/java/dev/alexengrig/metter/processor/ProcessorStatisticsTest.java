@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.processor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProcessorStatisticsTest {
+    @Test
+    void should_be_disabled_byDefault() {
+        ProcessorStatistics statistics = new ProcessorStatistics();
+        statistics.configure(Collections.emptyMap());
+        assertFalse(statistics.isEnabled(), "Statistics are enabled");
+        assertEquals(Optional.empty(), statistics.getFile(), "Statistics have file");
+    }
+
+    @Test
+    void should_be_enabled_byOptions() {
+        ProcessorStatistics statistics = new ProcessorStatistics();
+        statistics.configure(Collections.singletonMap("metter.stats", "true"));
+        assertTrue(statistics.isEnabled(), "Statistics are not enabled by 'metter.stats'");
+        assertEquals(Optional.empty(), statistics.getFile(), "Statistics have file");
+        statistics.configure(Collections.singletonMap("metter.stats.file", "build/metter.json"));
+        assertTrue(statistics.isEnabled(), "Statistics are not enabled by 'metter.stats.file'");
+        assertEquals(Optional.of("build/metter.json"), statistics.getFile(), "Statistics file is incorrect");
+        Map<String, String> options = new HashMap<>();
+        options.put("metter.stats", "false");
+        options.put("metter.stats.file", " ");
+        statistics.configure(options);
+        assertFalse(statistics.isEnabled(), "Statistics are enabled");
+    }
+
+    @Test
+    void should_return_summary_withoutTypes() {
+        ProcessorStatistics statistics = new ProcessorStatistics();
+        assertEquals("Metter statistics: 0 types, 0 fields, 0 bytes, "
+                        + "0.0 ms (model 0.0 ms, fields 0.0 ms, generation 0.0 ms, writing 0.0 ms)",
+                statistics.toSummary(), "Summary is incorrect");
+    }
+
+    @Test
+    void should_return_json() {
+        ProcessorStatistics statistics = new ProcessorStatistics();
+        statistics.add(new TypeStatistics("my.Domain", "GetterSupplier", "my.Domain\"Getter\\",
+                3, 2, 1000, 1, 2, 3, 4));
+        statistics.add(new TypeStatistics("my.Domain", "SetterSupplier", "my.DomainSetterSupplier",
+                3, 2, 500, 0, 1, 1, 1));
+        String expected = "{\n"
+                + "  \"summary\": {\"types\": 2, \"fields\": 6, \"bytes\": 1500, \"modelNanos\": 1, \"fieldsNanos\": 3,"
+                + " \"generationNanos\": 4, \"writingNanos\": 5, \"totalNanos\": 13},\n"
+                + "  \"types\": [\n"
+                + "    {\"type\": \"my.Domain\", \"annotation\": \"GetterSupplier\", \"class\": \"my.Domain\\\"Getter\\\\\","
+                + " \"fields\": 3, \"superTypeDepth\": 2, \"bytes\": 1000, \"modelNanos\": 1, \"fieldsNanos\": 2,"
+                + " \"generationNanos\": 3, \"writingNanos\": 4, \"totalNanos\": 10},\n"
+                + "    {\"type\": \"my.Domain\", \"annotation\": \"SetterSupplier\", \"class\": \"my.DomainSetterSupplier\","
+                + " \"fields\": 3, \"superTypeDepth\": 2, \"bytes\": 500, \"modelNanos\": 0, \"fieldsNanos\": 1,"
+                + " \"generationNanos\": 1, \"writingNanos\": 1, \"totalNanos\": 3}\n"
+                + "  ]\n"
+                + "}\n";
+        assertEquals(expected, statistics.toJson(), "JSON is incorrect");
+    }
+}
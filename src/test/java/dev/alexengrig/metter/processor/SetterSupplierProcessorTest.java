@@ -25,6 +25,7 @@ import lombok.Data;
 import lombok.Setter;
 import org.junit.jupiter.api.Test;
 
+import javax.lang.model.element.Modifier;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -100,6 +101,50 @@ class SetterSupplierProcessorTest {
         assertEquals("(instance, value) -> instance.setField((java.lang.String) value)", method, "Method is incorrect");
     }
 
+    @Test
+    void should_return_invocation() {
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        when(fieldDescriptor.getName()).thenReturn("field");
+        when(fieldDescriptor.getTypeName()).thenReturn("java.lang.String");
+
+        String invocation = PROCESSOR.getInvocation(fieldDescriptor);
+
+        assertEquals("%1$s.setField(%2$s)", invocation, "Invocation is incorrect");
+    }
+
+    @Test
+    void should_return_fieldAccessMethod() {
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        when(fieldDescriptor.getName()).thenReturn("field");
+        when(fieldDescriptor.getTypeName()).thenReturn("java.lang.String");
+
+        String method = PROCESSOR.getFieldAccessMethod(fieldDescriptor);
+
+        assertEquals("(instance, value) -> instance.field = (java.lang.String) value", method,
+                "Method is incorrect");
+    }
+
+    @Test
+    void should_return_fieldAccessInvocation() {
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        when(fieldDescriptor.getName()).thenReturn("field");
+
+        String invocation = PROCESSOR.getFieldAccessInvocation(fieldDescriptor);
+
+        assertEquals("%1$s.field = %2$s", invocation, "Invocation is incorrect");
+    }
+
+    @Test
+    void should_check_isAccessibleField_for_finalField() {
+        TypeDescriptor typeDescriptor = mock(TypeDescriptor.class);
+        FieldDescriptor fieldDescriptor = mock(FieldDescriptor.class);
+        when(fieldDescriptor.hasModifier(Modifier.PUBLIC)).thenReturn(true);
+        assertTrue(PROCESSOR.isAccessibleField(typeDescriptor, fieldDescriptor), "Field is not accessible");
+
+        when(fieldDescriptor.hasModifier(Modifier.FINAL)).thenReturn(true);
+        assertFalse(PROCESSOR.isAccessibleField(typeDescriptor, fieldDescriptor), "Final field is accessible");
+    }
+
     @Test
     void should_check_hasSetterMethod() {
         MethodDescriptor methodDescriptor = mock(MethodDescriptor.class);
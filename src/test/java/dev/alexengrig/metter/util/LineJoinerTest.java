@@ -18,10 +18,12 @@ package dev.alexengrig.metter.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.StringWriter;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LineJoinerTest {
     @Test
@@ -54,4 +56,28 @@ class LineJoinerTest {
         assertEquals("1 - one\n2 - two\n", new LineJoiner().mp("%d - %s", (k, v) -> new Object[]{k, v}, map).toString(),
                 "No two lines with numbers");
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_stream_lines_to_writer() {
+        StringWriter writer = new StringWriter();
+        LineJoiner joiner = new LineJoiner(writer);
+        LineJoiner expected = new LineJoiner();
+        for (int i = 0; i < 10_000; i++) {
+            joiner.ft("line %d", i);
+            expected.ft("line %d", i);
+        }
+        assertTrue(writer.getBuffer().length() > 0, "Lines are not streamed before flush");
+        joiner.flush();
+        assertEquals(expected.toString(), writer.toString(), "Streamed lines are incorrect");
+        assertEquals(expected.toString(), joiner.toString(), "Result is incorrect");
+    }
+
+    @Test
+    void should_stream_lines_to_appendable() {
+        StringBuilder builder = new StringBuilder("start\n");
+        LineJoiner joiner = new LineJoiner(builder).ln("1").ft("%s", 2);
+        assertEquals("start\n1\n2\n", joiner.toString(), "Result with buffered lines is incorrect");
+        joiner.flush();
+        assertEquals("start\n1\n2\n", builder.toString(), "Flushed lines are incorrect");
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PerfectHashTest {
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 16, 128, 1024, 4096})
+    void should_create_perfectHash(int size) {
+        List<String> keys = IntStream.range(0, size).mapToObj(i -> "field" + i).collect(Collectors.toList());
+        Optional<PerfectHash> perfectHash = PerfectHash.of(keys);
+        assertTrue(perfectHash.isPresent(), "Perfect hash is not created");
+        assertEquals(size, perfectHash.get().getIndices().length, "Number of slots is incorrect");
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, perfectHash.get().indexOf(keys.get(i)), "Index of key is incorrect: " + keys.get(i));
+        }
+        int[] indices = perfectHash.get().getIndices();
+        Arrays.sort(indices);
+        assertArrayEquals(IntStream.range(0, size).toArray(), indices, "Slots are not minimal");
+    }
+
+    @Test
+    void should_not_create_perfectHash_for_noKeys() {
+        assertFalse(PerfectHash.of(Collections.emptyList()).isPresent(), "Perfect hash is created");
+    }
+
+    @Test
+    void should_not_create_perfectHash_for_equalHashCodes() {
+        assertEquals("Aa".hashCode(), "BB".hashCode(), "Hash codes are not equal");
+        assertFalse(PerfectHash.of(Arrays.asList("Aa", "BB")).isPresent(), "Perfect hash is created");
+    }
+
+    @Test
+    void should_reduce_to_range() {
+        assertEquals(0, PerfectHash.range(0, 10), "Range of 0 is incorrect");
+        assertEquals(9, PerfectHash.range(-1, 10), "Range of -1 is incorrect");
+        assertEquals(5, PerfectHash.range(Integer.MIN_VALUE, 10), "Range of MIN_VALUE is incorrect");
+    }
+}
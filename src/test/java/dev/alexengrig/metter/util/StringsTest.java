@@ -45,4 +45,33 @@ class StringsTest {
         assertEquals("Ab", Strings.capitalize("ab"));
         assertEquals("Abc", Strings.capitalize("abc"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_convert_to_constantCase() {
+        assertNull(Strings.toConstantCase(null));
+        assertEquals("", Strings.toConstantCase(""));
+        assertEquals("A", Strings.toConstantCase("a"));
+        assertEquals("FIELD", Strings.toConstantCase("field"));
+        assertEquals("INT_FIELD", Strings.toConstantCase("intField"));
+        assertEquals("FIELD1_NAME", Strings.toConstantCase("field1Name"));
+        assertEquals("URL_VALUE", Strings.toConstantCase("urlValue"));
+        assertEquals("URLVALUE", Strings.toConstantCase("URLValue"));
+        assertEquals("FIELD_NAME", Strings.toConstantCase("FIELD_NAME"));
+    }
+
+    @Test
+    void should_format() {
+        assertEquals("a 1 true null %", Strings.format("%s %d %b %s %%", "a", 1, true, null));
+        assertEquals("b.set(a) true", Strings.format("%2$s.set(%1$s) %b", "a", "b"));
+        assertEquals("x.x()", Strings.format("%1$s.%1$s()", "x"));
+        assertEquals(String.format("%s-%2$s-%s", 1, 2), Strings.format("%s-%2$s-%s", 1, 2));
+        assertEquals("no specifiers", Strings.format("no specifiers"));
+    }
+
+    @Test
+    void should_throw_on_format_withUnsupportedSpecifier() {
+        assertThrows(IllegalArgumentException.class, () -> Strings.format("%04x", 1));
+        assertThrows(IllegalArgumentException.class, () -> Strings.format("%s %s", "a"));
+        assertThrows(IllegalArgumentException.class, () -> Strings.format("ends with %"));
+    }
+}
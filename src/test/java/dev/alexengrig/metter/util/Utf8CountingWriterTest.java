@@ -0,0 +1,41 @@
+/*
+ * Copyright 2020-2021 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.alexengrig.metter.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class Utf8CountingWriterTest {
+    @Test
+    void should_count_bytes() throws IOException {
+        String text = "ascii, naïve, €, 😀";
+        StringWriter target = new StringWriter();
+        try (Utf8CountingWriter writer = new Utf8CountingWriter(target)) {
+            writer.write(text.charAt(0));
+            writer.write(text, 1, 5);
+            writer.write(text.substring(6).toCharArray());
+            assertEquals(text.getBytes(StandardCharsets.UTF_8).length, writer.getNumberOfBytes(),
+                    "Number of bytes is incorrect");
+        }
+        assertEquals(text, target.toString(), "Written text is incorrect");
+    }
+}